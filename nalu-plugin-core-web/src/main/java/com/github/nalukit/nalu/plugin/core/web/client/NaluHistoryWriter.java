@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.plugin.core.web.client;
+
+import com.github.nalukit.nalu.client.internal.PropertyFactory;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.DomGlobal.SetTimeoutCallbackFn;
+import elemental2.dom.Location;
+import jsinterop.base.Js;
+
+import java.util.Objects;
+
+/**
+ * Writes the routes into the browser history.
+ * <p>
+ * Browsers throttle the history API (f.e.: Safari allows 100 calls
+ * in 30 seconds). The writer
+ * </p>
+ * <ul>
+ * <li>skips writes of the token the current history entry already holds</li>
+ * <li>allows WRITE_LIMIT writes in WRITE_WINDOW milliseconds. Writes
+ * beyond the limit are coalesced into one write of the last token, which
+ * is executed once the window is over.</li>
+ * </ul>
+ * <p>
+ * In case the user navigates (f.e. using the back button), the pending
+ * write is canceled. Otherwise the history would be set back to the
+ * outdated token once the window is over.
+ * </p>
+ */
+public class NaluHistoryWriter {
+
+  /* max number of history writes inside one window */
+  static final int  WRITE_LIMIT  = 90;
+  /* length of the window in milliseconds */
+  static final long WRITE_WINDOW = 30000;
+
+  /* access to the browser */
+  private final Browser browser;
+  /* start of the current window */
+  private       long    windowStart;
+  /* number of writes in the current window */
+  private       int     numberOfWrites;
+  /* token waiting for the next window */
+  private       String  pendingToken;
+  /* true: the pending token replaces the current entry */
+  private       boolean pendingReplace;
+  /* id of the timer writing the pending token */
+  private       double  pendingTimer;
+
+  public NaluHistoryWriter() {
+    this(new Browser() {
+
+      @Override
+      public boolean isCurrent(String token) {
+        if (!token.equals(DomGlobal.window.history.state)) {
+          return false;
+        }
+        Location location = Js.uncheckedCast(DomGlobal.location);
+        if (PropertyFactory.get()
+                           .isUsingHash()) {
+          return token.equals(location.getHash());
+        }
+        return token.equals(location.getPathname() + location.getSearch());
+      }
+
+      @Override
+      public void write(String token,
+                        boolean replace) {
+        if (replace) {
+          DomGlobal.window.history.replaceState(token,
+                                                null,
+                                                token);
+        } else {
+          DomGlobal.window.history.pushState(token,
+                                             null,
+                                             token);
+        }
+      }
+
+      @Override
+      public long now() {
+        return System.currentTimeMillis();
+      }
+
+      @Override
+      public double schedule(Runnable command,
+                             long delay) {
+        SetTimeoutCallbackFn callback = args -> command.run();
+        return DomGlobal.setTimeout(callback,
+                                    delay);
+      }
+
+      @Override
+      public void cancel(double timer) {
+        DomGlobal.clearTimeout(timer);
+      }
+
+    });
+  }
+
+  NaluHistoryWriter(Browser browser) {
+    this.browser = browser;
+    this.windowStart = browser.now();
+  }
+
+  /**
+   * Writes the token into the history.
+   *
+   * @param token   the token (hash or path)
+   * @param replace true: replace the current entry, false: push a new entry
+   */
+  public void write(String token,
+                    boolean replace) {
+    if (!Objects.isNull(this.pendingToken)) {
+      // a write is already waiting - coalesce
+      this.pendingToken = token;
+      this.pendingReplace = this.pendingReplace && replace;
+      return;
+    }
+    long now = this.browser.now();
+    if (now - this.windowStart >= WRITE_WINDOW) {
+      this.windowStart = now;
+      this.numberOfWrites = 0;
+    }
+    if (this.numberOfWrites < WRITE_LIMIT) {
+      this.doWrite(token,
+                   replace);
+    } else {
+      this.pendingToken = token;
+      this.pendingReplace = replace;
+      this.pendingTimer = this.browser.schedule(this::flush,
+                                                this.windowStart + WRITE_WINDOW - now);
+    }
+  }
+
+  /**
+   * Cancels the pending write (if there is one).
+   * <p>
+   * Needs to be called in case the history was changed by the user
+   * (popstate, hashchange), cause the pending token is outdated.
+   * </p>
+   */
+  public void cancel() {
+    if (!Objects.isNull(this.pendingToken)) {
+      this.pendingToken = null;
+      this.browser.cancel(this.pendingTimer);
+    }
+  }
+
+  private void flush() {
+    String token = this.pendingToken;
+    boolean replace = this.pendingReplace;
+    this.pendingToken = null;
+    this.windowStart = this.browser.now();
+    this.numberOfWrites = 0;
+    this.doWrite(token,
+                 replace);
+  }
+
+  private void doWrite(String token,
+                       boolean replace) {
+    if (this.browser.isCurrent(token)) {
+      return;
+    }
+    this.numberOfWrites++;
+    this.browser.write(token,
+                       replace);
+  }
+
+  /**
+   * Access to the browser history - replaceable for testing.
+   */
+  interface Browser {
+
+    boolean isCurrent(String token);
+
+    void write(String token,
+               boolean replace);
+
+    long now();
+
+    double schedule(Runnable command,
+                    long delay);
+
+    void cancel(double timer);
+
+  }
+
+}
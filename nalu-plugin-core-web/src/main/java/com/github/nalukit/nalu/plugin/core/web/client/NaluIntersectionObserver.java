@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.plugin.core.web.client;
+
+import elemental2.dom.Element;
+import jsinterop.annotations.JsFunction;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsType;
+
+/**
+ * Binding of the browser's IntersectionObserver, which is not part
+ * of the used elemental2 version.
+ */
+@JsType(isNative = true,
+        namespace = JsPackage.GLOBAL,
+        name = "IntersectionObserver")
+class NaluIntersectionObserver {
+
+  NaluIntersectionObserver(Callback callback) {
+  }
+
+  native void observe(Element target);
+
+  native void unobserve(Element target);
+
+  @JsFunction
+  interface Callback {
+
+    void onChange(Entry[] entries);
+
+  }
+
+  @JsType(isNative = true,
+          namespace = JsPackage.GLOBAL,
+          name = "IntersectionObserverEntry")
+  static class Entry {
+
+    boolean isIntersecting;
+
+    Element target;
+
+  }
+
+}
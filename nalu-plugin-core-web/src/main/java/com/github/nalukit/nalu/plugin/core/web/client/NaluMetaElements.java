@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.plugin.core.web.client;
+
+import elemental2.dom.DomGlobal;
+import elemental2.dom.Element;
+import elemental2.dom.NodeList;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps references to the meta elements managed by the plugin.
+ * <p>
+ * A meta element is looked up (or created) the first time its value is set.
+ * Later updates change the content attribute of the element in place, and
+ * only in case the content differs. The element is looked up again, in case
+ * it was removed from the document.
+ * </p>
+ */
+public class NaluMetaElements {
+
+  /* accesses the meta elements of the document */
+  private final MetaDocument         document;
+  /* the managed meta elements - key: attribute name and value */
+  private final Map<String, Element> elements;
+
+  public NaluMetaElements() {
+    this(new DomMetaDocument());
+  }
+
+  NaluMetaElements(MetaDocument document) {
+    this.document = document;
+    this.elements = new HashMap<>();
+  }
+
+  /**
+   * Sets the content of the meta element with the given name.
+   *
+   * @param name    value of the name attribute
+   * @param content new content
+   */
+  public void updateName(String name,
+                         String content) {
+    this.update("name",
+                name,
+                content);
+  }
+
+  /**
+   * Sets the content of the meta element with the given property.
+   *
+   * @param property value of the property attribute
+   * @param content  new content
+   */
+  public void updateProperty(String property,
+                             String content) {
+    this.update("property",
+                property,
+                content);
+  }
+
+  private void update(String attribute,
+                      String value,
+                      String content) {
+    String key = attribute + "=" + value;
+    Element element = this.elements.get(key);
+    if (Objects.isNull(element) || !element.isConnected) {
+      element = this.document.find(attribute,
+                                   value);
+      if (Objects.isNull(element)) {
+        element = this.document.create(attribute,
+                                       value);
+      }
+      this.elements.put(key,
+                        element);
+    }
+    if (!content.equals(this.document.getContent(element))) {
+      this.document.setContent(element,
+                               content);
+    }
+  }
+
+  /**
+   * Access to the meta elements of the document.
+   */
+  interface MetaDocument {
+
+    Element find(String attribute,
+                 String value);
+
+    Element create(String attribute,
+                   String value);
+
+    String getContent(Element element);
+
+    void setContent(Element element,
+                    String content);
+
+  }
+
+  static class DomMetaDocument
+      implements MetaDocument {
+
+    @Override
+    public Element find(String attribute,
+                        String value) {
+      NodeList<Element> metaTagList = DomGlobal.document.getElementsByTagName("meta");
+      for (int i = 0; i < metaTagList.length; i++) {
+        if (value.equals(metaTagList.item(i)
+                                    .getAttribute(attribute))) {
+          return metaTagList.item(i);
+        }
+      }
+      return null;
+    }
+
+    @Override
+    public Element create(String attribute,
+                          String value) {
+      Element element = DomGlobal.document.createElement("meta");
+      element.setAttribute(attribute,
+                           value);
+      DomGlobal.document.head.appendChild(element);
+      return element;
+    }
+
+    @Override
+    public String getContent(Element element) {
+      return element.getAttribute("content");
+    }
+
+    @Override
+    public void setContent(Element element,
+                           String content) {
+      element.setAttribute("content",
+                           content);
+    }
+
+  }
+
+}
@@ -20,21 +20,44 @@ import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.PropertyFactory;
 import com.github.nalukit.nalu.client.internal.route.ShellConfig;
 import com.github.nalukit.nalu.client.internal.route.ShellConfiguration;
+import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin;
+import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin.CommitCallback;
+import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin.IdleCommand;
 import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin.RouteChangeHandler;
+import com.github.nalukit.nalu.client.plugin.NaluDomCommit;
 import com.github.nalukit.nalu.plugin.core.web.client.model.NaluStartModel;
+import elemental2.core.Function;
 import elemental2.dom.DomGlobal;
+import elemental2.dom.DomGlobal.SetTimeoutCallbackFn;
+import elemental2.dom.Element;
+import elemental2.dom.HTMLElement;
 import elemental2.dom.Location;
+import elemental2.dom.Node;
+import elemental2.dom.NodeList;
 import elemental2.dom.PopStateEvent;
 import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
 public class NaluPluginCoreWeb {
 
+  /* marks an element hidden by the visibility toggle */
+  /* (the value is the display property to restore)   */
+  public static final String NALU_HIDDEN_ATTRIBUTE = "data-nalu-hidden";
+
+  /* keeps the id of an element inside a hidden element */
+  public static final String NALU_HIDDEN_ID_ATTRIBUTE = "data-nalu-hidden-id";
+
+  /* writes the routes into the browser history */
+  private static final NaluHistoryWriter historyWriter = new NaluHistoryWriter();
+
   public static boolean isSuperDevMode() {
     return "on".equals(System.getProperty("superdevmode",
                                           "off"));
@@ -183,15 +206,176 @@ public class NaluPluginCoreWeb {
     }
     if (PropertyFactory.get()
                        .hasHistory()) {
-      if (replace) {
-        DomGlobal.window.history.replaceState(newRouteToken,
-                                              null,
-                                              newRouteToken);
+      NaluPluginCoreWeb.historyWriter.write(newRouteToken,
+                                            replace);
+    }
+  }
+
+  /**
+   * Executes the command once the browser is idle. In case the browser
+   * does not support requestIdleCallback, the command will be executed
+   * after the current event loop is finished.
+   *
+   * @param command command to execute
+   */
+  public static void scheduleIdle(IdleCommand command) {
+    SetTimeoutCallbackFn callback = p -> command.execute();
+    JsPropertyMap<Object> window = Js.asPropertyMap(DomGlobal.window);
+    if (window.has("requestIdleCallback")) {
+      Js.<Function>uncheckedCast(window.get("requestIdleCallback"))
+        .call(DomGlobal.window,
+              callback);
+    } else {
+      DomGlobal.setTimeout(callback,
+                           0);
+    }
+  }
+
+  /**
+   * Executes the command right before the browser renders the next frame.
+   * In case the document is hidden, the browser does not render frames,
+   * so the command will be executed immediately.
+   *
+   * @param command command to execute
+   */
+  public static void requestAnimationFrame(Runnable command) {
+    if (DomGlobal.document.hidden) {
+      command.run();
+    } else {
+      DomGlobal.requestAnimationFrame(timestamp -> command.run());
+    }
+  }
+
+  /**
+   * Applies the DOM changes of a routing in one batch right before the
+   * browser renders the next frame, using the methods of the plugin.
+   * The callback is called once all changes are applied.
+   *
+   * @param plugin   the plugin applying the changes
+   * @param commit   the DOM changes of the routing
+   * @param callback callback to call, once the changes are applied
+   */
+  public static void commit(IsNaluProcessorPlugin plugin,
+                            NaluDomCommit commit,
+                            CommitCallback callback) {
+    NaluPluginCoreWeb.requestAnimationFrame(() -> {
+      commit.getHiddenElements()
+            .forEach(toggle -> plugin.hide(toggle.getSelector(),
+                                           toggle.getAsElement()));
+      commit.getRemovedSelectors()
+            .forEach(plugin::remove);
+      commit.getShownElements()
+            .forEach(toggle -> plugin.show(toggle.getSelector(),
+                                           toggle.getAsElement()));
+      commit.getAttachments()
+            .forEach(attachment -> attachment.setAttached(plugin.attach(attachment.getSelector(),
+                                                                        attachment.getAsElement())));
+      callback.onCommitted();
+    });
+  }
+
+  /**
+   * Hides an element by setting its display property to 'none'.
+   * The element is marked, so that removeChildren will keep it.
+   * <p>
+   * The ids of the element and its children are moved to the
+   * data-nalu-hidden-id attribute, so that the selectors inside a hidden
+   * element are not found by getElementById.
+   * </p>
+   *
+   * @param element element to hide
+   */
+  public static void hide(HTMLElement element) {
+    if (!element.hasAttribute(NALU_HIDDEN_ATTRIBUTE)) {
+      element.setAttribute(NALU_HIDDEN_ATTRIBUTE,
+                           element.style.getPropertyValue("display"));
+      element.style.setProperty("display",
+                                "none");
+      getElements(element,
+                  "id").forEach(e -> {
+        e.setAttribute(NALU_HIDDEN_ID_ATTRIBUTE,
+                       e.getAttribute("id"));
+        e.removeAttribute("id");
+      });
+    }
+  }
+
+  /**
+   * Shows an element hidden by the hide-method and restores
+   * its display property and the ids inside the element.
+   *
+   * @param element element to show
+   */
+  public static void show(HTMLElement element) {
+    if (element.hasAttribute(NALU_HIDDEN_ATTRIBUTE)) {
+      String display = element.getAttribute(NALU_HIDDEN_ATTRIBUTE);
+      if (Objects.isNull(display) || display.isEmpty()) {
+        element.style.removeProperty("display");
       } else {
-        DomGlobal.window.history.pushState(newRouteToken,
-                                           null,
-                                           newRouteToken);
+        element.style.setProperty("display",
+                                  display);
+      }
+      element.removeAttribute(NALU_HIDDEN_ATTRIBUTE);
+      restoreIds(element);
+    }
+  }
+
+  /**
+   * Restores the ids removed by the hide-method for the element and its
+   * children, that are not inside a hidden element (any longer).
+   * <p>
+   * Needs to be called after attaching an element, cause the element
+   * (f.e. a global composite) might be moved out of a hidden element.
+   * </p>
+   *
+   * @param element the element
+   */
+  public static void restoreIds(Element element) {
+    getElements(element,
+                NALU_HIDDEN_ID_ATTRIBUTE).stream()
+                                         .filter(e -> Objects.isNull(e.closest("[" + NALU_HIDDEN_ATTRIBUTE + "]")))
+                                         .forEach(e -> {
+                                           e.setAttribute("id",
+                                                          e.getAttribute(NALU_HIDDEN_ID_ATTRIBUTE));
+                                           e.removeAttribute(NALU_HIDDEN_ID_ATTRIBUTE);
+                                         });
+  }
+
+  /**
+   * Returns the element and its children, that have the attribute.
+   *
+   * @param element   the element
+   * @param attribute name of the attribute
+   * @return list of elements
+   */
+  private static List<Element> getElements(Element element,
+                                           String attribute) {
+    List<Element> elements = new ArrayList<>();
+    if (element.hasAttribute(attribute)) {
+      elements.add(element);
+    }
+    NodeList<Element> children = element.querySelectorAll("[" + attribute + "]");
+    for (int i = 0; i < children.length; i++) {
+      elements.add(children.item(i));
+    }
+    return elements;
+  }
+
+  /**
+   * Removes all children of the element, except the elements hidden
+   * by the hide-method.
+   *
+   * @param element element to clear
+   */
+  public static void removeChildren(Element element) {
+    Node child = element.lastChild;
+    while (child != null) {
+      Node previous = child.previousSibling;
+      if (child.nodeType != Node.ELEMENT_NODE || !Js.<Element>uncheckedCast(child)
+                                                   .hasAttribute(NALU_HIDDEN_ATTRIBUTE)) {
+        element.removeChild(child);
       }
+      child = previous;
     }
   }
 
@@ -244,6 +428,8 @@ public class NaluPluginCoreWeb {
 
   private static void handleChange(RouteChangeHandler handler,
                                    String newUrl) {
+    // the user changed the history: a pending write is outdated
+    NaluPluginCoreWeb.historyWriter.cancel();
     if (newUrl.startsWith("#")) {
       newUrl = newUrl.substring(1);
     }
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.plugin.core.web.client;
+
+import elemental2.dom.DomGlobal;
+import elemental2.dom.Element;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Caches the elements of the selectors used by the plugin.
+ * <p>
+ * Looking up a selector on every attach and remove runs a query
+ * against the whole document. The cache resolves a selector once
+ * (using getElementById) and reuses the element as long as it is
+ * connected to the document.
+ * </p>
+ * <p>
+ * Selector containers only appear or vanish in case the shell changes,
+ * so the plugin clears the cache once it gets informed about a shell change.
+ * A cached element, whose id was removed (f.e. cause the element is
+ * inside an element hidden by the visibility toggle), is looked up again.
+ * </p>
+ */
+public class NaluSelectorCache {
+
+  /* looks up the element of a selector */
+  private final Function<String, Element>    lookup;
+  /* checks, that the element still has the selector as id */
+  private final BiPredicate<String, Element> matcher;
+  /* elements found for the selectors */
+  private final Map<String, Element>         elements;
+
+  public NaluSelectorCache() {
+    this(selector -> DomGlobal.document.getElementById(selector),
+         (selector, element) -> selector.equals(element.getAttribute("id")));
+  }
+
+  NaluSelectorCache(Function<String, Element> lookup,
+                    BiPredicate<String, Element> matcher) {
+    this.lookup = lookup;
+    this.matcher = matcher;
+    this.elements = new HashMap<>();
+  }
+
+  /**
+   * Returns the element of the selector.
+   *
+   * @param selector the selector (id of the element)
+   * @return the element or null, in case there is no element with this id
+   */
+  public Element get(String selector) {
+    Element element = this.elements.get(selector);
+    if (Objects.isNull(element) || !element.isConnected || !this.matcher.test(selector,
+                                                                              element)) {
+      element = this.lookup.apply(selector);
+      if (Objects.isNull(element)) {
+        this.elements.remove(selector);
+      } else {
+        this.elements.put(selector,
+                          element);
+      }
+    }
+    return element;
+  }
+
+  /**
+   * Removes all cached elements.
+   */
+  public void clear() {
+    this.elements.clear();
+  }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.plugin.core.web.client;
+
+import com.github.nalukit.nalu.client.plugin.IsVisibilityTrigger;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.Element;
+import jsinterop.base.Js;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Visibility trigger of the web plugins.
+ * <p>
+ * The trigger uses an IntersectionObserver to find out, once the element
+ * of a selector enters the viewport. In case the browser does not support
+ * the IntersectionObserver or there is no element for the selector, the
+ * handler is called immediately.
+ * </p>
+ */
+public class NaluVisibilityTrigger
+    implements IsVisibilityTrigger {
+
+  /* looks up the element of a selector */
+  private final Function<String, Element>      lookup;
+  /* handlers of the observed selectors */
+  private final Map<String, VisibilityHandler> handlers;
+  /* observed elements (key: selector) */
+  private final Map<String, Element>           elements;
+  /* observer - created on first use */
+  private       NaluIntersectionObserver       observer;
+
+  public NaluVisibilityTrigger() {
+    this(selector -> DomGlobal.document.getElementById(selector));
+  }
+
+  public NaluVisibilityTrigger(Function<String, Element> lookup) {
+    this.lookup = lookup;
+    this.handlers = new HashMap<>();
+    this.elements = new HashMap<>();
+  }
+
+  @Override
+  public void observe(String selector,
+                      VisibilityHandler handler) {
+    this.unobserve(selector);
+    Element element = this.lookup.apply(selector);
+    if (Objects.isNull(element) || !Js.asPropertyMap(DomGlobal.window)
+                                      .has("IntersectionObserver")) {
+      handler.onVisible();
+      return;
+    }
+    this.handlers.put(selector,
+                      handler);
+    this.elements.put(selector,
+                      element);
+    this.getObserver()
+        .observe(element);
+  }
+
+  @Override
+  public void unobserve(String selector) {
+    this.handlers.remove(selector);
+    Element element = this.elements.remove(selector);
+    if (!Objects.isNull(element)) {
+      this.getObserver()
+          .unobserve(element);
+    }
+  }
+
+  private NaluIntersectionObserver getObserver() {
+    if (Objects.isNull(this.observer)) {
+      this.observer = new NaluIntersectionObserver(this::onChange);
+    }
+    return this.observer;
+  }
+
+  private void onChange(NaluIntersectionObserver.Entry[] entries) {
+    for (NaluIntersectionObserver.Entry entry : entries) {
+      if (entry.isIntersecting) {
+        String selector = this.getSelector(entry.target);
+        if (!Objects.isNull(selector)) {
+          VisibilityHandler handler = this.handlers.get(selector);
+          this.unobserve(selector);
+          handler.onVisible();
+        }
+      }
+    }
+  }
+
+  private String getSelector(Element element) {
+    for (Map.Entry<String, Element> entry : this.elements.entrySet()) {
+      if (entry.getValue() == element) {
+        return entry.getKey();
+      }
+    }
+    return null;
+  }
+
+}
@@ -17,13 +17,19 @@
 
 package com.github.nalukit.nalu.plugin.core.web;
 
+import com.github.nalukit.nalu.plugin.core.web.client.NaluHistoryWriterTest;
+import com.github.nalukit.nalu.plugin.core.web.client.NaluMetaElementsTest;
 import com.github.nalukit.nalu.plugin.core.web.client.NaluPluginCoreWebTest;
+import com.github.nalukit.nalu.plugin.core.web.client.NaluSelectorCacheTest;
 import org.junit.platform.runner.JUnitPlatform;
 import org.junit.platform.suite.api.SelectClasses;
 import org.junit.runner.RunWith;
 
 @RunWith(JUnitPlatform.class)
-@SelectClasses({ NaluPluginCoreWebTest.class })
+@SelectClasses({ NaluHistoryWriterTest.class,
+                 NaluMetaElementsTest.class,
+                 NaluPluginCoreWebTest.class,
+                 NaluSelectorCacheTest.class })
 public class AllTests {
 
 }
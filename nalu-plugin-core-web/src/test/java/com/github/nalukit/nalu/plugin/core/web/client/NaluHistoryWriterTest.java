@@ -0,0 +1,149 @@
+package com.github.nalukit.nalu.plugin.core.web.client;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class NaluHistoryWriterTest {
+
+  private List<String> writes;
+
+  private String currentToken;
+
+  private long now;
+
+  private Runnable scheduledCommand;
+
+  private long scheduledDelay;
+
+  private NaluHistoryWriter historyWriter;
+
+  @BeforeEach
+  void setUp() {
+    this.writes = new ArrayList<>();
+    this.currentToken = null;
+    this.now = 0;
+    this.scheduledCommand = null;
+    this.historyWriter = new NaluHistoryWriter(new NaluHistoryWriter.Browser() {
+
+      @Override
+      public boolean isCurrent(String token) {
+        return token.equals(currentToken);
+      }
+
+      @Override
+      public void write(String token,
+                        boolean replace) {
+        writes.add((replace ? "replace:" : "push:") + token);
+        currentToken = token;
+      }
+
+      @Override
+      public long now() {
+        return now;
+      }
+
+      @Override
+      public double schedule(Runnable command,
+                             long delay) {
+        scheduledCommand = command;
+        scheduledDelay = delay;
+        return 1;
+      }
+
+      @Override
+      public void cancel(double timer) {
+        scheduledCommand = null;
+      }
+
+    });
+  }
+
+  @Test
+  void writeSkipsCurrentToken() {
+    this.historyWriter.write("#/application/person/list",
+                             false);
+    this.historyWriter.write("#/application/person/list",
+                             false);
+    this.historyWriter.write("#/application/person/list",
+                             true);
+    Assertions.assertEquals(1,
+                            this.writes.size());
+    Assertions.assertEquals("push:#/application/person/list",
+                            this.writes.get(0));
+  }
+
+  @Test
+  void writeCoalescesWritesBeyondLimit() {
+    for (int i = 0; i < NaluHistoryWriter.WRITE_LIMIT; i++) {
+      this.historyWriter.write("#/application/person/" + i,
+                               false);
+    }
+    Assertions.assertEquals(NaluHistoryWriter.WRITE_LIMIT,
+                            this.writes.size());
+    Assertions.assertNull(this.scheduledCommand);
+    this.now = 1000;
+    this.historyWriter.write("#/application/person/a",
+                             true);
+    this.historyWriter.write("#/application/person/b",
+                             false);
+    this.historyWriter.write("#/application/person/c",
+                             true);
+    Assertions.assertEquals(NaluHistoryWriter.WRITE_LIMIT,
+                            this.writes.size());
+    Assertions.assertNotNull(this.scheduledCommand);
+    Assertions.assertEquals(NaluHistoryWriter.WRITE_WINDOW - 1000,
+                            this.scheduledDelay);
+    // next window: one push of the last token
+    this.now = NaluHistoryWriter.WRITE_WINDOW;
+    this.scheduledCommand.run();
+    Assertions.assertEquals(NaluHistoryWriter.WRITE_LIMIT + 1,
+                            this.writes.size());
+    Assertions.assertEquals("push:#/application/person/c",
+                            this.writes.get(NaluHistoryWriter.WRITE_LIMIT));
+  }
+
+  @Test
+  void writeStartsNewWindow() {
+    for (int i = 0; i < NaluHistoryWriter.WRITE_LIMIT; i++) {
+      this.historyWriter.write("#/application/person/" + i,
+                               false);
+    }
+    this.now = NaluHistoryWriter.WRITE_WINDOW;
+    this.historyWriter.write("#/application/person/list",
+                             false);
+    Assertions.assertEquals(NaluHistoryWriter.WRITE_LIMIT + 1,
+                            this.writes.size());
+    Assertions.assertNull(this.scheduledCommand);
+  }
+
+  @Test
+  void cancelDropsPendingWrite() {
+    for (int i = 0; i < NaluHistoryWriter.WRITE_LIMIT; i++) {
+      this.historyWriter.write("#/application/person/" + i,
+                               false);
+    }
+    this.now = 1000;
+    this.historyWriter.write("#/application/person/a",
+                             false);
+    Assertions.assertNotNull(this.scheduledCommand);
+    // the user navigates back
+    this.currentToken = "#/application/person/0";
+    this.historyWriter.cancel();
+    Assertions.assertNull(this.scheduledCommand);
+    // the next write waits for the next window again
+    this.historyWriter.write("#/application/person/b",
+                             false);
+    Assertions.assertNotNull(this.scheduledCommand);
+    this.now = NaluHistoryWriter.WRITE_WINDOW;
+    this.scheduledCommand.run();
+    Assertions.assertEquals(NaluHistoryWriter.WRITE_LIMIT + 1,
+                            this.writes.size());
+    Assertions.assertEquals("push:#/application/person/b",
+                            this.writes.get(NaluHistoryWriter.WRITE_LIMIT));
+  }
+
+}
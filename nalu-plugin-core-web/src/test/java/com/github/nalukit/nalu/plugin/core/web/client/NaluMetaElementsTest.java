@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.plugin.core.web.client;
+
+import elemental2.dom.Element;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class NaluMetaElementsTest {
+
+  private TestMetaDocument document;
+
+  private NaluMetaElements metaElements;
+
+  @BeforeEach
+  void setUp() {
+    this.document = new TestMetaDocument();
+    this.metaElements = new NaluMetaElements(this.document);
+  }
+
+  @Test
+  void updateCreatesMissingElement() {
+    this.metaElements.updateName("description",
+                                 "Description 01");
+    Assertions.assertEquals(Arrays.asList("find:name=description",
+                                          "create:name=description",
+                                          "set:name=description:Description 01"),
+                            this.document.events);
+  }
+
+  @Test
+  void updateChangesContentOfExistingElement() {
+    this.document.addElement("property=og:title",
+                             "OG Title 01");
+    this.metaElements.updateProperty("og:title",
+                                     "OG Title 02");
+    Assertions.assertEquals(Arrays.asList("find:property=og:title",
+                                          "set:property=og:title:OG Title 02"),
+                            this.document.events);
+    this.document.events.clear();
+    this.metaElements.updateProperty("og:title",
+                                     "OG Title 03");
+    // the element is reused
+    Assertions.assertEquals(Collections.singletonList("set:property=og:title:OG Title 03"),
+                            this.document.events);
+  }
+
+  @Test
+  void updateSkipsUnchangedContent() {
+    this.metaElements.updateName("description",
+                                 "Description 01");
+    this.document.events.clear();
+    this.metaElements.updateName("description",
+                                 "Description 01");
+    Assertions.assertEquals(Collections.emptyList(),
+                            this.document.events);
+  }
+
+  @Test
+  void updateLooksUpRemovedElementAgain() {
+    this.metaElements.updateName("description",
+                                 "Description 01");
+    this.document.events.clear();
+    // the element was removed from the document
+    this.document.removeElement("name=description");
+    this.metaElements.updateName("description",
+                                 "Description 01");
+    Assertions.assertEquals(Arrays.asList("find:name=description",
+                                          "create:name=description",
+                                          "set:name=description:Description 01"),
+                            this.document.events);
+  }
+
+  static class TestMetaDocument
+      implements NaluMetaElements.MetaDocument {
+
+    private final List<String> events = new ArrayList<>();
+
+    /* key: attribute name and value */
+    private final Map<String, Element> elements = new HashMap<>();
+
+    /* the keys & contents of the elements */
+    private final Map<Element, String> keys     = new HashMap<>();
+    private final Map<Element, String> contents = new HashMap<>();
+
+    @Override
+    public Element find(String attribute,
+                        String value) {
+      this.events.add("find:" + attribute + "=" + value);
+      return this.elements.get(attribute + "=" + value);
+    }
+
+    @Override
+    public Element create(String attribute,
+                          String value) {
+      this.events.add("create:" + attribute + "=" + value);
+      return this.addElement(attribute + "=" + value,
+                             null);
+    }
+
+    @Override
+    public String getContent(Element element) {
+      return this.contents.get(element);
+    }
+
+    @Override
+    public void setContent(Element element,
+                           String content) {
+      this.events.add("set:" + this.keys.get(element) + ":" + content);
+      this.contents.put(element,
+                        content);
+    }
+
+    private Element addElement(String key,
+                               String content) {
+      Element element = new Element();
+      element.isConnected = true;
+      this.elements.put(key,
+                        element);
+      this.keys.put(element,
+                    key);
+      this.contents.put(element,
+                        content);
+      return element;
+    }
+
+    private void removeElement(String key) {
+      this.elements.remove(key).isConnected = false;
+    }
+
+  }
+
+}
@@ -0,0 +1,114 @@
+package com.github.nalukit.nalu.plugin.core.web.client;
+
+import elemental2.dom.Element;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class NaluSelectorCacheTest {
+
+  private Map<String, Element> document;
+
+  private int numberOfLookups;
+
+  private NaluSelectorCache selectorCache;
+
+  @BeforeEach
+  void setUp() {
+    this.document = new HashMap<>();
+    this.numberOfLookups = 0;
+    // the document maps the ids to the elements
+    this.selectorCache = new NaluSelectorCache(selector -> {
+                                                 this.numberOfLookups++;
+                                                 return this.document.get(selector);
+                                               },
+                                               (selector, element) -> this.document.get(selector) == element);
+  }
+
+  @Test
+  void getReusesConnectedElement() {
+    Element content = this.addElement("content");
+    Assertions.assertSame(content,
+                          this.selectorCache.get("content"));
+    Assertions.assertSame(content,
+                          this.selectorCache.get("content"));
+    Assertions.assertEquals(1,
+                            this.numberOfLookups);
+  }
+
+  @Test
+  void getLooksUpDisconnectedElementAgain() {
+    Element content = this.addElement("content");
+    Assertions.assertSame(content,
+                          this.selectorCache.get("content"));
+    content.isConnected = false;
+    Element newContent = this.addElement("content");
+    Assertions.assertSame(newContent,
+                          this.selectorCache.get("content"));
+    Assertions.assertEquals(2,
+                            this.numberOfLookups);
+  }
+
+  @Test
+  void getLooksUpElementWithoutIdAgain() {
+    Element hiddenContent = this.addElement("content");
+    Assertions.assertSame(hiddenContent,
+                          this.selectorCache.get("content"));
+    // the element is hidden by the visibility toggle and keeps
+    // connected, but its id is moved to another element
+    Element content = this.addElement("content");
+    Assertions.assertSame(content,
+                          this.selectorCache.get("content"));
+    Assertions.assertEquals(2,
+                            this.numberOfLookups);
+  }
+
+  @Test
+  void getDoesNotCacheMissingElement() {
+    Assertions.assertNull(this.selectorCache.get("content"));
+    Element content = this.addElement("content");
+    Assertions.assertSame(content,
+                          this.selectorCache.get("content"));
+    Assertions.assertEquals(2,
+                            this.numberOfLookups);
+  }
+
+  @Test
+  void clearRemovesCachedElements() {
+    this.addElement("content");
+    this.selectorCache.get("content");
+    this.selectorCache.clear();
+    this.selectorCache.get("content");
+    Assertions.assertEquals(2,
+                            this.numberOfLookups);
+  }
+
+  @Test
+  void getLooksUpEachSelectorOncePerShell() {
+    // a shell with a content selector and nine composite selectors
+    for (int i = 0; i < 10; i++) {
+      this.addElement("selector" + i);
+    }
+    for (int navigation = 0; navigation < 1000; navigation++) {
+      for (int i = 0; i < 10; i++) {
+        // attach & remove
+        Assertions.assertNotNull(this.selectorCache.get("selector" + i));
+        Assertions.assertNotNull(this.selectorCache.get("selector" + i));
+      }
+    }
+    Assertions.assertEquals(10,
+                            this.numberOfLookups);
+  }
+
+  private Element addElement(String id) {
+    Element element = new Element();
+    element.isConnected = true;
+    this.document.put(id,
+                      element);
+    return element;
+  }
+
+}
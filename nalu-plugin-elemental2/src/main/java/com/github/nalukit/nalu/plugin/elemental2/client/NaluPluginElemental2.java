@@ -21,17 +21,19 @@ import com.github.nalukit.nalu.client.internal.route.ShellConfiguration;
 import com.github.nalukit.nalu.client.plugin.IsCustomAlertPresenter;
 import com.github.nalukit.nalu.client.plugin.IsCustomConfirmPresenter;
 import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin;
+import com.github.nalukit.nalu.client.plugin.IsVisibilityTrigger;
+import com.github.nalukit.nalu.client.plugin.NaluDomCommit;
+import com.github.nalukit.nalu.plugin.core.web.client.NaluMetaElements;
 import com.github.nalukit.nalu.plugin.core.web.client.NaluPluginCoreWeb;
+import com.github.nalukit.nalu.plugin.core.web.client.NaluSelectorCache;
+import com.github.nalukit.nalu.plugin.core.web.client.NaluVisibilityTrigger;
 import com.github.nalukit.nalu.plugin.core.web.client.model.NaluStartModel;
 import elemental2.core.Global;
 import elemental2.dom.DomGlobal;
 import elemental2.dom.Element;
 import elemental2.dom.HTMLElement;
-import elemental2.dom.HTMLMetaElement;
-import elemental2.dom.NodeList;
 
 import java.util.Map;
-import java.util.Objects;
 
 public class NaluPluginElemental2
     implements IsNaluProcessorPlugin {
@@ -45,8 +47,28 @@ public class NaluPluginElemental2
   /* in case Nalu does not have history support */
   private RouteChangeHandler routeChangeHandler;
 
+  /* cache of the elements of the selectors */
+  private NaluSelectorCache selectorCache;
+
+  /* meta elements managed by the plugin */
+  private NaluMetaElements metaElements;
+
+  /* informs about visible selectors */
+  private NaluVisibilityTrigger visibilityTrigger;
+
+  /* true: the DOM changes of a routing are */
+  /* applied in one batch (commit mode)      */
+  private boolean usingCommitMode;
+
+  /* true: the elements of cached controllers */
+  /* are hidden instead of removed             */
+  private boolean usingVisibilityToggle;
+
   public NaluPluginElemental2() {
     super();
+    this.selectorCache = new NaluSelectorCache();
+    this.metaElements = new NaluMetaElements();
+    this.visibilityTrigger = new NaluVisibilityTrigger(this.selectorCache::get);
   }
 
   @Override
@@ -61,7 +83,7 @@ public class NaluPluginElemental2
   @Override
   public boolean attach(String selector,
                         Object asElement) {
-    Element selectorElement = DomGlobal.document.querySelector("#" + selector);
+    Element selectorElement = this.selectorCache.get(selector);
     if (selectorElement == null) {
       return false;
     } else {
@@ -70,8 +92,13 @@ public class NaluPluginElemental2
        * so check and add only if the element does not exist already (useful 
        * for resilient component controllers).
        */
-      if (selectorElement.childNodes.asList().stream().noneMatch(e -> e.equals(asElement))) {
-        selectorElement.appendChild((HTMLElement) asElement);
+      HTMLElement element = (HTMLElement) asElement;
+      if (element.parentNode != selectorElement) {
+        selectorElement.appendChild(element);
+        // the element might be moved out of a hidden element
+        if (this.usingVisibilityToggle) {
+          NaluPluginCoreWeb.restoreIds(element);
+        }
       }
       return true;
     }
@@ -121,15 +148,9 @@ public class NaluPluginElemental2
 
   @Override
   public void remove(String selector) {
-    Element selectorElement = DomGlobal.document.querySelector("#" + selector);
+    Element selectorElement = this.selectorCache.get(selector);
     if (selectorElement != null) {
-      if (selectorElement.childNodes.length > 0) {
-        for (int i = selectorElement.childNodes.asList()
-                                               .size() - 1; i > -1; i--) {
-          selectorElement.removeChild(selectorElement.childNodes.asList()
-                                                                .get(i));
-        }
-      }
+      NaluPluginCoreWeb.removeChildren(selectorElement);
     }
   }
 
@@ -156,45 +177,15 @@ public class NaluPluginElemental2
   @Override
   public void updateMetaNameContent(String name,
                                     String content) {
-    NodeList<Element> metaTagList = DomGlobal.document.getElementsByTagName("meta");
-    for (int i = 0; i < metaTagList.length; i++) {
-      if (metaTagList.item(i) instanceof HTMLMetaElement) {
-        HTMLMetaElement nodeListElement = (HTMLMetaElement) metaTagList.item(i);
-        if (!Objects.isNull(nodeListElement.name)) {
-          if (nodeListElement.name.equals(name)) {
-            nodeListElement.remove();
-            break;
-          }
-        }
-      }
-    }
-    HTMLMetaElement metaTagElement = (HTMLMetaElement) DomGlobal.document.createElement("meta");
-    metaTagElement.name = name;
-    metaTagElement.content = content;
-    DomGlobal.document.head.appendChild(metaTagElement);
+    this.metaElements.updateName(name,
+                                 content);
   }
 
   @Override
   public void updateMetaPropertyContent(String property,
                                         String content) {
-    NodeList<Element> metaTagList = DomGlobal.document.getElementsByTagName("meta");
-    for (int i = 0; i < metaTagList.length; i++) {
-      if (metaTagList.item(i) instanceof HTMLMetaElement) {
-        HTMLMetaElement nodeListElement = (HTMLMetaElement) metaTagList.item(i);
-        if (!Objects.isNull(nodeListElement.getAttribute("property"))) {
-          if (nodeListElement.getAttribute("property")
-                             .equals(property)) {
-            nodeListElement.remove();
-            break;
-          }
-        }
-      }
-    }
-    HTMLMetaElement metaElement = (HTMLMetaElement) DomGlobal.document.createElement("meta");
-    metaElement.setAttribute("property",
-                             property);
-    metaElement.content = content;
-    DomGlobal.document.head.appendChild(metaElement);
+    this.metaElements.updateProperty(property,
+                                     content);
   }
 
   @Override
@@ -212,4 +203,76 @@ public class NaluPluginElemental2
     this.customConfirmPresenter = customConfirmPresenter;
   }
 
+  @Override
+  public void scheduleIdle(IdleCommand command) {
+    NaluPluginCoreWeb.scheduleIdle(command);
+  }
+
+  @Override
+  public void onShellChanged() {
+    this.selectorCache.clear();
+  }
+
+  @Override
+  public boolean isUsingCommitMode() {
+    return this.usingCommitMode;
+  }
+
+  /**
+   * Switches the commit mode on or off (default: off).
+   *
+   * @param usingCommitMode true: use the commit mode
+   */
+  public void setUsingCommitMode(boolean usingCommitMode) {
+    this.usingCommitMode = usingCommitMode;
+  }
+
+  @Override
+  public void commit(NaluDomCommit commit,
+                     CommitCallback callback) {
+    NaluPluginCoreWeb.commit(this,
+                             commit,
+                             callback);
+  }
+
+  @Override
+  public boolean isUsingVisibilityToggle() {
+    return this.usingVisibilityToggle;
+  }
+
+  /**
+   * Switches the visibility toggle on or off (default: off).
+   *
+   * @param usingVisibilityToggle true: use the visibility toggle
+   */
+  public void setUsingVisibilityToggle(boolean usingVisibilityToggle) {
+    this.usingVisibilityToggle = usingVisibilityToggle;
+  }
+
+  @Override
+  public void hide(String selector,
+                   Object asElement) {
+    NaluPluginCoreWeb.hide((HTMLElement) asElement);
+  }
+
+  @Override
+  public void show(String selector,
+                   Object asElement) {
+    NaluPluginCoreWeb.show((HTMLElement) asElement);
+  }
+
+  @Override
+  public void remove(String selector,
+                     Object asElement) {
+    HTMLElement element = (HTMLElement) asElement;
+    if (element.parentNode != null) {
+      element.parentNode.removeChild(element);
+    }
+  }
+
+  @Override
+  public IsVisibilityTrigger getVisibilityTrigger() {
+    return this.visibilityTrigger;
+  }
+
 }
@@ -21,18 +21,25 @@ import com.github.nalukit.nalu.client.internal.route.ShellConfiguration;
 import com.github.nalukit.nalu.client.plugin.IsCustomAlertPresenter;
 import com.github.nalukit.nalu.client.plugin.IsCustomConfirmPresenter;
 import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin;
+import com.github.nalukit.nalu.client.plugin.IsVisibilityTrigger;
+import com.github.nalukit.nalu.client.plugin.NaluDomCommit;
+import com.github.nalukit.nalu.plugin.core.web.client.NaluMetaElements;
 import com.github.nalukit.nalu.plugin.core.web.client.NaluPluginCoreWeb;
+import com.github.nalukit.nalu.plugin.core.web.client.NaluSelectorCache;
+import com.github.nalukit.nalu.plugin.core.web.client.NaluVisibilityTrigger;
 import com.github.nalukit.nalu.plugin.core.web.client.model.NaluStartModel;
 import elemental2.core.Global;
+import elemental2.dom.DocumentFragment;
 import elemental2.dom.DomGlobal;
 import elemental2.dom.Element;
 import elemental2.dom.HTMLElement;
-import elemental2.dom.HTMLMetaElement;
-import elemental2.dom.NodeList;
+import jsinterop.base.Js;
 import org.jboss.elemento.IsElement;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.stream.Collectors;
 
 public class NaluPluginElemento
     implements IsNaluProcessorPlugin {
@@ -46,8 +53,28 @@ public class NaluPluginElemento
   /* in case Nalu does not have history support */
   private RouteChangeHandler routeChangeHandler;
 
+  /* cache of the elements of the selectors */
+  private NaluSelectorCache selectorCache;
+
+  /* meta elements managed by the plugin */
+  private NaluMetaElements metaElements;
+
+  /* informs about visible selectors */
+  private NaluVisibilityTrigger visibilityTrigger;
+
+  /* true: the DOM changes of a routing are */
+  /* applied in one batch (commit mode)      */
+  private boolean usingCommitMode;
+
+  /* true: the elements of cached controllers */
+  /* are hidden instead of removed             */
+  private boolean usingVisibilityToggle;
+
   public NaluPluginElemento() {
     super();
+    this.selectorCache = new NaluSelectorCache();
+    this.metaElements = new NaluMetaElements();
+    this.visibilityTrigger = new NaluVisibilityTrigger(this.selectorCache::get);
   }
 
   @Override
@@ -62,23 +89,26 @@ public class NaluPluginElemento
   @Override
   public boolean attach(String selector,
                         Object content) {
-    Element selectorElement = DomGlobal.document.querySelector("#" + selector);
+    Element selectorElement = this.selectorCache.get(selector);
     if (selectorElement == null) {
       return false;
     } else {
-      if (content instanceof Iterable) {
-        Iterable<?> elements = (Iterable<?>) content;
-        for (Object element : elements) {
-          if (element instanceof IsElement) {
-            selectorElement.appendChild(((IsElement<?>) element).element());
-          } else if (element instanceof HTMLElement) {
-            selectorElement.appendChild(((HTMLElement) element));
-          }
-        }
-      } else if (content instanceof IsElement) {
-        selectorElement.appendChild(((IsElement<?>) content).element());
-      } else if (content instanceof HTMLElement) {
-        selectorElement.appendChild(((HTMLElement) content));
+      // elements, that are already inside the selector, are not moved
+      List<HTMLElement> elements = this.getElements(content)
+                                       .stream()
+                                       .filter(element -> element.parentNode != selectorElement)
+                                       .collect(Collectors.toList());
+      if (elements.size() == 1) {
+        selectorElement.appendChild(elements.get(0));
+      } else if (elements.size() > 1) {
+        // collect the elements and append them at once
+        DocumentFragment fragment = DomGlobal.document.createDocumentFragment();
+        elements.forEach(fragment::appendChild);
+        selectorElement.appendChild(fragment);
+      }
+      // the elements might be moved out of a hidden element
+      if (this.usingVisibilityToggle) {
+        elements.forEach(NaluPluginCoreWeb::restoreIds);
       }
       return true;
     }
@@ -128,15 +158,9 @@ public class NaluPluginElemento
 
   @Override
   public void remove(String selector) {
-    Element selectorElement = DomGlobal.document.querySelector("#" + selector);
+    Element selectorElement = this.selectorCache.get(selector);
     if (selectorElement != null) {
-      if (selectorElement.childNodes.length > 0) {
-        for (int i = selectorElement.childNodes.asList()
-                                               .size() - 1; i > -1; i--) {
-          selectorElement.removeChild(selectorElement.childNodes.asList()
-                                                                .get(i));
-        }
-      }
+      NaluPluginCoreWeb.removeChildren(selectorElement);
     }
   }
 
@@ -163,45 +187,15 @@ public class NaluPluginElemento
   @Override
   public void updateMetaNameContent(String name,
                                     String content) {
-    NodeList<Element> metaTagList = DomGlobal.document.getElementsByTagName("meta");
-    for (int i = 0; i < metaTagList.length; i++) {
-      if (metaTagList.item(i) instanceof HTMLMetaElement) {
-        HTMLMetaElement nodeListElement = (HTMLMetaElement) metaTagList.item(i);
-        if (!Objects.isNull(nodeListElement.name)) {
-          if (nodeListElement.name.equals(name)) {
-            nodeListElement.remove();
-            break;
-          }
-        }
-      }
-    }
-    HTMLMetaElement metaTagElement = (HTMLMetaElement) DomGlobal.document.createElement("meta");
-    metaTagElement.name = name;
-    metaTagElement.content = content;
-    DomGlobal.document.head.appendChild(metaTagElement);
+    this.metaElements.updateName(name,
+                                 content);
   }
 
   @Override
   public void updateMetaPropertyContent(String property,
                                         String content) {
-    NodeList<Element> metaTagList = DomGlobal.document.getElementsByTagName("meta");
-    for (int i = 0; i < metaTagList.length; i++) {
-      if (metaTagList.item(i) instanceof HTMLMetaElement) {
-        HTMLMetaElement nodeListElement = (HTMLMetaElement) metaTagList.item(i);
-        if (!Objects.isNull(nodeListElement.getAttribute("property"))) {
-          if (nodeListElement.getAttribute("property")
-                             .equals(property)) {
-            nodeListElement.remove();
-            break;
-          }
-        }
-      }
-    }
-    HTMLMetaElement metaElement = (HTMLMetaElement) DomGlobal.document.createElement("meta");
-    metaElement.setAttribute("property",
-                             property);
-    metaElement.content = content;
-    DomGlobal.document.head.appendChild(metaElement);
+    this.metaElements.updateProperty(property,
+                                     content);
   }
 
   @Override
@@ -219,4 +213,97 @@ public class NaluPluginElemento
     this.customConfirmPresenter = customConfirmPresenter;
   }
 
-}
\ No newline at end of file
+  @Override
+  public void scheduleIdle(IdleCommand command) {
+    NaluPluginCoreWeb.scheduleIdle(command);
+  }
+
+  @Override
+  public void onShellChanged() {
+    this.selectorCache.clear();
+  }
+
+  @Override
+  public boolean isUsingCommitMode() {
+    return this.usingCommitMode;
+  }
+
+  /**
+   * Switches the commit mode on or off (default: off).
+   *
+   * @param usingCommitMode true: use the commit mode
+   */
+  public void setUsingCommitMode(boolean usingCommitMode) {
+    this.usingCommitMode = usingCommitMode;
+  }
+
+  @Override
+  public void commit(NaluDomCommit commit,
+                     CommitCallback callback) {
+    NaluPluginCoreWeb.commit(this,
+                             commit,
+                             callback);
+  }
+
+  @Override
+  public boolean isUsingVisibilityToggle() {
+    return this.usingVisibilityToggle;
+  }
+
+  /**
+   * Switches the visibility toggle on or off (default: off).
+   *
+   * @param usingVisibilityToggle true: use the visibility toggle
+   */
+  public void setUsingVisibilityToggle(boolean usingVisibilityToggle) {
+    this.usingVisibilityToggle = usingVisibilityToggle;
+  }
+
+  @Override
+  public void hide(String selector,
+                   Object content) {
+    this.getElements(content)
+        .forEach(NaluPluginCoreWeb::hide);
+  }
+
+  @Override
+  public void show(String selector,
+                   Object content) {
+    this.getElements(content)
+        .forEach(NaluPluginCoreWeb::show);
+  }
+
+  @Override
+  public void remove(String selector,
+                     Object content) {
+    this.getElements(content)
+        .stream()
+        .filter(element -> element.parentNode != null)
+        .forEach(element -> element.parentNode.removeChild(element));
+  }
+
+  private List<HTMLElement> getElements(Object content) {
+    List<HTMLElement> elements = new ArrayList<>();
+    if (content instanceof Iterable) {
+      Iterable<?> iterable = (Iterable<?>) content;
+      for (Object element : iterable) {
+        if (element instanceof IsElement) {
+          elements.add(Js.uncheckedCast(((IsElement<?>) element).element()));
+        } else if (element instanceof HTMLElement) {
+          elements.add((HTMLElement) element);
+        }
+      }
+    } else if (content instanceof IsElement) {
+      elements.add(Js.uncheckedCast(((IsElement<?>) content).element()));
+    } else if (content instanceof HTMLElement) {
+      elements.add((HTMLElement) content);
+    }
+    return elements;
+  }
+
+  @Override
+  public IsVisibilityTrigger getVisibilityTrigger() {
+    return this.visibilityTrigger;
+  }
+
+}
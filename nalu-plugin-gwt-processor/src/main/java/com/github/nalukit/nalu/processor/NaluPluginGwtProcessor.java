@@ -19,14 +19,14 @@ package com.github.nalukit.nalu.processor;
 import com.github.nalukit.nalu.plugin.gwt.client.annotation.Selector;
 import com.github.nalukit.nalu.plugin.gwt.client.selector.AbstractSelectorProvider;
 import com.github.nalukit.nalu.plugin.gwt.client.selector.IsSelectorProvider;
-import com.github.nalukit.nalu.plugin.gwt.client.selector.SelectorCommand;
-import com.github.nalukit.nalu.plugin.gwt.client.selector.SelectorProvider;
 import com.github.nalukit.nalu.processor.model.intern.ClassNameModel;
 import com.google.auto.service.AutoService;
 import com.google.common.base.Stopwatch;
 import com.google.gwt.user.client.ui.IsWidget;
 import com.google.gwt.user.client.ui.Widget;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterSpec;
@@ -169,56 +169,64 @@ public class NaluPluginGwtProcessor
                                         .addSuperinterface(ParameterizedTypeName.get(ClassName.get(IsSelectorProvider.class),
                                                                                      enclosingClassNameModel.getTypeName()));
 
-    // constructor ...
+    // field "component"
+    ClassName componentClassName = ClassName.get(enclosingClassNameModel.getPackage(),
+                                                 enclosingClassNameModel.getSimpleName());
+    typeSpec.addField(FieldSpec.builder(componentClassName,
+                                        "component",
+                                        Modifier.PRIVATE)
+                               .build());
+
+    // constructor ... (the position of a selector is used as index)
+    CodeBlock selectors = models.stream()
+                                .map(model -> CodeBlock.of("$S",
+                                                           model.getSelector()))
+                                .collect(CodeBlock.joining(",\n"));
     MethodSpec constructor = MethodSpec.constructorBuilder()
                                        .addModifiers(Modifier.PUBLIC)
-                                       .addStatement("super()")
+                                       .addStatement("super($L)",
+                                                     selectors)
                                        .build();
     typeSpec.addMethod(constructor);
 
     // method "initialize"
-    MethodSpec.Builder initializeMethod = MethodSpec.methodBuilder("initialize")
-                                                    .addModifiers(Modifier.PUBLIC,
-                                                                  Modifier.FINAL)
-                                                    .addParameter(ParameterSpec.builder(ClassName.get(enclosingClassNameModel.getPackage(),
-                                                                                                      enclosingClassNameModel.getSimpleName()),
-                                                                                        "component")
-                                                                               .build())
-                                                    .addAnnotation(Override.class);
-    models.forEach(model -> {
-      initializeMethod.addStatement("$T.get().getSelectorCommands().put($S, $L)",
-                                    ClassName.get(SelectorProvider.class),
-                                    model.selector,
-                                    TypeSpec.anonymousClassBuilder("")
-                                            .addSuperinterface(SelectorCommand.class)
-                                            .addMethod(MethodSpec.methodBuilder("append")
-                                                                 .addAnnotation(Override.class)
-                                                                 .addModifiers(Modifier.PUBLIC)
-                                                                 .addParameter(ParameterSpec.builder(ClassName.get(IsWidget.class),
-                                                                                                     "widget")
-                                                                                            .build())
-                                                                 .addStatement("component.$L(widget.asWidget())",
-                                                                               model.getSelectorElement()
-                                                                                    .getSimpleName()
-                                                                                    .toString())
-                                                                 .build())
-                                            .build())
-                      .build();
-    });
-    typeSpec.addMethod(initializeMethod.build());
-
-    // method "remove"
-    MethodSpec.Builder removeMethod = MethodSpec.methodBuilder("removeSelectors")
-                                                .addModifiers(Modifier.PUBLIC,
+    MethodSpec initializeMethod = MethodSpec.methodBuilder("initialize")
+                                            .addModifiers(Modifier.PUBLIC,
+                                                          Modifier.FINAL)
+                                            .addParameter(ParameterSpec.builder(componentClassName,
+                                                                                "component")
+                                                                       .build())
+                                            .addAnnotation(Override.class)
+                                            .addStatement("this.component = component")
+                                            .addStatement("super.register(component)")
+                                            .build();
+    typeSpec.addMethod(initializeMethod);
+
+    // method "append" - dispatches by the index of the selector
+    MethodSpec.Builder appendMethod = MethodSpec.methodBuilder("append")
+                                                .addModifiers(Modifier.PROTECTED,
                                                               Modifier.FINAL)
-                                                .addAnnotation(Override.class);
-    models.forEach(model -> {
-      removeMethod.addStatement("$T.get().getSelectorCommands().remove($S)",
-                                ClassName.get(SelectorProvider.class),
-                                model.getSelector())
-                  .build();
-    });
-    typeSpec.addMethod(removeMethod.build());
+                                                .addParameter(ParameterSpec.builder(int.class,
+                                                                                    "index")
+                                                                           .build())
+                                                .addParameter(ParameterSpec.builder(ClassName.get(Widget.class),
+                                                                                    "widget")
+                                                                           .build())
+                                                .addAnnotation(Override.class)
+                                                .beginControlFlow("switch (index)");
+    for (int i = 0; i < models.size(); i++) {
+      appendMethod.addCode("case $L:\n$>",
+                           i)
+                  .addStatement("this.component.$L(widget)",
+                                models.get(i)
+                                      .getSelectorElement()
+                                      .getSimpleName()
+                                      .toString())
+                  .addStatement("break")
+                  .addCode("$<");
+    }
+    appendMethod.endControlFlow();
+    typeSpec.addMethod(appendMethod.build());
 
     JavaFile javaFile = JavaFile.builder(enclosingClassNameModel.getPackage(),
                                          typeSpec.build())
@@ -45,6 +45,17 @@ public class ProviderTest {
                       .succeeded();
   }
 
+  @Test
+  void testSelectorsWithIndexDispatch() {
+    Compilation compilation = javac().withProcessors(new NaluPluginGwtProcessor())
+                                     .compile(Collections.singletonList(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/shell/selectorsWithIndexDispatch/SelectorsWithIndexDispatch.java")));
+    CompilationSubject.assertThat(compilation)
+                      .succeeded();
+    CompilationSubject.assertThat(compilation)
+                      .generatedSourceFile("com/github/nalukit/nalu/processor/shell/selectorsWithIndexDispatch/SelectorsWithIndexDispatchSelectorProviderImpl")
+                      .hasSourceEquivalentTo(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/shell/selectorsWithIndexDispatch/SelectorsWithIndexDispatchSelectorProviderImpl.java"));
+  }
+
   @Test
   void testSelectorAnnotationOnMethodWithTwoParameter() {
     Compilation compilation = javac().withProcessors(new NaluPluginGwtProcessor())
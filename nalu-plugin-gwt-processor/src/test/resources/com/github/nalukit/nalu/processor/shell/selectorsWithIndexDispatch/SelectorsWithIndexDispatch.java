@@ -0,0 +1,34 @@
+package com.github.nalukit.nalu.processor.shell.selectorsWithIndexDispatch;
+
+import com.github.nalukit.nalu.client.component.AbstractShell;
+import com.github.nalukit.nalu.client.component.annotation.Shell;
+import com.github.nalukit.nalu.plugin.gwt.client.annotation.Selector;
+import com.github.nalukit.nalu.processor.common.MockContext;
+import com.google.gwt.user.client.ui.IsWidget;
+import com.google.gwt.user.client.ui.Widget;
+
+@Shell("shellName")
+public class SelectorsWithIndexDispatch
+    extends AbstractShell<MockContext> {
+
+    public SelectorsWithIndexDispatch() {
+        super();
+    }
+
+    @Override
+    public void attachShell() {
+    }
+
+    @Override
+    public void detachShell() {
+    }
+
+    @Selector("header")
+    public void setHeader(Widget widget) {
+    }
+
+    @Selector("content")
+    public void setContent(IsWidget widget) {
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.github.nalukit.nalu.processor.shell.selectorsWithIndexDispatch;
+
+import com.github.nalukit.nalu.plugin.gwt.client.selector.AbstractSelectorProvider;
+import com.github.nalukit.nalu.plugin.gwt.client.selector.IsSelectorProvider;
+import com.google.gwt.user.client.ui.Widget;
+import java.lang.Override;
+
+public final class SelectorsWithIndexDispatchSelectorProviderImpl extends AbstractSelectorProvider implements IsSelectorProvider<SelectorsWithIndexDispatch> {
+  private SelectorsWithIndexDispatch component;
+
+  public SelectorsWithIndexDispatchSelectorProviderImpl() {
+    super("header",
+        "content");
+  }
+
+  @Override
+  public final void initialize(SelectorsWithIndexDispatch component) {
+    this.component = component;
+    super.register(component);
+  }
+
+  @Override
+  protected final void append(int index, Widget widget) {
+    switch (index) {
+      case 0:
+        this.component.setHeader(widget);
+        break;
+      case 1:
+        this.component.setContent(widget);
+        break;
+    }
+  }
+}
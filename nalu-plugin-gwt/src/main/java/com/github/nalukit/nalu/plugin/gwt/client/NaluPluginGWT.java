@@ -21,19 +21,23 @@ import com.github.nalukit.nalu.client.internal.route.ShellConfiguration;
 import com.github.nalukit.nalu.client.plugin.IsCustomAlertPresenter;
 import com.github.nalukit.nalu.client.plugin.IsCustomConfirmPresenter;
 import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin;
+import com.github.nalukit.nalu.client.plugin.IsVisibilityTrigger;
 import com.github.nalukit.nalu.plugin.core.web.client.NaluPluginCoreWeb;
+import com.github.nalukit.nalu.plugin.core.web.client.NaluVisibilityTrigger;
 import com.github.nalukit.nalu.plugin.core.web.client.model.NaluStartModel;
 import com.github.nalukit.nalu.plugin.gwt.client.selector.SelectorCommand;
 import com.github.nalukit.nalu.plugin.gwt.client.selector.SelectorProvider;
 import com.google.gwt.dom.client.Document;
 import com.google.gwt.dom.client.Element;
-import com.google.gwt.dom.client.MetaElement;
+import com.google.gwt.dom.client.Node;
 import com.google.gwt.dom.client.NodeList;
 import com.google.gwt.http.client.URL;
 import com.google.gwt.user.client.DOM;
 import com.google.gwt.user.client.Window;
 import com.google.gwt.user.client.ui.IsWidget;
+import com.google.gwt.user.client.ui.Widget;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -49,8 +53,21 @@ public class NaluPluginGWT
   /* in case Nalu does not have history support */
   private RouteChangeHandler routeChangeHandler;
 
+  /* true: the widgets of cached controllers */
+  /* are hidden instead of removed            */
+  private boolean usingVisibilityToggle;
+
+  /* meta elements managed by the plugin */
+  private Map<String, Element> metaElements;
+
+  /* informs about visible selectors (selectors */
+  /* are looked up by the id of the element)     */
+  private NaluVisibilityTrigger visibilityTrigger;
+
   public NaluPluginGWT() {
     super();
+    this.metaElements = new HashMap<>();
+    this.visibilityTrigger = new NaluVisibilityTrigger();
   }
 
   @Override
@@ -66,12 +83,15 @@ public class NaluPluginGWT
   public boolean attach(String selector,
                         Object asElement) {
     SelectorCommand selectorCommand = SelectorProvider.get()
-                                                      .getSelectorCommands()
-                                                      .get(selector);
+                                                      .getSelectorCommand(selector);
     if (selectorCommand == null) {
       return false;
     } else {
-      selectorCommand.append(((IsWidget) asElement).asWidget());
+      Widget widget = ((IsWidget) asElement).asWidget();
+      // a hidden widget is still inside the selector - no need to append it again
+      if (!widget.isAttached() || !this.isHidden(widget.getElement())) {
+        selectorCommand.append(widget);
+      }
       return true;
     }
   }
@@ -122,7 +142,14 @@ public class NaluPluginGWT
   public void remove(String selector) {
     Element selectorElement = DOM.getElementById(selector);
     if (selectorElement != null) {
-      selectorElement.removeAllChildren();
+      Node child = selectorElement.getLastChild();
+      while (child != null) {
+        Node previous = child.getPreviousSibling();
+        if (!Element.is(child) || !this.isHidden(Element.as(child))) {
+          selectorElement.removeChild(child);
+        }
+        child = previous;
+      }
     }
   }
 
@@ -149,56 +176,59 @@ public class NaluPluginGWT
   @Override
   public void updateMetaNameContent(String name,
                                     String content) {
-    NodeList<Element> metaTagList = Document.get()
-                                            .getElementsByTagName("meta");
-    for (int i = 0; i < metaTagList.getLength(); i++) {
-      if (metaTagList.getItem(i) instanceof MetaElement) {
-        MetaElement nodeListElement = (MetaElement) metaTagList.getItem(i);
-        if (!Objects.isNull(nodeListElement.getName())) {
-          if (nodeListElement.getName()
-                             .equals(name)) {
-            nodeListElement.removeFromParent();
-            break;
-          }
+    this.updateMetaContent("name",
+                           name,
+                           content);
+  }
+
+  @Override
+  public void updateMetaPropertyContent(String property,
+                                        String content) {
+    this.updateMetaContent("property",
+                           property,
+                           content);
+  }
+
+  private void updateMetaContent(String attribute,
+                                 String value,
+                                 String content) {
+    // the meta elements are looked up once and updated in place
+    String key = attribute + "=" + value;
+    Element metaElement = this.metaElements.get(key);
+    if (Objects.isNull(metaElement) || Objects.isNull(metaElement.getParentElement())) {
+      metaElement = this.findMetaElement(attribute,
+                                         value);
+      if (Objects.isNull(metaElement)) {
+        Element headerElement = getHeaderNode();
+        if (Objects.isNull(headerElement)) {
+          return;
         }
+        metaElement = Document.get()
+                              .createMetaElement();
+        metaElement.setAttribute(attribute,
+                                 value);
+        headerElement.appendChild(metaElement);
       }
+      this.metaElements.put(key,
+                            metaElement);
     }
-    MetaElement metaElement = Document.get()
-                                      .createMetaElement();
-    metaElement.setName("name");
-    metaElement.setContent("content");
-    Element headerElement = getHeaderNode();
-    if (!Objects.isNull(headerElement)) {
-      headerElement.appendChild(metaElement);
+    if (!content.equals(metaElement.getAttribute("content"))) {
+      metaElement.setAttribute("content",
+                               content);
     }
   }
 
-  @Override
-  public void updateMetaPropertyContent(String property,
-                                        String content) {
+  private Element findMetaElement(String attribute,
+                                  String value) {
     NodeList<Element> metaTagList = Document.get()
                                             .getElementsByTagName("meta");
     for (int i = 0; i < metaTagList.getLength(); i++) {
-      if (metaTagList.getItem(i) instanceof MetaElement) {
-        MetaElement nodeListElement = (MetaElement) metaTagList.getItem(i);
-        if (!Objects.isNull(nodeListElement.getAttribute("property"))) {
-          if (nodeListElement.getAttribute("property")
-                             .equals(property)) {
-            nodeListElement.removeFromParent();
-            break;
-          }
-        }
+      if (value.equals(metaTagList.getItem(i)
+                                  .getAttribute(attribute))) {
+        return metaTagList.getItem(i);
       }
     }
-    MetaElement metaElement = Document.get()
-                                      .createMetaElement();
-    metaElement.setAttribute("property",
-                             property);
-    metaElement.setContent("content");
-    Element headerElement = getHeaderNode();
-    if (!Objects.isNull(headerElement)) {
-      headerElement.appendChild(metaElement);
-    }
+    return null;
   }
 
   @Override
@@ -222,4 +252,73 @@ public class NaluPluginGWT
     this.customConfirmPresenter = customConfirmPresenter;
   }
 
+  @Override
+  public void scheduleIdle(IdleCommand command) {
+    NaluPluginCoreWeb.scheduleIdle(command);
+  }
+
+  @Override
+  public void onShellChanged() {
+    // drop the selectors of detached shells and components
+    SelectorProvider.get()
+                    .removeDetachedProviders();
+  }
+
+  @Override
+  public boolean isUsingVisibilityToggle() {
+    return this.usingVisibilityToggle;
+  }
+
+  /**
+   * Switches the visibility toggle on or off.
+   * <p>
+   * Using the visibility toggle, the widget of a cached controller stays
+   * inside its selector. It is hidden, once the controller is left, and shown
+   * again, once it is reused. This keeps the layout and the scroll position
+   * of the widget.
+   * </p>
+   *
+   * @param usingVisibilityToggle true: use the visibility toggle
+   */
+  public void setUsingVisibilityToggle(boolean usingVisibilityToggle) {
+    this.usingVisibilityToggle = usingVisibilityToggle;
+  }
+
+  @Override
+  public void hide(String selector,
+                   Object asElement) {
+    Widget widget = ((IsWidget) asElement).asWidget();
+    widget.getElement()
+          .setAttribute(NaluPluginCoreWeb.NALU_HIDDEN_ATTRIBUTE,
+                        "");
+    widget.setVisible(false);
+  }
+
+  @Override
+  public void show(String selector,
+                   Object asElement) {
+    Widget widget = ((IsWidget) asElement).asWidget();
+    if (this.isHidden(widget.getElement())) {
+      widget.getElement()
+            .removeAttribute(NaluPluginCoreWeb.NALU_HIDDEN_ATTRIBUTE);
+      widget.setVisible(true);
+    }
+  }
+
+  @Override
+  public void remove(String selector,
+                     Object asElement) {
+    ((IsWidget) asElement).asWidget()
+                          .removeFromParent();
+  }
+
+  @Override
+  public IsVisibilityTrigger getVisibilityTrigger() {
+    return this.visibilityTrigger;
+  }
+
+  private boolean isHidden(Element element) {
+    return element.hasAttribute(NaluPluginCoreWeb.NALU_HIDDEN_ATTRIBUTE);
+  }
+
 }
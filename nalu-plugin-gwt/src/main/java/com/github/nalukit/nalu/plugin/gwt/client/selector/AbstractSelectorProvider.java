@@ -16,11 +16,145 @@
 
 package com.github.nalukit.nalu.plugin.gwt.client.selector;
 
+import com.github.nalukit.nalu.plugin.core.web.client.NaluPluginCoreWeb;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.user.client.ui.IsWidget;
+import com.google.gwt.user.client.ui.Widget;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Base class of the generated selector providers.
+ * <p>
+ * A provider is the scope of the selectors of one owner (shell or
+ * component). The generated class passes the selectors to the constructor
+ * and dispatches the append by the index of the selector.
+ * </p>
+ * <p>
+ * The selectors are removed from the SelectorProvider, once the owner
+ * is detached:
+ * </p>
+ * <ul>
+ * <li>in case the owner is a widget, the provider listens to the
+ * attach events of the owner (and registers again, once it is attached)</li>
+ * <li>otherwise (f.e. a shell) the plugin removes the provider after a shell
+ * change, in case all widgets appended through the provider are detached</li>
+ * </ul>
+ */
 public abstract class AbstractSelectorProvider {
 
-  public AbstractSelectorProvider() {
+  /* index of the selectors */
+  private final Map<String, Integer> indexes;
+  /* last widget appended for each selector */
+  private final Widget[]             appendedWidgets;
+  /* owner of the selectors */
+  private       Object               owner;
+  /* registration of the attach handler of the owner */
+  private       HandlerRegistration  attachHandlerRegistration;
+
+  public AbstractSelectorProvider(String... selectors) {
+    this.indexes = new HashMap<>();
+    for (int i = 0; i < selectors.length; i++) {
+      this.indexes.put(selectors[i],
+                       i);
+    }
+    this.appendedWidgets = new Widget[selectors.length];
+  }
+
+  /**
+   * Registers the selectors of the owner.
+   *
+   * @param owner the owner of the selectors
+   */
+  protected void register(Object owner) {
+    this.owner = owner;
+    Arrays.fill(this.appendedWidgets,
+                null);
+    SelectorProvider.get()
+                    .register(this);
+    if (owner instanceof IsWidget && Objects.isNull(this.attachHandlerRegistration)) {
+      this.attachHandlerRegistration = ((IsWidget) owner).asWidget()
+                                                         .addAttachHandler(event -> {
+                                                           if (event.isAttached()) {
+                                                             SelectorProvider.get()
+                                                                             .register(this);
+                                                           } else {
+                                                             this.removeSelectors();
+                                                           }
+                                                         });
+    }
+  }
+
+  /**
+   * Removes the selectors of the owner.
+   */
+  public void removeSelectors() {
+    SelectorProvider.get()
+                    .remove(this);
+  }
+
+  boolean hasSelector(String selector) {
+    return this.indexes.containsKey(selector);
+  }
+
+  void append(String selector,
+              Widget widget) {
+    int index = this.indexes.get(selector);
+    this.appendedWidgets[index] = widget;
+    this.append(index,
+                widget);
+  }
+
+  /**
+   * Returns true, in case the owner is a widget inside a widget hidden by
+   * the visibility toggle. The selectors of a hidden owner are skipped,
+   * cause the selectors are also used by the visible owner.
+   *
+   * @return true, in case the owner is hidden
+   */
+  boolean isHidden() {
+    if (!(this.owner instanceof IsWidget)) {
+      return false;
+    }
+    Element element = ((IsWidget) this.owner).asWidget()
+                                             .getElement();
+    while (!Objects.isNull(element)) {
+      if (element.hasAttribute(NaluPluginCoreWeb.NALU_HIDDEN_ATTRIBUTE)) {
+        return true;
+      }
+      element = element.getParentElement();
+    }
+    return false;
+  }
+
+  boolean isDetached() {
+    if (this.owner instanceof IsWidget) {
+      return !((IsWidget) this.owner).asWidget()
+                                     .isAttached();
+    }
+    boolean appended = false;
+    for (Widget widget : this.appendedWidgets) {
+      if (!Objects.isNull(widget)) {
+        if (widget.isAttached()) {
+          return false;
+        }
+        appended = true;
+      }
+    }
+    return appended;
   }
 
-  public abstract void removeSelectors();
+  /**
+   * Appends the widget using the method annotated with the selector.
+   *
+   * @param index  index of the selector
+   * @param widget widget to append
+   */
+  protected abstract void append(int index,
+                                 Widget widget);
 
 }
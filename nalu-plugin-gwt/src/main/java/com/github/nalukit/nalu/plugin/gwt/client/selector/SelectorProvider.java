@@ -16,25 +16,73 @@
 
 package com.github.nalukit.nalu.plugin.gwt.client.selector;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class SelectorProvider {
 
   private static SelectorProvider instance = new SelectorProvider();
 
-  private Map<String, SelectorCommand> selectorCommands;
+  /* commands registered without a provider */
+  private Map<String, SelectorCommand>  selectorCommands;
+  /* registered providers - a provider registered later */
+  /* hides the selectors of providers registered earlier */
+  /* (providers of hidden owners are skipped)             */
+  private List<AbstractSelectorProvider> providers;
 
   private SelectorProvider() {
     this.selectorCommands = new HashMap<>();
+    this.providers = new ArrayList<>();
   }
 
   public static SelectorProvider get() {
     return instance;
   }
 
+  /**
+   * Returns the commands registered without a provider.
+   * Generated providers register their selectors in their own scope.
+   *
+   * @return map of the commands
+   */
   public Map<String, SelectorCommand> getSelectorCommands() {
     return selectorCommands;
   }
 
+  /**
+   * Returns the command of a selector.
+   *
+   * @param selector the selector
+   * @return the command or null, in case the selector is unknown
+   */
+  public SelectorCommand getSelectorCommand(String selector) {
+    for (int i = this.providers.size() - 1; i >= 0; i--) {
+      AbstractSelectorProvider provider = this.providers.get(i);
+      if (provider.hasSelector(selector) && !provider.isHidden()) {
+        return widget -> provider.append(selector,
+                                         widget.asWidget());
+      }
+    }
+    return this.selectorCommands.get(selector);
+  }
+
+  /**
+   * Removes the providers, whose owner is detached.
+   */
+  public void removeDetachedProviders() {
+    this.providers.removeIf(AbstractSelectorProvider::isDetached);
+  }
+
+  void register(AbstractSelectorProvider provider) {
+    // a provider registered again (f.e.: a cached shell, that is attached again) wins
+    this.providers.remove(provider);
+    this.providers.add(provider);
+  }
+
+  void remove(AbstractSelectorProvider provider) {
+    this.providers.remove(provider);
+  }
+
 }
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ *
+ */
+
+package com.github.nalukit.nalu.plugin.gwt.client.selector;
+
+import com.google.gwt.junit.GWTMockUtilities;
+import com.google.gwt.user.client.ui.Widget;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class SelectorProviderTest {
+
+  private List<String> appends;
+
+  private List<TestSelectorProvider> providers;
+
+  @BeforeAll
+  static void beforeAll() {
+    // widgets are created on the JVM
+    GWTMockUtilities.disarm();
+  }
+
+  @AfterAll
+  static void afterAll() {
+    GWTMockUtilities.restore();
+  }
+
+  @BeforeEach
+  void setUp() {
+    this.appends = new ArrayList<>();
+    this.providers = new ArrayList<>();
+  }
+
+  @AfterEach
+  void tearDown() {
+    // the SelectorProvider is a singleton
+    this.providers.forEach(AbstractSelectorProvider::removeSelectors);
+    SelectorProvider.get()
+                    .getSelectorCommands()
+                    .clear();
+  }
+
+  @Test
+  void getSelectorCommandUsesProviderRegisteredLast() {
+    TestSelectorProvider shell = this.createProvider("shell",
+                                                     "header",
+                                                     "content");
+    TestSelectorProvider component = this.createProvider("component",
+                                                         "content");
+    this.append("content");
+    this.append("header");
+    // the selectors of the shell are hidden by the component for the shared selector only
+    Assertions.assertEquals(Arrays.asList("component:0",
+                                          "shell:0"),
+                            this.appends);
+    // once the component is removed, the selector is resolved by the shell again
+    component.removeSelectors();
+    this.append("content");
+    Assertions.assertEquals("shell:1",
+                            this.appends.get(2));
+    // a provider registered again wins
+    component.initialize(new Object());
+    this.append("content");
+    shell.initialize(new Object());
+    this.append("content");
+    Assertions.assertEquals(Arrays.asList("component:0",
+                                          "shell:1"),
+                            this.appends.subList(3,
+                                                 5));
+  }
+
+  @Test
+  void getSelectorCommandUsesCommandsWithoutProvider() {
+    this.createProvider("shell",
+                        "content");
+    SelectorProvider.get()
+                    .getSelectorCommands()
+                    .put("footer",
+                         widget -> this.appends.add("command:footer"));
+    this.append("footer");
+    Assertions.assertEquals(Collections.singletonList("command:footer"),
+                            this.appends);
+    Assertions.assertNull(SelectorProvider.get()
+                                          .getSelectorCommand("unknown"));
+  }
+
+  @Test
+  void removeDetachedProvidersKeepsProvidersWithAttachedWidgets() {
+    this.createProvider("shell01",
+                        "content");
+    TestWidget widget = new TestWidget(true);
+    this.append("content",
+                widget);
+    this.createProvider("shell02",
+                        "content");
+    // the provider without appended widgets is kept
+    SelectorProvider.get()
+                    .removeDetachedProviders();
+    this.append("content");
+    Assertions.assertEquals("shell02:0",
+                            this.appends.get(1));
+    // the widget of the first shell is detached
+    widget.attached = false;
+    SelectorProvider.get()
+                    .removeDetachedProviders();
+    this.append("content");
+    Assertions.assertEquals("shell02:0",
+                            this.appends.get(2));
+    // ... so the first shell is removed
+    this.providers.get(1)
+                  .removeSelectors();
+    this.append("content");
+    Assertions.assertEquals(3,
+                            this.appends.size());
+  }
+
+  @Test
+  void removeDetachedProvidersRemovesProvidersWithDetachedWidgets() {
+    this.createProvider("shell01",
+                        "content");
+    this.append("content",
+                new TestWidget(false));
+    this.createProvider("shell02",
+                        "header");
+    this.append("header",
+                new TestWidget(true));
+    SelectorProvider.get()
+                    .removeDetachedProviders();
+    Assertions.assertNull(SelectorProvider.get()
+                                          .getSelectorCommand("content"));
+    Assertions.assertNotNull(SelectorProvider.get()
+                                             .getSelectorCommand("header"));
+  }
+
+  private TestSelectorProvider createProvider(String name,
+                                              String... selectors) {
+    TestSelectorProvider provider = new TestSelectorProvider(name,
+                                                             selectors);
+    // the owner is not a widget (f.e. a shell)
+    provider.initialize(new Object());
+    this.providers.add(provider);
+    return provider;
+  }
+
+  private void append(String selector) {
+    this.append(selector,
+                new TestWidget(true));
+  }
+
+  private void append(String selector,
+                      Widget widget) {
+    SelectorCommand command = SelectorProvider.get()
+                                              .getSelectorCommand(selector);
+    if (command != null) {
+      command.append(widget);
+    }
+  }
+
+  class TestSelectorProvider
+      extends AbstractSelectorProvider {
+
+    private final String name;
+
+    TestSelectorProvider(String name,
+                         String... selectors) {
+      super(selectors);
+      this.name = name;
+    }
+
+    void initialize(Object owner) {
+      super.register(owner);
+    }
+
+    @Override
+    protected void append(int index,
+                          Widget widget) {
+      appends.add(this.name + ":" + index);
+    }
+
+  }
+
+  static class TestWidget
+      extends Widget {
+
+    private boolean attached;
+
+    TestWidget(boolean attached) {
+      this.attached = attached;
+    }
+
+    @Override
+    public boolean isAttached() {
+      return this.attached;
+    }
+
+  }
+
+}
@@ -26,6 +26,8 @@ import com.github.nalukit.nalu.client.component.annotation.ErrorPopUpController;
 import com.github.nalukit.nalu.client.component.annotation.PopUpController;
 import com.github.nalukit.nalu.client.component.annotation.Shell;
 import com.github.nalukit.nalu.client.handler.annotation.Handler;
+import com.github.nalukit.nalu.client.internal.NoCustomAlertPresenter;
+import com.github.nalukit.nalu.client.internal.NoCustomConfirmPresenter;
 import com.github.nalukit.nalu.client.module.annotation.Module;
 import com.github.nalukit.nalu.client.module.annotation.Modules;
 import com.github.nalukit.nalu.client.tracker.annotation.Tracker;
@@ -35,7 +37,9 @@ import com.github.nalukit.nalu.processor.generator.CompositeCreatorGenerator;
 import com.github.nalukit.nalu.processor.generator.ControllerCreatorGenerator;
 import com.github.nalukit.nalu.processor.generator.ModuleGenerator;
 import com.github.nalukit.nalu.processor.generator.PopUpControllerCreatorGenerator;
+import com.github.nalukit.nalu.processor.generator.RoutesGenerator;
 import com.github.nalukit.nalu.processor.generator.ShellCreatorGenerator;
+import com.github.nalukit.nalu.processor.generator.SourceGenerator;
 import com.github.nalukit.nalu.processor.model.MetaModel;
 import com.github.nalukit.nalu.processor.model.intern.BlockControllerModel;
 import com.github.nalukit.nalu.processor.model.intern.ClassNameModel;
@@ -45,6 +49,7 @@ import com.github.nalukit.nalu.processor.model.intern.ErrorPopUpControllerModel;
 import com.github.nalukit.nalu.processor.model.intern.ModuleModel;
 import com.github.nalukit.nalu.processor.model.intern.PopUpControllerModel;
 import com.github.nalukit.nalu.processor.model.intern.ShellModel;
+import com.github.nalukit.nalu.processor.profiler.ProcessorProfiler;
 import com.github.nalukit.nalu.processor.scanner.ApplicationAnnotationScanner;
 import com.github.nalukit.nalu.processor.scanner.BlockControllerAnnotationScanner;
 import com.github.nalukit.nalu.processor.scanner.CompositeControllerAnnotationScanner;
@@ -76,6 +81,7 @@ import com.github.nalukit.nalu.processor.scanner.validation.TrackerAnnotationVal
 import com.google.auto.service.AutoService;
 import com.google.common.base.Stopwatch;
 import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
 
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.ProcessingEnvironment;
@@ -90,9 +96,9 @@ import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -106,9 +112,11 @@ public class NaluProcessor
 
   private final static String APPLICATION_PROPERTIES = "nalu.properties";
 
-  private ProcessorUtils processorUtils;
-  private Stopwatch      stopwatch;
-  private MetaModel      metaModel = new MetaModel();
+  private ProcessorUtils    processorUtils;
+  private ProcessorContext  context;
+  private ProcessorProfiler profiler;
+  private Stopwatch         stopwatch;
+  private MetaModel         metaModel = new MetaModel();
 
   public NaluProcessor() {
     super();
@@ -137,6 +145,11 @@ public class NaluProcessor
                  .collect(toSet());
   }
 
+  @Override
+  public Set<String> getSupportedOptions() {
+    return Collections.singleton(ProcessorProfiler.OPTION);
+  }
+
   @Override
   public synchronized void init(ProcessingEnvironment processingEnv) {
     super.init(processingEnv);
@@ -149,13 +162,22 @@ public class NaluProcessor
   @Override
   public boolean process(Set<? extends TypeElement> annotations,
                          RoundEnvironment roundEnv) {
+    // elements of the last round are not valid anymore
+    this.context.reset();
     try {
       if (roundEnv.processingOver()) {
         if (!roundEnv.errorRaised()) {
+          this.profiler.run("remove deleted elements",
+                            1,
+                            this::removeDeletedElements);
           this.validate(roundEnv);
           this.generateLastRound();
-          this.store(metaModel);
+          this.profiler.run("store MetaModel",
+                            1,
+                            () -> this.store(metaModel));
+          this.profiler.write();
         }
+        this.context.reset();
         this.processorUtils.createNoteMessage("Nalu-Processor finished ... processing takes: " +
                                                   this.stopwatch.stop()
                                                                 .toString());
@@ -215,48 +237,46 @@ public class NaluProcessor
 
   private void handleBlockControllerAnnotation(RoundEnvironment roundEnv)
       throws ProcessorException {
+    SourceGenerator sourceGenerator = SourceGenerator.builder()
+                                                     .processingEnvironment(processingEnv)
+                                                     .build();
     List<BlockControllerModel> blockControllerModels = new ArrayList<>();
     for (Element blockControllerElement : roundEnv.getElementsAnnotatedWith(BlockController.class)) {
       // validate
-      BlockControllerAnnotationValidator.builder()
-                                        .processingEnvironment(processingEnv)
-                                        .blockControllerElement(blockControllerElement)
-                                        .build()
-                                        .validate();
+      this.profiler.run("validate @BlockController",
+                        1,
+                        () -> BlockControllerAnnotationValidator.builder()
+                                                                .processingEnvironment(processingEnv)
+                                                                .blockControllerElement(blockControllerElement)
+                                                                .build()
+                                                                .validate());
       // create PopUpControllerModel
-      BlockControllerModel blockControllerModel = BlockControllerAnnotationScanner.builder()
-                                                                                  .processingEnvironment(processingEnv)
-                                                                                  .metaModel(this.metaModel)
-                                                                                  .blockControllerElement(blockControllerElement)
-                                                                                  .build()
-                                                                                  .scan(roundEnv);
+      BlockControllerModel blockControllerModel = this.profiler.measure("scan @BlockController",
+                                                                        1,
+                                                                        () -> BlockControllerAnnotationScanner.builder()
+                                                                                                              .processingEnvironment(processingEnv)
+                                                                                                              .metaModel(this.metaModel)
+                                                                                                              .blockControllerElement(blockControllerElement)
+                                                                                                              .build()
+                                                                                                              .scan(roundEnv));
       // generate BlockControllerCreator
-      BlockControllerCreatorGenerator.builder()
-                                     .processingEnvironment(processingEnv)
-                                     .metaModel(this.metaModel)
-                                     .blockControllerModel(blockControllerModel)
-                                     .build()
-                                     .generate();
+      sourceGenerator.add(blockControllerModel.getController(),
+                          () -> BlockControllerCreatorGenerator.builder()
+                                                               .metaModel(this.metaModel)
+                                                               .blockControllerModel(blockControllerModel)
+                                                               .build()
+                                                               .generate());
       blockControllerModels.add(blockControllerModel);
     }
-    // check, if the one of the popUpController in the list is already
-    // added to the the meta model
-    //
-    // in case it is, remove it.
-    blockControllerModels.forEach(model -> {
-      Optional<BlockControllerModel> optional = this.metaModel.getBlockControllers()
-                                                              .stream()
-                                                              .filter(s -> model.getController()
-                                                                                .getClassName()
-                                                                                .equals(s.getController()
-                                                                                         .getClassName()))
-                                                              .findFirst();
-      optional.ifPresent(optionalBlockControllerModel -> this.metaModel.getPopUpControllers()
-                                                                       .remove(optionalBlockControllerModel));
-    });
+    // generate the creators of all scanned elements
+    this.profiler.run("generate BlockControllerCreatorGenerator",
+                      sourceGenerator.size(),
+                      sourceGenerator::generate);
     // save data in metaModel
-    this.metaModel.getBlockControllers()
-                  .addAll(blockControllerModels);
+    //
+    // in case the model is already
+    // added, it will be replaced
+    blockControllerModels.forEach(this.metaModel::addBlockController);
   }
 
   private void handleErrorPopUpControllerAnnotation(RoundEnvironment roundEnv)
@@ -268,18 +288,22 @@ public class NaluProcessor
     List<ErrorPopUpControllerModel> errorPopUpControllerModels = new ArrayList<>();
     for (Element errorPopUpControllerElement : roundEnv.getElementsAnnotatedWith(ErrorPopUpController.class)) {
       // validate
-      ErrorPopUpControllerAnnotationValidator.builder()
-                                             .processingEnvironment(processingEnv)
-                                             .errorPopUpControllerElement(errorPopUpControllerElement)
-                                             .build()
-                                             .validate();
+      this.profiler.run("validate @ErrorPopUpController",
+                        1,
+                        () -> ErrorPopUpControllerAnnotationValidator.builder()
+                                                                     .processingEnvironment(processingEnv)
+                                                                     .errorPopUpControllerElement(errorPopUpControllerElement)
+                                                                     .build()
+                                                                     .validate());
       // create PopUpControllerModel
-      ErrorPopUpControllerModel errorPopUpControllerModel = ErrorPopUpControllerAnnotationScanner.builder()
-                                                                                                 .processingEnvironment(processingEnv)
-                                                                                                 .metaModel(this.metaModel)
-                                                                                                 .popUpControllerElement(errorPopUpControllerElement)
-                                                                                                 .build()
-                                                                                                 .scan(roundEnv);
+      ErrorPopUpControllerModel errorPopUpControllerModel = this.profiler.measure("scan @ErrorPopUpController",
+                                                                                  1,
+                                                                                  () -> ErrorPopUpControllerAnnotationScanner.builder()
+                                                                                                                             .processingEnvironment(processingEnv)
+                                                                                                                             .metaModel(this.metaModel)
+                                                                                                                             .popUpControllerElement(errorPopUpControllerElement)
+                                                                                                                             .build()
+                                                                                                                             .scan(roundEnv));
       errorPopUpControllerModels.add(errorPopUpControllerModel);
     }
     // save data in metaModel
@@ -290,65 +314,67 @@ public class NaluProcessor
 
   private void handlePopUpControllerAnnotation(RoundEnvironment roundEnv)
       throws ProcessorException {
+    SourceGenerator sourceGenerator = SourceGenerator.builder()
+                                                     .processingEnvironment(processingEnv)
+                                                     .build();
     List<PopUpControllerModel> popUpControllerModels = new ArrayList<>();
     for (Element popUpControllerElement : roundEnv.getElementsAnnotatedWith(PopUpController.class)) {
       // validate
-      PopUpControllerAnnotationValidator.builder()
-                                        .processingEnvironment(processingEnv)
-                                        .popUpControllerElement(popUpControllerElement)
-                                        .build()
-                                        .validate();
+      this.profiler.run("validate @PopUpController",
+                        1,
+                        () -> PopUpControllerAnnotationValidator.builder()
+                                                                .processingEnvironment(processingEnv)
+                                                                .popUpControllerElement(popUpControllerElement)
+                                                                .build()
+                                                                .validate());
       // create PopUpControllerModel
-      PopUpControllerModel popUpControllerModel = PopUpControllerAnnotationScanner.builder()
-                                                                                  .processingEnvironment(processingEnv)
-                                                                                  .metaModel(this.metaModel)
-                                                                                  .popUpControllerElement(popUpControllerElement)
-                                                                                  .build()
-                                                                                  .scan(roundEnv);
+      PopUpControllerModel popUpControllerModel = this.profiler.measure("scan @PopUpController",
+                                                                        1,
+                                                                        () -> PopUpControllerAnnotationScanner.builder()
+                                                                                                              .processingEnvironment(processingEnv)
+                                                                                                              .metaModel(this.metaModel)
+                                                                                                              .popUpControllerElement(popUpControllerElement)
+                                                                                                              .build()
+                                                                                                              .scan(roundEnv));
       // generate PopUpControllerCreator
-      PopUpControllerCreatorGenerator.builder()
-                                     .processingEnvironment(processingEnv)
-                                     .metaModel(this.metaModel)
-                                     .popUpControllerModel(popUpControllerModel)
-                                     .build()
-                                     .generate();
+      sourceGenerator.add(popUpControllerModel.getController(),
+                          () -> PopUpControllerCreatorGenerator.builder()
+                                                               .metaModel(this.metaModel)
+                                                               .popUpControllerModel(popUpControllerModel)
+                                                               .build()
+                                                               .generate());
       popUpControllerModels.add(popUpControllerModel);
     }
-    // check, if the one of the popUpController in the list is already
-    // added to the the meta model
-    //
-    // in case it is, remove it.
-    popUpControllerModels.forEach(model -> {
-      Optional<PopUpControllerModel> optional = this.metaModel.getPopUpControllers()
-                                                              .stream()
-                                                              .filter(s -> model.getController()
-                                                                                .getClassName()
-                                                                                .equals(s.getController()
-                                                                                         .getClassName()))
-                                                              .findFirst();
-      optional.ifPresent(optionalPopUpControllerModel -> this.metaModel.getPopUpControllers()
-                                                                       .remove(optionalPopUpControllerModel));
-    });
+    // generate the creators of all scanned elements
+    this.profiler.run("generate PopUpControllerCreatorGenerator",
+                      sourceGenerator.size(),
+                      sourceGenerator::generate);
     // save data in metaModel
-    this.metaModel.getPopUpControllers()
-                  .addAll(popUpControllerModels);
+    //
+    // in case the model is already
+    // added, it will be replaced
+    popUpControllerModels.forEach(this.metaModel::addPopUpController);
   }
 
   private void handleModuleAnnotation(RoundEnvironment roundEnv)
       throws ProcessorException {
     for (Element moduleElement : roundEnv.getElementsAnnotatedWith(Module.class)) {
       // validate application element
-      ModuleAnnotationValidator.builder()
-                               .processingEnvironment(processingEnv)
-                               .moduleElement(moduleElement)
-                               .build()
-                               .validate();
-      // scan application element
-      ModuleModel moduleModel = ModuleAnnotationScanner.builder()
+      this.profiler.run("validate @Module",
+                        1,
+                        () -> ModuleAnnotationValidator.builder()
                                                        .processingEnvironment(processingEnv)
                                                        .moduleElement(moduleElement)
                                                        .build()
-                                                       .scan(roundEnv);
+                                                       .validate());
+      // scan application element
+      ModuleModel moduleModel = this.profiler.measure("scan @Module",
+                                                      1,
+                                                      () -> ModuleAnnotationScanner.builder()
+                                                                                   .processingEnvironment(processingEnv)
+                                                                                   .moduleElement(moduleElement)
+                                                                                   .build()
+                                                                                   .scan(roundEnv));
       // store model
       this.metaModel.setModuleModel(moduleModel);
     }
@@ -358,18 +384,22 @@ public class NaluProcessor
       throws ProcessorException {
     for (Element modulesElement : roundEnv.getElementsAnnotatedWith(Modules.class)) {
       // validate application element
-      ModulesAnnotationValidator.builder()
-                                .processingEnvironment(processingEnv)
-                                .modulesElement(modulesElement)
-                                .build()
-                                .validate();
+      this.profiler.run("validate @Modules",
+                        1,
+                        () -> ModulesAnnotationValidator.builder()
+                                                        .processingEnvironment(processingEnv)
+                                                        .modulesElement(modulesElement)
+                                                        .build()
+                                                        .validate());
       // scan application element
-      ModulesAnnotationScanner.builder()
-                              .processingEnvironment(processingEnv)
-                              .modulesElement(modulesElement)
-                              .metaModel(metaModel)
-                              .build()
-                              .scan(roundEnv);
+      this.profiler.run("scan @Modules",
+                        1,
+                        () -> ModulesAnnotationScanner.builder()
+                                                      .processingEnvironment(processingEnv)
+                                                      .modulesElement(modulesElement)
+                                                      .metaModel(metaModel)
+                                                      .build()
+                                                      .scan(roundEnv));
     }
   }
 
@@ -377,177 +407,187 @@ public class NaluProcessor
       throws ProcessorException {
     for (Element applicationElement : roundEnv.getElementsAnnotatedWith(Application.class)) {
       // validate application element
-      ApplicationAnnotationValidator.builder()
-                                    .processingEnvironment(processingEnv)
-                                    .applicationElement(applicationElement)
-                                    .build()
-                                    .validate();
+      this.profiler.run("validate @Application",
+                        1,
+                        () -> ApplicationAnnotationValidator.builder()
+                                                            .processingEnvironment(processingEnv)
+                                                            .applicationElement(applicationElement)
+                                                            .build()
+                                                            .validate());
       // scan application element
-      ApplicationAnnotationScanner.builder()
-                                  .processingEnvironment(processingEnv)
-                                  .applicationElement(applicationElement)
-                                  .metaModel(metaModel)
-                                  .build()
-                                  .scan();
+      this.profiler.run("scan @Application",
+                        1,
+                        () -> ApplicationAnnotationScanner.builder()
+                                                          .processingEnvironment(processingEnv)
+                                                          .applicationElement(applicationElement)
+                                                          .metaModel(metaModel)
+                                                          .build()
+                                                          .scan());
     }
   }
 
   private void handleShellAnnotation(RoundEnvironment roundEnv)
       throws ProcessorException {
+    SourceGenerator sourceGenerator = SourceGenerator.builder()
+                                                     .processingEnvironment(processingEnv)
+                                                     .build();
     List<ShellModel> shellsModels = new ArrayList<>();
     for (Element shellElement : roundEnv.getElementsAnnotatedWith(Shell.class)) {
       // validate shellCreator!
-      ShellAnnotationValidator.builder()
-                              .processingEnvironment(processingEnv)
-                              .roundEnvironment(roundEnv)
-                              .build()
-                              .validate(shellElement);
+      this.profiler.run("validate @Shell",
+                        1,
+                        () -> ShellAnnotationValidator.builder()
+                                                      .processingEnvironment(processingEnv)
+                                                      .roundEnvironment(roundEnv)
+                                                      .build()
+                                                      .validate(shellElement));
       // generate ShellCreator
-      ShellModel shellModel = ShellAnnotationScanner.builder()
-                                                    .processingEnvironment(processingEnv)
-                                                    .metaModel(this.metaModel)
-                                                    .shellElement(shellElement)
-                                                    .build()
-                                                    .scan(roundEnv);
+      ShellModel shellModel = this.profiler.measure("scan @Shell",
+                                                    1,
+                                                    () -> ShellAnnotationScanner.builder()
+                                                                                .processingEnvironment(processingEnv)
+                                                                                .metaModel(this.metaModel)
+                                                                                .shellElement(shellElement)
+                                                                                .build()
+                                                                                .scan(roundEnv));
       // generate ShellCreator
-      ShellCreatorGenerator.builder()
-                           .processingEnvironment(processingEnv)
-                           .metaModel(this.metaModel)
-                           .shellModel(shellModel)
-                           .build()
-                           .generate();
+      sourceGenerator.add(shellModel.getShell(),
+                          () -> ShellCreatorGenerator.builder()
+                                                     .metaModel(this.metaModel)
+                                                     .shellModel(shellModel)
+                                                     .build()
+                                                     .generate());
       shellsModels.add(shellModel);
     }
-    // check, if the one of the shell in the list is already
-    // added to the the meta model
+    // generate the creators of all scanned elements
+    this.profiler.run("generate ShellCreatorGenerator",
+                      sourceGenerator.size(),
+                      sourceGenerator::generate);
+    // save data in metaModel
     //
-    // in case it is, remove it.
-    shellsModels.forEach(model -> {
-      Optional<ShellModel> optional = this.metaModel.getShells()
-                                                    .stream()
-                                                    .filter(s -> model.getShell()
-                                                                      .getClassName()
-                                                                      .equals(s.getShell()
-                                                                               .getClassName()))
-                                                    .findFirst();
-      optional.ifPresent(optionalShellModel -> this.metaModel.getShells()
-                                                             .remove(optionalShellModel));
-    });
-    // save handler data in metaModel
-    this.metaModel.getShells()
-                  .addAll(shellsModels);
+    // in case the model is already
+    // added, it will be replaced
+    shellsModels.forEach(this.metaModel::addShell);
   }
 
   private void handleCompositeControllerAnnotation(RoundEnvironment roundEnv)
       throws ProcessorException {
+    SourceGenerator sourceGenerator = SourceGenerator.builder()
+                                                     .processingEnvironment(processingEnv)
+                                                     .build();
     for (Element compositeElement : roundEnv.getElementsAnnotatedWith(CompositeController.class)) {
       // validate handler element
-      CompositeControllerAnnotationValidator.builder()
-                                            .processingEnvironment(processingEnv)
-                                            .roundEnvironment(roundEnv)
-                                            .compositeElement(compositeElement)
-                                            .build()
-                                            .validate();
+      this.profiler.run("validate @CompositeController",
+                        1,
+                        () -> CompositeControllerAnnotationValidator.builder()
+                                                                    .processingEnvironment(processingEnv)
+                                                                    .roundEnvironment(roundEnv)
+                                                                    .compositeElement(compositeElement)
+                                                                    .build()
+                                                                    .validate());
       // scan controller element
-      CompositeModel compositeModel = CompositeControllerAnnotationScanner.builder()
-                                                                          .processingEnvironment(processingEnv)
-                                                                          .metaModel(this.metaModel)
-                                                                          .compositeElement(compositeElement)
-                                                                          .build()
-                                                                          .scan(roundEnv);
+      CompositeModel compositeModel = this.profiler.measure("scan @CompositeController",
+                                                            1,
+                                                            () -> CompositeControllerAnnotationScanner.builder()
+                                                                                                      .processingEnvironment(processingEnv)
+                                                                                                      .metaModel(this.metaModel)
+                                                                                                      .compositeElement(compositeElement)
+                                                                                                      .build()
+                                                                                                      .scan(roundEnv));
 
       // create the ControllerCreator
-      CompositeCreatorGenerator.builder()
-                               .metaModel(this.metaModel)
-                               .processingEnvironment(processingEnv)
-                               .compositeModel(compositeModel)
-                               .build()
-                               .generate();
+      sourceGenerator.add(compositeModel.getProvider(),
+                          () -> CompositeCreatorGenerator.builder()
+                                                         .metaModel(this.metaModel)
+                                                         .compositeModel(compositeModel)
+                                                         .build()
+                                                         .generate());
     }
+    // generate the creators of all scanned elements
+    this.profiler.run("generate CompositeCreatorGenerator",
+                      sourceGenerator.size(),
+                      sourceGenerator::generate);
   }
 
   private void handleControllerAnnotation(RoundEnvironment roundEnv)
       throws ProcessorException {
+    SourceGenerator sourceGenerator = SourceGenerator.builder()
+                                                     .processingEnvironment(processingEnv)
+                                                     .build();
     for (Element controllerElement : roundEnv.getElementsAnnotatedWith(Controller.class)) {
       // validate handler element
-      ControllerAnnotationValidator.builder()
-                                   .processingEnvironment(processingEnv)
-                                   .roundEnvironment(roundEnv)
-                                   .controllerElement(controllerElement)
-                                   .build()
-                                   .validate();
+      this.profiler.run("validate @Controller",
+                        1,
+                        () -> ControllerAnnotationValidator.builder()
+                                                           .processingEnvironment(processingEnv)
+                                                           .roundEnvironment(roundEnv)
+                                                           .controllerElement(controllerElement)
+                                                           .build()
+                                                           .validate());
       // scan controller element
-      ControllerModel controllerModel = ControllerAnnotationScanner.builder()
-                                                                   .processingEnvironment(processingEnv)
-                                                                   .metaModel(this.metaModel)
-                                                                   .controllerElement(controllerElement)
-                                                                   .build()
-                                                                   .scan(roundEnv);
+      ControllerModel scannedControllerModel = this.profiler.measure("scan @Controller",
+                                                                     1,
+                                                                     () -> ControllerAnnotationScanner.builder()
+                                                                                                      .processingEnvironment(processingEnv)
+                                                                                                      .metaModel(this.metaModel)
+                                                                                                      .controllerElement(controllerElement)
+                                                                                                      .build()
+                                                                                                      .scan(roundEnv));
 
       // Composites-Annotation in controller
-      controllerModel = CompositesAnnotationScanner.builder()
-                                                   .processingEnvironment(processingEnv)
-                                                   .controllerModel(controllerModel)
-                                                   .controllerElement(controllerElement)
-                                                   .build()
-                                                   .scan(roundEnv);
+      ControllerModel controllerModel = this.profiler.measure("scan @Composites",
+                                                              1,
+                                                              () -> CompositesAnnotationScanner.builder()
+                                                                                               .processingEnvironment(processingEnv)
+                                                                                               .controllerModel(scannedControllerModel)
+                                                                                               .controllerElement(controllerElement)
+                                                                                               .build()
+                                                                                               .scan(roundEnv));
       // create the ControllerCreator
-      ControllerCreatorGenerator.builder()
-                                .metaModel(this.metaModel)
-                                .processingEnvironment(processingEnv)
-                                .controllerModel(controllerModel)
-                                .build()
-                                .generate();
-      // check, if the controller is already
-      // added to the the meta model
-      //
-      // in case it is, remove it.
-      final String controllerClassname = controllerModel.getController()
-                                                        .getClassName();
-      Optional<ControllerModel> optional = this.metaModel.getControllers()
-                                                         .stream()
-                                                         .filter(s -> controllerClassname.equals(s.getController()
-                                                                                                  .getClassName()))
-                                                         .findFirst();
-      optional.ifPresent(optionalControllerModel -> this.metaModel.getControllers()
-                                                                  .remove(optionalControllerModel));
+      sourceGenerator.add(controllerModel.getController(),
+                          () -> ControllerCreatorGenerator.builder()
+                                                          .metaModel(this.metaModel)
+                                                          .controllerModel(controllerModel)
+                                                          .build()
+                                                          .generate());
       // save controller data in metaModel
-      this.metaModel.getControllers()
-                    .add(controllerModel);
+      //
+      // in case the controller is already
+      // added, it will be replaced
+      this.metaModel.addController(controllerModel);
     }
+    // generate the creators of all scanned elements
+    this.profiler.run("generate ControllerCreatorGenerator",
+                      sourceGenerator.size(),
+                      sourceGenerator::generate);
   }
 
   private void handleHandlerAnnotation(RoundEnvironment roundEnv)
       throws ProcessorException {
     for (Element handlerElement : roundEnv.getElementsAnnotatedWith(Handler.class)) {
       // validate handler element
-      HandlerAnnotationValidator.builder()
-                                .processingEnvironment(processingEnv)
-                                .roundEnvironment(roundEnv)
-                                .handlerElement(handlerElement)
-                                .build()
-                                .validate();
+      this.profiler.run("validate @Handler",
+                        1,
+                        () -> HandlerAnnotationValidator.builder()
+                                                        .processingEnvironment(processingEnv)
+                                                        .roundEnvironment(roundEnv)
+                                                        .handlerElement(handlerElement)
+                                                        .build()
+                                                        .validate());
       // scan handler element
-      ClassNameModel handlerModel = HandlerAnnotationScanner.builder()
-                                                            .processingEnvironment(processingEnv)
-                                                            .metaModel(this.metaModel)
-                                                            .handlerElement(handlerElement)
-                                                            .build()
-                                                            .scan();
-      // check, if the handler is already
-      // added to the the meta model
-      //
-      // in case it is, remove it.
-      final String handlerClassname = handlerModel.getClassName();
-      Optional<ClassNameModel> optional = this.metaModel.getHandlers()
-                                                        .stream()
-                                                        .filter(s -> handlerClassname.equals(s.getClassName()))
-                                                        .findFirst();
-      optional.ifPresent(optionalHandler -> this.metaModel.getHandlers()
-                                                          .remove(optionalHandler));
+      ClassNameModel handlerModel = this.profiler.measure("scan @Handler",
+                                                          1,
+                                                          () -> HandlerAnnotationScanner.builder()
+                                                                                        .processingEnvironment(processingEnv)
+                                                                                        .metaModel(this.metaModel)
+                                                                                        .handlerElement(handlerElement)
+                                                                                        .build()
+                                                                                        .scan());
       // save handler data in metaModel
-      this.metaModel.getHandlers()
-                    .add(handlerModel);
+      //
+      // in case the handler is already
+      // added, it will be replaced
+      this.metaModel.addHandler(handlerModel);
     }
   }
 
@@ -555,54 +595,50 @@ public class NaluProcessor
       throws ProcessorException {
     for (Element filtersElement : roundEnv.getElementsAnnotatedWith(Filters.class)) {
       // validate filter element
-      FiltersAnnotationValidator.builder()
-                                .roundEnvironment(roundEnv)
-                                .processingEnvironment(processingEnv)
-                                .build()
-                                .validate(filtersElement);
+      this.profiler.run("validate @Filters",
+                        1,
+                        () -> FiltersAnnotationValidator.builder()
+                                                        .roundEnvironment(roundEnv)
+                                                        .processingEnvironment(processingEnv)
+                                                        .build()
+                                                        .validate(filtersElement));
       // scan filter element
-      List<ClassNameModel> filterModels = FiltersAnnotationScanner.builder()
-                                                                  .processingEnvironment(processingEnv)
-                                                                  .metaModel(this.metaModel)
-                                                                  .filtersElement(filtersElement)
-                                                                  .build()
-                                                                  .scan(roundEnv);
-      // check, if the one of the shell in the list is already
-      // added to the the meta model
-      //
-      // in case it is, remove it.
-      filterModels.forEach(model -> {
-        Optional<ClassNameModel> optional = this.metaModel.getFilters()
-                                                          .stream()
-                                                          .filter(s -> model.getClassName()
-                                                                            .equals(s.getClassName()))
-                                                          .findFirst();
-        optional.ifPresent(optionalFilter -> this.metaModel.getFilters()
-                                                           .remove(optionalFilter));
-      });
+      List<ClassNameModel> filterModels = this.profiler.measure("scan @Filters",
+                                                                1,
+                                                                () -> FiltersAnnotationScanner.builder()
+                                                                                              .processingEnvironment(processingEnv)
+                                                                                              .metaModel(this.metaModel)
+                                                                                              .filtersElement(filtersElement)
+                                                                                              .build()
+                                                                                              .scan(roundEnv));
       // save filter data in metaModel
-      this.metaModel.getFilters()
-                    .addAll(filterModels);
-
+      //
+      // in case the filter is already
+      // added, it will be replaced
+      filterModels.forEach(this.metaModel::addFilter);
     }
   }
 
   private void handleDebugAnnotation(RoundEnvironment roundEnv)
       throws ProcessorException {
     for (Element debugElement : roundEnv.getElementsAnnotatedWith(Debug.class)) {
-      DebugAnnotationValidator.builder()
-                              .roundEnvironment(roundEnv)
-                              .processingEnvironment(processingEnv)
-                              .debugElement(debugElement)
-                              .build()
-                              .validate();
+      this.profiler.run("validate @Debug",
+                        1,
+                        () -> DebugAnnotationValidator.builder()
+                                                      .roundEnvironment(roundEnv)
+                                                      .processingEnvironment(processingEnv)
+                                                      .debugElement(debugElement)
+                                                      .build()
+                                                      .validate());
       // scan filter element and save data in metaModel
-      this.metaModel = DebugAnnotationScanner.builder()
-                                             .processingEnvironment(processingEnv)
-                                             .metaModel(this.metaModel)
-                                             .debugElement(debugElement)
-                                             .build()
-                                             .scan(roundEnv);
+      this.metaModel = this.profiler.measure("scan @Debug",
+                                             1,
+                                             () -> DebugAnnotationScanner.builder()
+                                                                         .processingEnvironment(processingEnv)
+                                                                         .metaModel(this.metaModel)
+                                                                         .debugElement(debugElement)
+                                                                         .build()
+                                                                         .scan(roundEnv));
 
     }
   }
@@ -611,19 +647,23 @@ public class NaluProcessor
       throws ProcessorException {
     for (Element trackerElement : roundEnv.getElementsAnnotatedWith(Tracker.class)) {
       // validate filter element
-      TrackerAnnotationValidator.builder()
-                                .roundEnvironment(roundEnv)
-                                .processingEnvironment(processingEnv)
-                                .trackerElement(trackerElement)
-                                .build()
-                                .validate();
+      this.profiler.run("validate @Tracker",
+                        1,
+                        () -> TrackerAnnotationValidator.builder()
+                                                        .roundEnvironment(roundEnv)
+                                                        .processingEnvironment(processingEnv)
+                                                        .trackerElement(trackerElement)
+                                                        .build()
+                                                        .validate());
       // scan filter element and save data in metaModel
-      this.metaModel = TrackerAnnotationScanner.builder()
-                                               .processingEnvironment(processingEnv)
-                                               .metaModel(this.metaModel)
-                                               .trackerElement(trackerElement)
-                                               .build()
-                                               .scan(roundEnv);
+      this.metaModel = this.profiler.measure("scan @Tracker",
+                                             1,
+                                             () -> TrackerAnnotationScanner.builder()
+                                                                           .processingEnvironment(processingEnv)
+                                                                           .metaModel(this.metaModel)
+                                                                           .trackerElement(trackerElement)
+                                                                           .build()
+                                                                           .scan(roundEnv));
 
     }
   }
@@ -632,42 +672,134 @@ public class NaluProcessor
     this.processorUtils = ProcessorUtils.builder()
                                         .processingEnvironment(processingEnv)
                                         .build();
+    this.context = ProcessorContext.get(processingEnv);
+    this.profiler = ProcessorProfiler.builder()
+                                     .processingEnvironment(processingEnv)
+                                     .build();
     // get stored Meta Model and use it, if there is one!
-    MetaModel restoredModel = this.restore();
+    MetaModel restoredModel = this.profiler.measure("restore MetaModel",
+                                                    1,
+                                                    this::restore);
     if (!Objects.isNull(restoredModel)) {
       this.metaModel = restoredModel;
     }
   }
 
+  private void generateRoutes()
+      throws ProcessorException {
+    SourceGenerator sourceGenerator = SourceGenerator.builder()
+                                                     .processingEnvironment(processingEnv)
+                                                     .build();
+    if (this.processorUtils.doesExist(this.metaModel.getApplication())) {
+      sourceGenerator.add(this.metaModel.getApplication(),
+                          () -> RoutesGenerator.builder()
+                                               .packageName(this.metaModel.getGenerateToPackage())
+                                               .simpleName(this.metaModel.getApplication()
+                                                                         .getSimpleName() + ProcessorConstants.ROUTES)
+                                               .controllers(this.metaModel.getControllers())
+                                               .build()
+                                               .generate());
+    } else if (!Objects.isNull(this.metaModel.getModuleModel())) {
+      sourceGenerator.add(this.metaModel.getModuleModel()
+                                        .getModule(),
+                          () -> RoutesGenerator.builder()
+                                               .packageName(this.metaModel.getModuleModel()
+                                                                          .getModule()
+                                                                          .getPackage())
+                                               .simpleName(this.metaModel.getModuleModel()
+                                                                         .getModule()
+                                                                         .getSimpleName() + ProcessorConstants.ROUTES)
+                                               .controllers(this.metaModel.getControllers())
+                                               .build()
+                                               .generate());
+    }
+    this.profiler.run("generate RoutesGenerator",
+                      this.metaModel.getControllers()
+                                    .size(),
+                      sourceGenerator::generate);
+  }
+
   private void generateLastRound()
       throws ProcessorException {
     if (!isNull(this.metaModel)) {
-      ApplicationGenerator.builder()
-                          .processingEnvironment(this.processingEnv)
-                          .build()
-                          .generate(this.metaModel);
+      this.profiler.run("generate ApplicationGenerator",
+                        this.metaModel.getControllers()
+                                      .size(),
+                        () -> ApplicationGenerator.builder()
+                                                  .processingEnvironment(this.processingEnv)
+                                                  .profiler(this.profiler)
+                                                  .build()
+                                                  .generate(this.metaModel));
+      this.generateRoutes();
       // check if moduleModel is not null!
       // if moduleModel is null, we have nothing to do here,
       // otherwise we need to generate a module-Impl class
       if (!Objects.isNull(metaModel.getModuleModel())) {
-        ModuleGenerator.builder()
-                       .processingEnvironment(processingEnv)
-                       .metaModel(this.metaModel)
-                       .build()
-                       .generate();
+        this.profiler.run("generate ModuleGenerator",
+                          1,
+                          () -> ModuleGenerator.builder()
+                                               .processingEnvironment(processingEnv)
+                                               .metaModel(this.metaModel)
+                                               .build()
+                                               .generate());
       }
     }
   }
 
+  /**
+   * In case of an incremental build, the meta model is restored from the
+   * previous build and only the changed sources are processed. Classes,
+   * that were deleted since the last build, are still part of the restored
+   * model and need to be removed, before the code is generated.
+   */
+  private void removeDeletedElements() {
+    if (isNull(this.metaModel)) {
+      return;
+    }
+    this.metaModel.removeShellsIf(model -> !this.processorUtils.doesExist(model.getShell()));
+    this.metaModel.removeControllersIf(model -> !this.processorUtils.doesExist(model.getController()));
+    this.metaModel.removeCompositeModelsIf(model -> !this.processorUtils.doesExist(model.getProvider()));
+    this.metaModel.removePopUpControllersIf(model -> !this.processorUtils.doesExist(model.getController()));
+    this.metaModel.removeBlockControllersIf(model -> !this.processorUtils.doesExist(model.getController()));
+    this.metaModel.removeHandlersIf(model -> !this.processorUtils.doesExist(model));
+    this.metaModel.removeFiltersIf(model -> !this.processorUtils.doesExist(model));
+    this.metaModel.removeModulesIf(model -> !this.processorUtils.doesExist(model));
+    if (!isNull(this.metaModel.getErrorPopUpController()) &&
+        !this.processorUtils.doesExist(this.metaModel.getErrorPopUpController()
+                                                     .getController())) {
+      this.metaModel.setErrorPopUpController(null);
+    }
+    if (!isNull(this.metaModel.getTracker()) &&
+        !this.processorUtils.doesExist(this.metaModel.getTracker())) {
+      this.metaModel.setHasTrackerAnnotation(false);
+      this.metaModel.setTracker(null);
+    }
+    if (!isNull(this.metaModel.getDebugLogger()) &&
+        !this.processorUtils.doesExist(this.metaModel.getDebugLogger())) {
+      this.metaModel.setHasDebugAnnotation(false);
+      this.metaModel.setDebugLogger(null);
+    }
+    if (!isNull(this.metaModel.getCustomAlertPresenter()) &&
+        !this.processorUtils.doesExist(this.metaModel.getCustomAlertPresenter())) {
+      this.metaModel.setCustomAlertPresenter(new ClassNameModel(NoCustomAlertPresenter.class.getCanonicalName()));
+    }
+    if (!isNull(this.metaModel.getCustomConfirmPresenter()) &&
+        !this.processorUtils.doesExist(this.metaModel.getCustomConfirmPresenter())) {
+      this.metaModel.setCustomConfirmPresenter(new ClassNameModel(NoCustomConfirmPresenter.class.getCanonicalName()));
+    }
+  }
+
   private void validate(RoundEnvironment roundEnv)
       throws ProcessorException {
     if (!isNull(this.metaModel)) {
-      ConsistenceValidator.builder()
-                          .roundEnvironment(roundEnv)
-                          .processingEnvironment(this.processingEnv)
-                          .metaModel(this.metaModel)
-                          .build()
-                          .validate();
+      this.profiler.run("validate consistence",
+                        1,
+                        () -> ConsistenceValidator.builder()
+                                                  .roundEnvironment(roundEnv)
+                                                  .processingEnvironment(this.processingEnv)
+                                                  .metaModel(this.metaModel)
+                                                  .build()
+                                                  .validate());
     }
   }
 
@@ -684,6 +816,9 @@ public class NaluProcessor
     } catch (IOException e) {
       // every thing is ok -> no operation
       return null;
+    } catch (JsonParseException e) {
+      // stored model of an older version -> ignore it
+      return null;
     }
   }
 
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+
+package com.github.nalukit.nalu.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Caches the results of type resolutions during a processing round.
+ * <p>
+ * Scanners and validators are created per element. Without the context
+ * each of them looks up the framework types, walks the supertype hierarchy
+ * of the element and reads all members of the element again. The context is
+ * shared by all {@link ProcessorUtils} created for the same processing
+ * environment and is reset by the processor at the start of every round.
+ */
+public class ProcessorContext {
+
+  /* one context per processing environment */
+  private static final Map<ProcessingEnvironment, ProcessorContext> CONTEXTS = new WeakHashMap<>();
+
+  /* type elements by class name */
+  private final Map<String, TypeElement> typeElements;
+
+  /* super types by raw class name of the super type by type */
+  private final Map<String, Map<String, TypeMirror>> superTypes;
+
+  /* members annotated with the annotation by annotation by type */
+  private final Map<String, Map<Class<? extends Annotation>, List<Element>>> annotatedMembers;
+
+  private ProcessorContext() {
+    super();
+    this.typeElements = new HashMap<>();
+    this.superTypes = new HashMap<>();
+    this.annotatedMembers = new HashMap<>();
+  }
+
+  /**
+   * Returns the context of the processing environment.
+   *
+   * @param processingEnvironment the processing environment
+   * @return the context of the processing environment
+   */
+  public static ProcessorContext get(ProcessingEnvironment processingEnvironment) {
+    synchronized (ProcessorContext.CONTEXTS) {
+      return ProcessorContext.CONTEXTS.computeIfAbsent(processingEnvironment,
+                                                       key -> new ProcessorContext());
+    }
+  }
+
+  /**
+   * Removes all cached values. Elements of a round are not valid in
+   * the next round, so the processor resets the context with every round
+   * and once processing is over.
+   */
+  public void reset() {
+    this.typeElements.clear();
+    this.superTypes.clear();
+    this.annotatedMembers.clear();
+  }
+
+  /**
+   * Returns the type element of the class name.
+   *
+   * @param elements  elements
+   * @param className name of the class
+   * @return the type element or null, in case the class does not exist
+   */
+  public TypeElement getTypeElement(Elements elements,
+                                    String className) {
+    TypeElement typeElement = this.typeElements.get(className);
+    if (typeElement == null) {
+      typeElement = elements.getTypeElement(className);
+      if (typeElement != null) {
+        this.typeElements.put(className,
+                              typeElement);
+      }
+    }
+    return typeElement;
+  }
+
+  /**
+   * Returns the super type of the type mirror, that has the same raw type
+   * as the class name. In case the type mirror does not extend or implement the
+   * class, the method returns null.
+   *
+   * @param types      types
+   * @param typeMirror the type mirror
+   * @param className  class name without generics
+   * @return the super type or null
+   */
+  public TypeMirror getSupertype(Types types,
+                                 TypeMirror typeMirror,
+                                 String className) {
+    return this.getSuperTypes(types,
+                              typeMirror)
+               .get(className);
+  }
+
+  /**
+   * Returns all members of the type element annotated with the annotation.
+   *
+   * @param elements    elements
+   * @param typeElement the type element
+   * @param annotation  the annotation
+   * @param <A>         the annotation type
+   * @return list of annotated members
+   */
+  public <A extends Annotation> List<Element> getMembersAnnotatedWith(Elements elements,
+                                                                      TypeElement typeElement,
+                                                                      Class<A> annotation) {
+    return this.annotatedMembers.computeIfAbsent(typeElement.getQualifiedName()
+                                                            .toString(),
+                                                 key -> new HashMap<>())
+                                .computeIfAbsent(annotation,
+                                                 key -> Collections.unmodifiableList(elements.getAllMembers(typeElement)
+                                                                                             .stream()
+                                                                                             .filter(element -> element.getAnnotation(annotation) != null)
+                                                                                             .collect(Collectors.toList())));
+  }
+
+  private Map<String, TypeMirror> getSuperTypes(Types types,
+                                                TypeMirror typeMirror) {
+    return this.superTypes.computeIfAbsent(typeMirror.toString(),
+                                           key -> this.resolveSuperTypes(types,
+                                                                         typeMirror));
+  }
+
+  private Map<String, TypeMirror> resolveSuperTypes(Types types,
+                                                    TypeMirror typeMirror) {
+    List<TypeMirror> toAdd = new ArrayList<>();
+    Set<TypeMirror> visited = new HashSet<>();
+    Map<String, TypeMirror> result = new LinkedHashMap<>();
+    toAdd.add(typeMirror);
+    for (int i = 0; i < toAdd.size(); i++) {
+      TypeMirror type = toAdd.get(i);
+      if (visited.add(type)) {
+        result.putIfAbsent(ProcessorContext.removeGenerics(type.toString()),
+                           type);
+        toAdd.addAll(types.directSupertypes(type));
+      }
+    }
+    return result;
+  }
+
+  private static String removeGenerics(String className) {
+    if (className.contains("<")) {
+      return className.substring(0,
+                                 className.indexOf("<"));
+    }
+    return className;
+  }
+
+}
@@ -16,7 +16,9 @@
 
 package com.github.nalukit.nalu.processor;
 
+import com.github.nalukit.nalu.processor.model.MetaModel;
 import com.github.nalukit.nalu.processor.model.intern.ClassNameModel;
+import com.squareup.javapoet.TypeSpec;
 
 import javax.annotation.processing.Messager;
 import javax.annotation.processing.ProcessingEnvironment;
@@ -38,7 +40,6 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 public class ProcessorUtils {
 
@@ -48,6 +49,8 @@ public class ProcessorUtils {
 
   private Elements elements;
 
+  private ProcessorContext context;
+
   @SuppressWarnings("unused")
   private ProcessorUtils(Builder builder) {
     super();
@@ -56,6 +59,7 @@ public class ProcessorUtils {
 
     this.messager = this.processingEnvironment.getMessager();
     this.elements = this.processingEnvironment.getElementUtils();
+    this.context = ProcessorContext.get(this.processingEnvironment);
   }
 
   public static Builder builder() {
@@ -111,6 +115,19 @@ public class ProcessorUtils {
     return this.elements;
   }
 
+  /**
+   * Returns the type mirror of a class. The type mirror is cached
+   * for the current round.
+   *
+   * @param clazz the class
+   * @return the type mirror of the class
+   */
+  public TypeMirror getTypeMirror(Class<?> clazz) {
+    return this.context.getTypeElement(this.elements,
+                                       clazz.getCanonicalName())
+                       .asType();
+  }
+
   /**
    * checks if a class or interface is implemented.
    *
@@ -122,15 +139,9 @@ public class ProcessorUtils {
   public boolean extendsClassOrInterface(Types types,
                                          TypeMirror typeMirror,
                                          TypeMirror toImplement) {
-    String clearedToImplement = this.removeGenericsFromClassName(toImplement.toString());
-    Set<TypeMirror> setOfSuperType = this.getFlattenedSupertypeHierarchy(types,
-                                                                         typeMirror);
-    for (TypeMirror mirror : setOfSuperType) {
-      if (clearedToImplement.equals(this.removeGenericsFromClassName(mirror.toString()))) {
-        return true;
-      }
-    }
-    return false;
+    return this.context.getSupertype(types,
+                                     typeMirror,
+                                     this.removeGenericsFromClassName(toImplement.toString())) != null;
   }
 
   private String removeGenericsFromClassName(String className) {
@@ -181,16 +192,9 @@ public class ProcessorUtils {
   public TypeMirror getFlattenedSupertype(Types types,
                                           TypeMirror typeMirror,
                                           TypeMirror implementsMirror) {
-    String implementsMirrorWihoutGeneric = this.removeGenericsFromClassName(implementsMirror.toString());
-    Set<TypeMirror> implementedSuperTypes = this.getFlattenedSupertypeHierarchy(types,
-                                                                                typeMirror);
-    for (TypeMirror typeMirrorSuperType : implementedSuperTypes) {
-      String tn1WithoutGenric = this.removeGenericsFromClassName(typeMirrorSuperType.toString());
-      if (implementsMirrorWihoutGeneric.equals(tn1WithoutGenric)) {
-        return typeMirrorSuperType;
-      }
-    }
-    return null;
+    return this.context.getSupertype(types,
+                                     typeMirror,
+                                     this.removeGenericsFromClassName(implementsMirror.toString()));
   }
 
   //  public String createNameWithleadingUpperCase(String name) {
@@ -293,12 +297,9 @@ public class ProcessorUtils {
   public <A extends Annotation> List<Element> getMethodFromTypeElementAnnotatedWith(ProcessingEnvironment processingEnvironment,
                                                                                     TypeElement element,
                                                                                     Class<A> annotation) {
-    List<Element> annotatedMethods = processingEnvironment.getElementUtils()
-                                                          .getAllMembers(element)
-                                                          .stream()
-                                                          .filter(methodElement -> methodElement.getAnnotation(annotation) != null)
-                                                          .collect(Collectors.toList());
-    return annotatedMethods;
+    return this.context.getMembersAnnotatedWith(processingEnvironment.getElementUtils(),
+                                                element,
+                                                annotation);
   }
 
   public String createInternalEventName(ExecutableElement executableElement) {
@@ -322,6 +323,70 @@ public class ProcessorUtils {
                                      .getTypeElement(typeElementClassName.getClassName()) != null;
   }
 
+  /**
+   * Adds the type element of the class as originating element of the generated type.
+   * Incremental builds (Gradle, IDEs) use the originating elements to decide which
+   * generated files are affected by a changed or deleted source.
+   *
+   * @param typeSpec       the type spec of the generated type
+   * @param classNameModel the class the generated type is created from
+   */
+  public void addOriginatingElement(TypeSpec.Builder typeSpec,
+                                    ClassNameModel classNameModel) {
+    if (Objects.isNull(classNameModel)) {
+      return;
+    }
+    TypeElement typeElement = this.processingEnvironment.getElementUtils()
+                                                        .getTypeElement(classNameModel.getClassName());
+    if (!Objects.isNull(typeElement)) {
+      typeSpec.addOriginatingElement(typeElement);
+    }
+  }
+
+  /**
+   * Adds all classes the generated application or module depends on
+   * as originating elements of the generated type.
+   *
+   * @param typeSpec  the type spec of the generated application or module
+   * @param metaModel the meta model
+   */
+  public void addOriginatingElements(TypeSpec.Builder typeSpec,
+                                     MetaModel metaModel) {
+    this.addOriginatingElement(typeSpec,
+                               metaModel.getApplication());
+    if (!Objects.isNull(metaModel.getModuleModel())) {
+      this.addOriginatingElement(typeSpec,
+                                 metaModel.getModuleModel()
+                                          .getModule());
+    }
+    if (!Objects.isNull(metaModel.getErrorPopUpController())) {
+      this.addOriginatingElement(typeSpec,
+                                 metaModel.getErrorPopUpController()
+                                          .getController());
+    }
+    metaModel.getShells()
+             .forEach(model -> this.addOriginatingElement(typeSpec,
+                                                          model.getShell()));
+    metaModel.getControllers()
+             .forEach(model -> this.addOriginatingElement(typeSpec,
+                                                          model.getController()));
+    metaModel.getCompositeModels()
+             .forEach(model -> this.addOriginatingElement(typeSpec,
+                                                          model.getProvider()));
+    metaModel.getPopUpControllers()
+             .forEach(model -> this.addOriginatingElement(typeSpec,
+                                                          model.getController()));
+    metaModel.getBlockControllers()
+             .forEach(model -> this.addOriginatingElement(typeSpec,
+                                                          model.getController()));
+    metaModel.getHandlers()
+             .forEach(model -> this.addOriginatingElement(typeSpec,
+                                                          model));
+    metaModel.getModules()
+             .forEach(model -> this.addOriginatingElement(typeSpec,
+                                                          model));
+  }
+
   public String createHistoryMetaDataClassName(String historyConverterClassName) {
     return this.setFirstCharacterToUpperCase(this.createHistoryMetaDataVariableName(historyConverterClassName)) + "_" + ProcessorConstants.META_DATA;
   }
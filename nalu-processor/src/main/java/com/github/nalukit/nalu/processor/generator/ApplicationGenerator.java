@@ -28,6 +28,7 @@ import com.github.nalukit.nalu.processor.ProcessorConstants;
 import com.github.nalukit.nalu.processor.ProcessorException;
 import com.github.nalukit.nalu.processor.ProcessorUtils;
 import com.github.nalukit.nalu.processor.model.MetaModel;
+import com.github.nalukit.nalu.processor.profiler.ProcessorProfiler;
 import com.github.nalukit.nalu.processor.util.BuildWithNaluCommentProvider;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.JavaFile;
@@ -38,6 +39,7 @@ import com.squareup.javapoet.TypeSpec;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Modifier;
 import java.io.IOException;
+import java.util.Objects;
 
 public class ApplicationGenerator {
 
@@ -47,11 +49,14 @@ public class ApplicationGenerator {
 
   private ProcessingEnvironment processingEnvironment;
 
+  private ProcessorProfiler profiler;
+
   @SuppressWarnings("unused")
   private ApplicationGenerator(Builder builder) {
     super();
 
     this.processingEnvironment = builder.processingEnvironment;
+    this.profiler = builder.profiler;
 
     setUp();
   }
@@ -64,6 +69,11 @@ public class ApplicationGenerator {
     this.processorUtils = ProcessorUtils.builder()
                                         .processingEnvironment(this.processingEnvironment)
                                         .build();
+    if (Objects.isNull(this.profiler)) {
+      this.profiler = ProcessorProfiler.builder()
+                                       .processingEnvironment(this.processingEnvironment)
+                                       .build();
+    }
   }
 
   public void generate(MetaModel metaModel)
@@ -117,81 +127,114 @@ public class ApplicationGenerator {
                                                ClassName.get(ClientLogger.class))
                                  .build());
 
-    DebugGenerator.builder()
-                  .metaModel(metaModel)
-                  .typeSpec(typeSpec)
-                  .build()
-                  .generate();
-
-    TrackerGenerator.builder()
-                    .metaModel(metaModel)
-                    .typeSpec(typeSpec)
-                    .build()
-                    .generate();
-
-    ShellGenerator.builder()
-                  .metaModel(metaModel)
-                  .typeSpec(typeSpec)
-                  .build()
-                  .generate();
-
-    CompositeControllerGenerator.builder()
-                                .metaModel(metaModel)
-                                .typeSpec(typeSpec)
-                                .build()
-                                .generate();
-
-    ControllerGenerator.builder()
-                       .metaModel(metaModel)
-                       .typeSpec(typeSpec)
-                       .build()
-                       .generate();
-
-    BlockControllerGenerator.builder()
-                            .metaModel(metaModel)
-                            .typeSpec(typeSpec)
-                            .build()
-                            .generate();
-
-    PopUpControllerGenerator.builder()
-                            .metaModel(metaModel)
-                            .typeSpec(typeSpec)
-                            .build()
-                            .generate();
-
-    ErrorPopUpControllerGenerator.builder()
-                                 .metaModel(metaModel)
-                                 .typeSpec(typeSpec)
-                                 .build()
-                                 .generate();
-
-    FiltersGenerator.builder()
-                    .processingEnvironment(this.processingEnvironment)
-                    .metaModel(metaModel)
-                    .typeSpec(typeSpec)
-                    .build()
-                    .generate();
-
-    HandlerGenerator.builder()
-                    .processingEnvironment(this.processingEnvironment)
-                    .metaModel(metaModel)
-                    .typeSpec(typeSpec)
-                    .build()
-                    .generate();
-
-    CompositesGenerator.builder()
-                       .metaModel(metaModel)
-                       .typeSpec(typeSpec)
-                       .build()
-                       .generate();
+    this.profiler.run("generate DebugGenerator",
+                      1,
+                      () -> DebugGenerator.builder()
+                                          .metaModel(metaModel)
+                                          .typeSpec(typeSpec)
+                                          .build()
+                                          .generate());
+
+    this.profiler.run("generate TrackerGenerator",
+                      1,
+                      () -> TrackerGenerator.builder()
+                                            .metaModel(metaModel)
+                                            .typeSpec(typeSpec)
+                                            .build()
+                                            .generate());
+
+    this.profiler.run("generate ShellGenerator",
+                      metaModel.getShells()
+                               .size(),
+                      () -> ShellGenerator.builder()
+                                          .metaModel(metaModel)
+                                          .typeSpec(typeSpec)
+                                          .build()
+                                          .generate());
+
+    this.profiler.run("generate CompositeControllerGenerator",
+                      metaModel.getCompositeModels()
+                               .size(),
+                      () -> CompositeControllerGenerator.builder()
+                                                        .metaModel(metaModel)
+                                                        .typeSpec(typeSpec)
+                                                        .build()
+                                                        .generate());
+
+    this.profiler.run("generate ControllerGenerator",
+                      metaModel.getControllers()
+                               .size(),
+                      () -> ControllerGenerator.builder()
+                                               .metaModel(metaModel)
+                                               .typeSpec(typeSpec)
+                                               .build()
+                                               .generate());
+
+    this.profiler.run("generate BlockControllerGenerator",
+                      metaModel.getBlockControllers()
+                               .size(),
+                      () -> BlockControllerGenerator.builder()
+                                                    .metaModel(metaModel)
+                                                    .typeSpec(typeSpec)
+                                                    .build()
+                                                    .generate());
+
+    this.profiler.run("generate PopUpControllerGenerator",
+                      metaModel.getPopUpControllers()
+                               .size(),
+                      () -> PopUpControllerGenerator.builder()
+                                                    .metaModel(metaModel)
+                                                    .typeSpec(typeSpec)
+                                                    .build()
+                                                    .generate());
+
+    this.profiler.run("generate ErrorPopUpControllerGenerator",
+                      1,
+                      () -> ErrorPopUpControllerGenerator.builder()
+                                                         .metaModel(metaModel)
+                                                         .typeSpec(typeSpec)
+                                                         .build()
+                                                         .generate());
+
+    this.profiler.run("generate FiltersGenerator",
+                      metaModel.getFilters()
+                               .size(),
+                      () -> FiltersGenerator.builder()
+                                            .processingEnvironment(this.processingEnvironment)
+                                            .metaModel(metaModel)
+                                            .typeSpec(typeSpec)
+                                            .build()
+                                            .generate());
+
+    this.profiler.run("generate HandlerGenerator",
+                      metaModel.getHandlers()
+                               .size(),
+                      () -> HandlerGenerator.builder()
+                                            .processingEnvironment(this.processingEnvironment)
+                                            .metaModel(metaModel)
+                                            .typeSpec(typeSpec)
+                                            .build()
+                                            .generate());
+
+    this.profiler.run("generate CompositesGenerator",
+                      metaModel.getControllers()
+                               .size(),
+                      () -> CompositesGenerator.builder()
+                                               .metaModel(metaModel)
+                                               .typeSpec(typeSpec)
+                                               .build()
+                                               .generate());
     // need to be called!
     // even if the app has no modules,
     // a empty method has to be created!
-    ModulesGenerator.builder()
-                    .metaModel(metaModel)
-                    .typeSpec(typeSpec)
-                    .build()
-                    .generate();
+    this.profiler.run("generate ModulesGenerator",
+                      metaModel.getModules()
+                               .size(),
+                      () -> ModulesGenerator.builder()
+                                            .metaModel(metaModel)
+                                            .typeSpec(typeSpec)
+                                            .build()
+                                            .generate());
 
     // method "getApplicationLoader"
     MethodSpec.Builder getApplicationLoaderMethod = MethodSpec.methodBuilder("getApplicationLoader")
@@ -258,6 +301,9 @@ public class ApplicationGenerator {
     generateIsStayOnSide(typeSpec,
                          metaModel);
 
+    this.processorUtils.addOriginatingElements(typeSpec,
+                                               metaModel);
+
     JavaFile javaFile = JavaFile.builder(metaModel.getGenerateToPackage(),
                                          typeSpec.build())
                                 .build();
@@ -342,11 +388,18 @@ public class ApplicationGenerator {
 
     ProcessingEnvironment processingEnvironment;
 
+    ProcessorProfiler profiler;
+
     public Builder processingEnvironment(ProcessingEnvironment processingEnvironment) {
       this.processingEnvironment = processingEnvironment;
       return this;
     }
 
+    public Builder profiler(ProcessorProfiler profiler) {
+      this.profiler = profiler;
+      return this;
+    }
+
     public ApplicationGenerator build() {
       return new ApplicationGenerator(this);
     }
@@ -16,12 +16,12 @@
 package com.github.nalukit.nalu.processor.generator;
 
 import com.github.nalukit.nalu.client.Router;
+import com.github.nalukit.nalu.client.component.IsShowBlockCondition;
 import com.github.nalukit.nalu.client.internal.AbstractBlockControllerCreator;
 import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.application.BlockControllerInstance;
 import com.github.nalukit.nalu.client.internal.application.IsBlockControllerCreator;
 import com.github.nalukit.nalu.processor.ProcessorConstants;
-import com.github.nalukit.nalu.processor.ProcessorException;
 import com.github.nalukit.nalu.processor.model.MetaModel;
 import com.github.nalukit.nalu.processor.model.intern.BlockControllerModel;
 import com.github.nalukit.nalu.processor.util.BuildWithNaluCommentProvider;
@@ -33,14 +33,10 @@ import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeSpec;
 import org.gwtproject.event.shared.SimpleEventBus;
 
-import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Modifier;
-import java.io.IOException;
 
 public class BlockControllerCreatorGenerator {
 
-  private ProcessingEnvironment processingEnvironment;
-
   private BlockControllerModel blockControllerModel;
 
   @SuppressWarnings("unused")
@@ -48,7 +44,6 @@ public class BlockControllerCreatorGenerator {
   }
 
   private BlockControllerCreatorGenerator(Builder builder) {
-    this.processingEnvironment = builder.processingEnvironment;
     this.blockControllerModel = builder.blockControllerModel;
   }
 
@@ -56,8 +51,13 @@ public class BlockControllerCreatorGenerator {
     return new Builder();
   }
 
-  public void generate()
-      throws ProcessorException {
+  /**
+   * Creates the java file of the creator. The generator does not use the
+   * javac API, so the caller can run it in parallel and write the file later.
+   *
+   * @return the java file of the creator
+   */
+  public JavaFile generate() {
     TypeSpec.Builder typeSpec = TypeSpec.classBuilder(blockControllerModel.getController()
                                                                           .getSimpleName() + ProcessorConstants.CREATOR_IMPL)
                                         .addJavadoc(BuildWithNaluCommentProvider.get()
@@ -98,11 +98,6 @@ public class BlockControllerCreatorGenerator {
                                                 .addStatement("blockControllerInstance.setBlockControllerClassName($S)",
                                                               blockControllerModel.getController()
                                                                                   .getClassName())
-                                                .addStatement("blockControllerInstance.setCondition(new $T())",
-                                                              ClassName.get(blockControllerModel.getConndition()
-                                                                                                .getPackage(),
-                                                                            blockControllerModel.getConndition()
-                                                                                                .getSimpleName()))
                                                 .addStatement("sb01.append(\"blockController >>$L<< --> will be created\")",
                                                               blockControllerModel.getProvider()
                                                                                   .getPackage() +
@@ -127,7 +122,12 @@ public class BlockControllerCreatorGenerator {
                                                 .addStatement("controller.setName($S)",
                                                               blockControllerModel.getName())
                                                 .addStatement("sb01.setLength(0)")
-                                                .addStatement("sb01.append(\"controller >>\").append(controller.getClass().getCanonicalName()).append(\"<< --> created and data injected\")")
+                                                .addStatement("controller.setControllerClassName($S)",
+                                                              blockControllerModel.getController()
+                                                                                  .getClassName())
+                                                .addStatement("sb01.append(\"controller >>$L<< --> created and data injected\")",
+                                                              blockControllerModel.getController()
+                                                                                  .getClassName())
                                                 .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
                                                               ClassName.get(ClientLogger.class));
     if (blockControllerModel.isComponentCreator()) {
@@ -161,22 +161,35 @@ public class BlockControllerCreatorGenerator {
     }
     createMethod.addStatement("component.setController(controller)")
                 .addStatement("sb01.setLength(0)")
-                .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> created and controller instance injected\")")
+                .addStatement("sb01.append(\"component >>$L<< --> created and controller instance injected\")",
+                              blockControllerModel.getComponent()
+                                                  .getClassName())
                 .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
                               ClassName.get(ClientLogger.class))
                 .addStatement("controller.setComponent(component)")
+                .addStatement("controller.setComponentClassName($S)",
+                              blockControllerModel.getComponent()
+                                                  .getClassName())
                 .addStatement("sb01.setLength(0)")
-                .addStatement("sb01.append(\"controller >>\").append(controller.getClass().getCanonicalName()).append(\"<< --> instance of >>\").append(component.getClass().getCanonicalName()).append(\"<< injected\")")
+                .addStatement("sb01.append(\"controller >>$L<< --> instance of >>$L<< injected\")",
+                              blockControllerModel.getController()
+                                                  .getClassName(),
+                              blockControllerModel.getComponent()
+                                                  .getClassName())
                 .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
                               ClassName.get(ClientLogger.class))
                 .addStatement("component.render()")
                 .addStatement("sb01.setLength(0)")
-                .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> rendered\")")
+                .addStatement("sb01.append(\"component >>$L<< --> rendered\")",
+                              blockControllerModel.getComponent()
+                                                  .getClassName())
                 .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
                               ClassName.get(ClientLogger.class))
                 .addStatement("component.bind()")
                 .addStatement("sb01.setLength(0)")
-                .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> bound\")")
+                .addStatement("sb01.append(\"component >>$L<< --> bound\")",
+                              blockControllerModel.getComponent()
+                                                  .getClassName())
                 .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
                               ClassName.get(ClientLogger.class))
                 .addStatement("$T.get().logSimple(\"controller >>$L<< created for event >>$L<<\", 3)",
@@ -188,6 +201,18 @@ public class BlockControllerCreatorGenerator {
     createMethod.addStatement("return blockControllerInstance");
     typeSpec.addMethod(createMethod.build());
 
+    MethodSpec createConditionMethod = MethodSpec.methodBuilder("createCondition")
+                                                 .addAnnotation(ClassName.get(Override.class))
+                                                 .addModifiers(Modifier.PUBLIC)
+                                                 .returns(ClassName.get(IsShowBlockCondition.class))
+                                                 .addStatement("return new $T()",
+                                                               ClassName.get(blockControllerModel.getConndition()
+                                                                                                 .getPackage(),
+                                                                             blockControllerModel.getConndition()
+                                                                                                 .getSimpleName()))
+                                                 .build();
+    typeSpec.addMethod(createConditionMethod);
+
     //    //        MethodSpec.Builder finishCreateMethod = MethodSpec.methodBuilder("onFinishCreating")
     //    //                                                          .addAnnotation(ClassName.get(Override.class))
     //    //                                                      .addModifiers(Modifier.PUBLIC)
@@ -302,29 +327,16 @@ public class BlockControllerCreatorGenerator {
     //    //    }
     //    //    typeSpec.addMethod(finishCreateMethod.build());
 
-    JavaFile javaFile = JavaFile.builder(blockControllerModel.getController()
-                                                             .getPackage(),
-                                         typeSpec.build())
-                                .build();
-    try {
-      //      System.out.println(javaFile.toString());
-      javaFile.writeTo(this.processingEnvironment.getFiler());
-    } catch (IOException e) {
-      throw new ProcessorException("Unable to write generated file: >>" +
-                                   blockControllerModel.getController()
-                                                       .getSimpleName() +
-                                   ProcessorConstants.CREATOR_IMPL +
-                                   "<< -> exception: " +
-                                   e.getMessage());
-    }
+    return JavaFile.builder(blockControllerModel.getController()
+                                               .getPackage(),
+                           typeSpec.build())
+                   .build();
   }
 
   public static final class Builder {
 
     MetaModel metaModel;
 
-    ProcessingEnvironment processingEnvironment;
-
     BlockControllerModel blockControllerModel;
 
     /**
@@ -338,11 +350,6 @@ public class BlockControllerCreatorGenerator {
       return this;
     }
 
-    public Builder processingEnvironment(ProcessingEnvironment processingEnvironment) {
-      this.processingEnvironment = processingEnvironment;
-      return this;
-    }
-
     public Builder blockControllerModel(BlockControllerModel blockControllerModel) {
       this.blockControllerModel = blockControllerModel;
       return this;
@@ -54,13 +54,14 @@ public class BlockControllerGenerator {
                                                                                                     "." +
                                                                                                     blockControllerModel.getProvider()
                                                                                          .getSimpleName())
-                                                                                        .addStatement("$T.get().registerBlockController($S, new $L(router, context, eventBus))",
+                                                                                        .addStatement("$T.get().registerBlockController($S, () -> new $L(router, context, eventBus), $L)",
                                                                        ClassName.get(BlockControllerFactory.class),
                                                                        blockControllerModel.getName(),
                                                                        ClassName.get(blockControllerModel.getController()
                                                                                                          .getPackage(),
                                                                                      blockControllerModel.getController()
-                                                                                                         .getSimpleName() + ProcessorConstants.CREATOR_IMPL)));
+                                                                                                         .getSimpleName() + ProcessorConstants.CREATOR_IMPL),
+                                                                       blockControllerModel.isPreload()));
     typeSpec.addMethod(loadBlockControllerFactoryMethodBuilder.build());
   }
 
@@ -16,6 +16,7 @@
 package com.github.nalukit.nalu.processor.generator;
 
 import com.github.nalukit.nalu.client.internal.application.CompositeFactory;
+import com.github.nalukit.nalu.client.internal.application.DataLoaderFactory;
 import com.github.nalukit.nalu.processor.ProcessorConstants;
 import com.github.nalukit.nalu.processor.model.MetaModel;
 import com.github.nalukit.nalu.processor.model.intern.CompositeModel;
@@ -60,7 +61,7 @@ public class CompositeControllerGenerator {
                                              "." +
                                              compositeModel.getProvider()
                                                            .getSimpleName())
-                                 .addStatement("$T.get().registerComposite($S, new $L(router, context, eventBus))",
+                                 .addStatement("$T.get().registerComposite($S, () -> new $L(router, context, eventBus))",
                                                ClassName.get(CompositeFactory.class),
                                                compositeModel.getProvider()
                                                              .getPackage() +
@@ -70,7 +71,16 @@ public class CompositeControllerGenerator {
                                                ClassName.get(compositeModel.getProvider()
                                                                            .getPackage(),
                                                              compositeModel.getProvider()
-                                                                           .getSimpleName() + ProcessorConstants.CREATOR_IMPL));
+                                                                           .getSimpleName() + ProcessorConstants.CREATOR_IMPL))
+                                 .addStatement("$T.get().registerClass($S, $T.class)",
+                                               ClassName.get(DataLoaderFactory.class),
+                                               compositeModel.getProvider()
+                                                             .getPackage() +
+                                               "." +
+                                               compositeModel.getProvider()
+                                                             .getSimpleName(),
+                                               compositeModel.getProvider()
+                                                             .getTypeName());
     }
     typeSpec.addMethod(loadCompositesMethodBuilder.build());
   }
@@ -16,19 +16,16 @@
 package com.github.nalukit.nalu.processor.generator;
 
 import com.github.nalukit.nalu.client.Router;
-import com.github.nalukit.nalu.client.component.AbstractCompositeController;
 import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
 import com.github.nalukit.nalu.client.internal.AbstractCompositeCreator;
-import com.github.nalukit.nalu.client.internal.ClientLogger;
-import com.github.nalukit.nalu.client.internal.application.CompositeFactory;
 import com.github.nalukit.nalu.client.internal.application.CompositeInstance;
 import com.github.nalukit.nalu.client.internal.application.IsCompositeCreator;
 import com.github.nalukit.nalu.processor.ProcessorConstants;
-import com.github.nalukit.nalu.processor.ProcessorException;
 import com.github.nalukit.nalu.processor.model.MetaModel;
 import com.github.nalukit.nalu.processor.model.intern.CompositeModel;
 import com.github.nalukit.nalu.processor.util.BuildWithNaluCommentProvider;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterSpec;
@@ -36,14 +33,10 @@ import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeSpec;
 import org.gwtproject.event.shared.SimpleEventBus;
 
-import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Modifier;
-import java.io.IOException;
 
 public class CompositeCreatorGenerator {
 
-  private ProcessingEnvironment processingEnvironment;
-
   private CompositeModel compositeModel;
 
   @SuppressWarnings("unused")
@@ -51,7 +44,6 @@ public class CompositeCreatorGenerator {
   }
 
   private CompositeCreatorGenerator(Builder builder) {
-    this.processingEnvironment = builder.processingEnvironment;
     this.compositeModel = builder.compositeModel;
   }
 
@@ -59,8 +51,13 @@ public class CompositeCreatorGenerator {
     return new Builder();
   }
 
-  public void generate()
-      throws ProcessorException {
+  /**
+   * Creates the java file of the creator. The generator does not use the
+   * javac API, so the caller can run it in parallel and write the file later.
+   *
+   * @return the java file of the creator
+   */
+  public JavaFile generate() {
     TypeSpec.Builder typeSpec = TypeSpec.classBuilder(compositeModel.getProvider()
                                                                     .getSimpleName() + ProcessorConstants.CREATOR_IMPL)
                                         .addJavadoc(BuildWithNaluCommentProvider.get()
@@ -75,21 +72,10 @@ public class CompositeCreatorGenerator {
     typeSpec.addMethod(createCreateMethod());
     typeSpec.addMethod(createSetParameterMethod());
 
-    JavaFile javaFile = JavaFile.builder(this.compositeModel.getProvider()
-                                                            .getPackage(),
-                                         typeSpec.build())
-                                .build();
-    try {
-      //      System.out.println(javaFile.toString());
-      javaFile.writeTo(this.processingEnvironment.getFiler());
-    } catch (IOException e) {
-      throw new ProcessorException("Unable to write generated file: >>" +
-                                       this.compositeModel.getProvider()
-                                                          .getClassName() +
-                                       ProcessorConstants.CREATOR_IMPL +
-                                       "<< -> exception: " +
-                                       e.getMessage());
-    }
+    return JavaFile.builder(this.compositeModel.getProvider()
+                                              .getPackage(),
+                           typeSpec.build())
+                   .build();
   }
 
   private MethodSpec createCreateMethod() {
@@ -99,111 +85,42 @@ public class CompositeCreatorGenerator {
                                                                                     "parentControllerClassName")
                                                                            .build())
                                                 .returns(ClassName.get(CompositeInstance.class))
-                                                .addException(ClassName.get(RoutingInterceptionException.class))
-                                                .addStatement("$T sb01 = new $T()",
-                                                              ClassName.get(StringBuilder.class),
-                                                              ClassName.get(StringBuilder.class))
-                                                .addStatement("$T compositeInstance = new $T()",
-                                                              ClassName.get(CompositeInstance.class),
-                                                              ClassName.get(CompositeInstance.class))
-                                                .addStatement("compositeInstance.setCompositeClassName($S)",
-                                                              compositeModel.getProvider()
-                                                                            .getClassName())
-                                                .addStatement("$T<?, ?, ?> storedComposite = $T.get().getCompositeFormStore(parentControllerClassName, $S)",
-                                                              ClassName.get(AbstractCompositeController.class),
-                                                              ClassName.get(CompositeFactory.class),
-                                                              compositeModel.getProvider()
-                                                                            .getClassName());
-    createMethod.beginControlFlow("if (storedComposite == null)")
-                .addStatement("sb01.append(\"composite >>$L<< --> will be created\")",
+                                                .addException(ClassName.get(RoutingInterceptionException.class));
+    CodeBlock.Builder componentInjector = CodeBlock.builder()
+                                                   .add("composite -> {\n")
+                                                   .indent();
+    if (compositeModel.isComponentCreator()) {
+      componentInjector.add("$T component = composite.createComponent();\n",
+                                     ClassName.get(compositeModel.getComponentInterface()
+                                                                 .getPackage(),
+                                                   compositeModel.getComponentInterface()
+                                                                 .getSimpleName()));
+    } else {
+      componentInjector.add("$T component = new $T();\n",
+                                     ClassName.get(compositeModel.getComponentInterface()
+                                                                 .getPackage(),
+                                                   compositeModel.getComponentInterface()
+                                                                 .getSimpleName()),
+                                     ClassName.get(compositeModel.getComponent()
+                                                                 .getPackage(),
+                                                   compositeModel.getComponent()
+                                                                 .getSimpleName()));
+    }
+    componentInjector.add("component.setController(composite);\n")
+                     .add("composite.setComponent(component);\n")
+                     .unindent()
+                     .add("}");
+    createMethod.addStatement("return createComposite(parentControllerClassName, $S, $S, $L, $T::new, $L)",
                               compositeModel.getProvider()
-                                            .getClassName())
-                .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                              ClassName.get(ClientLogger.class))
-                .addStatement("$T composite = new $T()",
+                                            .getClassName(),
+                              compositeModel.getComponent()
+                                            .getClassName(),
+                              compositeModel.isComponentCreator(),
                               ClassName.get(compositeModel.getProvider()
                                                           .getPackage(),
                                             compositeModel.getProvider()
                                                           .getSimpleName()),
-                              ClassName.get(compositeModel.getProvider()
-                                                          .getPackage(),
-                                            compositeModel.getProvider()
-                                                          .getSimpleName()))
-                .addStatement("compositeInstance.setComposite(composite)")
-                .addStatement("composite.setParentClassName(parentControllerClassName)")
-                .addStatement("composite.setCached(false)")
-                .addStatement("composite.setContext(context)")
-                .addStatement("composite.setEventBus(eventBus)")
-                .addStatement("composite.setRouter(router)")
-                .addStatement("composite.setCached(false)")
-                .addStatement("sb01.setLength(0)")
-                .addStatement("sb01.append(\"composite >>$L<< --> created and data injected\")",
-                              compositeModel.getProvider()
-                                            .getClassName())
-                .addStatement("$T.get().logDetailed(sb01.toString(), 5)",
-                              ClassName.get(ClientLogger.class));
-    if (compositeModel.isComponentCreator()) {
-      createMethod.addStatement("$T component = composite.createComponent()",
-                                ClassName.get(compositeModel.getComponentInterface()
-                                                            .getPackage(),
-                                              compositeModel.getComponentInterface()
-                                                            .getSimpleName()))
-                  .addStatement("sb01.setLength(0)")
-                  .addStatement("sb01.append(\"component >>$L<< --> created using createComponent-Method of composite controller\")",
-                                compositeModel.getComponent()
-                                              .getClassName())
-                  .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                                ClassName.get(ClientLogger.class));
-    } else {
-      createMethod.addStatement("$T component = new $T()",
-                                ClassName.get(compositeModel.getComponentInterface()
-                                                            .getPackage(),
-                                              compositeModel.getComponentInterface()
-                                                            .getSimpleName()),
-                                ClassName.get(compositeModel.getComponent()
-                                                            .getPackage(),
-                                              compositeModel.getComponent()
-                                                            .getSimpleName()))
-                  .addStatement("sb01.setLength(0)")
-                  .addStatement("sb01.append(\"component >>$L<< --> created using new\")",
-                                compositeModel.getComponent()
-                                              .getClassName())
-                  .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                                ClassName.get(ClientLogger.class));
-    }
-    createMethod.addStatement("component.setController(composite)")
-                .addStatement("sb01.setLength(0)")
-                .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> created and controller instance injected\")")
-                .addStatement("$T.get().logDetailed(sb01.toString(), 5)",
-                              ClassName.get(ClientLogger.class))
-                .addStatement("composite.setComponent(component)")
-                .addStatement("sb01.setLength(0)")
-                .addStatement("sb01.append(\"composite >>\").append(composite.getClass().getCanonicalName()).append(\"<< --> instance of >>\").append(component.getClass().getCanonicalName()).append(\"<< injected\")")
-                .addStatement("$T.get().logDetailed(sb01.toString(), 5)",
-                              ClassName.get(ClientLogger.class))
-                .addStatement("component.render()")
-                .addStatement("sb01.setLength(0)")
-                .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> rendered\")")
-                .addStatement("$T.get().logDetailed(sb01.toString(), 5)",
-                              ClassName.get(ClientLogger.class))
-                .addStatement("component.bind()")
-                .addStatement("sb01.setLength(0)")
-                .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> bound\")")
-                .addStatement("$T.get().logDetailed(sb01.toString(), 5)",
-                              ClassName.get(ClientLogger.class))
-                .addStatement("$T.get().logSimple(\"compositeModel >>$L<< created\", 4)",
-                              ClassName.get(ClientLogger.class),
-                              compositeModel.getComponent()
-                                            .getClassName());
-    createMethod.nextControlFlow("else")
-                .addStatement("sb01.append(\"composite >>\").append(storedComposite.getClass().getCanonicalName()).append(\"<< --> found in cache -> REUSE!\")")
-                .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                              ClassName.get(ClientLogger.class))
-                .addStatement("compositeInstance.setComposite(storedComposite)")
-                .addStatement("compositeInstance.setCached(true)")
-                .addStatement("compositeInstance.getComposite().setCached(true)")
-                .endControlFlow();
-    createMethod.addStatement("return compositeInstance");
+                              componentInjector.build());
     return createMethod.build();
   }
 
@@ -218,49 +135,33 @@ public class CompositeCreatorGenerator {
                                                                      .build())
                                           .varargs()
                                           //                                                .returns(ClassName.get(CompositeInstance.class))
-                                          .addException(ClassName.get(RoutingInterceptionException.class))
-                                          .addStatement("$T composite = ($T) object",
-                                                        ClassName.get(compositeModel.getProvider()
-                                                                                    .getPackage(),
-                                                                      compositeModel.getProvider()
-                                                                                    .getSimpleName()),
-                                                        ClassName.get(compositeModel.getProvider()
-                                                                                    .getPackage(),
-                                                                      compositeModel.getProvider()
-                                                                                    .getSimpleName()))
-                                          .addStatement("$T sb01 = new $T()",
-                                                        ClassName.get(StringBuilder.class),
-                                                        ClassName.get(StringBuilder.class));
+                                          .addException(ClassName.get(RoutingInterceptionException.class));
     // compositeModel has parameters?
     if (compositeModel.getParameterAcceptors()
                       .size() > 0) {
-      // has the model AcceptParameter ?
-      if (compositeModel.getParameterAcceptors()
-                        .size() > 0) {
-        method.beginControlFlow("if (params != null)");
-        for (int i = 0; i <
-            compositeModel.getParameterAcceptors()
-                          .size(); i++) {
-          method.beginControlFlow("if (params.length >= " + (i + 1) + ")")
-                .addStatement("sb01.setLength(0)")
-                .addStatement("sb01.append(\"composite >>\").append(composite.getClass().getCanonicalName()).append(\"<< --> using method >>" +
-                              compositeModel.getParameterAcceptors()
-                                                .get(i)
-                                                .getMethodName() + "<< to set value >>\").append(params[" +
-                              i +
-                              "]).append(\"<<\")")
-                .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                              ClassName.get(ClientLogger.class))
-                .addStatement("composite." +
-                              compositeModel.getParameterAcceptors()
-                                                .get(i)
-                                                .getMethodName() + "(params[" +
-                              i +
-                              "])")
-                .endControlFlow();
-        }
-        method.endControlFlow();
+      method.addStatement("$T composite = ($T) object",
+                          ClassName.get(compositeModel.getProvider()
+                                                      .getPackage(),
+                                        compositeModel.getProvider()
+                                                      .getSimpleName()),
+                          ClassName.get(compositeModel.getProvider()
+                                                      .getPackage(),
+                                        compositeModel.getProvider()
+                                                      .getSimpleName()))
+            .beginControlFlow("if (params != null)");
+      for (int i = 0; i <
+          compositeModel.getParameterAcceptors()
+                        .size(); i++) {
+        String methodName = compositeModel.getParameterAcceptors()
+                                          .get(i)
+                                          .getMethodName();
+        method.beginControlFlow("if (params.length >= " + (i + 1) + ")")
+              .addStatement("logSetParameter(composite, $S, params[" + i + "])",
+                            methodName)
+              .addStatement("composite." + methodName + "(params[" + i + "])")
+              .endControlFlow();
       }
+      method.endControlFlow();
     }
     return method.build();
   }
@@ -286,8 +187,6 @@ public class CompositeCreatorGenerator {
 
     MetaModel metaModel;
 
-    ProcessingEnvironment processingEnvironment;
-
     CompositeModel compositeModel;
 
     /**
@@ -301,11 +200,6 @@ public class CompositeCreatorGenerator {
       return this;
     }
 
-    public Builder processingEnvironment(ProcessingEnvironment processingEnvironment) {
-      this.processingEnvironment = processingEnvironment;
-      return this;
-    }
-
     public Builder compositeModel(CompositeModel compositeModel) {
       this.compositeModel = compositeModel;
       return this;
@@ -62,16 +62,28 @@ public class CompositesGenerator {
                                                                              ClassName.get(ClientLogger.class));
     for (ControllerModel controllerModel : this.metaModel.getControllers()) {
       for (ControllerCompositeModel controllerCompositeModel : controllerModel.getComposites()) {
-        loadCompositesMethodBuilder.addStatement("this.compositeControllerReferences.add(new $T($S, $S, $S, $S, $L))",
-                                                 ClassName.get(CompositeControllerReference.class),
-                                                 controllerModel.getProvider()
-                                                                .getClassName(),
-                                                 controllerCompositeModel.getName(),
-                                                 controllerCompositeModel.getComposite()
-                                                                         .getClassName(),
-                                                 controllerCompositeModel.getSelector(),
-                                                 controllerCompositeModel.isScopeGlobal())
-                                   .addStatement("sb01.setLength(0)")
+        if (controllerCompositeModel.isLazy()) {
+          loadCompositesMethodBuilder.addStatement("this.compositeControllerReferences.add(new $T($S, $S, $S, $S, $L, true))",
+                                                   ClassName.get(CompositeControllerReference.class),
+                                                   controllerModel.getProvider()
+                                                                  .getClassName(),
+                                                   controllerCompositeModel.getName(),
+                                                   controllerCompositeModel.getComposite()
+                                                                           .getClassName(),
+                                                   controllerCompositeModel.getSelector(),
+                                                   controllerCompositeModel.isScopeGlobal());
+        } else {
+          loadCompositesMethodBuilder.addStatement("this.compositeControllerReferences.add(new $T($S, $S, $S, $S, $L))",
+                                                   ClassName.get(CompositeControllerReference.class),
+                                                   controllerModel.getProvider()
+                                                                  .getClassName(),
+                                                   controllerCompositeModel.getName(),
+                                                   controllerCompositeModel.getComposite()
+                                                                           .getClassName(),
+                                                   controllerCompositeModel.getSelector(),
+                                                   controllerCompositeModel.isScopeGlobal());
+        }
+        loadCompositesMethodBuilder.addStatement("sb01.setLength(0)")
                                    .addStatement("sb01.append(\"register composite >>$L<< for controller >>$L<< in selector >>$L<<\")",
                                                  controllerCompositeModel.getName(),
                                                  controllerModel.getProvider()
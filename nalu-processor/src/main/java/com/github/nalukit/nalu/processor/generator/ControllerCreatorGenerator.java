@@ -16,15 +16,11 @@
 package com.github.nalukit.nalu.processor.generator;
 
 import com.github.nalukit.nalu.client.Router;
-import com.github.nalukit.nalu.client.component.AbstractComponentController;
 import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
 import com.github.nalukit.nalu.client.internal.AbstractControllerCreator;
-import com.github.nalukit.nalu.client.internal.ClientLogger;
-import com.github.nalukit.nalu.client.internal.application.ControllerFactory;
 import com.github.nalukit.nalu.client.internal.application.ControllerInstance;
 import com.github.nalukit.nalu.client.internal.application.IsControllerCreator;
 import com.github.nalukit.nalu.processor.ProcessorConstants;
-import com.github.nalukit.nalu.processor.ProcessorException;
 import com.github.nalukit.nalu.processor.model.MetaModel;
 import com.github.nalukit.nalu.processor.model.intern.ControllerModel;
 import com.github.nalukit.nalu.processor.util.BuildWithNaluCommentProvider;
@@ -36,14 +32,10 @@ import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeSpec;
 import org.gwtproject.event.shared.SimpleEventBus;
 
-import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Modifier;
-import java.io.IOException;
 
 public class ControllerCreatorGenerator {
 
-  private ProcessingEnvironment processingEnvironment;
-
   private ControllerModel controllerModel;
 
   @SuppressWarnings("unused")
@@ -51,7 +43,6 @@ public class ControllerCreatorGenerator {
   }
 
   private ControllerCreatorGenerator(Builder builder) {
-    this.processingEnvironment = builder.processingEnvironment;
     this.controllerModel = builder.controllerModel;
   }
 
@@ -59,8 +50,13 @@ public class ControllerCreatorGenerator {
     return new Builder();
   }
 
-  public void generate()
-      throws ProcessorException {
+  /**
+   * Creates the java file of the creator. The generator does not use the
+   * javac API, so the caller can run it in parallel and write the file later.
+   *
+   * @return the java file of the creator
+   */
+  public JavaFile generate() {
     TypeSpec.Builder typeSpec = TypeSpec.classBuilder(controllerModel.getController()
                                                                      .getSimpleName() + ProcessorConstants.CREATOR_IMPL)
                                         .addJavadoc(BuildWithNaluCommentProvider.get()
@@ -76,21 +72,10 @@ public class ControllerCreatorGenerator {
     typeSpec.addMethod(createFinishCreateMethod());
     typeSpec.addMethod(createSetParameterMethod());
 
-    JavaFile javaFile = JavaFile.builder(controllerModel.getController()
-                                                        .getPackage(),
-                                         typeSpec.build())
-                                .build();
-    try {
-      //      System.out.println(javaFile.toString());
-      javaFile.writeTo(this.processingEnvironment.getFiler());
-    } catch (IOException e) {
-      throw new ProcessorException("Unable to write generated file: >>" +
-                                   controllerModel.getController()
-                                                  .getSimpleName() +
-                                   ProcessorConstants.CREATOR_IMPL +
-                                   "<< -> exception: " +
-                                   e.getMessage());
-    }
+    return JavaFile.builder(controllerModel.getController()
+                                          .getPackage(),
+                           typeSpec.build())
+                   .build();
   }
 
   private MethodSpec createSetParameterMethod() {
@@ -119,9 +104,6 @@ public class ControllerCreatorGenerator {
                                                          .getPackage(),
                                           controllerModel.getProvider()
                                                          .getSimpleName()))
-              .addStatement("$T sb01 = new $T()",
-                            ClassName.get(StringBuilder.class),
-                            ClassName.get(StringBuilder.class))
               .beginControlFlow("if (params != null)");
         for (int i = 0; i <
                         controllerModel.getParameters()
@@ -130,10 +112,8 @@ public class ControllerCreatorGenerator {
                                                                                    .get(i));
           if (methodName != null) {
             method.beginControlFlow("if (params.length >= " + (i + 1) + ")")
-                  .addStatement("sb01.setLength(0)")
-                  .addStatement("sb01.append(\"controller >>\").append(controller.getClass().getCanonicalName()).append(\"<< --> using method >>" + methodName + "<< to set value >>\").append(params[" + i + "]).append(\"<<\")")
-                  .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                                ClassName.get(ClientLogger.class))
+                  .addStatement("logSetParameter(controller, $S, params[" + i + "])",
+                                methodName)
                   .addStatement("controller." + methodName + "(params[" + i + "])")
                   .endControlFlow();
           }
@@ -160,21 +140,13 @@ public class ControllerCreatorGenerator {
                                                         ClassName.get(controllerModel.getProvider()
                                                                                      .getPackage(),
                                                                       controllerModel.getProvider()
-                                                                                     .getSimpleName()))
-                                          .addStatement("$T sb01 = new $T()",
-                                                        ClassName.get(StringBuilder.class),
-                                                        ClassName.get(StringBuilder.class));
+                                                                                     .getSimpleName()));
     if (controllerModel.isComponentCreator()) {
       method.addStatement("$T component = controller.createComponent()",
                           ClassName.get(controllerModel.getComponentInterface()
                                                        .getPackage(),
                                         controllerModel.getComponentInterface()
-                                                       .getSimpleName()))
-            .addStatement("sb01.append(\"component >>$L<< --> created using createComponent-Method of controller\")",
-                          controllerModel.getComponent()
-                                         .getClassName())
-            .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                          ClassName.get(ClientLogger.class));
+                                                       .getSimpleName()));
     } else {
       method.addStatement("$T component = new $T()",
                           ClassName.get(controllerModel.getComponentInterface()
@@ -184,38 +156,14 @@ public class ControllerCreatorGenerator {
                           ClassName.get(controllerModel.getComponent()
                                                        .getPackage(),
                                         controllerModel.getComponent()
-                                                       .getSimpleName()))
-            .addStatement("sb01.setLength(0)")
-            .addStatement("sb01.append(\"component >>$L<< --> created using new\")",
-                          controllerModel.getComponent()
-                                         .getClassName())
-            .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                          ClassName.get(ClientLogger.class));
+                                                       .getSimpleName()));
     }
     method.addStatement("component.setController(controller)")
-          .addStatement("sb01.setLength(0)")
-          .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> created and controller instance injected\")")
-          .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                        ClassName.get(ClientLogger.class))
           .addStatement("controller.setComponent(component)")
-          .addStatement("sb01.setLength(0)")
-          .addStatement("sb01.append(\"controller >>\").append(controller.getClass().getCanonicalName()).append(\"<< --> instance of >>\").append(component.getClass().getCanonicalName()).append(\"<< injected\")")
-          .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                        ClassName.get(ClientLogger.class))
-          .addStatement("component.render()")
-          .addStatement("sb01.setLength(0)")
-          .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> rendered\")")
-          .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                        ClassName.get(ClientLogger.class))
-          .addStatement("component.bind()")
-          .addStatement("sb01.setLength(0)")
-          .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> bound\")")
-          .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                        ClassName.get(ClientLogger.class))
-          .addStatement("$T.get().logSimple(\"controller >>$L<< created for route >>$L<<\", 3)",
-                        ClassName.get(ClientLogger.class),
+          .addStatement("finishCreating(controller, $S, $L, $S)",
                         controllerModel.getComponent()
                                        .getClassName(),
+                        controllerModel.isComponentCreator(),
                         controllerModel.getRoute());
     return method.build();
   }
@@ -225,61 +173,15 @@ public class ControllerCreatorGenerator {
                                           .addAnnotation(ClassName.get(Override.class))
                                           .addModifiers(Modifier.PUBLIC)
                                           .returns(ClassName.get(ControllerInstance.class))
-                                          .addStatement("$T sb01 = new $T()",
-                                                        ClassName.get(StringBuilder.class),
-                                                        ClassName.get(StringBuilder.class))
-                                          .addStatement("$T controllerInstance = new $T()",
-                                                        ClassName.get(ControllerInstance.class),
-                                                        ClassName.get(ControllerInstance.class))
-                                          .addStatement("controllerInstance.setControllerClassName($S)",
-                                                        controllerModel.getController()
-                                                                       .getClassName())
-                                          .addStatement("$T<?, ?, ?> storedController = $T.get().getControllerFormStore($S)",
-                                                        ClassName.get(AbstractComponentController.class),
-                                                        ClassName.get(ControllerFactory.class),
+                                          .addStatement("return createController($S, $S, $S, $T::new)",
                                                         controllerModel.getController()
-                                                                       .getClassName())
-                                          .beginControlFlow("if (storedController == null)")
-                                          .addStatement("sb01.append(\"controller >>$L<< --> will be created\")",
-                                                        controllerModel.getProvider()
-                                                                       .getPackage() +
-                                                        "." +
-                                                        controllerModel.getProvider()
-                                                                       .getSimpleName())
-                                          .addStatement("$T.get().logSimple(sb01.toString(), 3)",
-                                                        ClassName.get(ClientLogger.class))
-                                          .addStatement("$T controller = new $T()",
+                                                                       .getClassName(),
+                                                        controllerModel.getRoute(),
+                                                        controllerModel.getSelector(),
                                                         ClassName.get(controllerModel.getProvider()
                                                                                      .getPackage(),
                                                                       controllerModel.getProvider()
-                                                                                     .getSimpleName()),
-                                                        ClassName.get(controllerModel.getProvider()
-                                                                                     .getPackage(),
-                                                                      controllerModel.getProvider()
-                                                                                     .getSimpleName()))
-                                          .addStatement("controllerInstance.setController(controller)")
-                                          .addStatement("controllerInstance.setCached(false)")
-                                          .addStatement("controller.setContext(context)")
-                                          .addStatement("controller.setEventBus(eventBus)")
-                                          .addStatement("controller.setRouter(router)")
-                                          .addStatement("controller.setCached(false)")
-                                          .addStatement("controller.setRelatedRoute($S)",
-                                                        controllerModel.getRoute())
-                                          .addStatement("controller.setRelatedSelector($S)",
-                                                        controllerModel.getSelector())
-                                          .addStatement("sb01.setLength(0)")
-                                          .addStatement("sb01.append(\"controller >>\").append(controller.getClass().getCanonicalName()).append(\"<< --> created and data injected\")")
-                                          .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                                                        ClassName.get(ClientLogger.class))
-                                          .nextControlFlow("else")
-                                          .addStatement("sb01.append(\"controller >>\").append(storedController.getClass().getCanonicalName()).append(\"<< --> found in cache -> REUSE!\")")
-                                          .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                                                        ClassName.get(ClientLogger.class))
-                                          .addStatement("controllerInstance.setController(storedController)")
-                                          .addStatement("controllerInstance.setCached(true)")
-                                          .addStatement("controllerInstance.getController().setCached(true)")
-                                          .endControlFlow();
-    method.addStatement("return controllerInstance");
+                                                                                     .getSimpleName()));
     return method.build();
   }
 
@@ -304,8 +206,6 @@ public class ControllerCreatorGenerator {
 
     MetaModel metaModel;
 
-    ProcessingEnvironment processingEnvironment;
-
     ControllerModel controllerModel;
 
     /**
@@ -319,11 +219,6 @@ public class ControllerCreatorGenerator {
       return this;
     }
 
-    public Builder processingEnvironment(ProcessingEnvironment processingEnvironment) {
-      this.processingEnvironment = processingEnvironment;
-      return this;
-    }
-
     public Builder controllerModel(ControllerModel controllerModel) {
       this.controllerModel = controllerModel;
       return this;
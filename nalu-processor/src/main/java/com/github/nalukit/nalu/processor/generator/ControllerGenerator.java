@@ -19,21 +19,24 @@ import com.github.nalukit.nalu.client.component.AlwaysLoadComposite;
 import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.application.ControllerCompositeConditionFactory;
 import com.github.nalukit.nalu.client.internal.application.ControllerFactory;
+import com.github.nalukit.nalu.client.internal.application.DataLoaderFactory;
 import com.github.nalukit.nalu.client.internal.route.RouteConfig;
 import com.github.nalukit.nalu.processor.ProcessorConstants;
 import com.github.nalukit.nalu.processor.model.MetaModel;
 import com.github.nalukit.nalu.processor.model.intern.ClassNameModel;
 import com.github.nalukit.nalu.processor.model.intern.ControllerModel;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.TypeSpec;
 
 import javax.lang.model.element.Modifier;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 public class ControllerGenerator {
@@ -42,8 +45,6 @@ public class ControllerGenerator {
 
   private TypeSpec.Builder typeSpec;
 
-  private Map<String, Integer> variableCounterMap;
-
   @SuppressWarnings("unused")
   private ControllerGenerator() {
   }
@@ -51,8 +52,6 @@ public class ControllerGenerator {
   private ControllerGenerator(Builder builder) {
     this.metaModel = builder.metaModel;
     this.typeSpec = builder.typeSpec;
-
-    this.variableCounterMap = new HashMap<>();
   }
 
   public static Builder builder() {
@@ -77,7 +76,7 @@ public class ControllerGenerator {
                                                  "." +
                                                  controllerModel.getProvider()
                                                                 .getSimpleName())
-                                     .addStatement("$T.get().registerController($S, new $L(router, context, eventBus))",
+                                     .addStatement("$T.get().registerController($S, () -> new $L(router, context, eventBus))",
                                                    ClassName.get(ControllerFactory.class),
                                                    controllerModel.getProvider()
                                                                   .getPackage() +
@@ -87,11 +86,19 @@ public class ControllerGenerator {
                                                    ClassName.get(controllerModel.getController()
                                                                                 .getPackage(),
                                                                  controllerModel.getController()
-                                                                                .getSimpleName() + ProcessorConstants.CREATOR_IMPL));
+                                                                                .getSimpleName() + ProcessorConstants.CREATOR_IMPL))
+                                     .addStatement("$T.get().registerClass($S, $T.class)",
+                                                   ClassName.get(DataLoaderFactory.class),
+                                                   controllerModel.getProvider()
+                                                                  .getPackage() +
+                                                   "." +
+                                                   controllerModel.getProvider()
+                                                                  .getSimpleName(),
+                                                   controllerModel.getProvider()
+                                                                  .getTypeName());
 
           if (controllerModel.getComposites()
                              .size() > 0) {
-            List<String> generatedConditionClassNames = new ArrayList<>();
             loadComponentsMethodBuilder.addComment("register conditions of composites for: " +
                                                    controllerModel.getProvider()
                                                                   .getPackage() +
@@ -103,7 +110,7 @@ public class ControllerGenerator {
                              if (AlwaysLoadComposite.class.getSimpleName()
                                                           .equals(controllerCompositeModel.getCondition()
                                                                                           .getSimpleName())) {
-                               loadComponentsMethodBuilder.addStatement("$T.get().registerCondition($S, $S, super.alwaysLoadComposite)",
+                               loadComponentsMethodBuilder.addStatement("$T.get().registerCondition($S, $S, () -> super.alwaysLoadComposite)",
                                                                         ClassName.get(ControllerCompositeConditionFactory.class),
                                                                         controllerModel.getProvider()
                                                                                        .getPackage() +
@@ -116,36 +123,27 @@ public class ControllerGenerator {
                                                                         controllerCompositeModel.getComposite()
                                                                                                 .getSimpleName());
                              } else {
-                               String conditionVariableName;
-                               if (generatedConditionClassNames.contains(controllerCompositeModel.getCondition()
-                                                                                                  .getClassName())) {
-                                 conditionVariableName = this.setFirstCharacterToLowerCase(controllerCompositeModel.getCondition()
-                                                                                                                   .getSimpleName()) +
-                                                         this.getNameWithVariableCount(controllerCompositeModel.getCondition(),
-                                                                                       false);
-                               } else {
-                                 conditionVariableName = this.setFirstCharacterToLowerCase(controllerCompositeModel.getCondition()
-                                                                                                                   .getSimpleName()) +
-                                                         this.getNameWithVariableCount(controllerCompositeModel.getCondition(),
-                                                                                       true);
-
-                                 loadComponentsMethodBuilder.addStatement("$T $L = new $T()",
-                                                                          ClassName.get(controllerCompositeModel.getCondition()
-                                                                                                                .getPackage(),
-                                                                                        controllerCompositeModel.getCondition()
-                                                                                                                .getSimpleName()),
-                                                                          conditionVariableName,
-                                                                          ClassName.get(controllerCompositeModel.getCondition()
-                                                                                                                .getPackage(),
-                                                                                        controllerCompositeModel.getCondition()
-                                                                                                                .getSimpleName()))
-                                                            .addStatement("$L.setContext(super.context)",
-                                                                          conditionVariableName);
-                                 // remember generated condition to avoid creating the same class again!
-                                 generatedConditionClassNames.add(controllerCompositeModel.getCondition()
-                                                                                          .getClassName());
-                               }
-                               loadComponentsMethodBuilder.addStatement("$T.get().registerCondition($S, $S, $L)",
+                               // the condition will be created the first time it is used and
+                               // is shared by all composites of the controller using the condition
+                               CodeBlock conditionSupplier;
+                               conditionSupplier = CodeBlock.builder()
+                                                            .add("() -> {\n")
+                                                            .indent()
+                                                            .add("$T condition = new $T();\n",
+                                                                 ClassName.get(controllerCompositeModel.getCondition()
+                                                                                                       .getPackage(),
+                                                                               controllerCompositeModel.getCondition()
+                                                                                                       .getSimpleName()),
+                                                                 ClassName.get(controllerCompositeModel.getCondition()
+                                                                                                       .getPackage(),
+                                                                               controllerCompositeModel.getCondition()
+                                                                                                       .getSimpleName()))
+                                                            .add("condition.setContext(super.context);\n")
+                                                            .add("return condition;\n")
+                                                            .unindent()
+                                                            .add("}")
+                                                            .build();
+                               loadComponentsMethodBuilder.addStatement("$T.get().registerCondition($S, $S, $S, $L)",
                                                                         ClassName.get(ControllerCompositeConditionFactory.class),
                                                                         controllerModel.getProvider()
                                                                                        .getPackage() +
@@ -157,7 +155,9 @@ public class ControllerGenerator {
                                                                         "." +
                                                                         controllerCompositeModel.getComposite()
                                                                                                 .getSimpleName(),
-                                                                        conditionVariableName);
+                                                                        controllerCompositeModel.getCondition()
+                                                                                                .getClassName(),
+                                                                        conditionSupplier);
                              }
                            });
           }
@@ -176,38 +176,41 @@ public class ControllerGenerator {
                                                        .addStatement("sb01.append(\"load routes\")")
                                                        .addStatement("$T.get().logDetailed(sb01.toString(), 2)",
                                                                      ClassName.get(ClientLogger.class));
-    this.metaModel.getControllers()
-                  .forEach(route -> loadSelectorsMethod.addStatement("super.routerConfiguration.getRouters().add(new $T($S, $T.asList(new String[]{$L}), $S, $S))",
-                                                                     ClassName.get(RouteConfig.class),
-                                                                     createRoute(route.getRoute()),
-                                                                     ClassName.get(Arrays.class),
-                                                                     createParameter(route.getParameters(),
-                                                                                     true),
-                                                                     route.getSelector(),
-                                                                     route.getProvider()
-                                                                          .getClassName())
-                                                       .addStatement("sb01.setLength(0)")
-                                                       .addStatement("sb01.append(\"register route >>$L<< with parameter >>$L<< for selector >>$L<< for controller >>$L<<\")",
-                                                                     createRoute(route.getRoute()),
-                                                                     createParameter(route.getParameters(),
-                                                                                     false),
-                                                                     route.getSelector(),
-                                                                     route.getProvider()
-                                                                          .getClassName())
-                                                       .addStatement("$T.get().logDetailed(sb01.toString(), 3)",
-                                                                     ClassName.get(ClientLogger.class)));
+    // the routes are sorted by specificity, the generated route matcher relies on this order!
+    List<ControllerModel> routes = RouteMatcherGenerator.sort(this.metaModel.getControllers());
+    loadSelectorsMethod.addStatement("$T<$T> routeConfigs = new $T<>()",
+                                     ClassName.get(List.class),
+                                     ClassName.get(RouteConfig.class),
+                                     ClassName.get(ArrayList.class));
+    routes.forEach(route -> loadSelectorsMethod.addStatement("routeConfigs.add($L)",
+                                                             RouteMatcherGenerator.createRouteConfig(route))
+                                               .addStatement("sb01.setLength(0)")
+                                               .addStatement("sb01.append(\"register route >>$L<< with parameter >>$L<< for selector >>$L<< for controller >>$L<<\")",
+                                                             createRoute(route.getRoute()),
+                                                             createParameter(route.getParameters(),
+                                                                             false),
+                                                             route.getSelector(),
+                                                             route.getProvider()
+                                                                  .getClassName())
+                                               .addStatement("$T.get().logDetailed(sb01.toString(), 3)",
+                                                             ClassName.get(ClientLogger.class)));
+    loadSelectorsMethod.addStatement("super.routerConfiguration.addRoutes(routeConfigs, new $L())",
+                                     RouteMatcherGenerator.ROUTE_MATCHER_NAME);
+    RouteMatcherGenerator.builder()
+                         .routes(routes.stream()
+                                       .map(route -> createRoute(route.getRoute()))
+                                       .collect(Collectors.toList()))
+                         .typeSpec(this.typeSpec)
+                         .build()
+                         .generate();
     typeSpec.addMethod(loadSelectorsMethod.build());
   }
 
-  private List<ControllerModel> getAllComponents(List<ControllerModel> routes) {
-    List<ControllerModel> models = new ArrayList<>();
-    routes.forEach(route -> {
-      if (!contains(models,
-                    route)) {
-        models.add(route);
-      }
-    });
-    return models;
+  private List<ControllerModel> getAllComponents(Collection<ControllerModel> routes) {
+    Map<ClassNameModel, ControllerModel> models = new LinkedHashMap<>();
+    routes.forEach(route -> models.putIfAbsent(route.getProvider(),
+                                               route));
+    return new ArrayList<>(models.values());
   }
 
   private String createRoute(String route) {
@@ -238,47 +241,6 @@ public class ControllerGenerator {
     return sb.toString();
   }
 
-  private boolean contains(List<ControllerModel> models,
-                           ControllerModel controllerModel) {
-    return models.stream()
-                 .anyMatch(model -> model.getProvider()
-                                         .equals(controllerModel.getProvider()));
-  }
-
-  private String setFirstCharacterToLowerCase(String className) {
-    return className.substring(0,
-                               1)
-                    .toLowerCase() + className.substring(1);
-  }
-
-  /**
-   * Created a String with a number at the end to get unique condition
-   * variable names
-   *
-   * @param classNameModel the condition class name
-   * @return uniques string with number
-   */
-  private String getNameWithVariableCount(ClassNameModel classNameModel,
-                                          boolean createNew) {
-    if (createNew) {
-      // new condition class!
-      if (this.variableCounterMap.get(classNameModel.getClassName()) == null) {
-        this.variableCounterMap.put(classNameModel.getClassName(),
-                                    1);
-        return "_1";
-      }
-      // already used condition class
-      Integer counter = this.variableCounterMap.get(classNameModel.getClassName());
-      Integer newCounter = counter + 1;
-      this.variableCounterMap.put(classNameModel.getClassName(),
-                                  newCounter);
-      return "_" + newCounter;
-    } else {
-      Integer count = this.variableCounterMap.get(classNameModel.getClassName());
-      return "_" + count;
-    }
-  }
-
   public static final class Builder {
 
     MetaModel metaModel;
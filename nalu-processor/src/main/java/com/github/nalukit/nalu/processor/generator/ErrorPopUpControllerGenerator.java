@@ -76,7 +76,14 @@ public class ErrorPopUpControllerGenerator {
                                              .addStatement("errorPopUpController.setEventBus(eventBus)")
                                              .addStatement("errorPopUpController.setRouter(router)")
                                              .addStatement("sb01.setLength(0)")
-                                             .addStatement("sb01.append(\"controller >>\").append(errorPopUpController.getClass().getCanonicalName()).append(\"<< --> created and data injected\")")
+                                             .addStatement("errorPopUpController.setControllerClassName($S)",
+                                                           this.metaModel.getErrorPopUpController()
+                                                                         .getController()
+                                                                         .getClassName())
+                                             .addStatement("sb01.append(\"controller >>$L<< --> created and data injected\")",
+                                                           this.metaModel.getErrorPopUpController()
+                                                                         .getController()
+                                                                         .getClassName())
                                              .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
                                                            ClassName.get(ClientLogger.class));
       if (this.metaModel.getErrorPopUpController()
@@ -119,23 +126,42 @@ public class ErrorPopUpControllerGenerator {
       }
       createErrorPopUpControllerMethodBuilder.addStatement("component.setController(errorPopUpController)")
                                              .addStatement("sb01.setLength(0)")
-                                             .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> created and controller instance injected\")")
+                                             .addStatement("sb01.append(\"component >>$L<< --> created and controller instance injected\")",
+                                                           this.metaModel.getErrorPopUpController()
+                                                                         .getComponent()
+                                                                         .getClassName())
                                              .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
                                                            ClassName.get(ClientLogger.class))
                                              .addStatement("errorPopUpController.setComponent(component)")
+                                             .addStatement("errorPopUpController.setComponentClassName($S)",
+                                                           this.metaModel.getErrorPopUpController()
+                                                                         .getComponent()
+                                                                         .getClassName())
                                              .addStatement("sb01.setLength(0)")
-                                             .addStatement("sb01.append(\"controller >>\").append(errorPopUpController.getClass().getCanonicalName()).append(\"<< --> instance of >>\").append(component.getClass().getCanonicalName()).append(\"<< injected\")")
+                                             .addStatement("sb01.append(\"controller >>$L<< --> instance of >>$L<< injected\")",
+                                                           this.metaModel.getErrorPopUpController()
+                                                                         .getController()
+                                                                         .getClassName(),
+                                                           this.metaModel.getErrorPopUpController()
+                                                                         .getComponent()
+                                                                         .getClassName())
                                              .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
                                                            ClassName.get(ClientLogger.class))
                                              .addStatement("component.render()")
                                              .addStatement("sb01.setLength(0)")
 
-                                             .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> rendered\")")
+                                             .addStatement("sb01.append(\"component >>$L<< --> rendered\")",
+                                                           this.metaModel.getErrorPopUpController()
+                                                                         .getComponent()
+                                                                         .getClassName())
                                              .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
                                                            ClassName.get(ClientLogger.class))
                                              .addStatement("component.bind()")
                                              .addStatement("sb01.setLength(0)")
-                                             .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> bound\")")
+                                             .addStatement("sb01.append(\"component >>$L<< --> bound\")",
+                                                           this.metaModel.getErrorPopUpController()
+                                                                         .getComponent()
+                                                                         .getClassName())
                                              .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
                                                            ClassName.get(ClientLogger.class))
                                              .addStatement("$T.get().logSimple(\"controller >>$L<< created\", 3)",
@@ -75,6 +75,9 @@ public class FiltersGenerator {
                                                                             this.processorUtils.createFullClassName(classNameModel.getClassName()))
                                                               .addStatement("$L.setEventBus(super.eventBus)",
                                                                             this.processorUtils.createFullClassName(classNameModel.getClassName()))
+                                                              .addStatement("$L.setFilterClassName($S)",
+                                                                            this.processorUtils.createFullClassName(classNameModel.getClassName()),
+                                                                            classNameModel.getClassName())
                                                               .addStatement("super.routerConfiguration.getFilters().add($L)",
                                                                             this.processorUtils.createFullClassName(classNameModel.getClassName()))
                                                               .addStatement("$T.get().logDetailed(\"AbstractApplication: filter >> $L << created\", 0)",
@@ -24,8 +24,10 @@ import com.github.nalukit.nalu.client.internal.CompositeControllerReference;
 import com.github.nalukit.nalu.client.internal.application.CompositeFactory;
 import com.github.nalukit.nalu.client.internal.application.ControllerCompositeConditionFactory;
 import com.github.nalukit.nalu.client.internal.application.ControllerFactory;
+import com.github.nalukit.nalu.client.internal.application.DataLoaderFactory;
 import com.github.nalukit.nalu.client.internal.application.ShellFactory;
 import com.github.nalukit.nalu.client.internal.module.AbstractModule;
+import com.github.nalukit.nalu.client.internal.route.IsRouteMatcher;
 import com.github.nalukit.nalu.client.internal.route.RouteConfig;
 import com.github.nalukit.nalu.client.internal.route.RouterConfiguration;
 import com.github.nalukit.nalu.client.internal.route.ShellConfig;
@@ -33,9 +35,11 @@ import com.github.nalukit.nalu.processor.ProcessorConstants;
 import com.github.nalukit.nalu.processor.ProcessorException;
 import com.github.nalukit.nalu.processor.ProcessorUtils;
 import com.github.nalukit.nalu.processor.model.MetaModel;
+import com.github.nalukit.nalu.processor.model.intern.ClassNameModel;
 import com.github.nalukit.nalu.processor.model.intern.CompositeModel;
 import com.github.nalukit.nalu.processor.model.intern.ControllerModel;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterSpec;
@@ -47,9 +51,11 @@ import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Modifier;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.IntStream;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 public class ModuleGenerator {
 
@@ -122,8 +128,12 @@ public class ModuleGenerator {
 
     this.generateGetShellConfigs(typeSpec);
     this.generateGetRouteConfigs(typeSpec);
+    this.generateGetRouteMatcher(typeSpec);
     this.generateGetCompositeReferences(typeSpec);
 
+    this.processorUtils.addOriginatingElements(typeSpec,
+                                               this.metaModel);
+
     JavaFile javaFile = JavaFile.builder(this.metaModel.getModuleModel()
                                                        .getModule()
                                                        .getPackage(),
@@ -214,6 +224,9 @@ public class ModuleGenerator {
                                                                                           classNameModel.getSimpleName()))
                                                               .addStatement("$L.setContext(super.moduleContext)",
                                                                             this.processorUtils.createFullClassName(classNameModel.getClassName()))
+                                                              .addStatement("$L.setFilterClassName($S)",
+                                                                            this.processorUtils.createFullClassName(classNameModel.getClassName()),
+                                                                            classNameModel.getClassName())
                                                               .addStatement("routerConfiguration.getFilters().add($L)",
                                                                             this.processorUtils.createFullClassName(classNameModel.getClassName()))
                                                               .addStatement("$T.get().logDetailed(\"AbstractApplication: filter >> $L << created\", 0)",
@@ -237,7 +250,7 @@ public class ModuleGenerator {
                                                              "." +
                                                              shellModel.getShell()
                                                                        .getSimpleName())
-                                                 .addStatement("$T.get().registerShell($S, new $L(router, moduleContext, eventBus))",
+                                                 .addStatement("$T.get().registerShell($S, () -> new $L(router, moduleContext, eventBus))",
                                                                ClassName.get(ShellFactory.class),
                                                                shellModel.getShell()
                                                                          .getPackage() +
@@ -265,7 +278,7 @@ public class ModuleGenerator {
                                              "." +
                                              compositeModel.getProvider()
                                                            .getSimpleName())
-                                 .addStatement("$T.get().registerComposite($S, new $L(router, moduleContext, eventBus))",
+                                 .addStatement("$T.get().registerComposite($S, () -> new $L(router, moduleContext, eventBus))",
                                                ClassName.get(CompositeFactory.class),
                                                compositeModel.getProvider()
                                                              .getPackage() +
@@ -275,7 +288,16 @@ public class ModuleGenerator {
                                                ClassName.get(compositeModel.getProvider()
                                                                            .getPackage(),
                                                              compositeModel.getProvider()
-                                                                           .getSimpleName() + ProcessorConstants.CREATOR_IMPL));
+                                                                           .getSimpleName() + ProcessorConstants.CREATOR_IMPL))
+                                 .addStatement("$T.get().registerClass($S, $T.class)",
+                                               ClassName.get(DataLoaderFactory.class),
+                                               compositeModel.getProvider()
+                                                             .getPackage() +
+                                               "." +
+                                               compositeModel.getProvider()
+                                                             .getSimpleName(),
+                                               compositeModel.getProvider()
+                                                             .getTypeName());
     }
     typeSpec.addMethod(loadCompositesMethodBuilder.build());
   }
@@ -293,7 +315,7 @@ public class ModuleGenerator {
                                                  "." +
                                                  controllerModel.getProvider()
                                                                 .getSimpleName())
-                                     .addStatement("$T.get().registerController($S, new $L(router, moduleContext, eventBus))",
+                                     .addStatement("$T.get().registerController($S, () -> new $L(router, moduleContext, eventBus))",
                                                    ClassName.get(ControllerFactory.class),
                                                    controllerModel.getProvider()
                                                                   .getPackage() +
@@ -303,11 +325,19 @@ public class ModuleGenerator {
                                                    ClassName.get(controllerModel.getController()
                                                                                 .getPackage(),
                                                                  controllerModel.getController()
-                                                                                .getSimpleName() + ProcessorConstants.CREATOR_IMPL));
+                                                                                .getSimpleName() + ProcessorConstants.CREATOR_IMPL))
+                                     .addStatement("$T.get().registerClass($S, $T.class)",
+                                                   ClassName.get(DataLoaderFactory.class),
+                                                   controllerModel.getProvider()
+                                                                  .getPackage() +
+                                                   "." +
+                                                   controllerModel.getProvider()
+                                                                  .getSimpleName(),
+                                                   controllerModel.getProvider()
+                                                                  .getTypeName());
 
           if (controllerModel.getComposites()
                              .size() > 0) {
-            List<String> generatedConditionClassNames = new ArrayList<>();
             loadComponentsMethodBuilder.addComment("register conditions of composites for: " +
                                                    controllerModel.getProvider()
                                                                   .getPackage() +
@@ -319,7 +349,7 @@ public class ModuleGenerator {
                              if (AlwaysLoadComposite.class.getSimpleName()
                                                           .equals(controllerCompositeModel.getCondition()
                                                                                           .getSimpleName())) {
-                               loadComponentsMethodBuilder.addStatement("$T.get().registerCondition($S, $S, super.alwaysLoadComposite)",
+                               loadComponentsMethodBuilder.addStatement("$T.get().registerCondition($S, $S, () -> super.alwaysLoadComposite)",
                                                                         ClassName.get(ControllerCompositeConditionFactory.class),
                                                                         controllerModel.getProvider()
                                                                                        .getPackage() +
@@ -332,27 +362,27 @@ public class ModuleGenerator {
                                                                         controllerCompositeModel.getComposite()
                                                                                                 .getSimpleName());
                              } else {
-                               if (!generatedConditionClassNames.contains(controllerCompositeModel.getCondition()
-                                                                                                  .getClassName())) {
-                                 loadComponentsMethodBuilder.addStatement("$T $L = new $T()",
-                                                                          ClassName.get(controllerCompositeModel.getCondition()
-                                                                                                                .getPackage(),
-                                                                                        controllerCompositeModel.getCondition()
-                                                                                                                .getSimpleName()),
-                                                                          this.setFirstCharacterToLowerCase(controllerCompositeModel.getCondition()
-                                                                                                                                    .getSimpleName()),
-                                                                          ClassName.get(controllerCompositeModel.getCondition()
-                                                                                                                .getPackage(),
-                                                                                        controllerCompositeModel.getCondition()
-                                                                                                                .getSimpleName()))
-                                                            .addStatement("$L.setContext(super.moduleContext)",
-                                                                          this.setFirstCharacterToLowerCase(controllerCompositeModel.getCondition()
-                                                                                                                                    .getSimpleName()));
-                                 // remember generated condition to avoid creating the same class again!
-                                 generatedConditionClassNames.add(controllerCompositeModel.getCondition()
-                                                                                          .getClassName());
-                               }
-                               loadComponentsMethodBuilder.addStatement("$T.get().registerCondition($S, $S, $L)",
+                               // the condition will be created the first time it is used and
+                               // is shared by all composites of the controller using the condition
+                               CodeBlock conditionSupplier;
+                               conditionSupplier = CodeBlock.builder()
+                                                            .add("() -> {\n")
+                                                            .indent()
+                                                            .add("$T condition = new $T();\n",
+                                                                 ClassName.get(controllerCompositeModel.getCondition()
+                                                                                                       .getPackage(),
+                                                                               controllerCompositeModel.getCondition()
+                                                                                                       .getSimpleName()),
+                                                                 ClassName.get(controllerCompositeModel.getCondition()
+                                                                                                       .getPackage(),
+                                                                               controllerCompositeModel.getCondition()
+                                                                                                       .getSimpleName()))
+                                                            .add("condition.setContext(super.moduleContext);\n")
+                                                            .add("return condition;\n")
+                                                            .unindent()
+                                                            .add("}")
+                                                            .build();
+                               loadComponentsMethodBuilder.addStatement("$T.get().registerCondition($S, $S, $S, $L)",
                                                                         ClassName.get(ControllerCompositeConditionFactory.class),
                                                                         controllerModel.getProvider()
                                                                                        .getPackage() +
@@ -364,8 +394,9 @@ public class ModuleGenerator {
                                                                         "." +
                                                                         controllerCompositeModel.getComposite()
                                                                                                 .getSimpleName(),
-                                                                        this.setFirstCharacterToLowerCase(controllerCompositeModel.getCondition()
-                                                                                                                                  .getSimpleName()));
+                                                                        controllerCompositeModel.getCondition()
+                                                                                                .getClassName(),
+                                                                        conditionSupplier);
                              }
                            });
           }
@@ -405,19 +436,32 @@ public class ModuleGenerator {
                                                                               ClassName.get(List.class),
                                                                               ClassName.get(RouteConfig.class),
                                                                               ClassName.get(ArrayList.class));
-    this.metaModel.getControllers()
-                  .forEach(route -> loadRouteConfigMethodBuilder.addStatement("list.add(new $T($S, $T.asList(new String[]{$L}), $S, $S))",
-                                                                              ClassName.get(RouteConfig.class),
-                                                                              createRoute(route.getRoute()),
-                                                                              ClassName.get(Arrays.class),
-                                                                              createParaemter(route.getParameters()),
-                                                                              route.getSelector(),
-                                                                              route.getProvider()
-                                                                                   .getClassName()));
+    // the routes are sorted by specificity, the generated route matcher relies on this order!
+    RouteMatcherGenerator.sort(this.metaModel.getControllers())
+                         .forEach(route -> loadRouteConfigMethodBuilder.addStatement("list.add($L)",
+                                                                                     RouteMatcherGenerator.createRouteConfig(route)));
     loadRouteConfigMethodBuilder.addStatement("return list");
     typeSpec.addMethod(loadRouteConfigMethodBuilder.build());
   }
 
+  private void generateGetRouteMatcher(TypeSpec.Builder typeSpec) {
+    typeSpec.addMethod(MethodSpec.methodBuilder("getRouteMatcher")
+                                 .addModifiers(Modifier.PUBLIC)
+                                 .addAnnotation(Override.class)
+                                 .returns(ClassName.get(IsRouteMatcher.class))
+                                 .addStatement("return new $L()",
+                                               RouteMatcherGenerator.ROUTE_MATCHER_NAME)
+                                 .build());
+    RouteMatcherGenerator.builder()
+                         .routes(RouteMatcherGenerator.sort(this.metaModel.getControllers())
+                                                      .stream()
+                                                      .map(route -> createRoute(route.getRoute()))
+                                                      .collect(Collectors.toList()))
+                         .typeSpec(typeSpec)
+                         .build()
+                         .generate();
+  }
+
   private void generateGetCompositeReferences(TypeSpec.Builder typeSpec) {
     MethodSpec.Builder getCompositeReferencesMethod = MethodSpec.methodBuilder("getCompositeReferences")
                                                                 .addModifiers(Modifier.PUBLIC)
@@ -442,15 +486,11 @@ public class ModuleGenerator {
     typeSpec.addMethod(getCompositeReferencesMethod.build());
   }
 
-  private List<ControllerModel> getAllComponents(List<ControllerModel> routes) {
-    List<ControllerModel> models = new ArrayList<>();
-    routes.forEach(route -> {
-      if (!contains(models,
-                    route)) {
-        models.add(route);
-      }
-    });
-    return models;
+  private List<ControllerModel> getAllComponents(Collection<ControllerModel> routes) {
+    Map<ClassNameModel, ControllerModel> models = new LinkedHashMap<>();
+    routes.forEach(route -> models.putIfAbsent(route.getProvider(),
+                                               route));
+    return new ArrayList<>(models.values());
   }
 
   private String createRoute(String route) {
@@ -461,34 +501,6 @@ public class ModuleGenerator {
     }
   }
 
-  private String createParaemter(List<String> parameters) {
-    StringBuilder sb = new StringBuilder();
-    IntStream.range(0,
-                    parameters.size())
-             .forEach(i -> {
-               sb.append("\"")
-                 .append(parameters.get(i))
-                 .append("\"");
-               if (i != parameters.size() - 1) {
-                 sb.append(", ");
-               }
-             });
-    return sb.toString();
-  }
-
-  private boolean contains(List<ControllerModel> models,
-                           ControllerModel controllerModel) {
-    return models.stream()
-                 .anyMatch(model -> model.getProvider()
-                                         .equals(controllerModel.getProvider()));
-  }
-
-  private String setFirstCharacterToLowerCase(String className) {
-    return className.substring(0,
-                               1)
-                    .toLowerCase() + className.substring(1);
-  }
-
   public static final class Builder {
 
     MetaModel metaModel;
@@ -16,13 +16,21 @@
 package com.github.nalukit.nalu.processor.generator;
 
 import com.github.nalukit.nalu.client.internal.ClientLogger;
+import com.github.nalukit.nalu.client.internal.module.LazyModuleFactory;
+import com.github.nalukit.nalu.client.internal.module.NoModuleLoader;
+import com.github.nalukit.nalu.client.module.IsModuleLoader.ModuleLoadCallback;
 import com.github.nalukit.nalu.processor.ProcessorConstants;
 import com.github.nalukit.nalu.processor.model.MetaModel;
+import com.github.nalukit.nalu.processor.model.intern.ClassNameModel;
+import com.github.nalukit.nalu.processor.model.intern.LazyModuleModel;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.TypeSpec;
 
 import javax.lang.model.element.Modifier;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 public class ModulesGenerator {
 
@@ -64,6 +72,33 @@ public class ModulesGenerator {
                                                            .toLowerCase() +
                                                 moduleModel.getSimpleName()
                                                            .substring(1);
+                    // lazy module? --> register and load on first navigation
+                    LazyModuleModel lazyModuleModel = this.metaModel.getLazyModule(moduleModel);
+                    if (!Objects.isNull(lazyModuleModel)) {
+                      loadModuleMethodBuilder.addComment("")
+                                             .addComment("")
+                                             .addComment(" Start handling lazy Module: $L",
+                                                         moduleModel.getClassName())
+                                             .addComment("")
+                                             .addStatement("sb01.setLength(0)")
+                                             .addStatement("sb01.append(\"register lazy module >>$L<<\")",
+                                                           moduleModel.getClassName())
+                                             .addStatement("$T.get().logSimple(sb01.toString(), 1)",
+                                                           ClassName.get(ClientLogger.class))
+                                             .addStatement("$T.get().registerModule($S, new $T[] { $L }, $L)",
+                                                           ClassName.get(LazyModuleFactory.class),
+                                                           moduleModel.getClassName(),
+                                                           ClassName.get(String.class),
+                                                           CodeBlock.join(lazyModuleModel.getRoutes()
+                                                                                         .stream()
+                                                                                         .map(route -> CodeBlock.of("$S",
+                                                                                                                    route))
+                                                                                         .collect(Collectors.toList()),
+                                                                          ", "),
+                                                           this.createModuleCreator(moduleModel,
+                                                                                    lazyModuleModel));
+                      return;
+                    }
 
                     loadModuleMethodBuilder.addComment("")
                                            .addComment("")
@@ -121,7 +156,8 @@ public class ModulesGenerator {
                                            .addStatement("sb01.append(\"call >>getRouteConfigs<< and add to route config list\")")
                                            .addStatement("$T.get().logDetailed(sb01.toString(), 3)",
                                                          ClassName.get(ClientLogger.class))
-                                           .addStatement("super.routerConfiguration.getRouters().addAll($L.getRouteConfigs())",
+                                           .addStatement("super.routerConfiguration.addRoutes($L.getRouteConfigs(), $L.getRouteMatcher())",
+                                                         moduleInstanceName,
                                                          moduleInstanceName)
                                            .addStatement("sb01.setLength(0)")
                                            .addStatement("sb01.append(\"called >>getRouteConfigs<<\")",
@@ -151,6 +187,50 @@ public class ModulesGenerator {
     typeSpec.addMethod(loadModuleMethodBuilder.build());
   }
 
+  /**
+   * Creates the module creator of a lazy module. The module is created
+   * inside the callback of the loader, so that the module is only
+   * referenced from inside the split point of the loader.
+   *
+   * @param moduleModel     the module
+   * @param lazyModuleModel the lazy module configuration
+   * @return code of the module creator
+   */
+  private CodeBlock createModuleCreator(ClassNameModel moduleModel,
+                                        LazyModuleModel lazyModuleModel) {
+    ClassName moduleImpl = ClassName.get(moduleModel.getPackage(),
+                                         moduleModel.getSimpleName() + ProcessorConstants.MODULE_IMPL);
+    // without a loader the module is loaded synchronous
+    if (NoModuleLoader.class.getCanonicalName()
+                            .equals(lazyModuleModel.getLoader()
+                                                   .getClassName())) {
+      return CodeBlock.of("callback -> callback.onSuccess(new $T(super.router, super.context, super.eventBus, super.alwaysLoadComposite))",
+                          moduleImpl);
+    }
+    TypeSpec loadCallback = TypeSpec.anonymousClassBuilder("")
+                                    .addSuperinterface(ClassName.get(ModuleLoadCallback.class))
+                                    .addMethod(MethodSpec.methodBuilder("onSuccess")
+                                                         .addAnnotation(Override.class)
+                                                         .addModifiers(Modifier.PUBLIC)
+                                                         .addStatement("callback.onSuccess(new $T(router, context, eventBus, alwaysLoadComposite))",
+                                                                       moduleImpl)
+                                                         .build())
+                                    .addMethod(MethodSpec.methodBuilder("onFailure")
+                                                         .addAnnotation(Override.class)
+                                                         .addModifiers(Modifier.PUBLIC)
+                                                         .addParameter(ClassName.get(Throwable.class),
+                                                                       "caught")
+                                                         .addStatement("callback.onFailure(caught)")
+                                                         .build())
+                                    .build();
+    return CodeBlock.of("callback -> new $T().load($L)",
+                        ClassName.get(lazyModuleModel.getLoader()
+                                                     .getPackage(),
+                                      lazyModuleModel.getLoader()
+                                                     .getSimpleName()),
+                        loadCallback);
+  }
+
   public static final class Builder {
 
     MetaModel metaModel;
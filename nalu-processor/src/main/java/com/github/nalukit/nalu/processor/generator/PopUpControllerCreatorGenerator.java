@@ -21,7 +21,6 @@ import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.application.IsPopUpControllerCreator;
 import com.github.nalukit.nalu.client.internal.application.PopUpControllerInstance;
 import com.github.nalukit.nalu.processor.ProcessorConstants;
-import com.github.nalukit.nalu.processor.ProcessorException;
 import com.github.nalukit.nalu.processor.model.MetaModel;
 import com.github.nalukit.nalu.processor.model.intern.PopUpControllerModel;
 import com.github.nalukit.nalu.processor.util.BuildWithNaluCommentProvider;
@@ -33,14 +32,10 @@ import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeSpec;
 import org.gwtproject.event.shared.SimpleEventBus;
 
-import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Modifier;
-import java.io.IOException;
 
 public class PopUpControllerCreatorGenerator {
 
-  private ProcessingEnvironment processingEnvironment;
-
   private PopUpControllerModel popUpControllerModel;
 
   @SuppressWarnings("unused")
@@ -48,7 +43,6 @@ public class PopUpControllerCreatorGenerator {
   }
 
   private PopUpControllerCreatorGenerator(Builder builder) {
-    this.processingEnvironment = builder.processingEnvironment;
     this.popUpControllerModel = builder.popUpControllerModel;
   }
 
@@ -56,8 +50,13 @@ public class PopUpControllerCreatorGenerator {
     return new Builder();
   }
 
-  public void generate()
-      throws ProcessorException {
+  /**
+   * Creates the java file of the creator. The generator does not use the
+   * javac API, so the caller can run it in parallel and write the file later.
+   *
+   * @return the java file of the creator
+   */
+  public JavaFile generate() {
     TypeSpec.Builder typeSpec = TypeSpec.classBuilder(popUpControllerModel.getController()
                                                                           .getSimpleName() + ProcessorConstants.CREATOR_IMPL)
                                         .addJavadoc(BuildWithNaluCommentProvider.get()
@@ -122,7 +121,12 @@ public class PopUpControllerCreatorGenerator {
                                                 .addStatement("controller.setName($S)",
                                                               popUpControllerModel.getName())
                                                 .addStatement("sb01.setLength(0)")
-                                                .addStatement("sb01.append(\"controller >>\").append(controller.getClass().getCanonicalName()).append(\"<< --> created and data injected\")")
+                                                .addStatement("controller.setControllerClassName($S)",
+                                                              popUpControllerModel.getController()
+                                                                                  .getClassName())
+                                                .addStatement("sb01.append(\"controller >>$L<< --> created and data injected\")",
+                                                              popUpControllerModel.getController()
+                                                                                  .getClassName())
                                                 .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
                                                               ClassName.get(ClientLogger.class));
     if (popUpControllerModel.isComponentCreator()) {
@@ -156,22 +160,35 @@ public class PopUpControllerCreatorGenerator {
     }
     createMethod.addStatement("component.setController(controller)")
                 .addStatement("sb01.setLength(0)")
-                .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> created and controller instance injected\")")
+                .addStatement("sb01.append(\"component >>$L<< --> created and controller instance injected\")",
+                              popUpControllerModel.getComponent()
+                                                  .getClassName())
                 .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
                               ClassName.get(ClientLogger.class))
                 .addStatement("controller.setComponent(component)")
+                .addStatement("controller.setComponentClassName($S)",
+                              popUpControllerModel.getComponent()
+                                                  .getClassName())
                 .addStatement("sb01.setLength(0)")
-                .addStatement("sb01.append(\"controller >>\").append(controller.getClass().getCanonicalName()).append(\"<< --> instance of >>\").append(component.getClass().getCanonicalName()).append(\"<< injected\")")
+                .addStatement("sb01.append(\"controller >>$L<< --> instance of >>$L<< injected\")",
+                              popUpControllerModel.getController()
+                                                  .getClassName(),
+                              popUpControllerModel.getComponent()
+                                                  .getClassName())
                 .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
                               ClassName.get(ClientLogger.class))
                 .addStatement("component.render()")
                 .addStatement("sb01.setLength(0)")
-                .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> rendered\")")
+                .addStatement("sb01.append(\"component >>$L<< --> rendered\")",
+                              popUpControllerModel.getComponent()
+                                                  .getClassName())
                 .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
                               ClassName.get(ClientLogger.class))
                 .addStatement("component.bind()")
                 .addStatement("sb01.setLength(0)")
-                .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> bound\")")
+                .addStatement("sb01.append(\"component >>$L<< --> bound\")",
+                              popUpControllerModel.getComponent()
+                                                  .getClassName())
                 .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
                               ClassName.get(ClientLogger.class))
                 .addStatement("$T.get().logSimple(\"controller >>$L<< created for event >>$L<<\", 3)",
@@ -297,29 +314,16 @@ public class PopUpControllerCreatorGenerator {
     //    }
     //    typeSpec.addMethod(finishCreateMethod.build());
 
-    JavaFile javaFile = JavaFile.builder(popUpControllerModel.getController()
-                                                             .getPackage(),
-                                         typeSpec.build())
-                                .build();
-    try {
-      //      System.out.println(javaFile.toString());
-      javaFile.writeTo(this.processingEnvironment.getFiler());
-    } catch (IOException e) {
-      throw new ProcessorException("Unable to write generated file: >>" +
-                                   popUpControllerModel.getController()
-                                                       .getSimpleName() +
-                                   ProcessorConstants.CREATOR_IMPL +
-                                   "<< -> exception: " +
-                                   e.getMessage());
-    }
+    return JavaFile.builder(popUpControllerModel.getController()
+                                               .getPackage(),
+                           typeSpec.build())
+                   .build();
   }
 
   public static final class Builder {
 
     MetaModel metaModel;
 
-    ProcessingEnvironment processingEnvironment;
-
     PopUpControllerModel popUpControllerModel;
 
     /**
@@ -333,11 +337,6 @@ public class PopUpControllerCreatorGenerator {
       return this;
     }
 
-    public Builder processingEnvironment(ProcessingEnvironment processingEnvironment) {
-      this.processingEnvironment = processingEnvironment;
-      return this;
-    }
-
     public Builder popUpControllerModel(PopUpControllerModel popUpControllerModel) {
       this.popUpControllerModel = popUpControllerModel;
       return this;
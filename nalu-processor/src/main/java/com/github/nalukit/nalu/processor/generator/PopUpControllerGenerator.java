@@ -54,13 +54,20 @@ public class PopUpControllerGenerator {
                                                                                                     "." +
                                                                                                     popUpControllerModel.getProvider()
                                                                                          .getSimpleName())
-                                                                                        .addStatement("$T.get().registerPopUpController($S, new $L(router, context, eventBus))",
+                                                                                        .addStatement("$T.get().registerPopUpController($S, () -> new $L(router, context, eventBus), $L, $L)",
                                                                        ClassName.get(PopUpControllerFactory.class),
                                                                        popUpControllerModel.getName(),
                                                                        ClassName.get(popUpControllerModel.getController()
                                                                                                          .getPackage(),
                                                                                      popUpControllerModel.getController()
-                                                                                                         .getSimpleName() + ProcessorConstants.CREATOR_IMPL)));
+                                                                                                         .getSimpleName() + ProcessorConstants.CREATOR_IMPL),
+                                                                       popUpControllerModel.isPreload(),
+                                                                       popUpControllerModel.getPoolSize()));
+    if (this.metaModel.getPopUpCacheSize() > 0) {
+      loadPopUpControllerFactoryMethodBuilder.addStatement("$T.get().setCacheSize($L)",
+                                                           ClassName.get(PopUpControllerFactory.class),
+                                                           this.metaModel.getPopUpCacheSize());
+    }
     typeSpec.addMethod(loadPopUpControllerFactoryMethodBuilder.build());
   }
 
@@ -0,0 +1,375 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.processor.generator;
+
+import com.github.nalukit.nalu.client.internal.route.IsRouteMatcher;
+import com.github.nalukit.nalu.client.internal.route.RouteConfig;
+import com.github.nalukit.nalu.processor.model.intern.ControllerModel;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeSpec;
+
+import javax.lang.model.element.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Generates the route matcher of a route table.
+ * <br>
+ * The matcher is a decision tree over the parts of the route. Every
+ * node of the tree becomes a method, that switches over the literal
+ * parts first and tries the parameter ('*') part afterwards. The routes
+ * of the table have to be sorted using {@link #sort(List)}. Because of
+ * the ordering, the first match found inside the tree is the first
+ * matching route of the table.
+ */
+public class RouteMatcherGenerator {
+
+  static final String ROUTE_MATCHER_NAME = "RouteMatcherImpl";
+
+  private static final String PARAMETER = "*";
+
+  /* order: literal parts before parameters, shorter routes before longer ones */
+  static final Comparator<String> SPECIFICITY = (route01, route02) -> {
+    String[] parts01 = RouteMatcherGenerator.split(route01);
+    String[] parts02 = RouteMatcherGenerator.split(route02);
+    for (int i = 0; i < Math.min(parts01.length,
+                                 parts02.length); i++) {
+      if (parts01[i].equals(parts02[i])) {
+        continue;
+      }
+      if (RouteMatcherGenerator.PARAMETER.equals(parts01[i])) {
+        return 1;
+      }
+      if (RouteMatcherGenerator.PARAMETER.equals(parts02[i])) {
+        return -1;
+      }
+      return parts01[i].compareTo(parts02[i]);
+    }
+    return Integer.compare(parts01.length,
+                           parts02.length);
+  };
+
+  private List<String> routes;
+
+  private TypeSpec.Builder typeSpec;
+
+  @SuppressWarnings("unused")
+  private RouteMatcherGenerator() {
+  }
+
+  private RouteMatcherGenerator(Builder builder) {
+    this.routes = builder.routes;
+    this.typeSpec = builder.typeSpec;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Sorts the controllers by the specificity of their routes.
+   * The sort is stable, so controllers using the same route keep
+   * their order.
+   *
+   * @param controllers controllers to sort
+   * @return sorted list of the controllers
+   */
+  static List<ControllerModel> sort(Collection<ControllerModel> controllers) {
+    return controllers.stream()
+                      .sorted(Comparator.comparing(controllerModel -> RouteMatcherGenerator.createRoute(controllerModel.getRoute()),
+                                                   RouteMatcherGenerator.SPECIFICITY))
+                      .collect(Collectors.toList());
+  }
+
+  /**
+   * Creates the expression to create the route config of a controller.
+   * The shells and the route without shell are computed here, so that
+   * the route needs not to be parsed at runtime.
+   *
+   * @param controllerModel the controller
+   * @return code block that creates the route config
+   */
+  static CodeBlock createRouteConfig(ControllerModel controllerModel) {
+    String route = RouteMatcherGenerator.createRoute(controllerModel.getRoute());
+    String value = route.substring(1);
+    String shellOfRoute;
+    String routeWithoutShell;
+    if (value.contains("/")) {
+      shellOfRoute = value.substring(0,
+                                     value.indexOf("/"));
+      routeWithoutShell = value.substring(value.indexOf("/"));
+    } else {
+      shellOfRoute = value;
+      routeWithoutShell = "/";
+    }
+    if (shellOfRoute.startsWith("[")) {
+      shellOfRoute = shellOfRoute.substring(1);
+    }
+    if (shellOfRoute.endsWith("]")) {
+      shellOfRoute = shellOfRoute.substring(0,
+                                            shellOfRoute.length() - 1);
+    }
+    List<String> shells = Arrays.stream(shellOfRoute.split("\\|"))
+                                .map(s -> "/" + s)
+                                .collect(Collectors.toList());
+    return CodeBlock.of("new $T($S, $T.asList(new String[]{$L}), $S, $S, $T.asList(new String[]{$L}), $S)",
+                        ClassName.get(RouteConfig.class),
+                        route,
+                        ClassName.get(Arrays.class),
+                        RouteMatcherGenerator.createStringArray(controllerModel.getParameters()),
+                        controllerModel.getSelector(),
+                        controllerModel.getProvider()
+                                       .getClassName(),
+                        ClassName.get(Arrays.class),
+                        RouteMatcherGenerator.createStringArray(shells),
+                        routeWithoutShell);
+  }
+
+  private static String createRoute(String route) {
+    if (route.startsWith("/")) {
+      return route;
+    } else {
+      return "/" + route;
+    }
+  }
+
+  private static String createStringArray(List<String> values) {
+    return values.stream()
+                 .map(value -> CodeBlock.of("$S",
+                                            value)
+                                        .toString())
+                 .collect(Collectors.joining(", "));
+  }
+
+  /* same as RouterUtils.split */
+  private static String[] split(String route) {
+    if (route.startsWith("/")) {
+      if (route.length() > 1) {
+        return route.substring(1)
+                    .split("/");
+      }
+      return new String[] { "" };
+    } else {
+      return route.split("/");
+    }
+  }
+
+  void generate() {
+    this.typeSpec.addType(this.createRouteMatcher());
+  }
+
+  TypeSpec createRouteMatcher() {
+    Node root = new Node(0);
+    for (int i = 0; i < this.routes.size(); i++) {
+      root.add(RouteMatcherGenerator.split(this.routes.get(i)),
+               i);
+    }
+    // RouterUtils.match returns true for every route in case the route has no parts
+    root.endValue = this.routes.isEmpty() ? IsRouteMatcher.NO_MATCH : 0;
+    // name the nodes first (pre-order), so the methods appear top down
+    List<Node> nodes = new ArrayList<>();
+    root.collect(nodes);
+    for (int i = 0; i < nodes.size(); i++) {
+      nodes.get(i).methodName = "matchNode" + i;
+    }
+
+    TypeSpec.Builder routeMatcher = TypeSpec.classBuilder(RouteMatcherGenerator.ROUTE_MATCHER_NAME)
+                                            .addModifiers(Modifier.STATIC,
+                                                          Modifier.FINAL)
+                                            .addSuperinterface(ClassName.get(IsRouteMatcher.class))
+                                            .addMethod(MethodSpec.methodBuilder("match")
+                                                                 .addAnnotation(Override.class)
+                                                                 .addModifiers(Modifier.PUBLIC)
+                                                                 .returns(int.class)
+                                                                 .addParameter(String[].class,
+                                                                               "parts")
+                                                                 .addParameter(boolean.class,
+                                                                               "usingColonForParametersInUrl")
+                                                                 .addStatement("return $L(parts, usingColonForParametersInUrl)",
+                                                                               root.methodName)
+                                                                 .build());
+    nodes.forEach(node -> routeMatcher.addMethod(this.createNodeMethod(node)));
+    return routeMatcher.build();
+  }
+
+  private MethodSpec createNodeMethod(Node node) {
+    MethodSpec.Builder method = MethodSpec.methodBuilder(node.methodName)
+                                          .addModifiers(Modifier.PRIVATE)
+                                          .returns(int.class)
+                                          .addParameter(String[].class,
+                                                        "parts")
+                                          .addParameter(boolean.class,
+                                                        "usingColonForParametersInUrl")
+                                          .beginControlFlow("if (parts.length == $L)",
+                                                            node.depth)
+                                          .addStatement("return $L",
+                                                        this.createResult(node.endValue))
+                                          .endControlFlow();
+    if (node.literals.isEmpty() && node.parameter == null) {
+      return method.addStatement("return $L",
+                                 this.createResult(IsRouteMatcher.NO_MATCH))
+                   .build();
+    }
+    method.addStatement("String part = parts[$L]",
+                        node.depth);
+    if (!node.literals.isEmpty()) {
+      method.addStatement("int result = $L",
+                          this.createResult(IsRouteMatcher.NO_MATCH))
+            .beginControlFlow("if (!usingColonForParametersInUrl || !part.startsWith(\":\"))")
+            .beginControlFlow("switch (part)");
+      node.literals.forEach((literal, child) -> method.addCode("case $S:\n$>",
+                                                               literal)
+                                                      .addStatement("result = $L(parts, usingColonForParametersInUrl)",
+                                                                    child.methodName)
+                                                      .addStatement("break$<"));
+      method.endControlFlow()
+            .endControlFlow();
+      if (node.parameter == null) {
+        return method.addStatement("return result")
+                     .build();
+      }
+      // literal parts are more specific than parameters
+      method.beginControlFlow("if (result != $L)",
+                              this.createResult(IsRouteMatcher.NO_MATCH))
+            .addStatement("return result")
+            .endControlFlow();
+    }
+    return method.beginControlFlow("if (!usingColonForParametersInUrl || part.startsWith(\":\") || $S.equals(part))",
+                                   RouteMatcherGenerator.PARAMETER)
+                 .addStatement("return $L(parts, usingColonForParametersInUrl)",
+                               node.parameter.methodName)
+                 .endControlFlow()
+                 .addStatement("return $L",
+                               this.createResult(IsRouteMatcher.NO_MATCH))
+                 .build();
+  }
+
+  private CodeBlock createResult(int index) {
+    if (index == IsRouteMatcher.NO_MATCH) {
+      return CodeBlock.of("$T.NO_MATCH",
+                          ClassName.get(IsRouteMatcher.class));
+    }
+    return CodeBlock.of("$L",
+                        index);
+  }
+
+  /* node of the decision tree */
+  private static class Node {
+
+    /* number of parts consumed to reach this node */
+    private int               depth;
+    /* index of the first route, that matches in case the route ends here */
+    private int               endValue;
+    /* children for literal parts (sorted, to get a stable output) */
+    private Map<String, Node> literals;
+    /* child for a parameter part */
+    private Node              parameter;
+    /* name of the generated method */
+    private String            methodName;
+
+    Node(int depth) {
+      this.depth = depth;
+      this.endValue = IsRouteMatcher.NO_MATCH;
+      this.literals = new TreeMap<>();
+    }
+
+    void add(String[] parts,
+             int index) {
+      if (this.endValue == IsRouteMatcher.NO_MATCH && this.onlyParametersFrom(parts)) {
+        this.endValue = index;
+      }
+      if (this.depth == parts.length) {
+        return;
+      }
+      Node child;
+      if (RouteMatcherGenerator.PARAMETER.equals(parts[this.depth])) {
+        if (this.parameter == null) {
+          this.parameter = new Node(this.depth + 1);
+        }
+        child = this.parameter;
+      } else {
+        child = this.literals.computeIfAbsent(parts[this.depth],
+                                              key -> new Node(this.depth + 1));
+      }
+      child.add(parts,
+                index);
+    }
+
+    void collect(List<Node> nodes) {
+      nodes.add(this);
+      this.literals.values()
+                   .forEach(child -> child.collect(nodes));
+      if (this.parameter != null) {
+        this.parameter.collect(nodes);
+      }
+    }
+
+    private boolean onlyParametersFrom(String[] parts) {
+      for (int i = this.depth; i < parts.length; i++) {
+        if (!RouteMatcherGenerator.PARAMETER.equals(parts[i])) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+  }
+
+  public static final class Builder {
+
+    List<String> routes = new ArrayList<>();
+
+    TypeSpec.Builder typeSpec;
+
+    /**
+     * Set the routes of the route table. The routes must be sorted using
+     * {@link RouteMatcherGenerator#sort(List)}.
+     *
+     * @param routes sorted routes
+     * @return the Builder
+     */
+    Builder routes(List<String> routes) {
+      this.routes = routes;
+      return this;
+    }
+
+    /**
+     * Set the typeSpec of the currently generated application or module
+     *
+     * @param typeSpec type spec of the current application or module
+     * @return the Builder
+     */
+    Builder typeSpec(TypeSpec.Builder typeSpec) {
+      this.typeSpec = typeSpec;
+      return this;
+    }
+
+    public RouteMatcherGenerator build() {
+      return new RouteMatcherGenerator(this);
+    }
+
+  }
+
+}
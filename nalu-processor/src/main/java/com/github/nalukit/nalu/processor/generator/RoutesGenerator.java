@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+package com.github.nalukit.nalu.processor.generator;
+
+import com.github.nalukit.nalu.client.model.NaluRoute;
+import com.github.nalukit.nalu.processor.model.intern.ControllerModel;
+import com.github.nalukit.nalu.processor.util.BuildWithNaluCommentProvider;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.TypeSpec;
+
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates the routes class of an application (or module).
+ * <br>
+ * The class contains one method for each controller. The method takes
+ * the parameters of the route and returns a
+ * {@link com.github.nalukit.nalu.client.model.NaluRoute} with the hash
+ * already created from literal parts and parameters, so the router does not
+ * need to parse the route at runtime.
+ */
+public class RoutesGenerator {
+
+  private String packageName;
+
+  private String simpleName;
+
+  private Collection<ControllerModel> controllers;
+
+  @SuppressWarnings("unused")
+  private RoutesGenerator() {
+  }
+
+  private RoutesGenerator(Builder builder) {
+    this.packageName = builder.packageName;
+    this.simpleName = builder.simpleName;
+    this.controllers = builder.controllers;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Creates the java file of the routes class. The generator does not use the
+   * javac API, so the caller can run it in parallel and write the file later.
+   *
+   * @return the java file of the routes class
+   */
+  public JavaFile generate() {
+    TypeSpec.Builder typeSpec = TypeSpec.classBuilder(this.simpleName)
+                                        .addJavadoc(BuildWithNaluCommentProvider.get()
+                                                                                .getGeneratedComment())
+                                        .addModifiers(Modifier.PUBLIC,
+                                                      Modifier.FINAL)
+                                        .addMethod(MethodSpec.constructorBuilder()
+                                                             .addModifiers(Modifier.PRIVATE)
+                                                             .build());
+    Set<String> methodNames = new HashSet<>();
+    this.controllers.stream()
+                    .sorted(Comparator.comparing(model -> model.getController()
+                                                               .getClassName()))
+                    .forEach(model -> typeSpec.addMethod(this.generateRouteMethod(model,
+                                                                                  methodNames)));
+    return JavaFile.builder(this.packageName,
+                           typeSpec.build())
+                   .build();
+  }
+
+  private MethodSpec generateRouteMethod(ControllerModel model,
+                                         Set<String> methodNames) {
+    String simpleControllerName = model.getController()
+                                       .getSimpleName();
+    if (simpleControllerName.endsWith("Controller") && simpleControllerName.length() > "Controller".length()) {
+      simpleControllerName = simpleControllerName.substring(0,
+                                                            simpleControllerName.length() - "Controller".length());
+    }
+    MethodSpec.Builder method = MethodSpec.methodBuilder(this.createIdentifier(Character.toLowerCase(simpleControllerName.charAt(0)) + simpleControllerName.substring(1),
+                                                                               methodNames))
+                                          .addJavadoc("Creates the route of controller {@link $T}.\n",
+                                                      ClassName.get(model.getController()
+                                                                         .getPackage(),
+                                                                    model.getController()
+                                                                         .getSimpleName()))
+                                          .addJavadoc("<br>\n")
+                                          .addJavadoc("route: $L\n",
+                                                      model.getOriginalRoute()
+                                                           .replace("*",
+                                                                    "&#42;"))
+                                          .addModifiers(Modifier.PUBLIC,
+                                                        Modifier.STATIC)
+                                          .returns(ClassName.get(NaluRoute.class));
+    // literal parts of the route are merged, parameters become method parameters
+    RouteBuilder route = new RouteBuilder("/");
+    RouteBuilder hash = new RouteBuilder("");
+    List<String> parameters = new ArrayList<>();
+    Set<String> parameterNames = new HashSet<>();
+    String[] parts = this.getParts(model.getOriginalRoute());
+    for (int i = 0; i < parts.length; i++) {
+      String part = parts[i];
+      if (i == 0 && ("*".equals(part) || part.startsWith("["))) {
+        // the route can be used with more than one shell ...
+        String name = this.createIdentifier("shell",
+                                            parameterNames);
+        this.addParameter(method,
+                          name,
+                          "the shell to use");
+        route.addParameter(CodeBlock.of("$N",
+                                        name),
+                           i);
+        hash.addParameter(CodeBlock.of("$N",
+                                       name),
+                          i);
+      } else if ("*".equals(part) || part.startsWith(":")) {
+        String name = this.createIdentifier(part.length() > 1 ? part.substring(1) : "parameter" + (parameters.size() + 1),
+                                            parameterNames);
+        this.addParameter(method,
+                          name,
+                          "value of the parameter");
+        parameters.add(name);
+        route.addLiteral("*",
+                         i);
+        hash.addParameter(CodeBlock.of("$T.parameter($N)",
+                                       ClassName.get(NaluRoute.class),
+                                       name),
+                          i);
+      } else {
+        route.addLiteral(part,
+                         i);
+        hash.addLiteral(part,
+                        i);
+      }
+    }
+    CodeBlock parameterArray = parameters.isEmpty() ? CodeBlock.of("new $T[0]",
+                                                                   ClassName.get(String.class)) : CodeBlock.of("new $T[] { $L }",
+                                                                                                               ClassName.get(String.class),
+                                                                                                               String.join(", ",
+                                                                                                                           parameters));
+    return method.addStatement("return new $T($L, $L, $L)",
+                               ClassName.get(NaluRoute.class),
+                               route.build(),
+                               parameterArray,
+                               hash.build())
+                 .build();
+  }
+
+  private String[] getParts(String originalRoute) {
+    String route = originalRoute.startsWith("/") ? originalRoute.substring(1) : originalRoute;
+    if (route.isEmpty()) {
+      return new String[0];
+    }
+    return route.split("/");
+  }
+
+  private void addParameter(MethodSpec.Builder method,
+                            String name,
+                            String description) {
+    method.addParameter(ParameterSpec.builder(ClassName.get(String.class),
+                                              name)
+                                     .build())
+          .addJavadoc("@param $L $L\n",
+                      name,
+                      description);
+  }
+
+  private String createIdentifier(String value,
+                                  Set<String> usedNames) {
+    StringBuilder sb = new StringBuilder();
+    for (char c : value.toCharArray()) {
+      sb.append(Character.isJavaIdentifierPart(c) ? c : '_');
+    }
+    if (sb.length() == 0 || !Character.isJavaIdentifierStart(sb.charAt(0))) {
+      sb.insert(0,
+                '_');
+    }
+    String identifier = sb.toString();
+    if (!SourceVersion.isName(identifier)) {
+      identifier = identifier + "_";
+    }
+    String name = identifier;
+    for (int i = 2; usedNames.contains(name); i++) {
+      name = identifier + i;
+    }
+    usedNames.add(name);
+    return name;
+  }
+
+  /**
+   * Collects the parts of a route and creates one concatenation
+   * with all literal parts merged.
+   */
+  private static class RouteBuilder {
+
+    private final List<CodeBlock> parts = new ArrayList<>();
+
+    private final StringBuilder literal;
+
+    private RouteBuilder(String prefix) {
+      this.literal = new StringBuilder(prefix);
+    }
+
+    private void addLiteral(String value,
+                            int index) {
+      this.addDelimiter(index);
+      this.literal.append(value);
+    }
+
+    private void addParameter(CodeBlock value,
+                              int index) {
+      this.addDelimiter(index);
+      this.flush();
+      this.parts.add(value);
+    }
+
+    private void addDelimiter(int index) {
+      if (index > 0) {
+        this.literal.append("/");
+      }
+    }
+
+    private void flush() {
+      if (this.literal.length() > 0) {
+        this.parts.add(CodeBlock.of("$S",
+                                    this.literal.toString()));
+        this.literal.setLength(0);
+      }
+    }
+
+    private CodeBlock build() {
+      this.flush();
+      if (this.parts.isEmpty()) {
+        return CodeBlock.of("$S",
+                            "");
+      }
+      return CodeBlock.join(this.parts,
+                            " + ");
+    }
+
+  }
+
+  public static final class Builder {
+
+    String packageName;
+
+    String simpleName;
+
+    Collection<ControllerModel> controllers;
+
+    public Builder packageName(String packageName) {
+      this.packageName = packageName;
+      return this;
+    }
+
+    public Builder simpleName(String simpleName) {
+      this.simpleName = simpleName;
+      return this;
+    }
+
+    public Builder controllers(Collection<ControllerModel> controllers) {
+      this.controllers = controllers;
+      return this;
+    }
+
+    public RoutesGenerator build() {
+      return new RoutesGenerator(this);
+    }
+
+  }
+
+}
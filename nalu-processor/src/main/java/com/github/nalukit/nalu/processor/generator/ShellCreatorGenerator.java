@@ -22,7 +22,6 @@ import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.application.IsShellCreator;
 import com.github.nalukit.nalu.client.internal.application.ShellInstance;
 import com.github.nalukit.nalu.processor.ProcessorConstants;
-import com.github.nalukit.nalu.processor.ProcessorException;
 import com.github.nalukit.nalu.processor.model.MetaModel;
 import com.github.nalukit.nalu.processor.model.intern.ShellModel;
 import com.github.nalukit.nalu.processor.util.BuildWithNaluCommentProvider;
@@ -34,14 +33,10 @@ import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeSpec;
 import org.gwtproject.event.shared.SimpleEventBus;
 
-import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Modifier;
-import java.io.IOException;
 
 public class ShellCreatorGenerator {
 
-  private ProcessingEnvironment processingEnvironment;
-
   private ShellModel shellModel;
 
   @SuppressWarnings("unused")
@@ -49,7 +44,6 @@ public class ShellCreatorGenerator {
   }
 
   private ShellCreatorGenerator(Builder builder) {
-    this.processingEnvironment = builder.processingEnvironment;
     this.shellModel = builder.shellModel;
   }
 
@@ -57,8 +51,13 @@ public class ShellCreatorGenerator {
     return new Builder();
   }
 
-  public void generate()
-      throws ProcessorException {
+  /**
+   * Creates the java file of the creator. The generator does not use the
+   * javac API, so the caller can run it in parallel and write the file later.
+   *
+   * @return the java file of the creator
+   */
+  public JavaFile generate() {
     TypeSpec.Builder typeSpec = TypeSpec.classBuilder(shellModel.getShell()
                                                                 .getSimpleName() + ProcessorConstants.CREATOR_IMPL)
                                         .addJavadoc(BuildWithNaluCommentProvider.get()
@@ -117,6 +116,9 @@ public class ShellCreatorGenerator {
                                                 .addStatement("shell.setContext(context)")
                                                 .addStatement("shell.setEventBus(eventBus)")
                                                 .addStatement("shell.setRouter(router)")
+                                                .addStatement("shell.setShellClassName($S)",
+                                                              this.shellModel.getShell()
+                                                                             .getClassName())
                                                 .addStatement("sb01.setLength(0)")
                                                 .addStatement("sb01.append(\"shell >>$L<< --> created and data injected\")",
                                                               this.shellModel.getShell()
@@ -147,28 +149,16 @@ public class ShellCreatorGenerator {
 
     typeSpec.addMethod(finishCreateMethod.build());
 
-    JavaFile javaFile = JavaFile.builder(this.shellModel.getShell()
-                                                        .getPackage(),
-                                         typeSpec.build())
-                                .build();
-    try {
-      javaFile.writeTo(this.processingEnvironment.getFiler());
-    } catch (IOException e) {
-      throw new ProcessorException("Unable to write generated file: >>" +
-                                   this.shellModel.getShell()
-                                                  .getClassName() +
-                                   ProcessorConstants.CREATOR_IMPL +
-                                   "<< -> exception: " +
-                                   e.getMessage());
-    }
+    return JavaFile.builder(this.shellModel.getShell()
+                                          .getPackage(),
+                           typeSpec.build())
+                   .build();
   }
 
   public static final class Builder {
 
     MetaModel metaModel;
 
-    ProcessingEnvironment processingEnvironment;
-
     ShellModel shellModel;
 
     /**
@@ -182,11 +172,6 @@ public class ShellCreatorGenerator {
       return this;
     }
 
-    public Builder processingEnvironment(ProcessingEnvironment processingEnvironment) {
-      this.processingEnvironment = processingEnvironment;
-      return this;
-    }
-
     public Builder shellModel(ShellModel shellModel) {
       this.shellModel = shellModel;
       return this;
@@ -92,7 +92,7 @@ public class ShellGenerator {
                                                              "." +
                                                              shellModel.getShell()
                                                                        .getSimpleName())
-                                                 .addStatement("$T.get().registerShell($S, new $L(router, context, eventBus))",
+                                                 .addStatement("$T.get().registerShell($S, () -> new $L(router, context, eventBus))",
                                                                ClassName.get(ShellFactory.class),
                                                                shellModel.getShell()
                                                                          .getPackage() +
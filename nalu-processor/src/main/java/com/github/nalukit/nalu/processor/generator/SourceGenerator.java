@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+
+package com.github.nalukit.nalu.processor.generator;
+
+import com.github.nalukit.nalu.processor.ProcessorException;
+import com.github.nalukit.nalu.processor.model.intern.ClassNameModel;
+import com.squareup.javapoet.JavaFile;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * Generates a batch of source files.
+ * <p>
+ * The generators of a batch only work on the already scanned models and
+ * do not use the javac API. So the java files are created and rendered in
+ * parallel using a fork-join pool. Afterwards the sources are written
+ * through the filer one by one in the order they were added to the batch.
+ * This keeps the output deterministic.
+ */
+public class SourceGenerator {
+
+  /* batches smaller than the threshold are generated sequentially */
+  private static final int PARALLEL_THRESHOLD = 4;
+
+  private final ProcessingEnvironment processingEnvironment;
+
+  private final ForkJoinPool pool;
+
+  /* sources of the batch in order they were added */
+  private final List<Source> sources;
+
+  private SourceGenerator(Builder builder) {
+    super();
+    this.processingEnvironment = builder.processingEnvironment;
+    this.pool = Objects.isNull(builder.pool) ? ForkJoinPool.commonPool() : builder.pool;
+    this.sources = new ArrayList<>();
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Adds a source to the batch. The originating element is resolved
+   * here, because the javac API must not be used while generating.
+   *
+   * @param originatingClass the class the source is created from
+   * @param task             creates the java file of the source
+   */
+  public void add(ClassNameModel originatingClass,
+                  Task task) {
+    TypeElement originatingElement = null;
+    if (!Objects.isNull(originatingClass)) {
+      originatingElement = this.processingEnvironment.getElementUtils()
+                                                     .getTypeElement(originatingClass.getClassName());
+    }
+    this.sources.add(new Source(originatingElement,
+                                task));
+  }
+
+  /**
+   * @return number of sources of the batch
+   */
+  public int size() {
+    return this.sources.size();
+  }
+
+  /**
+   * Generates all sources of the batch and writes them.
+   *
+   * @throws ProcessorException in case generating or writing of a source fails
+   */
+  public void generate()
+      throws ProcessorException {
+    if (this.sources.isEmpty()) {
+      return;
+    }
+    if (this.sources.size() < SourceGenerator.PARALLEL_THRESHOLD) {
+      for (Source source : this.sources) {
+        source.render();
+      }
+    } else {
+      this.renderParallel();
+    }
+    for (Source source : this.sources) {
+      this.write(source);
+    }
+    this.sources.clear();
+  }
+
+  private void renderParallel()
+      throws ProcessorException {
+    try {
+      this.pool.submit(() -> this.sources.parallelStream()
+                                         .map(Source::renderUnchecked)
+                                         .collect(Collectors.toList()))
+               .get();
+    } catch (InterruptedException e) {
+      Thread.currentThread()
+            .interrupt();
+      throw new ProcessorException("Nalu-Processor: generating sources interrupted",
+                                   e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof GenerationException) {
+        throw ((GenerationException) cause).getProcessorException();
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      } else if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new ProcessorException("Nalu-Processor: unable to generate sources",
+                                   cause);
+    }
+  }
+
+  private void write(Source source)
+      throws ProcessorException {
+    String fileName = source.javaFile.packageName.isEmpty() ? source.javaFile.typeSpec.name : source.javaFile.packageName + "." + source.javaFile.typeSpec.name;
+    Element[] originatingElements = Objects.isNull(source.originatingElement) ? new Element[0] : new Element[] { source.originatingElement };
+    try {
+      JavaFileObject fileObject = this.processingEnvironment.getFiler()
+                                                            .createSourceFile(fileName,
+                                                                              originatingElements);
+      try (Writer writer = fileObject.openWriter()) {
+        writer.write(source.content);
+      }
+    } catch (IOException e) {
+      throw new ProcessorException("Unable to write generated file: >>" +
+                                   fileName +
+                                   "<< -> exception: " +
+                                   e.getMessage());
+    }
+  }
+
+  @FunctionalInterface
+  public interface Task {
+
+    JavaFile create()
+        throws ProcessorException;
+
+  }
+
+  private static class Source {
+
+    private final TypeElement originatingElement;
+
+    private final Task task;
+
+    private JavaFile javaFile;
+
+    private String content;
+
+    private Source(TypeElement originatingElement,
+                   Task task) {
+      this.originatingElement = originatingElement;
+      this.task = task;
+    }
+
+    private void render()
+        throws ProcessorException {
+      this.javaFile = this.task.create();
+      this.content = this.javaFile.toString();
+    }
+
+    private Source renderUnchecked() {
+      try {
+        this.render();
+      } catch (ProcessorException e) {
+        throw new GenerationException(e);
+      }
+      return this;
+    }
+
+  }
+
+  @SuppressWarnings("serial")
+  private static class GenerationException
+      extends RuntimeException {
+
+    private GenerationException(ProcessorException cause) {
+      super(cause);
+    }
+
+    private ProcessorException getProcessorException() {
+      return (ProcessorException) this.getCause();
+    }
+
+  }
+
+  public static class Builder {
+
+    ProcessingEnvironment processingEnvironment;
+
+    ForkJoinPool pool;
+
+    public Builder processingEnvironment(ProcessingEnvironment processingEnvironment) {
+      this.processingEnvironment = processingEnvironment;
+      return this;
+    }
+
+    /**
+     * Sets the pool used to generate the sources. In case no pool is set,
+     * the common pool is used.
+     *
+     * @param pool the fork-join pool
+     * @return the builder
+     */
+    public Builder pool(ForkJoinPool pool) {
+      this.pool = pool;
+      return this;
+    }
+
+    public SourceGenerator build() {
+      return new SourceGenerator(this);
+    }
+
+  }
+
+}
@@ -19,15 +19,23 @@ package com.github.nalukit.nalu.processor.model;
 import com.github.nalukit.nalu.processor.model.intern.BlockControllerModel;
 import com.github.nalukit.nalu.processor.model.intern.ClassNameModel;
 import com.github.nalukit.nalu.processor.model.intern.CompositeModel;
+import com.github.nalukit.nalu.processor.model.intern.ControllerCompositeModel;
 import com.github.nalukit.nalu.processor.model.intern.ControllerModel;
 import com.github.nalukit.nalu.processor.model.intern.ErrorPopUpControllerModel;
+import com.github.nalukit.nalu.processor.model.intern.LazyModuleModel;
 import com.github.nalukit.nalu.processor.model.intern.ModuleModel;
 import com.github.nalukit.nalu.processor.model.intern.PopUpControllerModel;
 import com.github.nalukit.nalu.processor.model.intern.ShellModel;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Predicate;
 
 public class MetaModel {
 
@@ -43,18 +51,25 @@ public class MetaModel {
 
   private List<ClassNameModel> modules;
 
+  private List<LazyModuleModel> lazyModules;
+
   private boolean usingHash;
 
   private boolean usingColonForParametersInUrl;
 
   private boolean stayOnSide;
 
+  private int popUpCacheSize;
+
   /* this model represents the plugin interface */
   /* is the model not null, we have to deal     */
   /* with a a plugin and not with application  */
   private ModuleModel moduleModel;
 
-  private List<ShellModel> shells;
+  /* models are stored in maps using the class    */
+  /* name as key, so merging them stays linear.    */
+  /* The insertion order is the generation order.  */
+  private LinkedHashMap<String, ShellModel> shells;
 
   private ClassNameModel context;
 
@@ -74,33 +89,44 @@ public class MetaModel {
 
   private ClassNameModel debugLogger;
 
-  private List<ControllerModel> controllers;
+  private LinkedHashMap<String, ControllerModel> controllers;
 
-  private List<BlockControllerModel> blockControllers;
+  private LinkedHashMap<String, BlockControllerModel> blockControllers;
 
-  private List<PopUpControllerModel> popUpControllers;
+  private LinkedHashMap<String, PopUpControllerModel> popUpControllers;
 
-  private List<ClassNameModel> filters;
+  private LinkedHashMap<String, ClassNameModel> filters;
 
-  private List<ClassNameModel> handlers;
+  private LinkedHashMap<String, ClassNameModel> handlers;
 
   private ClassNameModel componentType;
 
-  private List<CompositeModel> compositeModels;
+  private LinkedHashMap<String, CompositeModel> compositeModels;
 
   /* flag, that indicates, if a Nalu application */
   /* uses a history token or not.                */
   private boolean history;
 
+  /* index of the controllers using a composite   */
+  /* (key: class name of the composite). The      */
+  /* index is not stored and created on first use */
+  private transient Map<String, List<ControllerModel>> controllersByComposite;
+
+  /* index of the shells (key: name of the shell). */
+  /* The index is not stored and created on first  */
+  /* use                                           */
+  private transient Map<String, ShellModel> shellsByName;
+
   public MetaModel() {
     this.modules = new ArrayList<>();
-    this.shells = new ArrayList<>();
-    this.controllers = new ArrayList<>();
-    this.blockControllers = new ArrayList<>();
-    this.popUpControllers = new ArrayList<>();
-    this.filters = new ArrayList<>();
-    this.handlers = new ArrayList<>();
-    this.compositeModels = new ArrayList<>();
+    this.lazyModules = new ArrayList<>();
+    this.shells = new LinkedHashMap<>();
+    this.controllers = new LinkedHashMap<>();
+    this.blockControllers = new LinkedHashMap<>();
+    this.popUpControllers = new LinkedHashMap<>();
+    this.filters = new LinkedHashMap<>();
+    this.handlers = new LinkedHashMap<>();
+    this.compositeModels = new LinkedHashMap<>();
   }
 
   public ModuleModel getModuleModel() {
@@ -178,44 +204,107 @@ public class MetaModel {
     this.debugLogger = debugLogger;
   }
 
-  public List<ControllerModel> getControllers() {
-    return controllers;
+  public Collection<ControllerModel> getControllers() {
+    return Collections.unmodifiableCollection(this.controllers.values());
+  }
+
+  public void addController(ControllerModel model) {
+    this.put(this.controllers,
+             model.getController()
+                  .getClassName(),
+             model);
+    this.controllersByComposite = null;
+  }
+
+  public void removeControllersIf(Predicate<ControllerModel> filter) {
+    this.controllers.values()
+                    .removeIf(filter);
+    this.controllersByComposite = null;
+  }
+
+  /**
+   * Returns the controllers using the composite. A controller is
+   * returned once for every composite of the controller using it.
+   *
+   * @param compositeClassName class name of the composite
+   * @return list of controllers using the composite
+   */
+  public List<ControllerModel> getControllersUsingComposite(String compositeClassName) {
+    if (Objects.isNull(this.controllersByComposite)) {
+      this.controllersByComposite = new HashMap<>();
+      for (ControllerModel controllerModel : this.controllers.values()) {
+        for (ControllerCompositeModel controllerCompositeModel : controllerModel.getComposites()) {
+          this.controllersByComposite.computeIfAbsent(controllerCompositeModel.getComposite()
+                                                                              .getClassName(),
+                                                      v -> new ArrayList<>())
+                                     .add(controllerModel);
+        }
+      }
+    }
+    return Collections.unmodifiableList(this.controllersByComposite.getOrDefault(compositeClassName,
+                                                                                 Collections.emptyList()));
+  }
+
+  public Collection<BlockControllerModel> getBlockControllers() {
+    return Collections.unmodifiableCollection(this.blockControllers.values());
   }
 
-  public void setControllers(List<ControllerModel> controllers) {
-    this.controllers = controllers;
+  public void addBlockController(BlockControllerModel model) {
+    this.put(this.blockControllers,
+             model.getController()
+                  .getClassName(),
+             model);
   }
 
-  public List<BlockControllerModel> getBlockControllers() {
-    return blockControllers;
+  public void removeBlockControllersIf(Predicate<BlockControllerModel> filter) {
+    this.blockControllers.values()
+                         .removeIf(filter);
   }
 
-  public void setBlockControllers(List<BlockControllerModel> blockControllers) {
-    this.blockControllers = blockControllers;
+  public Collection<PopUpControllerModel> getPopUpControllers() {
+    return Collections.unmodifiableCollection(this.popUpControllers.values());
   }
 
-  public List<PopUpControllerModel> getPopUpControllers() {
-    return popUpControllers;
+  public void addPopUpController(PopUpControllerModel model) {
+    this.put(this.popUpControllers,
+             model.getController()
+                  .getClassName(),
+             model);
   }
 
-  public void setPopUpControllers(List<PopUpControllerModel> popUpControllers) {
-    this.popUpControllers = popUpControllers;
+  public void removePopUpControllersIf(Predicate<PopUpControllerModel> filter) {
+    this.popUpControllers.values()
+                         .removeIf(filter);
   }
 
-  public List<ClassNameModel> getFilters() {
-    return filters;
+  public Collection<ClassNameModel> getFilters() {
+    return Collections.unmodifiableCollection(this.filters.values());
   }
 
-  public void setFilters(List<ClassNameModel> filters) {
-    this.filters = filters;
+  public void addFilter(ClassNameModel model) {
+    this.put(this.filters,
+             model.getClassName(),
+             model);
   }
 
-  public List<ClassNameModel> getHandlers() {
-    return handlers;
+  public void removeFiltersIf(Predicate<ClassNameModel> filter) {
+    this.filters.values()
+                .removeIf(filter);
   }
 
-  public void setHandlers(List<ClassNameModel> handlers) {
-    this.handlers = handlers;
+  public Collection<ClassNameModel> getHandlers() {
+    return Collections.unmodifiableCollection(this.handlers.values());
+  }
+
+  public void addHandler(ClassNameModel model) {
+    this.put(this.handlers,
+             model.getClassName(),
+             model);
+  }
+
+  public void removeHandlersIf(Predicate<ClassNameModel> filter) {
+    this.handlers.values()
+                 .removeIf(filter);
   }
 
   public ClassNameModel getComponentType() {
@@ -234,12 +323,55 @@ public class MetaModel {
     this.errorPopUpController = errorPopUpController;
   }
 
-  public List<CompositeModel> getCompositeModels() {
-    return compositeModels;
+  public Collection<CompositeModel> getCompositeModels() {
+    return Collections.unmodifiableCollection(this.compositeModels.values());
+  }
+
+  public void addCompositeModel(CompositeModel model) {
+    this.put(this.compositeModels,
+             model.getProvider()
+                  .getClassName(),
+             model);
   }
 
-  public List<ShellModel> getShells() {
-    return shells;
+  public void removeCompositeModelsIf(Predicate<CompositeModel> filter) {
+    this.compositeModels.values()
+                        .removeIf(filter);
+  }
+
+  public Collection<ShellModel> getShells() {
+    return Collections.unmodifiableCollection(this.shells.values());
+  }
+
+  public void addShell(ShellModel model) {
+    this.put(this.shells,
+             model.getShell()
+                  .getClassName(),
+             model);
+    this.shellsByName = null;
+  }
+
+  public void removeShellsIf(Predicate<ShellModel> filter) {
+    this.shells.values()
+               .removeIf(filter);
+    this.shellsByName = null;
+  }
+
+  /**
+   * Returns the shell using the name or null, in case there is no
+   * shell with this name.
+   *
+   * @param name name of the shell
+   * @return shell model or null
+   */
+  public ShellModel getShell(String name) {
+    if (Objects.isNull(this.shellsByName)) {
+      this.shellsByName = new HashMap<>();
+      this.shells.values()
+                 .forEach(shellModel -> this.shellsByName.putIfAbsent(shellModel.getName(),
+                                                                      shellModel));
+    }
+    return this.shellsByName.get(name);
   }
 
   public boolean hasPluginsAnnotation() {
@@ -251,11 +383,64 @@ public class MetaModel {
   }
 
   public List<ClassNameModel> getModules() {
-    return modules;
+    return Collections.unmodifiableList(this.modules);
   }
 
   public void setModules(List<ClassNameModel> modules) {
-    this.modules = modules;
+    this.modules = new ArrayList<>(modules);
+  }
+
+  public List<LazyModuleModel> getLazyModules() {
+    return Collections.unmodifiableList(this.lazyModules);
+  }
+
+  public void setLazyModules(List<LazyModuleModel> lazyModules) {
+    this.lazyModules = new ArrayList<>(lazyModules);
+  }
+
+  /**
+   * Removes the modules matching the filter. In case a removed module
+   * is lazy, the lazy module model gets removed too.
+   *
+   * @param filter filter to select the modules to remove
+   */
+  public void removeModulesIf(Predicate<ClassNameModel> filter) {
+    this.modules.removeIf(filter);
+    this.lazyModules.removeIf(model -> filter.test(model.getModule()));
+  }
+
+  /**
+   * Returns the lazy module model of the module or null,
+   * in case the module is not lazy.
+   *
+   * @param module module to look for
+   * @return lazy module model or null
+   */
+  public LazyModuleModel getLazyModule(ClassNameModel module) {
+    return this.lazyModules.stream()
+                           .filter(m -> m.getModule()
+                                         .getClassName()
+                                         .equals(module.getClassName()))
+                           .findFirst()
+                           .orElse(null);
+  }
+
+  /**
+   * Adds the model using the class name as key. In case there is already
+   * a model with the same key, the old one gets removed and the new one
+   * is added at the end, so the model moves to the end of the generation order.
+   *
+   * @param models    map of models
+   * @param className class name of the model (key)
+   * @param model     the model to add
+   * @param <T>       type of the model
+   */
+  private <T> void put(Map<String, T> models,
+                       String className,
+                       T model) {
+    models.remove(className);
+    models.put(className,
+               model);
   }
 
   public boolean isUsingHash() {
@@ -282,6 +467,14 @@ public class MetaModel {
     this.stayOnSide = stayOnSide;
   }
 
+  public int getPopUpCacheSize() {
+    return popUpCacheSize;
+  }
+
+  public void setPopUpCacheSize(int popUpCacheSize) {
+    this.popUpCacheSize = popUpCacheSize;
+  }
+
   public ClassNameModel getCustomAlertPresenter() {
     return customAlertPresenter;
   }
@@ -26,6 +26,7 @@ public class BlockControllerModel {
   private ClassNameModel provider;
   private boolean        componentCreator;
   private ClassNameModel conndition;
+  private boolean        preload;
 
   public BlockControllerModel(String name,
                               ClassNameModel context,
@@ -34,7 +35,8 @@ public class BlockControllerModel {
                               ClassNameModel component,
                               ClassNameModel provider,
                               boolean componentCreator,
-                              ClassNameModel condition) {
+                              ClassNameModel condition,
+                              boolean preload) {
     this.name = name;
     this.context = context;
     this.controller = controller;
@@ -43,6 +45,7 @@ public class BlockControllerModel {
     this.provider = provider;
     this.componentCreator = componentCreator;
     this.conndition = condition;
+    this.preload = preload;
   }
 
   public String getName() {
@@ -109,4 +112,12 @@ public class BlockControllerModel {
     this.conndition = conndition;
   }
 
+  public boolean isPreload() {
+    return preload;
+  }
+
+  public void setPreload(boolean preload) {
+    this.preload = preload;
+  }
+
 }
@@ -23,17 +23,20 @@ public class ControllerCompositeModel {
   private ClassNameModel composite;
   private String         selector;
   private boolean        scopeGlobal;
+  private boolean        lazy;
 
   public ControllerCompositeModel(String name,
                                   ClassNameModel composite,
                                   String selector,
                                   ClassNameModel condition,
-                                  boolean scopeGlobal) {
+                                  boolean scopeGlobal,
+                                  boolean lazy) {
     this.name = name;
     this.composite = composite;
     this.selector = selector;
     this.condition = condition;
     this.scopeGlobal = scopeGlobal;
+    this.lazy = lazy;
   }
 
   public String getName() {
@@ -56,4 +59,8 @@ public class ControllerCompositeModel {
     return scopeGlobal;
   }
 
+  public boolean isLazy() {
+    return lazy;
+  }
+
 }
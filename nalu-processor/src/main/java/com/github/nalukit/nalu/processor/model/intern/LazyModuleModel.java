@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.processor.model.intern;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Model of a lazy module.
+ */
+public class LazyModuleModel {
+
+  private ClassNameModel module;
+
+  private List<String> routes;
+
+  private ClassNameModel loader;
+
+  public LazyModuleModel(ClassNameModel module,
+                         List<String> routes,
+                         ClassNameModel loader) {
+    this.module = module;
+    this.routes = new ArrayList<>(routes);
+    this.loader = loader;
+  }
+
+  public ClassNameModel getModule() {
+    return module;
+  }
+
+  public void setModule(ClassNameModel module) {
+    this.module = module;
+  }
+
+  public List<String> getRoutes() {
+    return routes;
+  }
+
+  public void setRoutes(List<String> routes) {
+    this.routes = routes;
+  }
+
+  public ClassNameModel getLoader() {
+    return loader;
+  }
+
+  public void setLoader(ClassNameModel loader) {
+    this.loader = loader;
+  }
+
+}
@@ -32,13 +32,19 @@ public class PopUpControllerModel {
 
   private boolean componentCreator;
 
+  private boolean preload;
+
+  private int poolSize;
+
   public PopUpControllerModel(String name,
                               ClassNameModel context,
                               ClassNameModel controller,
                               ClassNameModel componentInterface,
                               ClassNameModel component,
                               ClassNameModel provider,
-                              boolean componentCreator) {
+                              boolean componentCreator,
+                              boolean preload,
+                              int poolSize) {
     this.name = name;
     this.context = context;
     this.controller = controller;
@@ -46,6 +52,8 @@ public class PopUpControllerModel {
     this.component = component;
     this.provider = provider;
     this.componentCreator = componentCreator;
+    this.preload = preload;
+    this.poolSize = poolSize;
   }
 
   public String getName() {
@@ -104,4 +112,20 @@ public class PopUpControllerModel {
     this.componentCreator = componentCreator;
   }
 
+  public boolean isPreload() {
+    return preload;
+  }
+
+  public void setPreload(boolean preload) {
+    this.preload = preload;
+  }
+
+  public int getPoolSize() {
+    return poolSize;
+  }
+
+  public void setPoolSize(int poolSize) {
+    this.poolSize = poolSize;
+  }
+
 }
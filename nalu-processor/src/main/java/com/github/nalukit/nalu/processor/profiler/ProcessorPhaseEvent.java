@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.processor.profiler;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.github.nalukit.nalu.ProcessorPhase")
+@Label("Nalu Processor Phase")
+@Description("A phase of the Nalu annotation processor")
+@Category({ "Nalu",
+            "Processor" })
+class ProcessorPhaseEvent
+    extends Event {
+
+  @Label("Phase")
+  String phase;
+
+  @Label("Elements")
+  int elements;
+
+  static boolean isRecording() {
+    return FlightRecorder.isInitialized() &&
+           !FlightRecorder.getFlightRecorder()
+                          .getRecordings()
+                          .isEmpty();
+  }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.processor.profiler;
+
+/**
+ * Emits the phases of the processor as JFR events.
+ * <p>
+ * The JFR API is not available on every Java 8 runtime. Therefore the
+ * event class is only touched, after it is known, that JFR is available.
+ */
+class ProcessorPhaseEventEmitter {
+
+  private ProcessorPhaseEventEmitter() {
+  }
+
+  static boolean isRecording() {
+    try {
+      Class.forName("jdk.jfr.FlightRecorder");
+      return ProcessorPhaseEvent.isRecording();
+    } catch (ClassNotFoundException | LinkageError | IllegalStateException | SecurityException e) {
+      // no JFR available
+      return false;
+    }
+  }
+
+  static Object begin() {
+    ProcessorPhaseEvent event = new ProcessorPhaseEvent();
+    event.begin();
+    return event;
+  }
+
+  static void commit(Object event,
+                     String phase,
+                     int elements) {
+    ProcessorPhaseEvent processorPhaseEvent = (ProcessorPhaseEvent) event;
+    processorPhaseEvent.end();
+    if (processorPhaseEvent.shouldCommit()) {
+      processorPhaseEvent.phase = phase;
+      processorPhaseEvent.elements = elements;
+      processorPhaseEvent.commit();
+    }
+  }
+
+}
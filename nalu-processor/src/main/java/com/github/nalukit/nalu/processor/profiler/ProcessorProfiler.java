@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.processor.profiler;
+
+import com.github.nalukit.nalu.processor.ProcessorConstants;
+import com.github.nalukit.nalu.processor.ProcessorException;
+import com.google.gson.GsonBuilder;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Records time and element count of the phases of the processor.
+ * <p>
+ * The profiler is enabled with the processor option
+ * <code>-Analu.profile=true</code>. In this case the report is written to
+ * <code>META-INF/nalu-route/nalu-profile.json</code> in the class output.
+ * In case a Flight Recording is active, every phase is also emitted as a
+ * JFR event ('com.github.nalukit.nalu.ProcessorPhase').
+ */
+public class ProcessorProfiler {
+
+  public static final String OPTION = "nalu.profile";
+
+  public static final String REPORT_NAME = "nalu-profile.json";
+
+  private final ProcessingEnvironment processingEnvironment;
+
+  /* phases in order of their first call */
+  private final Map<String, Phase> phases;
+
+  private final boolean enabled;
+
+  private final boolean flightRecorder;
+
+  private final long start;
+
+  private ProcessorProfiler(Builder builder) {
+    super();
+    this.processingEnvironment = builder.processingEnvironment;
+    this.phases = new LinkedHashMap<>();
+    this.enabled = Boolean.parseBoolean(this.processingEnvironment.getOptions()
+                                                                  .get(ProcessorProfiler.OPTION));
+    this.flightRecorder = ProcessorPhaseEventEmitter.isRecording();
+    this.start = System.nanoTime();
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Runs the task and records it as part of the phase.
+   *
+   * @param phase    name of the phase
+   * @param elements number of elements handled by the task
+   * @param task     the task to run
+   * @param <T>      type of the result
+   * @param <E>      type of the exception thrown by the task
+   * @return result of the task
+   * @throws E in case the task fails
+   */
+  public <T, E extends Exception> T measure(String phase,
+                                            int elements,
+                                            Task<T, E> task)
+      throws E {
+    if (!this.enabled && !this.flightRecorder) {
+      return task.run();
+    }
+    Object event = this.flightRecorder ? ProcessorPhaseEventEmitter.begin() : null;
+    long startPhase = System.nanoTime();
+    T result = task.run();
+    long duration = System.nanoTime() - startPhase;
+    if (this.enabled) {
+      this.phases.computeIfAbsent(phase,
+                                  Phase::new)
+                 .add(elements,
+                      duration);
+    }
+    if (this.flightRecorder) {
+      ProcessorPhaseEventEmitter.commit(event,
+                                        phase,
+                                        elements);
+    }
+    return result;
+  }
+
+  /**
+   * Runs the task and records it as part of the phase.
+   *
+   * @param phase    name of the phase
+   * @param elements number of elements handled by the task
+   * @param task     the task to run
+   * @param <E>      type of the exception thrown by the task
+   * @throws E in case the task fails
+   */
+  public <E extends Exception> void run(String phase,
+                                        int elements,
+                                        VoidTask<E> task)
+      throws E {
+    this.measure(phase,
+                 elements,
+                 () -> {
+                   task.run();
+                   return null;
+                 });
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Writes the report, in case the profiler is enabled.
+   *
+   * @throws ProcessorException in case the report can not be written
+   */
+  public void write()
+      throws ProcessorException {
+    if (!this.enabled) {
+      return;
+    }
+    Report report = new Report();
+    report.totalMillis = this.toMillis(System.nanoTime() - this.start);
+    this.phases.values()
+               .forEach(phase -> report.phases.add(new PhaseReport(phase.name,
+                                                                   phase.calls,
+                                                                   phase.elements,
+                                                                   this.toMillis(phase.nanos))));
+    String fileName = ProcessorConstants.META_INF + "/" + ProcessorConstants.NALU_FOLDER_NAME + "/" + ProcessorProfiler.REPORT_NAME;
+    try {
+      FileObject fileObject = this.processingEnvironment.getFiler()
+                                                        .createResource(StandardLocation.CLASS_OUTPUT,
+                                                                        "",
+                                                                        fileName);
+      try (Writer writer = new OutputStreamWriter(fileObject.openOutputStream(),
+                                                  UTF_8)) {
+        new GsonBuilder().setPrettyPrinting()
+                         .create()
+                         .toJson(report,
+                                 writer);
+      }
+    } catch (IOException e) {
+      throw new ProcessorException("NaluProcessor: Unable to write file: >>" + fileName + "<< -> exception: " + e.getMessage());
+    }
+  }
+
+  private double toMillis(long nanos) {
+    return Math.round(nanos / 10_000d) / 100d;
+  }
+
+  @FunctionalInterface
+  public interface Task<T, E extends Exception> {
+
+    T run()
+        throws E;
+
+  }
+
+  @FunctionalInterface
+  public interface VoidTask<E extends Exception> {
+
+    void run()
+        throws E;
+
+  }
+
+  private static class Phase {
+
+    private final String name;
+
+    private int calls;
+
+    private int elements;
+
+    private long nanos;
+
+    private Phase(String name) {
+      this.name = name;
+    }
+
+    private void add(int elements,
+                     long nanos) {
+      this.calls++;
+      this.elements += elements;
+      this.nanos += nanos;
+    }
+
+  }
+
+  private static class Report {
+
+    String processorVersion = ProcessorConstants.PROCESSOR_VERSION;
+
+    double totalMillis;
+
+    List<PhaseReport> phases = new ArrayList<>();
+
+  }
+
+  private static class PhaseReport {
+
+    String name;
+
+    int calls;
+
+    int elements;
+
+    double millis;
+
+    private PhaseReport(String name,
+                        int calls,
+                        int elements,
+                        double millis) {
+      this.name = name;
+      this.calls = calls;
+      this.elements = elements;
+      this.millis = millis;
+    }
+
+  }
+
+  public static final class Builder {
+
+    ProcessingEnvironment processingEnvironment;
+
+    public Builder processingEnvironment(ProcessingEnvironment processingEnvironment) {
+      this.processingEnvironment = processingEnvironment;
+      return this;
+    }
+
+    public ProcessorProfiler build() {
+      return new ProcessorProfiler(this);
+    }
+
+  }
+
+}
@@ -102,7 +102,8 @@ public class BlockControllerAnnotationScanner {
                                     new ClassNameModel(blockControllerElement.toString()),
                                     componentController,
                                     new ClassNameModel(Objects.requireNonNull(getConditionElement(annotation))
-                                                              .toString()));
+                                                              .toString()),
+                                    annotation.preload());
   }
 
   private TypeElement getConditionElement(BlockController annotation) {
@@ -120,9 +121,7 @@ public class BlockControllerAnnotationScanner {
     final TypeMirror[] result = { null };
     TypeMirror type = this.processorUtils.getFlattenedSupertype(this.processingEnvironment.getTypeUtils(),
                                                                 element.asType(),
-                                                                this.processorUtils.getElements()
-                                                                                   .getTypeElement(AbstractBlockComponentController.class.getCanonicalName())
-                                                                                   .asType());
+                                                                this.processorUtils.getTypeMirror(AbstractBlockComponentController.class));
     // on case type is null, no IsComponentCreator interface found!
     if (type == null) {
       return null;
@@ -179,9 +178,7 @@ public class BlockControllerAnnotationScanner {
     final TypeMirror[] result = { null };
     TypeMirror type = this.processorUtils.getFlattenedSupertype(this.processingEnvironment.getTypeUtils(),
                                                                 element.asType(),
-                                                                this.processorUtils.getElements()
-                                                                                   .getTypeElement(IsBlockComponentCreator.class.getCanonicalName())
-                                                                                   .asType());
+                                                                this.processorUtils.getTypeMirror(IsBlockComponentCreator.class));
     // on case type is null, no IsComponentCreator interface found!
     if (type == null) {
       return false;
@@ -42,10 +42,8 @@ import javax.lang.model.type.PrimitiveType;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.type.TypeVariable;
 import javax.lang.model.util.SimpleTypeVisitor8;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 public class CompositeControllerAnnotationScanner {
 
@@ -85,8 +83,7 @@ public class CompositeControllerAnnotationScanner {
                            this.compositeElement,
                            compositeModel);
     // add model to configuration ...
-    this.metaModel.getCompositeModels()
-                  .add(compositeModel);
+    this.metaModel.addCompositeModel(compositeModel);
     return compositeModel;
   }
 
@@ -137,9 +134,7 @@ public class CompositeControllerAnnotationScanner {
     final TypeMirror[] result = { null };
     TypeMirror type = this.processorUtils.getFlattenedSupertype(this.processingEnvironment.getTypeUtils(),
                                                                 element.asType(),
-                                                                this.processorUtils.getElements()
-                                                                                   .getTypeElement(AbstractCompositeController.class.getCanonicalName())
-                                                                                   .asType());
+                                                                this.processorUtils.getTypeMirror(AbstractCompositeController.class));
     // on case type is null, no IsComponentCreator interface found!
     if (type == null) {
       return null;
@@ -196,9 +191,7 @@ public class CompositeControllerAnnotationScanner {
     final TypeMirror[] result = { null };
     TypeMirror type = this.processorUtils.getFlattenedSupertype(this.processingEnvironment.getTypeUtils(),
                                                                 element.asType(),
-                                                                this.processorUtils.getElements()
-                                                                                   .getTypeElement(IsComponentCreator.class.getCanonicalName())
-                                                                                   .asType());
+                                                                this.processorUtils.getTypeMirror(IsComponentCreator.class));
     // on case type is null, no IsComponentCreator interface found!
     if (type == null) {
       return false;
@@ -265,7 +258,7 @@ public class CompositeControllerAnnotationScanner {
                                                                                                 typeElement,
                                                                                                 AcceptParameter.class);
     // get all controllers, that use the compositeModel (for validation)
-    for (ControllerModel model : this.getControllerUsingComposite(element)) {
+    for (ControllerModel model : this.metaModel.getControllersUsingComposite(element.toString())) {
       // validate
       AcceptParameterAnnotationValidator.builder()
                                         .roundEnvironment(roundEnvironment)
@@ -310,9 +303,7 @@ public class CompositeControllerAnnotationScanner {
     final TypeMirror[] result = { null };
     TypeMirror type = this.processorUtils.getFlattenedSupertype(this.processingEnvironment.getTypeUtils(),
                                                                 typeMirror,
-                                                                this.processorUtils.getElements()
-                                                                                   .getTypeElement(AbstractCompositeController.class.getCanonicalName())
-                                                                                   .asType());
+                                                                this.processorUtils.getTypeMirror(AbstractCompositeController.class));
     if (type == null) {
       return null;
     }
@@ -363,19 +354,6 @@ public class CompositeControllerAnnotationScanner {
     return result[0];
   }
 
-  private List<ControllerModel> getControllerUsingComposite(Element element) {
-    List<ControllerModel> models = new ArrayList<>();
-    this.metaModel.getControllers()
-                  .forEach(controllerModel -> models.addAll(controllerModel.getComposites()
-                                                                           .stream()
-                                                                           .filter(controllerCompositeModel -> element.toString()
-                                                                                                                      .equals(controllerCompositeModel.getComposite()
-                                                                                                                                                      .getClassName()))
-                                                                           .map(controllerCompositeModel -> controllerModel)
-                                                                           .collect(Collectors.toList())));
-    return models;
-  }
-
   public static class Builder {
 
     ProcessingEnvironment processingEnvironment;
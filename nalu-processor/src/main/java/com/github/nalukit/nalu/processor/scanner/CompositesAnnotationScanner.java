@@ -68,7 +68,8 @@ public class CompositesAnnotationScanner {
                                                          composite.selector(),
                                                          new ClassNameModel(Objects.requireNonNull(getCompositeConditionElement(composite))
                                                                                    .toString()),
-                                                         Scope.GLOBAL == composite.scope()));
+                                                         Scope.GLOBAL == composite.scope(),
+                                                         composite.lazy()));
       }
     }
     return this.controllerModel;
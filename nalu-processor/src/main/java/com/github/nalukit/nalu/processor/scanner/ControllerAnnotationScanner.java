@@ -136,9 +136,7 @@ public class ControllerAnnotationScanner {
     final TypeMirror[] result = { null };
     TypeMirror type = this.processorUtils.getFlattenedSupertype(this.processingEnvironment.getTypeUtils(),
                                                                 element.asType(),
-                                                                this.processorUtils.getElements()
-                                                                                   .getTypeElement(AbstractController.class.getCanonicalName())
-                                                                                   .asType());
+                                                                this.processorUtils.getTypeMirror(AbstractController.class));
     // on case type is null, no IsComponentCreator interface found!
     if (type == null) {
       return null;
@@ -197,9 +195,7 @@ public class ControllerAnnotationScanner {
     final TypeMirror[] result = { null };
     TypeMirror type = this.processorUtils.getFlattenedSupertype(this.processingEnvironment.getTypeUtils(),
                                                                 element.asType(),
-                                                                this.processorUtils.getElements()
-                                                                                   .getTypeElement(IsComponentCreator.class.getCanonicalName())
-                                                                                   .asType());
+                                                                this.processorUtils.getTypeMirror(IsComponentCreator.class));
     // on case type is null, no IsComponentCreator interface found!
     if (type == null) {
       return false;
@@ -308,9 +304,7 @@ public class ControllerAnnotationScanner {
     final TypeMirror[] result = { null };
     TypeMirror type = this.processorUtils.getFlattenedSupertype(this.processingEnvironment.getTypeUtils(),
                                                                 typeMirror,
-                                                                this.processorUtils.getElements()
-                                                                                   .getTypeElement(AbstractComponentController.class.getCanonicalName())
-                                                                                   .asType());
+                                                                this.processorUtils.getTypeMirror(AbstractComponentController.class));
     if (type == null) {
       return result[0];
     }
@@ -106,9 +106,7 @@ public class ErrorPopUpControllerAnnotationScanner {
     final TypeMirror[] result = { null };
     TypeMirror type = this.processorUtils.getFlattenedSupertype(this.processingEnvironment.getTypeUtils(),
                                                                 element.asType(),
-                                                                this.processorUtils.getElements()
-                                                                                   .getTypeElement(AbstractController.class.getCanonicalName())
-                                                                                   .asType());
+                                                                this.processorUtils.getTypeMirror(AbstractController.class));
     // on case type is null, no IsComponentCreator interface found!
     if (type == null) {
       return null;
@@ -167,9 +165,7 @@ public class ErrorPopUpControllerAnnotationScanner {
     final TypeMirror[] result = { null };
     TypeMirror type = this.processorUtils.getFlattenedSupertype(this.processingEnvironment.getTypeUtils(),
                                                                 element.asType(),
-                                                                this.processorUtils.getElements()
-                                                                                   .getTypeElement(IsErrorPopUpComponentCreator.class.getCanonicalName())
-                                                                                   .asType());
+                                                                this.processorUtils.getTypeMirror(IsErrorPopUpComponentCreator.class));
     // on case type is null, no IsComponentCreator interface found!
     if (type == null) {
       return false;
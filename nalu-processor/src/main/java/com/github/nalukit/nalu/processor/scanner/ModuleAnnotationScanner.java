@@ -80,9 +80,7 @@ public class ModuleAnnotationScanner {
     final TypeMirror[] result = { null };
     TypeMirror type = this.processorUtils.getFlattenedSupertype(this.processingEnvironment.getTypeUtils(),
                                                                 element.asType(),
-                                                                this.processorUtils.getElements()
-                                                                                   .getTypeElement(IsModule.class.getCanonicalName())
-                                                                                   .asType());
+                                                                this.processorUtils.getTypeMirror(IsModule.class));
     // on case type is null, no IsComponentCreator interface found!
     if (type == null) {
       return null;
@@ -16,15 +16,20 @@
 
 package com.github.nalukit.nalu.processor.scanner;
 
+import com.github.nalukit.nalu.client.module.annotation.Module;
 import com.github.nalukit.nalu.client.module.annotation.Modules;
 import com.github.nalukit.nalu.processor.ProcessorException;
 import com.github.nalukit.nalu.processor.model.MetaModel;
 import com.github.nalukit.nalu.processor.model.intern.ClassNameModel;
+import com.github.nalukit.nalu.processor.model.intern.LazyModuleModel;
 
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.MirroredTypeException;
 import javax.lang.model.type.TypeMirror;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
@@ -83,14 +88,44 @@ public class ModulesAnnotationScanner {
                                                                                                 v.indexOf(".class")))
                                                                         .collect(Collectors.toList()))
                                                     .orElse(null);
-    this.metaModel.getModules()
-                  .clear();
+    List<ClassNameModel> modules = new ArrayList<>();
+    List<LazyModuleModel> lazyModules = new ArrayList<>();
     if (!Objects.isNull(moduleClasses)) {
-      this.metaModel.getModules()
-                    .addAll(moduleClasses.stream()
-                                         .map(ClassNameModel::new)
-                                         .collect(Collectors.toList()));
+      modules.addAll(moduleClasses.stream()
+                                  .map(ClassNameModel::new)
+                                  .collect(Collectors.toList()));
+      // lazy modules
+      for (String moduleClass : moduleClasses) {
+        TypeElement moduleElement = this.processingEnvironment.getElementUtils()
+                                                              .getTypeElement(moduleClass);
+        if (!Objects.isNull(moduleElement)) {
+          Module moduleAnnotation = moduleElement.getAnnotation(Module.class);
+          if (!Objects.isNull(moduleAnnotation) &&
+              moduleAnnotation.lazy()) {
+            if (moduleAnnotation.routes().length == 0) {
+              throw new ProcessorException("Nalu-Processor: @Module >>" + moduleClass + "<< is lazy, but does not define any routes");
+            }
+            TypeElement loaderElement = this.getLoaderElement(moduleAnnotation);
+            lazyModules.add(new LazyModuleModel(new ClassNameModel(moduleClass),
+                                                Arrays.asList(moduleAnnotation.routes()),
+                                                new ClassNameModel(Objects.requireNonNull(loaderElement)
+                                                                          .toString())));
+          }
+        }
+      }
     }
+    this.metaModel.setModules(modules);
+    this.metaModel.setLazyModules(lazyModules);
+  }
+
+  private TypeElement getLoaderElement(Module annotation) {
+    try {
+      annotation.loader();
+    } catch (MirroredTypeException exception) {
+      return (TypeElement) this.processingEnvironment.getTypeUtils()
+                                                     .asElement(exception.getTypeMirror());
+    }
+    return null;
   }
 
   public static class Builder {
@@ -100,7 +100,9 @@ public class PopUpControllerAnnotationScanner {
                                     new ClassNameModel(componentInterfaceTypeElement.toString()),
                                     new ClassNameModel(componentTypeElement.toString()),
                                     new ClassNameModel(popUpControllerElement.toString()),
-                                    componentController);
+                                    componentController,
+                                    annotation.preload(),
+                                    annotation.poolSize());
   }
 
   private String getContextType(Element element)
@@ -108,9 +110,7 @@ public class PopUpControllerAnnotationScanner {
     final TypeMirror[] result = { null };
     TypeMirror type = this.processorUtils.getFlattenedSupertype(this.processingEnvironment.getTypeUtils(),
                                                                 element.asType(),
-                                                                this.processorUtils.getElements()
-                                                                                   .getTypeElement(AbstractController.class.getCanonicalName())
-                                                                                   .asType());
+                                                                this.processorUtils.getTypeMirror(AbstractController.class));
     // on case type is null, no IsComponentCreator interface found!
     if (type == null) {
       return null;
@@ -167,9 +167,7 @@ public class PopUpControllerAnnotationScanner {
     final TypeMirror[] result = { null };
     TypeMirror type = this.processorUtils.getFlattenedSupertype(this.processingEnvironment.getTypeUtils(),
                                                                 element.asType(),
-                                                                this.processorUtils.getElements()
-                                                                                   .getTypeElement(IsPopUpComponentCreator.class.getCanonicalName())
-                                                                                   .asType());
+                                                                this.processorUtils.getTypeMirror(IsPopUpComponentCreator.class));
     // on case type is null, no IsComponentCreator interface found!
     if (type == null) {
       return false;
@@ -64,9 +64,7 @@ public class ApplicationAnnotationValidator {
       // check, that the typeElement implements IsApplication
       if (!this.processorUtils.extendsClassOrInterface(this.processingEnvironment.getTypeUtils(),
                                                        typeElement.asType(),
-                                                       this.processingEnvironment.getElementUtils()
-                                                                                 .getTypeElement(IsApplication.class.getCanonicalName())
-                                                                                 .asType())) {
+                                                       this.processorUtils.getTypeMirror(IsApplication.class))) {
         throw new ProcessorException("Nalu-Processor: " +
                                      typeElement.getSimpleName()
                                                 .toString() +
@@ -64,9 +64,7 @@ public class BlockControllerAnnotationValidator {
     // @BlockController can only be used on a interface that extends IsBlockController
     if (!this.processorUtils.extendsClassOrInterface(this.processingEnvironment.getTypeUtils(),
                                                      typeElement.asType(),
-                                                     this.processingEnvironment.getElementUtils()
-                                                                               .getTypeElement(IsBlockComponentController.class.getCanonicalName())
-                                                                               .asType())) {
+                                                     this.processorUtils.getTypeMirror(IsBlockComponentController.class))) {
       throw new ProcessorException("Nalu-Processor: @BlockController can only be used on a class that extends IsBlockComponentController");
     }
     // check if name is not empty
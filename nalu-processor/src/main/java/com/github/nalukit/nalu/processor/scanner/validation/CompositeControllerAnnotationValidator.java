@@ -64,9 +64,7 @@ public class CompositeControllerAnnotationValidator {
     // @CompositeController can only be used on a interface that extends IsSplitter
     if (!this.processorUtils.extendsClassOrInterface(this.processingEnvironment.getTypeUtils(),
                                                      typeElement.asType(),
-                                                     this.processingEnvironment.getElementUtils()
-                                                                               .getTypeElement(IsComposite.class.getCanonicalName())
-                                                                               .asType())) {
+                                                     this.processorUtils.getTypeMirror(IsComposite.class))) {
       throw new ProcessorException("Nalu-Processor: @CompositeController can only be used on a class that extends IsComposite");
     }
   }
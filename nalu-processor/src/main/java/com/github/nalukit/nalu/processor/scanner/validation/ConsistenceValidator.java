@@ -25,10 +25,10 @@ import com.github.nalukit.nalu.processor.model.intern.ShellModel;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
 import javax.tools.Diagnostic;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashSet;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 public class ConsistenceValidator {
 
@@ -74,16 +74,13 @@ public class ConsistenceValidator {
 
   private void validateDuplicateCompositeNamesInAController()
       throws ProcessorException {
-    List<String> compareList = new ArrayList<>();
     for (ControllerModel controllerModel : this.metaModel.getControllers()) {
+      Set<String> compareSet = new HashSet<>();
       for (ControllerCompositeModel controllerCompositeModel : controllerModel.getComposites()) {
-        if (compareList.contains(controllerCompositeModel.getName())) {
+        if (!compareSet.add(controllerCompositeModel.getName())) {
           throw new ProcessorException("Nalu-Processor:" + "@Compiste: the name >>" + controllerCompositeModel.getName() + "<< is duplicate! Please use another unique name!");
         }
-        compareList.add(controllerCompositeModel.getName());
       }
-      // reset compare list
-      compareList = new ArrayList<>();
     }
   }
 
@@ -100,23 +97,21 @@ public class ConsistenceValidator {
 
   private void validateDuplicateShellName()
       throws ProcessorException {
-    List<String> compareList = new ArrayList<>();
+    Set<String> compareSet = new HashSet<>();
     for (ShellModel shellModel : this.metaModel.getShells()) {
-      if (compareList.contains(shellModel.getName())) {
+      if (!compareSet.add(shellModel.getName())) {
         throw new ProcessorException("Nalu-Processor:" + "@Shell: the name >>" + shellModel.getName() + "<< is duplicate! Please use another unique name!");
       }
-      compareList.add(shellModel.getName());
     }
   }
 
   private void validateDuplicateBlockControllerName()
       throws ProcessorException {
-    List<String> compareList = new ArrayList<>();
+    Set<String> compareSet = new HashSet<>();
     for (BlockControllerModel blockControllerModel : this.metaModel.getBlockControllers()) {
-      if (compareList.contains(blockControllerModel.getName())) {
+      if (!compareSet.add(blockControllerModel.getName())) {
         throw new ProcessorException("Nalu-Processor:" + "@BlockController: the name >>" + blockControllerModel.getName() + "<< is duplicate! Please use another unique name!");
       }
-      compareList.add(blockControllerModel.getName());
     }
   }
 
@@ -197,12 +192,7 @@ public class ConsistenceValidator {
       throws ProcessorException {
     if (!Objects.isNull(metaModel.getApplication())) {
       // Does the shell of the start route exist?
-      Optional<String> optionalShell = this.metaModel.getShells()
-                                                     .stream()
-                                                     .map(m -> m.getName())
-                                                     .filter(s -> s.equals(this.metaModel.getShellOfStartRoute()))
-                                                     .findFirst();
-      if (!optionalShell.isPresent()) {
+      if (Objects.isNull(this.metaModel.getShell(this.metaModel.getShellOfStartRoute()))) {
         if (this.metaModel.getModules()
                           .size() > 0) {
           this.processingEnvironment.getMessager()
@@ -72,9 +72,7 @@ public class ControllerAnnotationValidator {
     // @Controller can only be used on a interface that extends IsController
     if (!this.processorUtils.extendsClassOrInterface(this.processingEnvironment.getTypeUtils(),
                                                      typeElement.asType(),
-                                                     this.processingEnvironment.getElementUtils()
-                                                                               .getTypeElement(IsController.class.getCanonicalName())
-                                                                               .asType())) {
+                                                     this.processorUtils.getTypeMirror(IsController.class))) {
       throw new ProcessorException("Nalu-Processor: @Controller can only be used on a class that extends IsController or IsShell");
     }
     // check if route start with "/"
@@ -87,8 +85,9 @@ public class ControllerAnnotationValidator {
     validateRoute();
     // AcceptParameter annotation
     List<String> parametersFromRoute = this.getParametersFromRoute(controllerAnnotation.route());
-    for (Element element : this.processingEnvironment.getElementUtils()
-                                                     .getAllMembers((TypeElement) this.controllerElement)) {
+    for (Element element : this.processorUtils.getMethodFromTypeElementAnnotatedWith(this.processingEnvironment,
+                                                                                     (TypeElement) this.controllerElement,
+                                                                                     AcceptParameter.class)) {
       if (ElementKind.METHOD.equals(element.getKind())) {
         if (!Objects.isNull(element.getAnnotation(AcceptParameter.class))) {
           AcceptParameter annotation = element.getAnnotation(AcceptParameter.class);
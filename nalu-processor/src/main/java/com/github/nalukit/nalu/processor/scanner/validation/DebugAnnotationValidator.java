@@ -79,9 +79,7 @@ public class DebugAnnotationValidator {
         // @Debug can only be used on a interface that extends IsApplication
         if (!this.processorUtils.extendsClassOrInterface(this.processingEnvironment.getTypeUtils(),
                                                          debugElement.asType(),
-                                                         this.processingEnvironment.getElementUtils()
-                                                                                   .getTypeElement(IsApplication.class.getCanonicalName())
-                                                                                   .asType())) {
+                                                         this.processorUtils.getTypeMirror(IsApplication.class))) {
           throw new ProcessorException("Nalu-Processor: @Debug can only be used on interfaces that extends IsApplication");
         }
         // @Debug can only be used on a interface that has a @Application annotation
@@ -93,9 +91,7 @@ public class DebugAnnotationValidator {
         if (!this.processorUtils.extendsClassOrInterface(this.processingEnvironment.getTypeUtils(),
                                                          Objects.requireNonNull(loggerElement)
                                                                 .asType(),
-                                                         this.processingEnvironment.getElementUtils()
-                                                                                   .getTypeElement(IsLogger.class.getCanonicalName())
-                                                                                   .asType())) {
+                                                         this.processorUtils.getTypeMirror(IsLogger.class))) {
           throw new ProcessorException("Nalu-Processor: @Debug - the logger attribute needs class that extends IsLogger");
         }
       } else {
@@ -64,17 +64,13 @@ public class ErrorPopUpControllerAnnotationValidator {
     // @ErrorPopUpController can only be used on a interface that extends IsErrorPopUpController
     if (!this.processorUtils.extendsClassOrInterface(this.processingEnvironment.getTypeUtils(),
                                                      typeElement.asType(),
-                                                     this.processingEnvironment.getElementUtils()
-                                                                               .getTypeElement(IsErrorPopUpController.class.getCanonicalName())
-                                                                               .asType())) {
+                                                     this.processorUtils.getTypeMirror(IsErrorPopUpController.class))) {
       throw new ProcessorException("Nalu-Processor: @ErrorPopUpController can only be used on a class that implements IsErrorPopUpController");
     }
     // @ErrorPopUpController can only be used on a interface that extends AbstractErrorPopUpComponentController
     if (!this.processorUtils.extendsClassOrInterface(this.processingEnvironment.getTypeUtils(),
                                                      typeElement.asType(),
-                                                     this.processingEnvironment.getElementUtils()
-                                                                               .getTypeElement(AbstractErrorPopUpComponentController.class.getCanonicalName())
-                                                                               .asType())) {
+                                                     this.processorUtils.getTypeMirror(AbstractErrorPopUpComponentController.class))) {
       throw new ProcessorException("Nalu-Processor: @ErrorPopUpController can only be used on a class that extends AbstractErrorPopUpComponentController");
     }
   }
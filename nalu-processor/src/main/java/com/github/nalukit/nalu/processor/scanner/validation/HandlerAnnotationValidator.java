@@ -64,17 +64,13 @@ public class HandlerAnnotationValidator {
     // @Handler can only be used on a interface that extends IsHandler
     if (!this.processorUtils.extendsClassOrInterface(this.processingEnvironment.getTypeUtils(),
                                                      typeElement.asType(),
-                                                     this.processingEnvironment.getElementUtils()
-                                                                               .getTypeElement(IsHandler.class.getCanonicalName())
-                                                                               .asType())) {
+                                                     this.processorUtils.getTypeMirror(IsHandler.class))) {
       throw new ProcessorException("Nalu-Processor: @Handler can only be used on a class that implements IsHandler");
     }
     // @Handler can only be used on a interface that extends IsApplication
     if (!this.processorUtils.extendsClassOrInterface(this.processingEnvironment.getTypeUtils(),
                                                      typeElement.asType(),
-                                                     this.processingEnvironment.getElementUtils()
-                                                                               .getTypeElement(AbstractHandler.class.getCanonicalName())
-                                                                               .asType())) {
+                                                     this.processorUtils.getTypeMirror(AbstractHandler.class))) {
       throw new ProcessorException("Nalu-Processor: @Handler can only be used on a class that extends AbstractHandler");
     }
   }
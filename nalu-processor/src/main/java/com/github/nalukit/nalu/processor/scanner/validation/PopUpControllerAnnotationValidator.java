@@ -64,9 +64,7 @@ public class PopUpControllerAnnotationValidator {
     // @PopUpController can only be used on a interface that extends IsApplication
     if (!this.processorUtils.extendsClassOrInterface(this.processingEnvironment.getTypeUtils(),
                                                      typeElement.asType(),
-                                                     this.processingEnvironment.getElementUtils()
-                                                                               .getTypeElement(IsPopUpController.class.getCanonicalName())
-                                                                               .asType())) {
+                                                     this.processorUtils.getTypeMirror(IsPopUpController.class))) {
       throw new ProcessorException("Nalu-Processor: @PopUpController can only be used on a class that extends IsPopUpController");
     }
     // check if name is not empty
@@ -76,6 +74,10 @@ public class PopUpControllerAnnotationValidator {
                                  .isEmpty()) {
       throw new ProcessorException("Nalu-Processor: @PopUpController - name attribute should not be empty");
     }
+    // check if pool size is at least one
+    if (popUpControllerAnnotation.poolSize() < 1) {
+      throw new ProcessorException("Nalu-Processor: @PopUpController - poolSize attribute should be greater than zero");
+    }
   }
 
   public static final class Builder {
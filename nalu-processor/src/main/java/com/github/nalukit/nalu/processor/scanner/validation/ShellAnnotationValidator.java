@@ -20,7 +20,6 @@ import com.github.nalukit.nalu.client.component.IsShell;
 import com.github.nalukit.nalu.processor.ProcessorException;
 import com.github.nalukit.nalu.processor.ProcessorUtils;
 import com.github.nalukit.nalu.processor.model.MetaModel;
-import com.github.nalukit.nalu.processor.model.intern.ShellModel;
 
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
@@ -34,7 +33,7 @@ import javax.lang.model.type.TypeMirror;
 import javax.lang.model.type.TypeVariable;
 import javax.lang.model.util.SimpleTypeVisitor8;
 import java.util.List;
-import java.util.Optional;
+import java.util.Objects;
 
 public class ShellAnnotationValidator {
 
@@ -78,9 +77,7 @@ public class ShellAnnotationValidator {
       // check, that the typeElement implements AbstractShell
       if (!this.processorUtils.extendsClassOrInterface(this.processingEnvironment.getTypeUtils(),
                                                        typeElement.asType(),
-                                                       this.processingEnvironment.getElementUtils()
-                                                                                 .getTypeElement(IsShell.class.getCanonicalName())
-                                                                                 .asType())) {
+                                                       this.processorUtils.getTypeMirror(IsShell.class))) {
         throw new ProcessorException("Nalu-Processor: " +
                                      typeElement.getSimpleName()
                                                 .toString() +
@@ -98,9 +95,7 @@ public class ShellAnnotationValidator {
     final TypeMirror[] result = { null };
     TypeMirror type = this.processorUtils.getFlattenedSupertype(this.processingEnvironment.getTypeUtils(),
                                                                 element.asType(),
-                                                                this.processorUtils.getElements()
-                                                                                   .getTypeElement(AbstractShell.class.getCanonicalName())
-                                                                                   .asType());
+                                                                this.processorUtils.getTypeMirror(AbstractShell.class));
     // on case type is null, no IsComponentCreator interface found!
     if (type == null) {
       return null;
@@ -159,11 +154,7 @@ public class ShellAnnotationValidator {
 
   public void validateName(String name)
       throws ProcessorException {
-    Optional<ShellModel> optionalShellModel = this.metaModel.getShells()
-                                                            .stream()
-                                                            .filter(m -> name.equals(m.getName()))
-                                                            .findAny();
-    if (optionalShellModel.isPresent()) {
+    if (!Objects.isNull(this.metaModel.getShell(name))) {
       throw new ProcessorException("Nalu-Processor:" + "@Shell: the shell name >>" + name + "<< is already used!");
     }
   }
@@ -80,9 +80,7 @@ public class TrackerAnnotationValidator {
         // @Tracker can only be used on a interface that extends IsApplication
         if (!this.processorUtils.extendsClassOrInterface(this.processingEnvironment.getTypeUtils(),
                                                          trackerElement.asType(),
-                                                         this.processingEnvironment.getElementUtils()
-                                                                                   .getTypeElement(IsApplication.class.getCanonicalName())
-                                                                                   .asType())) {
+                                                         this.processorUtils.getTypeMirror(IsApplication.class))) {
           throw new ProcessorException("Nalu-Processor: @Tracker can only be used on interfaces that extends IsApplication");
         }
         // @Tracker can only be used on a interface that has a @Application annotation
@@ -94,9 +92,7 @@ public class TrackerAnnotationValidator {
         if (!Objects.isNull(trackerClassTypeElement)) {
           if (!this.processorUtils.extendsClassOrInterface(this.processingEnvironment.getTypeUtils(),
                                                            trackerClassTypeElement.asType(),
-                                                           this.processingEnvironment.getElementUtils()
-                                                                                     .getTypeElement(AbstractTracker.class.getCanonicalName())
-                                                                                     .asType())) {
+                                                           this.processorUtils.getTypeMirror(AbstractTracker.class))) {
             throw new ProcessorException("Nalu-Processor: value of @Tracker annotation needs to extends AbstractTracker<C>");
           }
         } else {
@@ -16,6 +16,10 @@
 
 package com.github.nalukit.nalu.processor;
 
+import com.github.nalukit.nalu.processor.benchmark.SyntheticApplicationTest;
+import com.github.nalukit.nalu.processor.generator.ModulesGeneratorTest;
+import com.github.nalukit.nalu.processor.generator.RouteMatcherGeneratorTest;
+import com.github.nalukit.nalu.processor.model.MetaModelScalabilityTest;
 import com.github.nalukit.nalu.processor.model.MetaModelTest;
 import com.github.nalukit.nalu.processor.model.intern.ControllerModelTest;
 import com.github.nalukit.nalu.processor.test.ApplicationTest;
@@ -31,6 +35,7 @@ import com.github.nalukit.nalu.processor.test.FiltersTest;
 import com.github.nalukit.nalu.processor.test.HandlerTest;
 import com.github.nalukit.nalu.processor.test.ModuleTest;
 import com.github.nalukit.nalu.processor.test.PopUpControllerCreatorTest;
+import com.github.nalukit.nalu.processor.test.ProfilerTest;
 import com.github.nalukit.nalu.processor.test.ShellCreatorTest;
 import com.github.nalukit.nalu.processor.test.ShellTest;
 import com.github.nalukit.nalu.processor.test.TrackerTest;
@@ -54,12 +59,17 @@ import org.junit.runner.RunWith;
                  ErrorPopUpControllerTest.class,
                  FiltersTest.class,
                  HandlerTest.class,
+                 MetaModelScalabilityTest.class,
                  MetaModelTest.class,
                  ModuleTest.class,
+                 ModulesGeneratorTest.class,
                  PopUpControllerCreatorTest.class,
+                 ProfilerTest.class,
                  PropertiesTest.class,
+                 RouteMatcherGeneratorTest.class,
                  ShellCreatorTest.class,
                  ShellTest.class,
+                 SyntheticApplicationTest.class,
                  TrackerTest.class })
 public class AllTests {
 }
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.processor.benchmark;
+
+import com.github.nalukit.nalu.processor.NaluProcessor;
+import com.google.gson.GsonBuilder;
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.CompilationSubject;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import javax.tools.JavaFileObject;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static com.google.testing.compile.Compiler.javac;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Benchmark of the NaluProcessor using synthetic applications.
+ * <p>
+ * The benchmark is not part of the regular test run. Start it with:
+ * <pre>
+ *   mvn test -pl nalu-processor -Dtest=ProcessorBenchmark -Dnalu.benchmark.sizes=100,1000,10000
+ * </pre>
+ * For every size (number of controllers) the wall time and the peak heap
+ * of each phase is recorded and written as JSON report to the file
+ * defined by the system property 'nalu.benchmark.report'.
+ */
+@RunWith(JUnitPlatform.class)
+public class ProcessorBenchmark {
+
+  public static final String SIZES = "nalu.benchmark.sizes";
+
+  public static final String REPORT = "nalu.benchmark.report";
+
+  private static final String DEFAULT_SIZES = "100,1000,10000";
+
+  private static final String DEFAULT_REPORT = "target/nalu-benchmark/report.json";
+
+  @Test
+  void benchmark()
+      throws IOException {
+    Report report = new Report();
+    for (int size : this.getSizes()) {
+      report.results.add(this.run(size));
+    }
+    this.write(report);
+  }
+
+  private Result run(int controllers) {
+    Result result = new Result();
+    result.controllers = controllers;
+    List<JavaFileObject> sources = new ArrayList<>();
+    SyntheticApplication application = SyntheticApplication.builder()
+                                                           .shells(1 + controllers / 1000)
+                                                           .controllers(controllers)
+                                                           .compositesPerController(2)
+                                                           .popUps(1 + controllers / 50)
+                                                           .blocks(1 + controllers / 100)
+                                                           .filters(1 + controllers / 1000)
+                                                           .handlers(1 + controllers / 100)
+                                                           .modules(2,
+                                                                    1 + controllers / 10)
+                                                           .build();
+    result.phases.add(this.measure("generate sources",
+                                   () -> {
+                                     sources.addAll(application.createApplicationSources());
+                                     return null;
+                                   }));
+    result.sources = sources.size();
+    // javac without processor: the base line of the compilation
+    result.phases.add(this.measure("javac",
+                                   () -> this.assertSucceeded(javac().withOptions("-proc:none")
+                                                                     .compile(sources))));
+    result.phases.add(this.measure("javac with NaluProcessor",
+                                   () -> this.assertSucceeded(javac().withProcessors(new NaluProcessor())
+                                                                     .compile(sources))));
+    result.phases.add(this.measure("modules with NaluProcessor",
+                                   () -> {
+                                     for (int i = 0; i < application.getModules(); i++) {
+                                       this.assertSucceeded(javac().withProcessors(new NaluProcessor())
+                                                                   .compile(application.createModuleSources(i)));
+                                     }
+                                     return null;
+                                   }));
+    result.processorMillis = result.phases.get(2).millis - result.phases.get(1).millis;
+    return result;
+  }
+
+  private Phase measure(String name,
+                        Supplier<Object> phase) {
+    List<MemoryPoolMXBean> pools = ManagementFactory.getMemoryPoolMXBeans()
+                                                    .stream()
+                                                    .filter(pool -> pool.getType() == MemoryType.HEAP)
+                                                    .collect(Collectors.toList());
+    System.gc();
+    pools.forEach(MemoryPoolMXBean::resetPeakUsage);
+    long start = System.nanoTime();
+    phase.get();
+    Phase result = new Phase();
+    result.name = name;
+    result.millis = (System.nanoTime() - start) / 1_000_000L;
+    // the sum of the peaks of all heap pools (upper bound of the heap peak)
+    result.peakHeapMb = pools.stream()
+                             .mapToLong(pool -> pool.getPeakUsage()
+                                                    .getUsed())
+                             .sum() / (1024L * 1024L);
+    return result;
+  }
+
+  private Compilation assertSucceeded(Compilation compilation) {
+    CompilationSubject.assertThat(compilation)
+                      .succeeded();
+    return compilation;
+  }
+
+  private List<Integer> getSizes() {
+    return Arrays.stream(System.getProperty(SIZES,
+                                            DEFAULT_SIZES)
+                               .split(","))
+                 .map(String::trim)
+                 .map(Integer::parseInt)
+                 .collect(Collectors.toList());
+  }
+
+  private void write(Report report)
+      throws IOException {
+    File file = new File(System.getProperty(REPORT,
+                                            DEFAULT_REPORT));
+    if (file.getParentFile() != null) {
+      Files.createDirectories(file.getParentFile()
+                                  .toPath());
+    }
+    try (Writer writer = new OutputStreamWriter(Files.newOutputStream(file.toPath()),
+                                                UTF_8)) {
+      new GsonBuilder().setPrettyPrinting()
+                       .create()
+                       .toJson(report,
+                               writer);
+    }
+    System.out.println("ProcessorBenchmark: report written to >>" + file.getAbsolutePath() + "<<");
+  }
+
+  static class Report {
+
+    String javaVersion = System.getProperty("java.version");
+
+    List<Result> results = new ArrayList<>();
+
+  }
+
+  static class Result {
+
+    int controllers;
+
+    int sources;
+
+    long processorMillis;
+
+    List<Phase> phases = new ArrayList<>();
+
+  }
+
+  static class Phase {
+
+    String name;
+
+    long millis;
+
+    long peakHeapMb;
+
+  }
+
+}
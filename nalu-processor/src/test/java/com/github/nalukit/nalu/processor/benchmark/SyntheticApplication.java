@@ -0,0 +1,487 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.processor.benchmark;
+
+import com.google.testing.compile.JavaFileObjects;
+
+import javax.tools.JavaFileObject;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates the sources of a synthetic Nalu application. The size of the
+ * application is defined by the number of shells, controllers, composites
+ * per controller, popups, blocks, filters, handlers and modules.
+ * <p>
+ * Every module is a separate compilation unit (like in a real project),
+ * so the application does not reference the modules.
+ */
+public class SyntheticApplication {
+
+  static final String PACKAGE = "com.github.nalukit.nalu.processor.benchmark.synthetic";
+
+  private static final String CONTEXT = "BenchmarkContext";
+
+  private static final String MODULE_CONTEXT = "BenchmarkModuleContext";
+
+  private final int shells;
+
+  private final int controllers;
+
+  private final int compositesPerController;
+
+  private final int popUps;
+
+  private final int blocks;
+
+  private final int filters;
+
+  private final int handlers;
+
+  private final int modules;
+
+  private final int controllersPerModule;
+
+  private SyntheticApplication(Builder builder) {
+    this.shells = Math.max(1,
+                           builder.shells);
+    this.controllers = Math.max(1,
+                                builder.controllers);
+    this.compositesPerController = builder.compositesPerController;
+    this.popUps = builder.popUps;
+    this.blocks = builder.blocks;
+    this.filters = builder.filters;
+    this.handlers = builder.handlers;
+    this.modules = builder.modules;
+    this.controllersPerModule = builder.controllersPerModule;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public int getControllers() {
+    return controllers;
+  }
+
+  public int getModules() {
+    return modules;
+  }
+
+  /**
+   * Creates the sources of the application (without modules).
+   *
+   * @return list of sources
+   */
+  public List<JavaFileObject> createApplicationSources() {
+    List<JavaFileObject> sources = new ArrayList<>();
+    String packageName = PACKAGE + ".app";
+    sources.add(this.createContext(packageName));
+    sources.add(this.createApplication(packageName));
+    for (int i = 0; i < this.shells; i++) {
+      sources.add(this.createShell(packageName,
+                                   i));
+    }
+    for (int i = 0; i < this.compositesPerController; i++) {
+      sources.addAll(this.createComposite(packageName,
+                                          i));
+    }
+    for (int i = 0; i < this.controllers; i++) {
+      sources.addAll(this.createController(packageName,
+                                           "Controller" + i,
+                                           "/shell" + (i % this.shells) + "/route" + i,
+                                           CONTEXT,
+                                           this.compositesPerController));
+    }
+    for (int i = 0; i < this.popUps; i++) {
+      sources.addAll(this.createPopUp(packageName,
+                                      i));
+    }
+    for (int i = 0; i < this.blocks; i++) {
+      sources.addAll(this.createBlock(packageName,
+                                      i));
+    }
+    for (int i = 0; i < this.filters; i++) {
+      sources.add(this.createFilter(packageName,
+                                    i));
+    }
+    for (int i = 0; i < this.handlers; i++) {
+      sources.add(this.createHandler(packageName,
+                                     i));
+    }
+    return sources;
+  }
+
+  /**
+   * Creates the sources of a module.
+   *
+   * @param module number of the module
+   * @return list of sources
+   */
+  public List<JavaFileObject> createModuleSources(int module) {
+    List<JavaFileObject> sources = new ArrayList<>();
+    String packageName = PACKAGE + ".module" + module;
+    sources.add(this.source(packageName,
+                            MODULE_CONTEXT,
+                            "import com.github.nalukit.nalu.client.context.AbstractModuleContext;\n\n" +
+                            "public class " + MODULE_CONTEXT + " extends AbstractModuleContext {\n" +
+                            "}\n"));
+    sources.add(this.source(packageName,
+                            "BenchmarkModule" + module,
+                            "import com.github.nalukit.nalu.client.module.IsModule;\n" +
+                            "import com.github.nalukit.nalu.client.module.annotation.Module;\n\n" +
+                            "@Module(name = \"module" + module + "\", context = " + MODULE_CONTEXT + ".class)\n" +
+                            "public interface BenchmarkModule" + module + " extends IsModule<" + MODULE_CONTEXT + "> {\n" +
+                            "}\n"));
+    for (int i = 0; i < this.controllersPerModule; i++) {
+      sources.addAll(this.createController(packageName,
+                                           "Module" + module + "Controller" + i,
+                                           "/shell" + (i % this.shells) + "/module" + module + "/route" + i,
+                                           MODULE_CONTEXT,
+                                           0));
+    }
+    return sources;
+  }
+
+  private JavaFileObject createContext(String packageName) {
+    return this.source(packageName,
+                       CONTEXT,
+                       "import com.github.nalukit.nalu.client.context.AbstractMainContext;\n\n" +
+                       "public class " + CONTEXT + " extends AbstractMainContext {\n" +
+                       "}\n");
+  }
+
+  private JavaFileObject createApplication(String packageName) {
+    StringBuilder sb = new StringBuilder();
+    sb.append("import com.github.nalukit.nalu.client.application.IsApplication;\n")
+      .append("import com.github.nalukit.nalu.client.application.annotation.Application;\n")
+      .append("import com.github.nalukit.nalu.client.application.annotation.Filters;\n\n")
+      .append("@Application(startRoute = \"/shell0/route0\", context = ")
+      .append(CONTEXT)
+      .append(".class)\n");
+    if (this.filters > 0) {
+      sb.append("@Filters(filterClasses = {");
+      for (int i = 0; i < this.filters; i++) {
+        sb.append(i == 0 ? "" : ", ")
+          .append("Filter")
+          .append(i)
+          .append(".class");
+      }
+      sb.append("})\n");
+    }
+    sb.append("public interface BenchmarkApplication extends IsApplication {\n")
+      .append("}\n");
+    return this.source(packageName,
+                       "BenchmarkApplication",
+                       sb.toString());
+  }
+
+  private JavaFileObject createShell(String packageName,
+                                     int number) {
+    return this.source(packageName,
+                       "Shell" + number,
+                       "import com.github.nalukit.nalu.client.component.AbstractShell;\n" +
+                       "import com.github.nalukit.nalu.client.component.annotation.Shell;\n\n" +
+                       "@Shell(\"shell" + number + "\")\n" +
+                       "public class Shell" + number + " extends AbstractShell<" + CONTEXT + "> {\n" +
+                       "  @Override\n" +
+                       "  public void attachShell() {\n" +
+                       "  }\n" +
+                       "  @Override\n" +
+                       "  public void detachShell() {\n" +
+                       "  }\n" +
+                       "}\n");
+  }
+
+  private List<JavaFileObject> createController(String packageName,
+                                                String name,
+                                                String route,
+                                                String context,
+                                                int composites) {
+    List<JavaFileObject> sources = new ArrayList<>();
+    sources.add(this.source(packageName,
+                            "I" + name + "Component",
+                            "import com.github.nalukit.nalu.client.component.IsComponent;\n\n" +
+                            "public interface I" + name + "Component extends IsComponent<I" + name + "Component.Controller, String> {\n" +
+                            "  interface Controller extends IsComponent.Controller {\n" +
+                            "  }\n" +
+                            "}\n"));
+    sources.add(this.source(packageName,
+                            name + "Component",
+                            "import com.github.nalukit.nalu.client.component.AbstractComponent;\n\n" +
+                            "public class " + name + "Component extends AbstractComponent<I" + name + "Component.Controller, String> implements I" + name + "Component {\n" +
+                            "  @Override\n" +
+                            "  public void render() {\n" +
+                            "    initElement(\"" + name + "\");\n" +
+                            "  }\n" +
+                            "}\n"));
+    StringBuilder sb = new StringBuilder();
+    sb.append("import com.github.nalukit.nalu.client.component.AbstractComponentController;\n")
+      .append("import com.github.nalukit.nalu.client.component.annotation.Composite;\n")
+      .append("import com.github.nalukit.nalu.client.component.annotation.Composites;\n")
+      .append("import com.github.nalukit.nalu.client.component.annotation.Controller;\n\n")
+      .append("@Controller(route = \"")
+      .append(route)
+      .append("\", selector = \"content\", component = ")
+      .append(name)
+      .append("Component.class, componentInterface = I")
+      .append(name)
+      .append("Component.class)\n");
+    if (composites > 0) {
+      sb.append("@Composites({");
+      for (int i = 0; i < composites; i++) {
+        sb.append(i == 0 ? "" : ", ")
+          .append("@Composite(name = \"composite")
+          .append(i)
+          .append("\", compositeController = CompositeController")
+          .append(i)
+          .append(".class, selector = \"composite")
+          .append(i)
+          .append("\")");
+      }
+      sb.append("})\n");
+    }
+    sb.append("public class ")
+      .append(name)
+      .append(" extends AbstractComponentController<")
+      .append(context)
+      .append(", I")
+      .append(name)
+      .append("Component, String> implements I")
+      .append(name)
+      .append("Component.Controller {\n")
+      .append("}\n");
+    sources.add(this.source(packageName,
+                            name,
+                            sb.toString()));
+    return sources;
+  }
+
+  private List<JavaFileObject> createComposite(String packageName,
+                                               int number) {
+    List<JavaFileObject> sources = new ArrayList<>();
+    sources.add(this.source(packageName,
+                            "ICompositeComponent" + number,
+                            "import com.github.nalukit.nalu.client.component.IsCompositeComponent;\n\n" +
+                            "public interface ICompositeComponent" + number + " extends IsCompositeComponent<ICompositeComponent" + number + ".Controller, String> {\n" +
+                            "  interface Controller extends IsCompositeComponent.Controller {\n" +
+                            "  }\n" +
+                            "}\n"));
+    sources.add(this.source(packageName,
+                            "CompositeComponent" + number,
+                            "import com.github.nalukit.nalu.client.component.AbstractCompositeComponent;\n\n" +
+                            "public class CompositeComponent" + number + " extends AbstractCompositeComponent<ICompositeComponent" + number + ".Controller, String> implements ICompositeComponent" + number + " {\n" +
+                            "  @Override\n" +
+                            "  public void render() {\n" +
+                            "    initElement(\"CompositeComponent" + number + "\");\n" +
+                            "  }\n" +
+                            "}\n"));
+    sources.add(this.source(packageName,
+                            "CompositeController" + number,
+                            "import com.github.nalukit.nalu.client.component.AbstractCompositeController;\n" +
+                            "import com.github.nalukit.nalu.client.component.annotation.CompositeController;\n\n" +
+                            "@CompositeController(component = CompositeComponent" + number + ".class, componentInterface = ICompositeComponent" + number + ".class)\n" +
+                            "public class CompositeController" + number + " extends AbstractCompositeController<" + CONTEXT + ", ICompositeComponent" + number + ", String> implements ICompositeComponent" + number + ".Controller {\n" +
+                            "}\n"));
+    return sources;
+  }
+
+  private List<JavaFileObject> createPopUp(String packageName,
+                                           int number) {
+    List<JavaFileObject> sources = new ArrayList<>();
+    sources.add(this.source(packageName,
+                            "IPopUpComponent" + number,
+                            "import com.github.nalukit.nalu.client.component.IsPopUpComponent;\n\n" +
+                            "public interface IPopUpComponent" + number + " extends IsPopUpComponent<IPopUpComponent" + number + ".Controller> {\n" +
+                            "  interface Controller extends IsPopUpComponent.Controller {\n" +
+                            "  }\n" +
+                            "}\n"));
+    sources.add(this.source(packageName,
+                            "PopUpComponent" + number,
+                            "import com.github.nalukit.nalu.client.component.AbstractPopUpComponent;\n\n" +
+                            "public class PopUpComponent" + number + " extends AbstractPopUpComponent<IPopUpComponent" + number + ".Controller> implements IPopUpComponent" + number + " {\n" +
+                            "  @Override\n" +
+                            "  public void render() {\n" +
+                            "  }\n" +
+                            "  @Override\n" +
+                            "  public void show() {\n" +
+                            "  }\n" +
+                            "  @Override\n" +
+                            "  public void hide() {\n" +
+                            "  }\n" +
+                            "}\n"));
+    sources.add(this.source(packageName,
+                            "PopUpController" + number,
+                            "import com.github.nalukit.nalu.client.component.AbstractPopUpComponentController;\n" +
+                            "import com.github.nalukit.nalu.client.component.annotation.PopUpController;\n\n" +
+                            "@PopUpController(name = \"popUp" + number + "\", componentInterface = IPopUpComponent" + number + ".class, component = PopUpComponent" + number + ".class)\n" +
+                            "public class PopUpController" + number + " extends AbstractPopUpComponentController<" + CONTEXT + ", IPopUpComponent" + number + "> implements IPopUpComponent" + number + ".Controller {\n" +
+                            "  @Override\n" +
+                            "  public void show() {\n" +
+                            "  }\n" +
+                            "}\n"));
+    return sources;
+  }
+
+  private List<JavaFileObject> createBlock(String packageName,
+                                           int number) {
+    List<JavaFileObject> sources = new ArrayList<>();
+    sources.add(this.source(packageName,
+                            "IBlockComponent" + number,
+                            "import com.github.nalukit.nalu.client.component.IsBlockComponent;\n\n" +
+                            "public interface IBlockComponent" + number + " extends IsBlockComponent<IBlockComponent" + number + ".Controller> {\n" +
+                            "  interface Controller extends IsBlockComponent.Controller {\n" +
+                            "  }\n" +
+                            "}\n"));
+    sources.add(this.source(packageName,
+                            "BlockComponent" + number,
+                            "import com.github.nalukit.nalu.client.component.AbstractBlockComponent;\n\n" +
+                            "public class BlockComponent" + number + " extends AbstractBlockComponent<IBlockComponent" + number + ".Controller> implements IBlockComponent" + number + " {\n" +
+                            "  @Override\n" +
+                            "  public void append() {\n" +
+                            "  }\n" +
+                            "  @Override\n" +
+                            "  public void render() {\n" +
+                            "  }\n" +
+                            "  @Override\n" +
+                            "  public void show() {\n" +
+                            "  }\n" +
+                            "  @Override\n" +
+                            "  public void hide() {\n" +
+                            "  }\n" +
+                            "}\n"));
+    sources.add(this.source(packageName,
+                            "BlockController" + number,
+                            "import com.github.nalukit.nalu.client.component.AbstractBlockComponentController;\n" +
+                            "import com.github.nalukit.nalu.client.component.annotation.BlockController;\n\n" +
+                            "@BlockController(name = \"block" + number + "\", componentInterface = IBlockComponent" + number + ".class, component = BlockComponent" + number + ".class)\n" +
+                            "public class BlockController" + number + " extends AbstractBlockComponentController<" + CONTEXT + ", IBlockComponent" + number + "> implements IBlockComponent" + number + ".Controller {\n" +
+                            "}\n"));
+    return sources;
+  }
+
+  private JavaFileObject createFilter(String packageName,
+                                      int number) {
+    return this.source(packageName,
+                       "Filter" + number,
+                       "import com.github.nalukit.nalu.client.filter.AbstractFilter;\n\n" +
+                       "public class Filter" + number + " extends AbstractFilter<" + CONTEXT + "> {\n" +
+                       "  @Override\n" +
+                       "  public boolean filter(String route, String... params) {\n" +
+                       "    return true;\n" +
+                       "  }\n" +
+                       "  @Override\n" +
+                       "  public String redirectTo() {\n" +
+                       "    return \"/shell0/route0\";\n" +
+                       "  }\n" +
+                       "  @Override\n" +
+                       "  public String[] parameters() {\n" +
+                       "    return new String[] {};\n" +
+                       "  }\n" +
+                       "}\n");
+  }
+
+  private JavaFileObject createHandler(String packageName,
+                                       int number) {
+    return this.source(packageName,
+                       "Handler" + number,
+                       "import com.github.nalukit.nalu.client.handler.AbstractHandler;\n" +
+                       "import com.github.nalukit.nalu.client.handler.annotation.Handler;\n\n" +
+                       "@Handler\n" +
+                       "public class Handler" + number + " extends AbstractHandler<" + CONTEXT + "> {\n" +
+                       "  @Override\n" +
+                       "  public void bind() {\n" +
+                       "  }\n" +
+                       "}\n");
+  }
+
+  private JavaFileObject source(String packageName,
+                                String simpleName,
+                                String body) {
+    return JavaFileObjects.forSourceString(packageName + "." + simpleName,
+                                           "package " + packageName + ";\n\n" + body);
+  }
+
+  public static class Builder {
+
+    int shells = 1;
+
+    int controllers = 1;
+
+    int compositesPerController;
+
+    int popUps;
+
+    int blocks;
+
+    int filters;
+
+    int handlers;
+
+    int modules;
+
+    int controllersPerModule;
+
+    public Builder shells(int shells) {
+      this.shells = shells;
+      return this;
+    }
+
+    public Builder controllers(int controllers) {
+      this.controllers = controllers;
+      return this;
+    }
+
+    public Builder compositesPerController(int compositesPerController) {
+      this.compositesPerController = compositesPerController;
+      return this;
+    }
+
+    public Builder popUps(int popUps) {
+      this.popUps = popUps;
+      return this;
+    }
+
+    public Builder blocks(int blocks) {
+      this.blocks = blocks;
+      return this;
+    }
+
+    public Builder filters(int filters) {
+      this.filters = filters;
+      return this;
+    }
+
+    public Builder handlers(int handlers) {
+      this.handlers = handlers;
+      return this;
+    }
+
+    public Builder modules(int modules,
+                           int controllersPerModule) {
+      this.modules = modules;
+      this.controllersPerModule = controllersPerModule;
+      return this;
+    }
+
+    public SyntheticApplication build() {
+      return new SyntheticApplication(this);
+    }
+
+  }
+
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.processor.benchmark;
+
+import com.github.nalukit.nalu.processor.NaluProcessor;
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.CompilationSubject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.google.testing.compile.Compiler.javac;
+
+public class SyntheticApplicationTest {
+
+  private final SyntheticApplication application = SyntheticApplication.builder()
+                                                                       .shells(2)
+                                                                       .controllers(5)
+                                                                       .compositesPerController(2)
+                                                                       .popUps(2)
+                                                                       .blocks(2)
+                                                                       .filters(2)
+                                                                       .handlers(2)
+                                                                       .modules(1,
+                                                                                3)
+                                                                       .build();
+
+  @Test
+  void testApplicationCompiles() {
+    Compilation compilation = javac().withProcessors(new NaluProcessor())
+                                     .compile(this.application.createApplicationSources());
+    CompilationSubject.assertThat(compilation)
+                      .succeeded();
+    CompilationSubject.assertThat(compilation)
+                      .generatedSourceFile(SyntheticApplication.PACKAGE + ".app.BenchmarkApplicationImpl");
+  }
+
+  @Test
+  void testModuleCompiles() {
+    Compilation compilation = javac().withProcessors(new NaluProcessor())
+                                     .compile(this.application.createModuleSources(0));
+    CompilationSubject.assertThat(compilation)
+                      .succeeded();
+    CompilationSubject.assertThat(compilation)
+                      .generatedSourceFile(SyntheticApplication.PACKAGE + ".module0.BenchmarkModule0ModuleImpl");
+  }
+
+  @Test
+  void testGeneratedSourcesAreDeterministic()
+      throws IOException {
+    SyntheticApplication largeApplication = SyntheticApplication.builder()
+                                                                .shells(4)
+                                                                .controllers(40)
+                                                                .compositesPerController(1)
+                                                                .popUps(8)
+                                                                .blocks(8)
+                                                                .build();
+    List<String> firstRun = this.compile(largeApplication);
+    List<String> secondRun = this.compile(largeApplication);
+    Assertions.assertEquals(firstRun,
+                            secondRun);
+  }
+
+  @Test
+  void testDeletedElementsAreRemovedFromStoredMetaModel(@TempDir Path classOutput)
+      throws IOException {
+    SyntheticApplication firstApplication = SyntheticApplication.builder()
+                                                                .shells(1)
+                                                                .controllers(3)
+                                                                .popUps(2)
+                                                                .blocks(2)
+                                                                .filters(2)
+                                                                .handlers(2)
+                                                                .build();
+    this.compile(firstApplication,
+                 classOutput);
+    // the last controller, popup, block, filter and handler are deleted,
+    // the stored meta model of the first compilation still contains them
+    SyntheticApplication secondApplication = SyntheticApplication.builder()
+                                                                 .shells(1)
+                                                                 .controllers(2)
+                                                                 .popUps(1)
+                                                                 .blocks(1)
+                                                                 .filters(1)
+                                                                 .handlers(1)
+                                                                 .build();
+    this.compile(secondApplication,
+                 classOutput);
+    String applicationImpl = new String(Files.readAllBytes(classOutput.resolve(SyntheticApplication.PACKAGE.replace(".",
+                                                                                                                      "/") + "/app/BenchmarkApplicationImpl.java")),
+                                        StandardCharsets.UTF_8);
+    Assertions.assertTrue(applicationImpl.contains(".Controller1\""));
+    for (String deleted : Arrays.asList(".Controller2\"",
+                                        ".PopUpController1\"",
+                                        ".BlockController1\"",
+                                        "Filter1",
+                                        "Handler1")) {
+      Assertions.assertFalse(applicationImpl.contains(deleted),
+                             deleted + " is still used");
+    }
+  }
+
+  private void compile(SyntheticApplication application,
+                       Path output)
+      throws IOException {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics,
+                                                                               null,
+                                                                               StandardCharsets.UTF_8)) {
+      // the class output is not part of the classpath, so deleted classes can not be found
+      fileManager.setLocation(StandardLocation.CLASS_OUTPUT,
+                              Collections.singletonList(output.toFile()));
+      fileManager.setLocation(StandardLocation.SOURCE_OUTPUT,
+                              Collections.singletonList(output.toFile()));
+      JavaCompiler.CompilationTask task = compiler.getTask(null,
+                                                           fileManager,
+                                                           diagnostics,
+                                                           Arrays.asList("-classpath",
+                                                                         System.getProperty("java.class.path")),
+                                                           null,
+                                                           application.createApplicationSources());
+      task.setProcessors(Collections.singletonList(new NaluProcessor()));
+      Assertions.assertTrue(task.call(),
+                            diagnostics.getDiagnostics()
+                                       .toString());
+    }
+  }
+
+  private List<String> compile(SyntheticApplication application)
+      throws IOException {
+    Compilation compilation = javac().withProcessors(new NaluProcessor())
+                                     .compile(application.createApplicationSources());
+    CompilationSubject.assertThat(compilation)
+                      .succeeded();
+    List<String> sources = new ArrayList<>();
+    for (JavaFileObject fileObject : compilation.generatedSourceFiles()) {
+      sources.add(fileObject.getName());
+      sources.add(fileObject.getCharContent(true)
+                            .toString());
+    }
+    return sources;
+  }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.processor.generator;
+
+import com.github.nalukit.nalu.client.internal.module.NoModuleLoader;
+import com.github.nalukit.nalu.processor.model.MetaModel;
+import com.github.nalukit.nalu.processor.model.intern.ClassNameModel;
+import com.github.nalukit.nalu.processor.model.intern.LazyModuleModel;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.TypeSpec;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.lang.model.element.Modifier;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+public class ModulesGeneratorTest {
+
+  private static final String PACKAGE = "com.github.nalukit.nalu.processor.generator.modules";
+
+  @Test
+  void testGenerateLazyModules() {
+    MetaModel metaModel = new MetaModel();
+    metaModel.setModules(Arrays.asList(new ClassNameModel(PACKAGE + ".EagerModule"),
+                                       new ClassNameModel(PACKAGE + ".LazyModule"),
+                                       new ClassNameModel(PACKAGE + ".LazyModuleWithoutLoader")));
+    metaModel.setLazyModules(Arrays.asList(new LazyModuleModel(new ClassNameModel(PACKAGE + ".LazyModule"),
+                                                               Arrays.asList("/shell/person",
+                                                                             "/shell/address"),
+                                                               new ClassNameModel(PACKAGE + ".LazyModuleLoader")),
+                                           new LazyModuleModel(new ClassNameModel(PACKAGE + ".LazyModuleWithoutLoader"),
+                                                               Collections.singletonList("/shell/settings"),
+                                                               new ClassNameModel(NoModuleLoader.class.getCanonicalName()))));
+    TypeSpec.Builder typeSpec = TypeSpec.classBuilder("ModulesHolder")
+                                        .addModifiers(Modifier.PUBLIC,
+                                                      Modifier.FINAL);
+    ModulesGenerator.builder()
+                    .metaModel(metaModel)
+                    .typeSpec(typeSpec)
+                    .build()
+                    .generate();
+    String generated = JavaFile.builder(PACKAGE,
+                                        typeSpec.build())
+                               .build()
+                               .toString();
+    Assertions.assertEquals(this.read("com/github/nalukit/nalu/processor/generator/modules/ModulesHolder.java.txt"),
+                            generated);
+  }
+
+  private String read(String resource) {
+    try (InputStream inputStream = this.getClass()
+                                       .getClassLoader()
+                                       .getResourceAsStream(resource)) {
+      Assertions.assertNotNull(inputStream,
+                               "resource >>" + resource + "<< not found");
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      byte[] buffer = new byte[4096];
+      int length;
+      while ((length = inputStream.read(buffer)) != -1) {
+        outputStream.write(buffer,
+                           0,
+                           length);
+      }
+      return new String(outputStream.toByteArray(),
+                        StandardCharsets.UTF_8).replace("\r\n",
+                                                        "\n");
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+}
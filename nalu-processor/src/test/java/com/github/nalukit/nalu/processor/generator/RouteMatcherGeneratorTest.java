@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.processor.generator;
+
+import com.github.nalukit.nalu.client.internal.PropertyFactory;
+import com.github.nalukit.nalu.client.internal.route.IsRouteMatcher;
+import com.github.nalukit.nalu.client.internal.route.RouteConfig;
+import com.github.nalukit.nalu.client.internal.route.RouterConfiguration;
+import com.github.nalukit.nalu.client.internal.route.RouterUtils;
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.CompilationSubject;
+import com.google.testing.compile.JavaFileObjects;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.TypeSpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static com.google.testing.compile.Compiler.javac;
+
+/**
+ * Differential test: the generated route matcher has to return the same
+ * route as testing the routes one by one using RouterUtils.match.
+ */
+public class RouteMatcherGeneratorTest {
+
+  private static final String PACKAGE = "com.github.nalukit.nalu.processor.generator.matcher";
+
+  private static final String HOLDER = "RouteMatcherHolder";
+
+  private static final String[] ROUTE_PARTS = { "app",
+                                                "shell",
+                                                "person",
+                                                "edit",
+                                                "[app|shell]",
+                                                "*",
+                                                "*" };
+
+  private static final String[] INPUT_PARTS = { "app",
+                                                "shell",
+                                                "person",
+                                                "edit",
+                                                "[app|shell]",
+                                                "*",
+                                                "3",
+                                                ":3",
+                                                ":edit",
+                                                "" };
+
+  @AfterEach
+  void after() {
+    this.setUsingColonForParametersInUrl(false);
+  }
+
+  @Test
+  void testSortBySpecificity() {
+    List<String> routes = new ArrayList<>(Arrays.asList("/*/person/*",
+                                                        "/app/*",
+                                                        "/app/person/*",
+                                                        "/app/person",
+                                                        "/app/person/*/edit"));
+    routes.sort(RouteMatcherGenerator.SPECIFICITY);
+    Assertions.assertEquals(Arrays.asList("/app/person",
+                                          "/app/person/*",
+                                          "/app/person/*/edit",
+                                          "/app/*",
+                                          "/*/person/*"),
+                            routes);
+  }
+
+  @Test
+  void testMatcherWithApplicationRoutes() {
+    List<String> routes = Arrays.asList("/app/search",
+                                        "/app/person/*/edit",
+                                        "/app/person/*",
+                                        "/app/person/*/*",
+                                        "/[app|login]/login",
+                                        "/*/error",
+                                        "/",
+                                        "/app");
+    this.verify(routes,
+                this.createInputs(routes,
+                                  new Random(1)));
+  }
+
+  @Test
+  void testMatcherWithEmptyRouteTable() {
+    this.verify(Collections.emptyList(),
+                Arrays.asList("",
+                              "app",
+                              "app/person/3"));
+  }
+
+  @Test
+  void testMatcherWithRandomRoutes() {
+    Random random = new Random(4711);
+    for (int run = 0; run < 25; run++) {
+      List<String> routes = new ArrayList<>();
+      int numberOfRoutes = 1 + random.nextInt(12);
+      for (int i = 0; i < numberOfRoutes; i++) {
+        routes.add("/" + this.createRandomRoute(random,
+                                                ROUTE_PARTS,
+                                                1 + random.nextInt(4)));
+      }
+      this.verify(routes,
+                  this.createInputs(routes,
+                                    random));
+    }
+  }
+
+  private void verify(List<String> unsortedRoutes,
+                      List<String> inputs) {
+    List<String> routes = new ArrayList<>(unsortedRoutes);
+    routes.sort(RouteMatcherGenerator.SPECIFICITY);
+    IsRouteMatcher matcher = this.compile(routes);
+    for (boolean usingColonForParametersInUrl : new boolean[] { false, true }) {
+      this.setUsingColonForParametersInUrl(usingColonForParametersInUrl);
+      RouterConfiguration routerConfiguration = new RouterConfiguration();
+      List<RouteConfig> routeConfigs = new ArrayList<>();
+      routes.forEach(route -> routeConfigs.add(new RouteConfig(route,
+                                                               new ArrayList<>(),
+                                                               "selector",
+                                                               "className")));
+      routerConfiguration.addRoutes(routeConfigs,
+                                    matcher);
+      for (String input : inputs) {
+        RouteConfig expected = null;
+        for (RouteConfig routeConfig : routeConfigs) {
+          if (RouterUtils.get()
+                         .match(input,
+                                routeConfig.getRoute())) {
+            expected = routeConfig;
+            break;
+          }
+        }
+        Assertions.assertSame(expected,
+                              routerConfiguration.matchRoute(input),
+                              "input >>" + input + "<< routes >>" + routes + "<< colon >>" + usingColonForParametersInUrl + "<<");
+      }
+    }
+  }
+
+  private List<String> createInputs(List<String> routes,
+                                    Random random) {
+    Set<String> inputs = new LinkedHashSet<>(Arrays.asList("",
+                                                           "/",
+                                                           "//",
+                                                           "app//person",
+                                                           "app/"));
+    for (String route : routes) {
+      String value = route.substring(1);
+      inputs.add(value);
+      inputs.add(value.replace("*",
+                               "3"));
+      inputs.add(value.replace("*",
+                               ":3"));
+      inputs.add(value + "/edit");
+      inputs.add(value + "/:3");
+      if (value.contains("/")) {
+        inputs.add(value.substring(0,
+                                   value.lastIndexOf("/")));
+      }
+    }
+    for (int i = 0; i < 100; i++) {
+      inputs.add(this.createRandomRoute(random,
+                                        INPUT_PARTS,
+                                        random.nextInt(6)));
+    }
+    return new ArrayList<>(inputs);
+  }
+
+  private String createRandomRoute(Random random,
+                                   String[] parts,
+                                   int numberOfParts) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < numberOfParts; i++) {
+      if (i > 0) {
+        sb.append("/");
+      }
+      sb.append(parts[random.nextInt(parts.length)]);
+    }
+    return sb.toString();
+  }
+
+  private IsRouteMatcher compile(List<String> routes) {
+    TypeSpec.Builder holder = TypeSpec.classBuilder(HOLDER);
+    RouteMatcherGenerator.builder()
+                         .routes(routes)
+                         .typeSpec(holder)
+                         .build()
+                         .generate();
+    JavaFile javaFile = JavaFile.builder(PACKAGE,
+                                         holder.build())
+                                .build();
+    Compilation compilation = javac().compile(JavaFileObjects.forSourceString(PACKAGE + "." + HOLDER,
+                                                                              javaFile.toString()));
+    CompilationSubject.assertThat(compilation)
+                      .succeeded();
+    ClassLoader classLoader = new ClassLoader(this.getClass()
+                                                  .getClassLoader()) {
+      @Override
+      protected Class<?> findClass(String name)
+          throws ClassNotFoundException {
+        String simpleName = name.substring(name.lastIndexOf('.') + 1);
+        JavaFileObject classFile = compilation.generatedFile(StandardLocation.CLASS_OUTPUT,
+                                                             PACKAGE,
+                                                             simpleName + ".class")
+                                              .orElseThrow(() -> new ClassNotFoundException(name));
+        try (InputStream inputStream = classFile.openInputStream()) {
+          ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+          byte[] buffer = new byte[4096];
+          int length;
+          while ((length = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer,
+                               0,
+                               length);
+          }
+          byte[] bytes = outputStream.toByteArray();
+          return defineClass(name,
+                             bytes,
+                             0,
+                             bytes.length);
+        } catch (IOException e) {
+          throw new ClassNotFoundException(name,
+                                           e);
+        }
+      }
+    };
+    try {
+      Constructor<?> constructor = classLoader.loadClass(PACKAGE + "." + HOLDER + "$" + RouteMatcherGenerator.ROUTE_MATCHER_NAME)
+                                              .getDeclaredConstructor();
+      constructor.setAccessible(true);
+      return (IsRouteMatcher) constructor.newInstance();
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private void setUsingColonForParametersInUrl(boolean usingColonForParametersInUrl) {
+    PropertyFactory.get()
+                   .register("/app/search",
+                             true,
+                             true,
+                             usingColonForParametersInUrl,
+                             false);
+  }
+
+}
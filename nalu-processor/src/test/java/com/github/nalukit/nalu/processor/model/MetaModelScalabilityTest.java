@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.processor.model;
+
+import com.github.nalukit.nalu.processor.model.intern.ClassNameModel;
+import com.github.nalukit.nalu.processor.model.intern.ControllerCompositeModel;
+import com.github.nalukit.nalu.processor.model.intern.ControllerModel;
+import com.github.nalukit.nalu.processor.model.intern.ShellModel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Merging and looking up models has to grow linear with the number
+ * of controllers. With a list based meta model, every merge and every
+ * lookup scanned all existing controllers, which made processing large
+ * applications quadratic.
+ */
+public class MetaModelScalabilityTest {
+
+  private static final int CONTROLLERS = 1_000;
+
+  @Test
+  void mergeControllersReplacesExistingModels() {
+    MetaModel metaModel = new MetaModel();
+    // first round: all controllers are new
+    List<CountingControllerModel> firstRound = this.createControllers(CONTROLLERS);
+    firstRound.forEach(metaModel::addController);
+    // second round: all controllers are processed again (incremental build)
+    List<CountingControllerModel> secondRound = this.createControllers(CONTROLLERS);
+    secondRound.forEach(metaModel::addController);
+    Collection<ControllerModel> controllers = metaModel.getControllers();
+    Assertions.assertEquals(CONTROLLERS,
+                            controllers.size());
+    Assertions.assertEquals(secondRound,
+                            new ArrayList<>(controllers));
+  }
+
+  @Test
+  void getControllersReturnsView() {
+    MetaModel metaModel = new MetaModel();
+    Collection<ControllerModel> controllers = metaModel.getControllers();
+    this.createControllers(CONTROLLERS)
+        .forEach(metaModel::addController);
+    Assertions.assertEquals(CONTROLLERS,
+                            controllers.size());
+    Assertions.assertThrows(UnsupportedOperationException.class,
+                            controllers::clear);
+  }
+
+  @Test
+  void getControllersUsingCompositeUsesIndex() {
+    MetaModel metaModel = new MetaModel();
+    List<CountingControllerModel> controllers = this.createControllers(CONTROLLERS);
+    controllers.forEach(metaModel::addController);
+    for (int i = 0; i < CONTROLLERS; i++) {
+      List<ControllerModel> models = metaModel.getControllersUsingComposite("com.example.ui.Composite" + i);
+      Assertions.assertEquals(1,
+                              models.size());
+      Assertions.assertSame(controllers.get(i),
+                            models.get(0));
+    }
+    Assertions.assertTrue(metaModel.getControllersUsingComposite("com.example.ui.Unknown")
+                                   .isEmpty());
+    // the index is created once: the composites of every controller are read once
+    Assertions.assertEquals(CONTROLLERS,
+                            controllers.stream()
+                                       .mapToInt(model -> model.compositeLookups)
+                                       .sum());
+    // a replaced controller updates the index
+    CountingControllerModel replacement = this.createController(0);
+    metaModel.addController(replacement);
+    Assertions.assertSame(replacement,
+                          metaModel.getControllersUsingComposite("com.example.ui.Composite0")
+                                   .get(0));
+  }
+
+  @Test
+  void getShellUsesIndex() {
+    MetaModel metaModel = new MetaModel();
+    for (int i = 0; i < CONTROLLERS; i++) {
+      metaModel.addShell(new ShellModel("shell" + i,
+                                        new ClassNameModel("com.example.ui.Shell" + i),
+                                        new ClassNameModel("com.example.Context")));
+    }
+    Assertions.assertEquals("com.example.ui.Shell42",
+                            metaModel.getShell("shell42")
+                                     .getShell()
+                                     .getClassName());
+    Assertions.assertNull(metaModel.getShell("unknown"));
+    metaModel.removeShellsIf(model -> "shell42".equals(model.getName()));
+    Assertions.assertNull(metaModel.getShell("shell42"));
+  }
+
+  private List<CountingControllerModel> createControllers(int count) {
+    List<CountingControllerModel> controllers = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      controllers.add(this.createController(i));
+    }
+    return controllers;
+  }
+
+  private CountingControllerModel createController(int number) {
+    ClassNameModel controller = new ClassNameModel("com.example.ui.Controller" + number);
+    CountingControllerModel controllerModel = new CountingControllerModel(controller);
+    controllerModel.getComposites()
+                   .add(new ControllerCompositeModel("composite",
+                                                     new ClassNameModel("com.example.ui.Composite" + number),
+                                                     "composite",
+                                                     new ClassNameModel("com.example.ui.Condition"),
+                                                     false,
+                                                     false));
+    controllerModel.compositeLookups = 0;
+    return controllerModel;
+  }
+
+  static class CountingControllerModel
+      extends ControllerModel {
+
+    private int compositeLookups;
+
+    CountingControllerModel(ClassNameModel controller) {
+      super(controller.getClassName(),
+            controller.getClassName(),
+            "content",
+            new ArrayList<>(),
+            new ClassNameModel("com.example.Context"),
+            controller,
+            new ClassNameModel(controller.getClassName() + "IComponent"),
+            new ClassNameModel(controller.getClassName() + "Component"),
+            new ClassNameModel("java.lang.String"),
+            controller,
+            false);
+    }
+
+    @Override
+    public List<ControllerCompositeModel> getComposites() {
+      this.compositeLookups++;
+      return super.getComposites();
+    }
+
+  }
+
+}
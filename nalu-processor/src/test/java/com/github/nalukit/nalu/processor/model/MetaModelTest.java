@@ -16,10 +16,18 @@
 
 package com.github.nalukit.nalu.processor.model;
 
+import com.github.nalukit.nalu.processor.model.intern.ClassNameModel;
+import com.github.nalukit.nalu.processor.model.intern.LazyModuleModel;
+import com.github.nalukit.nalu.processor.model.intern.ShellModel;
+import com.google.gson.Gson;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
 public class MetaModelTest {
 
   private MetaModel metaModel;
@@ -43,4 +51,77 @@ public class MetaModelTest {
                             this.metaModel.getShellOfStartRoute());
   }
 
-}
\ No newline at end of file
+  @Test
+  void addShellReplacesExistingModel() {
+    this.metaModel.addShell(this.createShell("shell01",
+                                             "com.example.Shell01"));
+    this.metaModel.addShell(this.createShell("shell02",
+                                             "com.example.Shell02"));
+    this.metaModel.addShell(this.createShell("shell01New",
+                                             "com.example.Shell01"));
+    Assertions.assertEquals(Arrays.asList("shell02",
+                                          "shell01New"),
+                            this.metaModel.getShells()
+                                          .stream()
+                                          .map(ShellModel::getName)
+                                          .collect(Collectors.toList()));
+  }
+
+  @Test
+  void removeHandlersIf() {
+    this.metaModel.addHandler(new ClassNameModel("com.example.Handler01"));
+    this.metaModel.addHandler(new ClassNameModel("com.example.Handler02"));
+    this.metaModel.removeHandlersIf(model -> model.getClassName()
+                                                  .endsWith("01"));
+    Assertions.assertEquals(Arrays.asList(new ClassNameModel("com.example.Handler02")),
+                            new ArrayList<>(this.metaModel.getHandlers()));
+  }
+
+  @Test
+  void removeModulesIfRemovesLazyModule() {
+    this.metaModel.setModules(Arrays.asList(new ClassNameModel("com.example.Module01"),
+                                            new ClassNameModel("com.example.Module02")));
+    this.metaModel.setLazyModules(Arrays.asList(new LazyModuleModel(new ClassNameModel("com.example.Module01"),
+                                                                    Arrays.asList("/shell/route01"),
+                                                                    new ClassNameModel("com.example.Loader01"))));
+    this.metaModel.removeModulesIf(model -> model.getClassName()
+                                                 .endsWith("01"));
+    Assertions.assertEquals(Arrays.asList(new ClassNameModel("com.example.Module02")),
+                            this.metaModel.getModules());
+    Assertions.assertTrue(this.metaModel.getLazyModules()
+                                        .isEmpty());
+  }
+
+  @Test
+  void restoreKeepsOrder() {
+    this.metaModel.addShell(this.createShell("shell02",
+                                             "com.example.Shell02"));
+    this.metaModel.addShell(this.createShell("shell01",
+                                             "com.example.Shell01"));
+    Gson gson = new Gson();
+    MetaModel restored = gson.fromJson(gson.toJson(this.metaModel),
+                                       MetaModel.class);
+    Assertions.assertEquals(Arrays.asList("shell02",
+                                          "shell01"),
+                            restored.getShells()
+                                    .stream()
+                                    .map(ShellModel::getName)
+                                    .collect(Collectors.toList()));
+    restored.addShell(this.createShell("shell03",
+                                       "com.example.Shell02"));
+    Assertions.assertEquals(Arrays.asList("shell01",
+                                          "shell03"),
+                            restored.getShells()
+                                    .stream()
+                                    .map(ShellModel::getName)
+                                    .collect(Collectors.toList()));
+  }
+
+  private ShellModel createShell(String name,
+                                 String className) {
+    return new ShellModel(name,
+                          new ClassNameModel(className),
+                          new ClassNameModel("com.example.Context"));
+  }
+
+}
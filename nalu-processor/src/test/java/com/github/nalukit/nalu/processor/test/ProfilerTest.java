@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.processor.test;
+
+import com.github.nalukit.nalu.processor.NaluProcessor;
+import com.github.nalukit.nalu.processor.benchmark.SyntheticApplication;
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.CompilationSubject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.util.Optional;
+
+import static com.google.testing.compile.Compiler.javac;
+
+public class ProfilerTest {
+
+  private static final String REPORT = "META-INF/nalu-route/nalu-profile.json";
+
+  private final SyntheticApplication application = SyntheticApplication.builder()
+                                                                       .controllers(3)
+                                                                       .compositesPerController(1)
+                                                                       .build();
+
+  @Test
+  void testProfileReportWritten()
+      throws IOException {
+    Compilation compilation = javac().withOptions("-Analu.profile=true")
+                                     .withProcessors(new NaluProcessor())
+                                     .compile(this.application.createApplicationSources());
+    CompilationSubject.assertThat(compilation)
+                      .succeeded();
+    Optional<JavaFileObject> report = compilation.generatedFile(StandardLocation.CLASS_OUTPUT,
+                                                                REPORT);
+    Assertions.assertTrue(report.isPresent());
+    String content = report.get()
+                           .getCharContent(true)
+                           .toString();
+    Assertions.assertTrue(content.contains("\"name\": \"validate @Controller\""));
+    Assertions.assertTrue(content.contains("\"name\": \"generate ControllerCreatorGenerator\""));
+    Assertions.assertTrue(content.contains("\"name\": \"generate ControllerGenerator\""));
+    Assertions.assertTrue(content.contains("\"name\": \"store MetaModel\""));
+  }
+
+  @Test
+  void testNoProfileReportWithoutOption() {
+    Compilation compilation = javac().withProcessors(new NaluProcessor())
+                                     .compile(this.application.createApplicationSources());
+    CompilationSubject.assertThat(compilation)
+                      .succeeded();
+    Assertions.assertFalse(compilation.generatedFile(StandardLocation.CLASS_OUTPUT,
+                                                     REPORT)
+                                      .isPresent());
+  }
+
+}
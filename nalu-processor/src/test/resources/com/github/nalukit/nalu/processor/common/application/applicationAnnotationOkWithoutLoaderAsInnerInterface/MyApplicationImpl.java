@@ -5,6 +5,7 @@ import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.application.AbstractApplication;
 import com.github.nalukit.nalu.client.internal.application.ControllerFactory;
 import com.github.nalukit.nalu.client.internal.application.ShellFactory;
+import com.github.nalukit.nalu.client.internal.route.IsRouteMatcher;
 import com.github.nalukit.nalu.client.internal.route.RouteConfig;
 import com.github.nalukit.nalu.client.internal.route.ShellConfig;
 import com.github.nalukit.nalu.client.plugin.IsCustomAlertPresenter;
@@ -13,8 +14,11 @@ import com.github.nalukit.nalu.client.tracker.IsTracker;
 import com.github.nalukit.nalu.processor.common.MockContext;
 import com.github.nalukit.nalu.processor.common.application.applicationAnnotationOkWithoutLoaderAsInnerInterface.ApplicationAnnotationOkWithoutLoaderAsInnerInterface.MyApplication;
 import java.lang.Override;
+import java.lang.String;
 import java.lang.StringBuilder;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Build with Nalu version >>2.0.1<< at >>2020.11.07-07:25:37<< */
@@ -58,7 +62,7 @@ public final class MyApplicationImpl extends AbstractApplication<MockContext> im
   @Override
   public void loadShellFactory() {
     // create ShellCreator for: com.github.nalukit.nalu.processor.common.MockShell
-    ShellFactory.get().registerShell("com.github.nalukit.nalu.processor.common.MockShell", new com.github.nalukit.nalu.processor.common.MockShellCreatorImpl(router, context, eventBus));
+    ShellFactory.get().registerShell("com.github.nalukit.nalu.processor.common.MockShell", () -> new com.github.nalukit.nalu.processor.common.MockShellCreatorImpl(router, context, eventBus));
   }
 
   @Override
@@ -68,7 +72,7 @@ public final class MyApplicationImpl extends AbstractApplication<MockContext> im
   @Override
   public void loadComponents() {
     // create ControllerCreator for: com.github.nalukit.nalu.processor.common.ui.component01.Controller01
-    ControllerFactory.get().registerController("com.github.nalukit.nalu.processor.common.ui.component01.Controller01", new com.github.nalukit.nalu.processor.common.ui.component01.Controller01CreatorImpl(router, context, eventBus));
+    ControllerFactory.get().registerController("com.github.nalukit.nalu.processor.common.ui.component01.Controller01", () -> new com.github.nalukit.nalu.processor.common.ui.component01.Controller01CreatorImpl(router, context, eventBus));
   }
 
   @Override
@@ -76,10 +80,12 @@ public final class MyApplicationImpl extends AbstractApplication<MockContext> im
     StringBuilder sb01 = new StringBuilder();
     sb01.append("load routes");
     ClientLogger.get().logDetailed(sb01.toString(), 2);
-    super.routerConfiguration.getRouters().add(new RouteConfig("/mockShell/route01/*", Arrays.asList(new String[]{"parameter01"}), "selector01", "com.github.nalukit.nalu.processor.common.ui.component01.Controller01"));
+    List<RouteConfig> routeConfigs = new ArrayList<>();
+    routeConfigs.add(new RouteConfig("/mockShell/route01/*", Arrays.asList(new String[]{"parameter01"}), "selector01", "com.github.nalukit.nalu.processor.common.ui.component01.Controller01", Arrays.asList(new String[]{"/mockShell"}), "/route01/*"));
     sb01.setLength(0);
     sb01.append("register route >>/mockShell/route01/*<< with parameter >>parameter01<< for selector >>selector01<< for controller >>com.github.nalukit.nalu.processor.common.ui.component01.Controller01<<");
     ClientLogger.get().logDetailed(sb01.toString(), 3);
+    super.routerConfiguration.addRoutes(routeConfigs, new RouteMatcherImpl());
   }
 
   @Override
@@ -159,4 +165,61 @@ public final class MyApplicationImpl extends AbstractApplication<MockContext> im
   public boolean isStayOnSide() {
     return false;
   }
+
+  static final class RouteMatcherImpl implements IsRouteMatcher {
+    @Override
+    public int match(String[] parts, boolean usingColonForParametersInUrl) {
+      return matchNode0(parts, usingColonForParametersInUrl);
+    }
+
+    private int matchNode0(String[] parts, boolean usingColonForParametersInUrl) {
+      if (parts.length == 0) {
+        return 0;
+      }
+      String part = parts[0];
+      int result = IsRouteMatcher.NO_MATCH;
+      if (!usingColonForParametersInUrl || !part.startsWith(":")) {
+        switch (part) {
+          case "mockShell":
+            result = matchNode1(parts, usingColonForParametersInUrl);
+            break;
+        }
+      }
+      return result;
+    }
+
+    private int matchNode1(String[] parts, boolean usingColonForParametersInUrl) {
+      if (parts.length == 1) {
+        return IsRouteMatcher.NO_MATCH;
+      }
+      String part = parts[1];
+      int result = IsRouteMatcher.NO_MATCH;
+      if (!usingColonForParametersInUrl || !part.startsWith(":")) {
+        switch (part) {
+          case "route01":
+            result = matchNode2(parts, usingColonForParametersInUrl);
+            break;
+        }
+      }
+      return result;
+    }
+
+    private int matchNode2(String[] parts, boolean usingColonForParametersInUrl) {
+      if (parts.length == 2) {
+        return 0;
+      }
+      String part = parts[2];
+      if (!usingColonForParametersInUrl || part.startsWith(":") || "*".equals(part)) {
+        return matchNode3(parts, usingColonForParametersInUrl);
+      }
+      return IsRouteMatcher.NO_MATCH;
+    }
+
+    private int matchNode3(String[] parts, boolean usingColonForParametersInUrl) {
+      if (parts.length == 3) {
+        return 0;
+      }
+      return IsRouteMatcher.NO_MATCH;
+    }
+  }
 }
@@ -0,0 +1,25 @@
+package com.github.nalukit.nalu.processor.common.application.applicationWithRoutes;
+
+import com.github.nalukit.nalu.client.model.NaluRoute;
+import java.lang.String;
+
+public final class ApplicationWithRoutesRoutes {
+  private ApplicationWithRoutesRoutes() {
+  }
+
+  public static NaluRoute controller01(String parameter01) {
+    return new NaluRoute("/mockShell/route01/*", new String[] { parameter01 }, "mockShell/route01/" + NaluRoute.parameter(parameter01));
+  }
+
+  public static NaluRoute controller03(String shell, String variable01) {
+    return new NaluRoute("/" + shell + "/route03/*", new String[] { variable01 }, shell + "/route03/" + NaluRoute.parameter(variable01));
+  }
+
+  public static NaluRoute controller05(String shell, String variable01) {
+    return new NaluRoute("/" + shell + "/route05/*", new String[] { variable01 }, shell + "/route05/" + NaluRoute.parameter(variable01));
+  }
+
+  public static NaluRoute controller06() {
+    return new NaluRoute("/mockShell", new String[0], "mockShell");
+  }
+}
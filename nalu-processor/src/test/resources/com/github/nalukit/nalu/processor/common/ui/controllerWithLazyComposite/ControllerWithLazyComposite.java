@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.processor.common.ui.controllerWithLazyComposite;
+
+import com.github.nalukit.nalu.client.component.AbstractComponentController;
+import com.github.nalukit.nalu.client.component.annotation.Composite;
+import com.github.nalukit.nalu.client.component.annotation.Composites;
+import com.github.nalukit.nalu.client.component.annotation.Controller;
+import com.github.nalukit.nalu.processor.common.MockContext;
+import com.github.nalukit.nalu.processor.common.ui.controllerWithComposite01.Component01;
+import com.github.nalukit.nalu.processor.common.ui.controllerWithComposite01.IComponent01;
+import com.github.nalukit.nalu.processor.common.ui.controllerWithComposite01.composite.CompositeController01;
+
+@Controller(route = "/mockShell/route01",
+            selector = "selector01",
+            component = Component01.class,
+            componentInterface = IComponent01.class)
+@Composites(@Composite(name = "testComposite",
+                       compositeController = CompositeController01.class,
+                       selector = "selector",
+                       lazy = true))
+public class ControllerWithLazyComposite
+    extends AbstractComponentController<MockContext, IComponent01, String>
+    implements IComponent01.Controller {
+
+  public ControllerWithLazyComposite() {
+  }
+
+}
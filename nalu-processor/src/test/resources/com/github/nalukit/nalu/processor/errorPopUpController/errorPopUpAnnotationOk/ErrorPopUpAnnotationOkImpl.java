@@ -4,19 +4,25 @@ import com.github.nalukit.nalu.client.application.IsApplicationLoader;
 import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.application.AbstractApplication;
 import com.github.nalukit.nalu.client.internal.application.ControllerFactory;
+import com.github.nalukit.nalu.client.internal.application.DataLoaderFactory;
 import com.github.nalukit.nalu.client.internal.application.ShellFactory;
+import com.github.nalukit.nalu.client.internal.route.IsRouteMatcher;
 import com.github.nalukit.nalu.client.internal.route.RouteConfig;
 import com.github.nalukit.nalu.client.internal.route.ShellConfig;
 import com.github.nalukit.nalu.client.plugin.IsCustomAlertPresenter;
 import com.github.nalukit.nalu.client.plugin.IsCustomConfirmPresenter;
 import com.github.nalukit.nalu.client.tracker.IsTracker;
 import com.github.nalukit.nalu.processor.common.MockContext;
+import com.github.nalukit.nalu.processor.common.ui.component01.Controller01;
 import com.github.nalukit.nalu.processor.common.ui.errorPopUp01.ErrorEventComponent01;
 import com.github.nalukit.nalu.processor.common.ui.errorPopUp01.ErrorEventController01;
 import com.github.nalukit.nalu.processor.common.ui.errorPopUp01.IErrorEventComponent01;
 import java.lang.Override;
+import java.lang.String;
 import java.lang.StringBuilder;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Build with Nalu version >>2.0.1<< at >>2020.01.04-09:46:53<< */
@@ -64,9 +70,9 @@ public final class ErrorPopUpAnnotationOkImpl extends AbstractApplication<MockCo
   @Override
   public void loadShellFactory() {
     // create ShellCreator for: com.github.nalukit.nalu.processor.common.MockShell
-    ShellFactory.get().registerShell("com.github.nalukit.nalu.processor.common.MockShell", new com.github.nalukit.nalu.processor.common.MockShellCreatorImpl(router, context, eventBus));
+    ShellFactory.get().registerShell("com.github.nalukit.nalu.processor.common.MockShell", () -> new com.github.nalukit.nalu.processor.common.MockShellCreatorImpl(router, context, eventBus));
     // create ShellCreator for: com.github.nalukit.nalu.processor.common.MockErrorShell
-    ShellFactory.get().registerShell("com.github.nalukit.nalu.processor.common.MockErrorShell", new com.github.nalukit.nalu.processor.common.MockErrorShellCreatorImpl(router, context, eventBus));
+    ShellFactory.get().registerShell("com.github.nalukit.nalu.processor.common.MockErrorShell", () -> new com.github.nalukit.nalu.processor.common.MockErrorShellCreatorImpl(router, context, eventBus));
   }
 
   @Override
@@ -76,7 +82,8 @@ public final class ErrorPopUpAnnotationOkImpl extends AbstractApplication<MockCo
   @Override
   public void loadComponents() {
     // create ControllerCreator for: com.github.nalukit.nalu.processor.common.ui.component01.Controller01
-    ControllerFactory.get().registerController("com.github.nalukit.nalu.processor.common.ui.component01.Controller01", new com.github.nalukit.nalu.processor.common.ui.component01.Controller01CreatorImpl(router, context, eventBus));
+    ControllerFactory.get().registerController("com.github.nalukit.nalu.processor.common.ui.component01.Controller01", () -> new com.github.nalukit.nalu.processor.common.ui.component01.Controller01CreatorImpl(router, context, eventBus));
+    DataLoaderFactory.get().registerClass("com.github.nalukit.nalu.processor.common.ui.component01.Controller01", Controller01.class);
   }
 
   @Override
@@ -84,10 +91,12 @@ public final class ErrorPopUpAnnotationOkImpl extends AbstractApplication<MockCo
     StringBuilder sb01 = new StringBuilder();
     sb01.append("load routes");
     ClientLogger.get().logDetailed(sb01.toString(), 2);
-    super.routerConfiguration.getRouters().add(new RouteConfig("/mockShell/route01/*", Arrays.asList(new String[]{"parameter01"}), "selector01", "com.github.nalukit.nalu.processor.common.ui.component01.Controller01"));
+    List<RouteConfig> routeConfigs = new ArrayList<>();
+    routeConfigs.add(new RouteConfig("/mockShell/route01/*", Arrays.asList(new String[]{"parameter01"}), "selector01", "com.github.nalukit.nalu.processor.common.ui.component01.Controller01", Arrays.asList(new String[]{"/mockShell"}), "/route01/*"));
     sb01.setLength(0);
     sb01.append("register route >>/mockShell/route01/*<< with parameter >>parameter01<< for selector >>selector01<< for controller >>com.github.nalukit.nalu.processor.common.ui.component01.Controller01<<");
     ClientLogger.get().logDetailed(sb01.toString(), 3);
+    super.routerConfiguration.addRoutes(routeConfigs, new RouteMatcherImpl());
   }
 
   @Override
@@ -108,7 +117,8 @@ public final class ErrorPopUpAnnotationOkImpl extends AbstractApplication<MockCo
     errorPopUpController.setEventBus(eventBus);
     errorPopUpController.setRouter(router);
     sb01.setLength(0);
-    sb01.append("controller >>").append(errorPopUpController.getClass().getCanonicalName()).append("<< --> created and data injected");
+    errorPopUpController.setControllerClassName("com.github.nalukit.nalu.processor.common.ui.errorPopUp01.ErrorEventController01");
+    sb01.append("controller >>com.github.nalukit.nalu.processor.common.ui.errorPopUp01.ErrorEventController01<< --> created and data injected");
     ClientLogger.get().logDetailed(sb01.toString(), 4);
     IErrorEventComponent01 component = new ErrorEventComponent01();
     sb01.setLength(0);
@@ -116,19 +126,20 @@ public final class ErrorPopUpAnnotationOkImpl extends AbstractApplication<MockCo
     ClientLogger.get().logDetailed(sb01.toString(), 4);
     component.setController(errorPopUpController);
     sb01.setLength(0);
-    sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> created and controller instance injected");
+    sb01.append("component >>com.github.nalukit.nalu.processor.common.ui.errorPopUp01.ErrorEventComponent01<< --> created and controller instance injected");
     ClientLogger.get().logDetailed(sb01.toString(), 4);
     errorPopUpController.setComponent(component);
+    errorPopUpController.setComponentClassName("com.github.nalukit.nalu.processor.common.ui.errorPopUp01.ErrorEventComponent01");
     sb01.setLength(0);
-    sb01.append("controller >>").append(errorPopUpController.getClass().getCanonicalName()).append("<< --> instance of >>").append(component.getClass().getCanonicalName()).append("<< injected");
+    sb01.append("controller >>com.github.nalukit.nalu.processor.common.ui.errorPopUp01.ErrorEventController01<< --> instance of >>com.github.nalukit.nalu.processor.common.ui.errorPopUp01.ErrorEventComponent01<< injected");
     ClientLogger.get().logDetailed(sb01.toString(), 4);
     component.render();
     sb01.setLength(0);
-    sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> rendered");
+    sb01.append("component >>com.github.nalukit.nalu.processor.common.ui.errorPopUp01.ErrorEventComponent01<< --> rendered");
     ClientLogger.get().logDetailed(sb01.toString(), 4);
     component.bind();
     sb01.setLength(0);
-    sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> bound");
+    sb01.append("component >>com.github.nalukit.nalu.processor.common.ui.errorPopUp01.ErrorEventComponent01<< --> bound");
     ClientLogger.get().logDetailed(sb01.toString(), 4);
     ClientLogger.get().logSimple("controller >>com.github.nalukit.nalu.processor.common.ui.errorPopUp01.ErrorEventController01<< created", 3);
     errorPopUpController.onLoad();
@@ -197,4 +208,61 @@ public final class ErrorPopUpAnnotationOkImpl extends AbstractApplication<MockCo
   public boolean isStayOnSide() {
     return false;
   }
+
+  static final class RouteMatcherImpl implements IsRouteMatcher {
+    @Override
+    public int match(String[] parts, boolean usingColonForParametersInUrl) {
+      return matchNode0(parts, usingColonForParametersInUrl);
+    }
+
+    private int matchNode0(String[] parts, boolean usingColonForParametersInUrl) {
+      if (parts.length == 0) {
+        return 0;
+      }
+      String part = parts[0];
+      int result = IsRouteMatcher.NO_MATCH;
+      if (!usingColonForParametersInUrl || !part.startsWith(":")) {
+        switch (part) {
+          case "mockShell":
+            result = matchNode1(parts, usingColonForParametersInUrl);
+            break;
+        }
+      }
+      return result;
+    }
+
+    private int matchNode1(String[] parts, boolean usingColonForParametersInUrl) {
+      if (parts.length == 1) {
+        return IsRouteMatcher.NO_MATCH;
+      }
+      String part = parts[1];
+      int result = IsRouteMatcher.NO_MATCH;
+      if (!usingColonForParametersInUrl || !part.startsWith(":")) {
+        switch (part) {
+          case "route01":
+            result = matchNode2(parts, usingColonForParametersInUrl);
+            break;
+        }
+      }
+      return result;
+    }
+
+    private int matchNode2(String[] parts, boolean usingColonForParametersInUrl) {
+      if (parts.length == 2) {
+        return 0;
+      }
+      String part = parts[2];
+      if (!usingColonForParametersInUrl || part.startsWith(":") || "*".equals(part)) {
+        return matchNode3(parts, usingColonForParametersInUrl);
+      }
+      return IsRouteMatcher.NO_MATCH;
+    }
+
+    private int matchNode3(String[] parts, boolean usingColonForParametersInUrl) {
+      if (parts.length == 3) {
+        return 0;
+      }
+      return IsRouteMatcher.NO_MATCH;
+    }
+  }
 }
@@ -31,7 +31,8 @@ public final class PopUpController01CreatorImpl extends AbstractPopUpControllerC
     controller.setRouter(router);
     controller.setName("PopUpController01");
     sb01.setLength(0);
-    sb01.append("controller >>").append(controller.getClass().getCanonicalName()).append("<< --> created and data injected");
+    controller.setControllerClassName("com.github.nalukit.nalu.processor.popUpControllerCreator.ok.PopUpController01");
+    sb01.append("controller >>com.github.nalukit.nalu.processor.popUpControllerCreator.ok.PopUpController01<< --> created and data injected");
     ClientLogger.get().logDetailed(sb01.toString(), 4);
     IPopUpComponent01 component = new PopUpComponent01();
     sb01.setLength(0);
@@ -39,21 +40,22 @@ public final class PopUpController01CreatorImpl extends AbstractPopUpControllerC
     ClientLogger.get().logDetailed(sb01.toString(), 4);
     component.setController(controller);
     sb01.setLength(0);
-    sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> created and controller instance injected");
+    sb01.append("component >>com.github.nalukit.nalu.processor.popUpControllerCreator.ok.PopUpComponent01<< --> created and controller instance injected");
     ClientLogger.get().logDetailed(sb01.toString(), 4);
     controller.setComponent(component);
+    controller.setComponentClassName("com.github.nalukit.nalu.processor.popUpControllerCreator.ok.PopUpComponent01");
     sb01.setLength(0);
-    sb01.append("controller >>").append(controller.getClass().getCanonicalName()).append("<< --> instance of >>").append(component.getClass().getCanonicalName()).append("<< injected");
+    sb01.append("controller >>com.github.nalukit.nalu.processor.popUpControllerCreator.ok.PopUpController01<< --> instance of >>com.github.nalukit.nalu.processor.popUpControllerCreator.ok.PopUpComponent01<< injected");
     ClientLogger.get().logDetailed(sb01.toString(), 4);
     component.render();
     sb01.setLength(0);
-    sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> rendered");
+    sb01.append("component >>com.github.nalukit.nalu.processor.popUpControllerCreator.ok.PopUpComponent01<< --> rendered");
     ClientLogger.get().logDetailed(sb01.toString(), 4);
     component.bind();
     sb01.setLength(0);
-    sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> bound");
+    sb01.append("component >>com.github.nalukit.nalu.processor.popUpControllerCreator.ok.PopUpComponent01<< --> bound");
     ClientLogger.get().logDetailed(sb01.toString(), 4);
     ClientLogger.get().logSimple("controller >>com.github.nalukit.nalu.processor.popUpControllerCreator.ok.PopUpController01<< created for event >>PopUpController01<<", 3);
     return popUpControllerInstance;
   }
-}
\ No newline at end of file
+}
@@ -14,31 +14,32 @@ import org.gwtproject.event.shared.SimpleEventBus;
 /**
  * Build with Nalu version >>2.0.1<< at >>2020.09.14-14:18:30<< */
 public final class MockShellCreatorImpl extends AbstractShellCreator<MockContext> implements IsShellCreator {
-    public MockShellCreatorImpl(Router router, MockContext context, SimpleEventBus eventBus) {
-        super(router, context, eventBus);
-    }
+  public MockShellCreatorImpl(Router router, MockContext context, SimpleEventBus eventBus) {
+    super(router, context, eventBus);
+  }
 
-    @Override
-    public ShellInstance create() {
-        StringBuilder sb01 = new StringBuilder();
-        ShellInstance shellInstance = new ShellInstance();
-        shellInstance.setShellClassName("com.github.nalukit.nalu.processor.common.MockShell");
-        sb01.append("shell >>com.github.nalukit.nalu.processor.common.MockShell<< --> will be created");
-        ClientLogger.get().logSimple(sb01.toString(), 1);
-        MockShell shell = new MockShell();
-        shellInstance.setShell(shell);
-        shell.setContext(context);
-        shell.setEventBus(eventBus);
-        shell.setRouter(router);
-        sb01.setLength(0);
-        sb01.append("shell >>com.github.nalukit.nalu.processor.common.MockShell<< --> created and data injected");
-        ClientLogger.get().logDetailed(sb01.toString(), 2);
-        sb01.setLength(0);
-        return shellInstance;
-    }
+  @Override
+  public ShellInstance create() {
+    StringBuilder sb01 = new StringBuilder();
+    ShellInstance shellInstance = new ShellInstance();
+    shellInstance.setShellClassName("com.github.nalukit.nalu.processor.common.MockShell");
+    sb01.append("shell >>com.github.nalukit.nalu.processor.common.MockShell<< --> will be created");
+    ClientLogger.get().logSimple(sb01.toString(), 1);
+    MockShell shell = new MockShell();
+    shellInstance.setShell(shell);
+    shell.setContext(context);
+    shell.setEventBus(eventBus);
+    shell.setRouter(router);
+    shell.setShellClassName("com.github.nalukit.nalu.processor.common.MockShell");
+    sb01.setLength(0);
+    sb01.append("shell >>com.github.nalukit.nalu.processor.common.MockShell<< --> created and data injected");
+    ClientLogger.get().logDetailed(sb01.toString(), 2);
+    sb01.setLength(0);
+    return shellInstance;
+  }
 
-    @Override
-    public void onFinishCreating(Object object) throws RoutingInterceptionException {
-        MockShell shell = (MockShell) object;
-    }
-}
\ No newline at end of file
+  @Override
+  public void onFinishCreating(Object object) throws RoutingInterceptionException {
+    MockShell shell = (MockShell) object;
+  }
+}
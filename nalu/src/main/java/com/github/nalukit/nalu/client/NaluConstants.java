@@ -7,5 +7,6 @@ public class NaluConstants {
   public final static String NALU_ERROR_NO_CONTROLLER_INSTANCE_FOUND = "NaluError0003";
   public final static String NALU_ERROR_SELECOR_NOT_FOUND            = "NaluError0004";
   public final static String NALU_ERROR_LOOP_DETECTED                = "NaluError0005";
+  public final static String NALU_ERROR_LOAD_MODULE_FAILED           = "NaluError0006";
 
 }
@@ -18,6 +18,9 @@ package com.github.nalukit.nalu.client;
 
 import com.github.nalukit.nalu.client.component.AbstractComponentController;
 import com.github.nalukit.nalu.client.component.AbstractCompositeController;
+import com.github.nalukit.nalu.client.component.AbstractShell;
+import com.github.nalukit.nalu.client.component.IsDataLoader;
+import com.github.nalukit.nalu.client.model.NaluRoute;
 
 import java.util.Map;
 
@@ -56,6 +59,22 @@ public interface Router {
   void forceRoute(String route,
                   String... parameter);
 
+  /**
+   * Route to a new page using a route created by the generated
+   * routes class. The hash of the route is used as it is.
+   *
+   * @param route new route
+   */
+  void route(NaluRoute route);
+
+  /**
+   * Route to a new page without confirmation using a route created
+   * by the generated routes class. The hash of the route is used as it is.
+   *
+   * @param route new route
+   */
+  void forceRoute(NaluRoute route);
+
   /**
    * Removes a controller from the cache
    *
@@ -90,6 +109,59 @@ public interface Router {
    */
   <C extends AbstractCompositeController<?, ?, ?>> void storeInCache(C controller);
 
+  /**
+   * Stores the instance of the shell in the cache, so that it can be reused the next time
+   * the shell is needed.
+   * <p>
+   * Switching back to a cached shell does not create and bind the shell again. Nalu
+   * calls the attachShell-method of the cached instance, which has to re-attach the
+   * existing DOM. Elements of cached controllers stay inside the shell.
+   * </p>
+   *
+   * @param shell shell to store
+   * @param <S>   shell type
+   */
+  <S extends AbstractShell<?>> void storeInCache(S shell);
+
+  /**
+   * Removes a shell from the cache
+   *
+   * @param shell shell to be removed
+   * @param <S>   shell type
+   */
+  <S extends AbstractShell<?>> void removeFromCache(S shell);
+
+  /**
+   * Creates a lazy composite of the controller immediately.
+   * <p>
+   * Lazy composites are created once their selector gets visible. Calling
+   * this method, f.e.: once a panel is expanded, creates the composite
+   * without waiting for the plugin. The call has no effect, in case the
+   * composite is already created.
+   * </p>
+   *
+   * @param controller    the controller of the composite
+   * @param compositeName name of the composite
+   * @param <C>           controller type
+   */
+  <C extends AbstractComponentController<?, ?, ?>> void loadLazyComposite(C controller,
+                                                                         String compositeName);
+
+  /**
+   * Registers a data loader for a controller or composite.
+   * <p>
+   * Handling a route, Nalu starts the data loaders of all matching controllers
+   * and their composites at the same time, before the current controllers are
+   * stopped. Controllers and composites are created and attached once the
+   * last data loader has finished.
+   * </p>
+   *
+   * @param controllerClass class of the controller or composite
+   * @param dataLoader      data loader to register
+   */
+  void registerDataLoader(Class<?> controllerClass,
+                          IsDataLoader dataLoader);
+
   /**
    * Get a map of parameters contained in the url at application start
    *
@@ -40,6 +40,7 @@ import java.lang.annotation.RetentionPolicy;
  * <li>useHash: if useHash is true, use a hash based url, otherwise a non hash based url</li>
  * <li>useColonForParametersInUrl: if useColonForParametersInUrl is true, Nalu expects parameters with a leading colon in urls</li>
  * <li>stayOnSite: if stayOnSite is true, Nalu will replace history with the start-route in case hash is empty, else Nalu will only update it.</li>
+ * <li>popUpCacheSize: maximal number of released popup instances Nalu will keep, 0 = no limit</li>
  * </ul>
  *
  * @author Frank Hossfeld
@@ -113,6 +114,19 @@ public @interface Application {
    */
   boolean stayOnSite() default false;
 
+  /**
+   * This attribute limits the number of released popup instances
+   * Nalu keeps in memory. In case the limit is reached, Nalu will
+   * dispose the least recently used popup instance.
+   * <br>
+   * Popup instances, that are in use (not released), are never disposed.
+   * <br>
+   * Default is <b>0</b>: Nalu keeps all popup instances.
+   *
+   * @return the maximal number of released popup instances
+   */
+  int popUpCacheSize() default 0;
+
   /**
    * This attribute will tell Nalu to use a custom alert presenter
    *
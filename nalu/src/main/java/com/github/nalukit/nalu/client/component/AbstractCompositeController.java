@@ -17,6 +17,7 @@
 package com.github.nalukit.nalu.client.component;
 
 import com.github.nalukit.nalu.client.context.IsContext;
+import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
 import com.github.nalukit.nalu.client.internal.HandlerRegistrations;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
 
@@ -160,6 +161,34 @@ public abstract class AbstractCompositeController<C extends IsContext, V extends
   public void stop() {
   }
 
+  /**
+   * The bind-method will be called after the composite is created and
+   * the parameters are set, before the composite is attached.
+   * <p>
+   * Nalu calls the bind-method of all new composites of a controller
+   * at the same time. The controller and its composites are attached,
+   * once the last composite has called <b>loader.continueLoading()</b>.
+   * <p>
+   * Keep in mind, that the method is asynchronous. Once you have
+   * done your work, you have to call <b>loader.continueLoading()</b>.
+   * Otherwise Nalu will stop working!
+   * <p>
+   * The method will not be called in case a composite is cached!
+   * <p>
+   * Attention:
+   * Do not call super.bind(loader)! Cause this will tell Nalu to
+   * continue loading!
+   *
+   * @param loader loader to tell Nalu to continue loading the composite
+   * @throws RoutingInterceptionException in case the bind composite
+   *                                      process should be interrupted
+   */
+  @Override
+  public void bind(CompositeLoader loader)
+      throws RoutingInterceptionException {
+    loader.continueLoading();
+  }
+
   /**
    * Get the component
    *
@@ -18,6 +18,7 @@ package com.github.nalukit.nalu.client.component;
 
 import com.github.nalukit.nalu.client.Router;
 import com.github.nalukit.nalu.client.context.IsContext;
+import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
 import org.gwtproject.event.shared.SimpleEventBus;
 
 public abstract class AbstractController<C extends IsContext> {
@@ -28,6 +29,12 @@ public abstract class AbstractController<C extends IsContext> {
 
   protected SimpleEventBus eventBus;
 
+  /* class name of the controller - set by the generated creator */
+  private String controllerClassName;
+
+  /* class name of the component - set by the generated creator */
+  private String componentClassName;
+
   public AbstractController() {
     super();
   }
@@ -44,4 +51,24 @@ public abstract class AbstractController<C extends IsContext> {
     this.eventBus = eventBus;
   }
 
+  /** @return class name of the controller, set by the generated code */
+  public String getControllerClassName() {
+    return this.controllerClassName;
+  }
+
+  @NaluInternalUse
+  public void setControllerClassName(String controllerClassName) {
+    this.controllerClassName = controllerClassName;
+  }
+
+  /** @return class name of the component, set by the generated code */
+  public String getComponentClassName() {
+    return this.componentClassName;
+  }
+
+  @NaluInternalUse
+  public void setComponentClassName(String componentClassName) {
+    this.componentClassName = componentClassName;
+  }
+
 }
@@ -18,7 +18,9 @@ package com.github.nalukit.nalu.client.component;
 
 import com.github.nalukit.nalu.client.component.event.ShowPopUpEvent;
 import com.github.nalukit.nalu.client.context.IsContext;
+import com.github.nalukit.nalu.client.internal.HandlerRegistrations;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+import com.github.nalukit.nalu.client.internal.application.PopUpControllerFactory;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -36,6 +38,8 @@ public abstract class AbstractPopUpComponentController<C extends IsContext, V ex
   protected Map<String, ShowPopUpEvent.PopUpCommand> commandStore;
   /* data store of the parameters (taken from the event) */
   protected Map<String, String>                      dataStore;
+  /* list of registered handlers */
+  protected HandlerRegistrations                     handlerRegistrations = new HandlerRegistrations();
 
   public AbstractPopUpComponentController() {
     super();
@@ -140,4 +144,52 @@ public abstract class AbstractPopUpComponentController<C extends IsContext, V ex
   public void onBeforeShow() {
   }
 
+  /**
+   * Releases the popup controller.
+   * <p>
+   * Call this method once the popup is closed. Nalu will use the
+   * released instance for the next ShowPopUp-event. Released instances
+   * can be disposed by Nalu in case the popup cache size of the
+   * application is exceeded.
+   * <p>
+   * Popups, that are never released, will be reused for each
+   * ShowPopUp-event (and never be disposed) - as long as the
+   * pool size of the popup is one.
+   * <p>
+   * Once a popup uses release, Nalu will not show an instance, that is
+   * still in use. In case all instances of the pool are in use, Nalu
+   * creates an additional instance, that is disposed once it is released.
+   */
+  public void release() {
+    PopUpControllerFactory.get()
+                          .release(this);
+  }
+
+  /**
+   * The method is called before Nalu disposes the instance.
+   * <p>
+   * Nalu disposes released instances in case the popup cache size of the
+   * application is exceeded and instances, that were created in addition
+   * to the pool, once they are released.
+   * <p>
+   * If you have to clean up something (f.e.: handlers, that are not
+   * added to the handler registrations), override the method.
+   */
+  public void onDispose() {
+  }
+
+  /**
+   * internal framework method! Will be called by the framework after the
+   * onDispose-method of the controller is called
+   * <p>
+   * The method is used by the framework!
+   * <p>
+   * <b>DO NOT CALL THIS METHOD! THIS WILL LEAD TO UNEXPECTED BEHAVIOR!</b>
+   */
+  @NaluInternalUse
+  public void removeHandlers() {
+    this.handlerRegistrations.removeHandler();
+    this.handlerRegistrations = new HandlerRegistrations();
+  }
+
 }
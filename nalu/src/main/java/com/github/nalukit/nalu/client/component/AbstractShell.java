@@ -20,6 +20,7 @@ import com.github.nalukit.nalu.client.Router;
 import com.github.nalukit.nalu.client.context.IsContext;
 import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
 import com.github.nalukit.nalu.client.internal.HandlerRegistrations;
+import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
 import org.gwtproject.event.shared.SimpleEventBus;
 
 public abstract class AbstractShell<C extends IsContext>
@@ -33,6 +34,12 @@ public abstract class AbstractShell<C extends IsContext>
 
   protected HandlerRegistrations handlerRegistrations = new HandlerRegistrations();
 
+  /* class name of the shell - set by the generated creator */
+  private String shellClassName;
+
+  /* true: the shell is stored in the cache */
+  private boolean cached;
+
   public AbstractShell() {
   }
 
@@ -48,6 +55,25 @@ public abstract class AbstractShell<C extends IsContext>
     this.eventBus = eventBus;
   }
 
+  /** @return class name of the shell, set by the generated code */
+  public String getShellClassName() {
+    return this.shellClassName;
+  }
+
+  @NaluInternalUse
+  public void setShellClassName(String shellClassName) {
+    this.shellClassName = shellClassName;
+  }
+
+  public boolean isCached() {
+    return cached;
+  }
+
+  @NaluInternalUse
+  public void setCached(boolean cached) {
+    this.cached = cached;
+  }
+
   /**
    * The bind-method will be called before the shell is added to the viewport.
    * <p>
@@ -16,6 +16,7 @@
 
 package com.github.nalukit.nalu.client.component;
 
+import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
 
 public interface IsComposite<W> {
@@ -115,6 +116,35 @@ public interface IsComposite<W> {
    */
   void stop();
 
+  /**
+   * The bind-method will be called after the composite is created and
+   * the parameters are set, before the composite is attached.
+   * <p>
+   * Nalu calls the bind-method of all new composites of a controller
+   * at the same time. The controller and its composites are attached,
+   * once the last composite has called <b>loader.continueLoading()</b>.
+   * This is a good place to load the data of the composite.
+   * <p>
+   * Keep in mind, that the method is asynchronous. Once you have
+   * done your work, you have to call <b>loader.continueLoading()</b>.
+   * Otherwise Nalu will stop working!
+   * <p>
+   * Inside the method can the routing process gets interrupted
+   * by throwing a RoutingInterceptionException.
+   * <p>
+   * <b>The method will not be called in case a composite is cached!</b>
+   * <p>
+   * <b>Attention:</b>
+   * Do not call super.bind(loader)! Cause this will tell Nalu to
+   * continue loading!
+   *
+   * @param loader loader to tell Nalu to continue loading the composite
+   * @throws RoutingInterceptionException in case the create composite
+   *                                      process should be interrupted
+   */
+  void bind(CompositeLoader loader)
+      throws RoutingInterceptionException;
+
   /**
    * Removes all composite from the DOM by calling
    * the remove method of the composite component!
@@ -124,4 +154,10 @@ public interface IsComposite<W> {
   @NaluInternalUse
   void remove();
 
+  interface CompositeLoader {
+
+    void continueLoading();
+
+  }
+
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.component;
+
+/**
+ * A data loader loads the data of a controller or composite.
+ * <p>
+ * Data loaders are registered for a controller or composite class using
+ * the router. Once a route is parsed, Nalu starts all data loaders of the
+ * matching controllers and their composites at the same time, before the
+ * current controllers are stopped. The controllers and composites are
+ * created and attached after the last data loader has finished.
+ * <p>
+ * Keep in mind, that the method is asynchronous. Once you have done your
+ * work, you have to call <b>loader.continueLoading()</b>. Otherwise
+ * Nalu will stop working! In case you want to interrupt the routing,
+ * do not call <b>loader.continueLoading()</b> and use the router to
+ * route to another place.
+ */
+public interface IsDataLoader {
+
+  /**
+   * Method is called, in case Nalu handles a route containing the
+   * controller or composite the data loader is registered for.
+   * <p>
+   * Store the loaded data f.e.: inside the context, so that the
+   * controller can use it in the bind- or start-method.
+   *
+   * @param route  the route
+   * @param params parameter (0 .. n)
+   * @param loader loader to tell Nalu that the data is loaded
+   */
+  void load(String route,
+            String[] params,
+            DataLoader loader);
+
+  interface DataLoader {
+
+    void continueLoading();
+
+  }
+
+}
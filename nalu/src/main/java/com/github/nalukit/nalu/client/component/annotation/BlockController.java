@@ -35,6 +35,7 @@ import java.lang.annotation.Target;
  * <li>componentInterface: interface of the component</li>
  * <li>component:          class of the component</li>
  * <li>condition:          condition class to control the visibility of the block (optional)</li>
+ * <li>preload:            create the block during idle time after application start (optional)</li>
  * </ul>
  *
  * @author Frank Hossfeld
@@ -61,4 +62,18 @@ public @interface BlockController {
    */
   Class<? extends IsShowBlockCondition> condition() default AlwaysShowBlock.class;
 
+  /**
+   * Nalu creates a block the first time the condition of the block
+   * returns true. In case preload is true, Nalu will create the block
+   * once the browser is idle after the application has started. This
+   * avoids the delay on the first show of a heavy block.
+   * <p>
+   * This parameter is optional.
+   * <p>
+   * Default is false.
+   *
+   * @return true: create the block during idle time
+   */
+  boolean preload() default false;
+
 }
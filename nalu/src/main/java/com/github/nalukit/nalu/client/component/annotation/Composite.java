@@ -78,6 +78,19 @@ public @interface Composite {
    */
   Scope scope() default Scope.LOCAL;
 
+  /**
+   * Lazy composites are not created during routing. Nalu creates the
+   * composite once its selector gets visible (detected by the plugin)
+   * or once the controller requests it using the router.
+   * <p>
+   * This parameter is optional.
+   * <p>
+   * Default is false, which will create the composite during routing.
+   *
+   * @return true, in case the composite is created lazy
+   */
+  boolean lazy() default false;
+
   /**
    * Scope of the composite:
    * <ul>
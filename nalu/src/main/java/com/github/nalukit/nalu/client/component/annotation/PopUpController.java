@@ -32,6 +32,8 @@ import java.lang.annotation.Target;
  * <li>name:               name of the popup used to identifiy the conroller in case an event is fired.</li>
  * <li>componentInterface: interface of the component</li>
  * <li>component:          class of the component</li>
+ * <li>preload:            create the popup during idle time after application start (optional)</li>
+ * <li>poolSize:           number of instances, that can be shown at the same time (optional)</li>
  * </ul>
  *
  * @author Frank Hossfeld
@@ -46,4 +48,30 @@ public @interface PopUpController {
 
   Class<? extends AbstractPopUpComponent<?>> component();
 
+  /**
+   * If <b>true</b>, Nalu will create the popup once the browser is idle
+   * after the application has started. This avoids a slow first opening
+   * of heavy popups.
+   * <br>
+   * Default is <b>false</b>: the popup is created on first use.
+   *
+   * @return true, if the popup should be created during idle time
+   */
+  boolean preload() default false;
+
+  /**
+   * Maximal number of instances of this popup, that can be open at the same time.
+   * <br>
+   * Default is <b>1</b>: Nalu uses one instance for all ShowPopUpEvents.
+   * <br>
+   * In case the value is greater than one, Nalu will use a free instance
+   * or create a new one in case all instances are in use. An instance is
+   * in use until the controller calls <code>release()</code>. In case all
+   * instances of the pool are in use, Nalu creates an additional instance,
+   * that is disposed once it is released.
+   *
+   * @return the number of instances of the popup
+   */
+  int poolSize() default 1;
+
 }
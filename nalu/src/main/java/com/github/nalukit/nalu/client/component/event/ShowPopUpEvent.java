@@ -2,8 +2,10 @@ package com.github.nalukit.nalu.client.component.event;
 
 import org.gwtproject.event.shared.Event;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 public class ShowPopUpEvent
     extends Event<ShowPopUpEvent.ShowPopUpHandler> {
@@ -17,8 +19,6 @@ public class ShowPopUpEvent
   private ShowPopUpEvent(String name) {
     super();
     this.name = name;
-    this.commandStore = new HashMap<>();
-    this.dataStore = new HashMap<>();
   }
 
   public static ShowPopUpEvent show(String name) {
@@ -27,6 +27,10 @@ public class ShowPopUpEvent
 
   public ShowPopUpEvent using(String key,
                               String value) {
+    // created on first use - most events do not carry any data
+    if (Objects.isNull(this.dataStore)) {
+      this.dataStore = new HashMap<>();
+    }
     this.dataStore.put(key,
                        value);
     return this;
@@ -34,6 +38,10 @@ public class ShowPopUpEvent
 
   public ShowPopUpEvent add(String key,
                             PopUpCommand command) {
+    // created on first use - most events do not carry any command
+    if (Objects.isNull(this.commandStore)) {
+      this.commandStore = new HashMap<>();
+    }
     this.commandStore.put(key,
                           command);
     return this;
@@ -54,10 +62,16 @@ public class ShowPopUpEvent
   }
 
   public Map<String, PopUpCommand> getCommandStore() {
+    if (Objects.isNull(this.commandStore)) {
+      return Collections.emptyMap();
+    }
     return commandStore;
   }
 
   public Map<String, String> getDataStore() {
+    if (Objects.isNull(this.dataStore)) {
+      return Collections.emptyMap();
+    }
     return dataStore;
   }
 
@@ -26,6 +26,8 @@ public abstract class AbstractFilter<C extends IsContext>
 
   protected C              context;
   private   SimpleEventBus eventBus;
+  /* class name of the filter - set by the generated application */
+  private   String         filterClassName;
 
   public AbstractFilter() {
     super();
@@ -55,6 +57,16 @@ public abstract class AbstractFilter<C extends IsContext>
     this.eventBus = eventBus;
   }
 
+  /** @return class name of the filter, set by the generated code */
+  public String getFilterClassName() {
+    return this.filterClassName;
+  }
+
+  @NaluInternalUse
+  public void setFilterClassName(String filterClassName) {
+    this.filterClassName = filterClassName;
+  }
+
   /**
    * Fires a NaluError event.
    *
@@ -17,11 +17,18 @@
 package com.github.nalukit.nalu.client.internal;
 
 import com.github.nalukit.nalu.client.Router;
+import com.github.nalukit.nalu.client.component.AbstractCompositeController;
+import com.github.nalukit.nalu.client.component.IsComponent;
 import com.github.nalukit.nalu.client.context.IsContext;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+import com.github.nalukit.nalu.client.internal.application.CompositeFactory;
+import com.github.nalukit.nalu.client.internal.application.CompositeInstance;
 import com.github.nalukit.nalu.client.internal.application.IsCompositeCreator;
 import org.gwtproject.event.shared.SimpleEventBus;
 
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
 @NaluInternalUse
 public abstract class AbstractCompositeCreator<C extends IsContext>
     implements IsCompositeCreator {
@@ -43,4 +50,102 @@ public abstract class AbstractCompositeCreator<C extends IsContext>
     this.eventBus = eventBus;
   }
 
+  /**
+   * Looks up the composite in the store. In case the composite is not
+   * cached, a new instance is created using the supplier, the common data
+   * is injected and the component is created, rendered and bound.
+   * <p>
+   * Generated creators call this method with the class specific values.
+   *
+   * @param parentControllerClassName class name of the parent controller
+   * @param compositeClassName        class name of the composite
+   * @param componentClassName        class name of the component
+   * @param createdByComposite        true, if the component is created by the composite
+   * @param supplier                  creates a new instance of the composite
+   * @param componentInjector         creates the component and injects it into the composite
+   * @param <S>                       type of the composite
+   * @return the composite instance
+   */
+  protected <S extends AbstractCompositeController<C, ?, ?>> CompositeInstance createComposite(String parentControllerClassName,
+                                                                                                String compositeClassName,
+                                                                                                String componentClassName,
+                                                                                                boolean createdByComposite,
+                                                                                                Supplier<S> supplier,
+                                                                                                Consumer<S> componentInjector) {
+    CompositeInstance compositeInstance = new CompositeInstance();
+    compositeInstance.setCompositeClassName(compositeClassName);
+    AbstractCompositeController<?, ?, ?> storedComposite = CompositeFactory.get()
+                                                                           .getCompositeFormStore(parentControllerClassName,
+                                                                                                  compositeClassName);
+    if (storedComposite == null) {
+      ClientLogger.get()
+                  .logDetailed("composite >>" + compositeClassName + "<< --> will be created",
+                               4);
+      S composite = supplier.get();
+      compositeInstance.setComposite(composite);
+      composite.setParentClassName(parentControllerClassName);
+      composite.setContext(this.context);
+      composite.setEventBus(this.eventBus);
+      composite.setRouter(this.router);
+      composite.setCached(false);
+      composite.setControllerClassName(compositeClassName);
+      ClientLogger.get()
+                  .logDetailed("composite >>" + compositeClassName + "<< --> created and data injected",
+                               5);
+      componentInjector.accept(composite);
+      composite.setComponentClassName(componentClassName);
+      IsComponent<?, ?> component = composite.getComponent();
+      if (createdByComposite) {
+        ClientLogger.get()
+                    .logDetailed("component >>" + componentClassName + "<< --> created using createComponent-Method of composite controller",
+                                 4);
+      } else {
+        ClientLogger.get()
+                    .logDetailed("component >>" + componentClassName + "<< --> created using new",
+                                 4);
+      }
+      ClientLogger.get()
+                  .logDetailed("component >>" + componentClassName + "<< --> created and controller instance injected",
+                               5);
+      ClientLogger.get()
+                  .logDetailed("composite >>" + compositeClassName + "<< --> instance of >>" + componentClassName + "<< injected",
+                               5);
+      component.render();
+      ClientLogger.get()
+                  .logDetailed("component >>" + componentClassName + "<< --> rendered",
+                               5);
+      component.bind();
+      ClientLogger.get()
+                  .logDetailed("component >>" + componentClassName + "<< --> bound",
+                               5);
+      ClientLogger.get()
+                  .logSimple("compositeModel >>" + componentClassName + "<< created",
+                             4);
+    } else {
+      ClientLogger.get()
+                  .logDetailed("composite >>" + compositeClassName + "<< --> found in cache -> REUSE!",
+                               4);
+      compositeInstance.setComposite(storedComposite);
+      compositeInstance.setCached(true);
+      compositeInstance.getComposite()
+                       .setCached(true);
+    }
+    return compositeInstance;
+  }
+
+  /**
+   * Logs the call of a method annotated with AcceptParameter.
+   *
+   * @param composite  the composite
+   * @param methodName name of the method
+   * @param value      the value to set
+   */
+  protected void logSetParameter(AbstractCompositeController<?, ?, ?> composite,
+                                 String methodName,
+                                 String value) {
+    ClientLogger.get()
+                .logDetailed("composite >>" + composite.getControllerClassName() + "<< --> using method >>" + methodName + "<< to set value >>" + value + "<<",
+                             4);
+  }
+
 }
@@ -18,11 +18,16 @@ package com.github.nalukit.nalu.client.internal;
 
 import com.github.nalukit.nalu.client.Router;
 import com.github.nalukit.nalu.client.component.AbstractComponentController;
+import com.github.nalukit.nalu.client.component.IsComponent;
 import com.github.nalukit.nalu.client.context.IsContext;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+import com.github.nalukit.nalu.client.internal.application.ControllerFactory;
+import com.github.nalukit.nalu.client.internal.application.ControllerInstance;
 import com.github.nalukit.nalu.client.internal.application.IsControllerCreator;
 import org.gwtproject.event.shared.SimpleEventBus;
 
+import java.util.function.Supplier;
+
 @NaluInternalUse
 public abstract class AbstractControllerCreator<C extends IsContext>
     implements IsControllerCreator {
@@ -44,13 +49,120 @@ public abstract class AbstractControllerCreator<C extends IsContext>
     this.eventBus = eventBus;
   }
 
+  /**
+   * Looks up the controller in the store. In case the controller is not
+   * cached, a new instance is created using the supplier and the
+   * common data is injected.
+   * <p>
+   * Generated creators call this method with the class specific values.
+   *
+   * @param controllerClassName class name of the controller
+   * @param route               related route of the controller
+   * @param selector            related selector of the controller
+   * @param supplier            creates a new instance of the controller
+   * @return the controller instance
+   */
+  protected ControllerInstance createController(String controllerClassName,
+                                                String route,
+                                                String selector,
+                                                Supplier<? extends AbstractComponentController<C, ?, ?>> supplier) {
+    ControllerInstance controllerInstance = new ControllerInstance();
+    controllerInstance.setControllerClassName(controllerClassName);
+    AbstractComponentController<?, ?, ?> storedController = ControllerFactory.get()
+                                                                             .getControllerFormStore(controllerClassName);
+    if (storedController == null) {
+      ClientLogger.get()
+                  .logSimple("controller >>" + controllerClassName + "<< --> will be created",
+                             3);
+      AbstractComponentController<C, ?, ?> controller = supplier.get();
+      controllerInstance.setController(controller);
+      controllerInstance.setCached(false);
+      controller.setContext(this.context);
+      controller.setEventBus(this.eventBus);
+      controller.setRouter(this.router);
+      controller.setCached(false);
+      controller.setRelatedRoute(route);
+      controller.setRelatedSelector(selector);
+      controller.setControllerClassName(controllerClassName);
+      ClientLogger.get()
+                  .logDetailed("controller >>" + controllerClassName + "<< --> created and data injected",
+                               4);
+    } else {
+      ClientLogger.get()
+                  .logDetailed("controller >>" + controllerClassName + "<< --> found in cache -> REUSE!",
+                               4);
+      controllerInstance.setController(storedController);
+      controllerInstance.setCached(true);
+      controllerInstance.getController()
+                        .setCached(true);
+    }
+    return controllerInstance;
+  }
+
+  /**
+   * Renders and binds the component of the controller. The component has
+   * to be created and injected into the controller before.
+   *
+   * @param controller          the controller
+   * @param componentClassName  class name of the component
+   * @param createdByController true, if the component is created by the controller
+   * @param route               related route of the controller
+   */
+  protected void finishCreating(AbstractComponentController<?, ?, ?> controller,
+                                String componentClassName,
+                                boolean createdByController,
+                                String route) {
+    IsComponent<?, ?> component = controller.getComponent();
+    controller.setComponentClassName(componentClassName);
+    if (createdByController) {
+      ClientLogger.get()
+                  .logDetailed("component >>" + componentClassName + "<< --> created using createComponent-Method of controller",
+                               4);
+    } else {
+      ClientLogger.get()
+                  .logDetailed("component >>" + componentClassName + "<< --> created using new",
+                               4);
+    }
+    ClientLogger.get()
+                .logDetailed("component >>" + componentClassName + "<< --> created and controller instance injected",
+                             4);
+    ClientLogger.get()
+                .logDetailed("controller >>" + controller.getControllerClassName() + "<< --> instance of >>" + componentClassName + "<< injected",
+                             4);
+    component.render();
+    ClientLogger.get()
+                .logDetailed("component >>" + componentClassName + "<< --> rendered",
+                             4);
+    component.bind();
+    ClientLogger.get()
+                .logDetailed("component >>" + componentClassName + "<< --> bound",
+                             4);
+    ClientLogger.get()
+                .logSimple("controller >>" + componentClassName + "<< created for route >>" + route + "<<",
+                           3);
+  }
+
+  /**
+   * Logs the call of a method annotated with AcceptParameter.
+   *
+   * @param controller the controller
+   * @param methodName name of the method
+   * @param value      the value to set
+   */
+  protected void logSetParameter(AbstractComponentController<?, ?, ?> controller,
+                                 String methodName,
+                                 String value) {
+    ClientLogger.get()
+                .logDetailed("controller >>" + controller.getControllerClassName() + "<< --> using method >>" + methodName + "<< to set value >>" + value + "<<",
+                             4);
+  }
+
   @Override
   public void logBindMethodCallToConsole(AbstractComponentController<?, ?, ?> controller,
                                          boolean isFinished) {
     StringBuilder sb = new StringBuilder();
     sb.append("controller >>")
-      .append(controller.getClass()
-                        .getCanonicalName());
+      .append(controller.getControllerClassName());
     if (isFinished) {
       sb.append("<< --> bind method called");
     } else {
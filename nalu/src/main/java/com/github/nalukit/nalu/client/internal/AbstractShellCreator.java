@@ -49,8 +49,7 @@ public abstract class AbstractShellCreator<C extends IsContext>
                                          boolean isFinished) {
     StringBuilder sb = new StringBuilder();
     sb.append("shell >>")
-      .append(shell.getClass()
-                   .getCanonicalName());
+      .append(shell.getShellClassName());
     if (isFinished) {
       sb.append("<< --> bind method called");
     } else {
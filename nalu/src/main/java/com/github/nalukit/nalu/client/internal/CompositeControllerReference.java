@@ -28,16 +28,39 @@ public class CompositeControllerReference {
 
   private boolean scopeGlobal;
 
+  private boolean lazy;
+
+  /* id of the composite - resolved on first use (-1: not resolved) */
+  private int compositeId = -1;
+
+  /* id of the condition - resolved on first use (-1: not resolved) */
+  private int conditionId = -1;
+
   public CompositeControllerReference(String controller,
                                       String compositeName,
                                       String composite,
                                       String selector,
                                       boolean scopeGlobal) {
+    this(controller,
+         compositeName,
+         composite,
+         selector,
+         scopeGlobal,
+         false);
+  }
+
+  public CompositeControllerReference(String controller,
+                                      String compositeName,
+                                      String composite,
+                                      String selector,
+                                      boolean scopeGlobal,
+                                      boolean lazy) {
     this.controller = controller;
     this.compositeName = compositeName;
     this.composite = composite;
     this.selector = selector;
     this.scopeGlobal = scopeGlobal;
+    this.lazy = lazy;
   }
 
   public String getController() {
@@ -60,4 +83,24 @@ public class CompositeControllerReference {
     return scopeGlobal;
   }
 
+  public boolean isLazy() {
+    return lazy;
+  }
+
+  public int getCompositeId() {
+    return compositeId;
+  }
+
+  public void setCompositeId(int compositeId) {
+    this.compositeId = compositeId;
+  }
+
+  public int getConditionId() {
+    return conditionId;
+  }
+
+  public void setConditionId(int conditionId) {
+    this.conditionId = conditionId;
+  }
+
 }
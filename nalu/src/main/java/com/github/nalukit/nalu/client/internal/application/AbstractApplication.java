@@ -22,9 +22,13 @@ import com.github.nalukit.nalu.client.application.IsApplicationLoader;
 import com.github.nalukit.nalu.client.component.AlwaysLoadComposite;
 import com.github.nalukit.nalu.client.component.IsShell;
 import com.github.nalukit.nalu.client.context.IsContext;
+import com.github.nalukit.nalu.client.event.RouterStateEvent;
+import com.github.nalukit.nalu.client.event.RouterStateEvent.RouterState;
 import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.CompositeControllerReference;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+import com.github.nalukit.nalu.client.internal.module.LazyModuleFactory;
+import com.github.nalukit.nalu.client.internal.module.LazyModuleFactory.LoadCallback;
 import com.github.nalukit.nalu.client.internal.route.ConfigurableRouter;
 import com.github.nalukit.nalu.client.internal.route.RouteResult;
 import com.github.nalukit.nalu.client.internal.route.RouterConfiguration;
@@ -37,6 +41,7 @@ import com.github.nalukit.nalu.client.plugin.IsCustomConfirmPresenter;
 import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin;
 import com.github.nalukit.nalu.client.seo.SeoDataProvider;
 import com.github.nalukit.nalu.client.tracker.IsTracker;
+import org.gwtproject.event.shared.HandlerRegistration;
 import org.gwtproject.event.shared.SimpleEventBus;
 
 import java.util.ArrayList;
@@ -118,6 +123,11 @@ public abstract class AbstractApplication<C extends IsContext>
                              1);
     SeoDataProvider.get()
                    .register(this.plugin);
+    // set up lazy module factory
+    LazyModuleFactory.get()
+                     .register(this.shellConfiguration,
+                               this.routerConfiguration,
+                               this.compositeControllerReferences);
     // load everything you need to start
     ClientLogger.get()
                 .logDetailed("AbstractApplication: load configurations",
@@ -189,7 +199,10 @@ public abstract class AbstractApplication<C extends IsContext>
                 .logDetailed("AbstractApplication: execute loader",
                              1);
     // validate
-    if (!RouteValidation.validateStartRoute(this.shellConfiguration,
+    // (a start route owned by a lazy module can not be validated before the module is loaded)
+    if (!LazyModuleFactory.get()
+                          .isLazyRoute(this.startRoute) &&
+        !RouteValidation.validateStartRoute(this.shellConfiguration,
                                             this.routerConfiguration,
                                             this.startRoute)) {
       this.plugin.alert("startRoute not valid - application stopped!");
@@ -259,6 +272,32 @@ public abstract class AbstractApplication<C extends IsContext>
   private void onFinishLoading() {
     // save the current hash
     String hashOnStart = this.plugin.getStartRoute();
+    // in case the hash is owned by a lazy module, load the module first
+    if (hashOnStart != null &&
+        LazyModuleFactory.get()
+                         .isLazyRoute(hashOnStart)) {
+      LazyModuleFactory.get()
+                       .load(hashOnStart,
+                             new LoadCallback() {
+
+                               @Override
+                               public void onSuccess() {
+                                 onFinishLoading();
+                               }
+
+                               @Override
+                               public void onFailure(Throwable caught) {
+                                 ClientLogger.get()
+                                             .logSimple("AbstractApplication: unable to load module for hash: >>" + hashOnStart + "<< -> use startRoute: >>" + startRoute + "<<",
+                                                        1);
+                                 router.route(startRoute);
+                               }
+
+                             });
+      return;
+    }
+    // create blocks and popups marked as preload once the initial routing is done
+    this.preloadAfterInitialRouting();
     // check if the url contains a hash.
     // in case it has a hash, use this to route otherwise
     // use the startRoute from the annotation
@@ -290,4 +329,29 @@ public abstract class AbstractApplication<C extends IsContext>
                            0);
   }
 
+  /**
+   * Creates the blocks and popups marked as preload once the browser is idle
+   * after the initial routing is done.
+   * <p>
+   * The routing might be asynchronous (data loaders, bind-methods), so the
+   * idle callback is scheduled on the first ROUTING_DONE event and not when
+   * the routing is started.
+   */
+  private void preloadAfterInitialRouting() {
+    HandlerRegistration[] registration = new HandlerRegistration[1];
+    registration[0] = this.eventBus.addHandler(RouterStateEvent.TYPE,
+                                               event -> {
+                                                 if (event.getState() != RouterState.ROUTING_DONE) {
+                                                   return;
+                                                 }
+                                                 registration[0].removeHandler();
+                                                 this.plugin.scheduleIdle(() -> {
+                                                   BlockControllerFactory.get()
+                                                                         .preload();
+                                                   PopUpControllerFactory.get()
+                                                                         .preload();
+                                                 });
+                                               });
+  }
+
 }
@@ -16,6 +16,7 @@
 
 package com.github.nalukit.nalu.client.internal.application;
 
+import com.github.nalukit.nalu.client.component.IsShowBlockCondition;
 import com.github.nalukit.nalu.client.event.RouterStateEvent;
 import com.github.nalukit.nalu.client.event.RouterStateEvent.RouterState;
 import com.github.nalukit.nalu.client.internal.ClientLogger;
@@ -27,22 +28,32 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 @NaluInternalUse
 public class BlockControllerFactory {
 
   /* instance of the popup controller factory */
-  private static BlockControllerFactory               instance;
-  /* map of components (key: name of class, Value: controller instance */
-  private        Map<String, BlockControllerInstance> blockControllerInstanceStore;
+  private static BlockControllerFactory                     instance;
+  /* store of creators (key: name of block, Value: block controller creator - created on first use */
+  private        LazyCreatorStore<IsBlockControllerCreator> blockControllerCreatorStore;
+  /* map of conditions (key: name of block, Value: condition - created on first use */
+  private        Map<String, IsShowBlockCondition>          blockControllerConditionStore;
+  /* map of components (key: name of block, Value: controller instance - created on first show */
+  private        Map<String, BlockControllerInstance>       blockControllerInstanceStore;
   /* Nalu event bus to catch the RouteState-Event */
-  private        EventBus                             eventBus;
+  private        EventBus                                   eventBus;
   /* list of visibles blocks (using block name) */
-  private        List<String>                         visiblesBlocks;
+  private        List<String>                               visiblesBlocks;
+  /* list of blocks to create during idle time (using block name) */
+  private        List<String>                               preloadBlocks;
 
-  private BlockControllerFactory() {
+  BlockControllerFactory() {
+    this.blockControllerCreatorStore = new LazyCreatorStore<>();
+    this.blockControllerConditionStore = new HashMap<>();
     this.blockControllerInstanceStore = new HashMap<>();
     this.visiblesBlocks = new ArrayList<>();
+    this.preloadBlocks = new ArrayList<>();
   }
 
   public static BlockControllerFactory get() {
@@ -52,21 +63,26 @@ public class BlockControllerFactory {
     return instance;
   }
 
+  /**
+   * Registers a block controller.
+   * <p>
+   * The block controller will not be created during registration.
+   * Nalu creates the block the first time the condition of the
+   * block returns true or - in case preload is true - the first
+   * time the browser is idle.
+   *
+   * @param blockName name of the block
+   * @param creator   creator of the block controller
+   * @param preload   true: create the block during idle time
+   */
   public void registerBlockController(String blockName,
-                                      IsBlockControllerCreator creator) {
-    BlockControllerInstance blockControllerInstance = creator.create();
-    ClientLogger.get()
-                .logSimple("block controller >>" + blockControllerInstance.getBlockControllerClassName() + "<< --> append to root",
-                           3);
-    blockControllerInstance.getController()
-                           .append();
-    ClientLogger.get()
-                .logSimple("controller >>" + blockControllerInstance.getBlockControllerClassName() + "<< --> appended to root",
-                           3);
-    blockControllerInstance.getController()
-                           .hide();
-    this.blockControllerInstanceStore.put(blockName,
-                                          blockControllerInstance);
+                                      Supplier<IsBlockControllerCreator> creator,
+                                      boolean preload) {
+    this.blockControllerCreatorStore.register(blockName,
+                                              creator);
+    if (preload) {
+      this.preloadBlocks.add(blockName);
+    }
   }
 
   public void register(EventBus eventBus) {
@@ -78,65 +94,106 @@ public class BlockControllerFactory {
     }
   }
 
+  /**
+   * Creates all blocks, that are marked as preload and are not created yet.
+   * <p>
+   * The method should be called once the browser is idle.
+   */
+  public void preload() {
+    this.preloadBlocks.forEach(this::getBlockControllerInstance);
+    this.preloadBlocks.clear();
+  }
+
+  private BlockControllerInstance getBlockControllerInstance(String blockName) {
+    BlockControllerInstance blockControllerInstance = this.blockControllerInstanceStore.get(blockName);
+    if (Objects.isNull(blockControllerInstance)) {
+      blockControllerInstance = this.blockControllerCreatorStore.get(blockName)
+                                                                .create();
+      blockControllerInstance.setCondition(this.getCondition(blockName));
+      ClientLogger.get()
+                  .logSimple("block controller >>" + blockControllerInstance.getBlockControllerClassName() + "<< --> append to root",
+                             3);
+      blockControllerInstance.getController()
+                             .append();
+      ClientLogger.get()
+                  .logSimple("controller >>" + blockControllerInstance.getBlockControllerClassName() + "<< --> appended to root",
+                             3);
+      blockControllerInstance.getController()
+                             .hide();
+      this.blockControllerInstanceStore.put(blockName,
+                                            blockControllerInstance);
+    }
+    return blockControllerInstance;
+  }
+
+  private IsShowBlockCondition getCondition(String blockName) {
+    IsShowBlockCondition condition = this.blockControllerConditionStore.get(blockName);
+    if (Objects.isNull(condition)) {
+      condition = this.blockControllerCreatorStore.get(blockName)
+                                                  .createCondition();
+      this.blockControllerConditionStore.put(blockName,
+                                             condition);
+    }
+    return condition;
+  }
+
   private void onHandleRouting(RouterStateEvent e) {
     if (RouterState.ROUTING_DONE != e.getState()) {
       return;
     }
-    // TODO implementieren
-    StringBuilder sb = new StringBuilder();
-    sb.append("BlockControllerFactory: handle RouterStateEvent for route >>")
-      .append(e.getRoute())
-      .append("<<");
-    this.blockControllerInstanceStore.keySet()
-                                     .forEach(i -> {
-                                       BlockControllerInstance blockControllerInstance = this.blockControllerInstanceStore.get(i);
-                                       if (blockControllerInstance.showBlock(e.getRoute(),
-                                                                             e.getParams())) {
-                                         if (!this.visiblesBlocks.contains(blockControllerInstance.getController()
-                                                                                                  .getName())) {
-                                           ClientLogger.get()
-                                                       .logSimple("block controller >>" + blockControllerInstance.getBlockControllerClassName() + "<< --> call onBeforeShow",
-                                                                  3);
-                                           blockControllerInstance.getController()
-                                                                  .onBeforeShow();
-                                           ClientLogger.get()
-                                                       .logSimple("block controller >>" + blockControllerInstance.getBlockControllerClassName() + "<< --> onBeforeShow called",
-                                                                  3);
-                                           ClientLogger.get()
-                                                       .logSimple("block controller >>" + blockControllerInstance.getBlockControllerClassName() + "<< --> call show",
-                                                                  3);
-                                           blockControllerInstance.getController()
-                                                                  .show();
-                                           ClientLogger.get()
-                                                       .logSimple("controller >>" + blockControllerInstance.getBlockControllerClassName() + "<< --> show called",
-                                                                  3);
-                                           visiblesBlocks.add(blockControllerInstance.getController()
-                                                                                     .getName());
-                                         }
-                                       } else {
-                                         if (this.visiblesBlocks.contains(blockControllerInstance.getController()
-                                                                                                 .getName())) {
-                                           ClientLogger.get()
-                                                       .logSimple("block controller >>" + blockControllerInstance.getBlockControllerClassName() + "<< --> call onBeforeHide",
-                                                                  3);
-                                           blockControllerInstance.getController()
-                                                                  .onBeforeHide();
-                                           ClientLogger.get()
-                                                       .logSimple("block controller >>" + blockControllerInstance.getBlockControllerClassName() + "<< --> onBeforeHide called",
-                                                                  3);
-                                           ClientLogger.get()
-                                                       .logSimple("block controller >>" + blockControllerInstance.getBlockControllerClassName() + "<< --> call hide",
-                                                                  3);
-                                           blockControllerInstance.getController()
-                                                                  .hide();
-                                           ClientLogger.get()
-                                                       .logSimple("controller >>" + blockControllerInstance.getBlockControllerClassName() + "<< --> hide called",
-                                                                  3);
-                                           visiblesBlocks.remove(blockControllerInstance.getController()
-                                                                                        .getName());
-                                         }
-                                       }
-                                     });
+    ClientLogger.get()
+                .logDetailed("BlockControllerFactory: handle RouterStateEvent for route >>" + e.getRoute() + "<<",
+                             3);
+    this.blockControllerCreatorStore.getNames()
+                                    .forEach(blockName -> {
+                                      if (this.getCondition(blockName)
+                                              .showBlock(e.getRoute(),
+                                                         e.getParams())) {
+                                        if (!this.visiblesBlocks.contains(blockName)) {
+                                          // the block is created the first time it is shown
+                                          BlockControllerInstance blockControllerInstance = this.getBlockControllerInstance(blockName);
+                                          ClientLogger.get()
+                                                      .logSimple("block controller >>" + blockControllerInstance.getBlockControllerClassName() + "<< --> call onBeforeShow",
+                                                                 3);
+                                          blockControllerInstance.getController()
+                                                                 .onBeforeShow();
+                                          ClientLogger.get()
+                                                      .logSimple("block controller >>" + blockControllerInstance.getBlockControllerClassName() + "<< --> onBeforeShow called",
+                                                                 3);
+                                          ClientLogger.get()
+                                                      .logSimple("block controller >>" + blockControllerInstance.getBlockControllerClassName() + "<< --> call show",
+                                                                 3);
+                                          blockControllerInstance.getController()
+                                                                 .show();
+                                          ClientLogger.get()
+                                                      .logSimple("controller >>" + blockControllerInstance.getBlockControllerClassName() + "<< --> show called",
+                                                                 3);
+                                          this.visiblesBlocks.add(blockName);
+                                        }
+                                      } else {
+                                        if (this.visiblesBlocks.contains(blockName)) {
+                                          // a visible block is always created
+                                          BlockControllerInstance blockControllerInstance = this.blockControllerInstanceStore.get(blockName);
+                                          ClientLogger.get()
+                                                      .logSimple("block controller >>" + blockControllerInstance.getBlockControllerClassName() + "<< --> call onBeforeHide",
+                                                                 3);
+                                          blockControllerInstance.getController()
+                                                                 .onBeforeHide();
+                                          ClientLogger.get()
+                                                      .logSimple("block controller >>" + blockControllerInstance.getBlockControllerClassName() + "<< --> onBeforeHide called",
+                                                                 3);
+                                          ClientLogger.get()
+                                                      .logSimple("block controller >>" + blockControllerInstance.getBlockControllerClassName() + "<< --> call hide",
+                                                                 3);
+                                          blockControllerInstance.getController()
+                                                                 .hide();
+                                          ClientLogger.get()
+                                                      .logSimple("controller >>" + blockControllerInstance.getBlockControllerClassName() + "<< --> hide called",
+                                                                 3);
+                                          this.visiblesBlocks.remove(blockName);
+                                        }
+                                      }
+                                    });
   }
 
 }
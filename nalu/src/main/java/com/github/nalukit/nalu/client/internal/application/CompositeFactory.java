@@ -18,30 +18,32 @@ package com.github.nalukit.nalu.client.internal.application;
 
 import com.github.nalukit.nalu.client.component.AbstractCompositeController;
 import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
+import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 @NaluInternalUse
 public class CompositeFactory {
 
-  private final static String DELIMITER = "<<||>>";
-
   /* instance of the controller factory */
-  private static CompositeFactory                                  instance;
-  /* map of components (key: name of class, Value: ControllerCreator */
-  private        Map<String, IsCompositeCreator>                   compositeCreatorFactory;
-  /* map of stored components (key: name of class, Value: instance of controller */
-  private        Map<String, AbstractCompositeController<?, ?, ?>> compositeControllerStore;
-  /* list of global cached composites */
-  private        Map<String, CompositeInstance>                    cachedGlobalCompositeInstances;
+  private static CompositeFactory                                    instance;
+  /* store of creators (key: name of class, Value: CompositeCreator - created on first use */
+  private        LazyCreatorStore<IsCompositeCreator>                compositeCreatorFactory;
+  /* map of stored components (key: name of parent class, Value: instances of composites - index: id of the composite */
+  private        Map<String, AbstractCompositeController<?, ?, ?>[]> compositeControllerStore;
+  /* global cached composites (index: id of the composite) */
+  private        CompositeInstance[]                                 cachedGlobalCompositeInstances;
 
   private CompositeFactory() {
-    this.compositeCreatorFactory = new HashMap<>();
+    this.compositeCreatorFactory = new LazyCreatorStore<>();
     this.compositeControllerStore = new HashMap<>();
-    this.cachedGlobalCompositeInstances = new HashMap<>();
+    this.cachedGlobalCompositeInstances = new CompositeInstance[0];
   }
 
   public static CompositeFactory get() {
@@ -51,10 +53,27 @@ public class CompositeFactory {
     return instance;
   }
 
-  public void registerComposite(String controller,
-                                IsCompositeCreator creator) {
-    this.compositeCreatorFactory.put(controller,
-                                     creator);
+  /**
+   * Registers a composite creator and returns the id of the composite.
+   *
+   * @param controller name of the composite class
+   * @param creator    supplier of the creator
+   * @return id of the composite
+   */
+  public int registerComposite(String controller,
+                               Supplier<IsCompositeCreator> creator) {
+    return this.compositeCreatorFactory.register(controller,
+                                                 creator);
+  }
+
+  /**
+   * Returns the id of the composite or -1 in case the composite is not registered.
+   *
+   * @param compositeControllerClassName name of the composite class
+   * @return id of the composite or -1
+   */
+  public int getCompositeId(String compositeControllerClassName) {
+    return this.compositeCreatorFactory.getId(compositeControllerClassName);
   }
 
   public CompositeInstance getComposite(String parentControllerClassName,
@@ -62,65 +81,128 @@ public class CompositeFactory {
                                         boolean scopeGlobal,
                                         String... params)
       throws RoutingInterceptionException {
+    return this.getComposite(parentControllerClassName,
+                             this.compositeCreatorFactory.getId(compositeControllerClassName),
+                             scopeGlobal,
+                             params);
+  }
+
+  public CompositeInstance getComposite(String parentControllerClassName,
+                                        int compositeId,
+                                        boolean scopeGlobal,
+                                        String... params)
+      throws RoutingInterceptionException {
+    if (!this.compositeCreatorFactory.contains(compositeId)) {
+      return null;
+    }
     // in case scopeGlobal is true ,check if the instance already exists
     if (scopeGlobal) {
-      if (!Objects.isNull(this.cachedGlobalCompositeInstances.get(compositeControllerClassName))) {
-        return this.cachedGlobalCompositeInstances.get(compositeControllerClassName);
+      if (compositeId < this.cachedGlobalCompositeInstances.length && !Objects.isNull(this.cachedGlobalCompositeInstances[compositeId])) {
+        return this.cachedGlobalCompositeInstances[compositeId];
       }
     }
     // ok, global cache is empty ... create it!
-    if (this.compositeCreatorFactory.containsKey(compositeControllerClassName)) {
-      IsCompositeCreator compositeCreator = this.compositeCreatorFactory.get(compositeControllerClassName);
-      CompositeInstance compositeInstance = compositeCreator.create(parentControllerClassName);
-      if (scopeGlobal) {
-        // oh ... global scope! store the compositeInstance
-        compositeInstance.setCached(true);
-        compositeInstance.getComposite()
-                         .setCachedGlobal(true);
-        this.cachedGlobalCompositeInstances.put(compositeControllerClassName,
-                                                compositeInstance);
+    IsCompositeCreator compositeCreator = this.compositeCreatorFactory.get(compositeId);
+    CompositeInstance compositeInstance = compositeCreator.create(parentControllerClassName);
+    if (scopeGlobal) {
+      // oh ... global scope! store the compositeInstance
+      compositeInstance.setCached(true);
+      compositeInstance.getComposite()
+                       .setCachedGlobal(true);
+      if (compositeId >= this.cachedGlobalCompositeInstances.length) {
+        this.cachedGlobalCompositeInstances = Arrays.copyOf(this.cachedGlobalCompositeInstances,
+                                                            this.compositeCreatorFactory.size());
+      }
+      this.cachedGlobalCompositeInstances[compositeId] = compositeInstance;
+    }
+    compositeCreator.setParameter(compositeInstance.getComposite(),
+                                  params);
+    return compositeInstance;
+  }
+
+  /**
+   * Calls the bind-method of all composites at the same time. The callback
+   * is called once the last composite has called continueLoading. In case
+   * the list is empty, the callback is called immediately.
+   * <p>
+   * In case a composite interrupts the routing, the callback is informed
+   * and will not be finished.
+   *
+   * @param composites composites to bind
+   * @param callback   callback
+   */
+  public void bind(List<AbstractCompositeController<?, ?, ?>> composites,
+                   CompositeBindCallback callback) {
+    if (composites.isEmpty()) {
+      callback.onFinish();
+      return;
+    }
+    int[] pending = { composites.size() };
+    boolean[] interrupted = { false };
+    for (AbstractCompositeController<?, ?, ?> composite : composites) {
+      boolean[] finished = { false };
+      ClientLogger.get()
+                  .logDetailed("composite >>" + composite.getControllerClassName() + "<< --> call bind method",
+                               4);
+      try {
+        composite.bind(() -> {
+          // ignore repeated calls and calls after an interruption
+          if (finished[0] || interrupted[0]) {
+            return;
+          }
+          finished[0] = true;
+          ClientLogger.get()
+                      .logDetailed("composite >>" + composite.getControllerClassName() + "<< --> bind method called",
+                                   4);
+          pending[0]--;
+          if (pending[0] == 0) {
+            callback.onFinish();
+          }
+        });
+      } catch (RoutingInterceptionException e) {
+        interrupted[0] = true;
+        callback.onRoutingInterceptionException(e);
+        return;
       }
-      compositeCreator.setParameter(compositeInstance.getComposite(),
-                                    params);
-      return compositeInstance;
     }
-    return null;
   }
 
   public AbstractCompositeController<?, ?, ?> getCompositeFormStore(String parentControllerClassName,
                                                                     String controllerClassName) {
-    String key = this.createKey(parentControllerClassName,
-                                controllerClassName);
-    return this.compositeControllerStore.get(key);
+    AbstractCompositeController<?, ?, ?>[] compositeControllers = this.compositeControllerStore.get(parentControllerClassName);
+    int compositeId = this.compositeCreatorFactory.getId(controllerClassName);
+    if (Objects.isNull(compositeControllers) || compositeId < 0 || compositeId >= compositeControllers.length) {
+      return null;
+    }
+    return compositeControllers[compositeId];
   }
 
   public <C extends AbstractCompositeController<?, ?, ?>> void storeInCache(C controller) {
-    String key = this.createKey(controller.getParentClassName(),
-                                controller.getClass()
-                                          .getCanonicalName());
-    this.compositeControllerStore.put(key,
-                                      controller);
+    int compositeId = this.compositeCreatorFactory.getId(controller.getControllerClassName());
+    if (compositeId < 0) {
+      return;
+    }
+    AbstractCompositeController<?, ?, ?>[] compositeControllers = this.compositeControllerStore.get(controller.getParentClassName());
+    if (Objects.isNull(compositeControllers) || compositeId >= compositeControllers.length) {
+      compositeControllers = Objects.isNull(compositeControllers) ? new AbstractCompositeController<?, ?, ?>[this.compositeCreatorFactory.size()] :
+                             Arrays.copyOf(compositeControllers,
+                                           this.compositeCreatorFactory.size());
+      this.compositeControllerStore.put(controller.getParentClassName(),
+                                        compositeControllers);
+    }
+    compositeControllers[compositeId] = controller;
   }
 
   public <C extends AbstractCompositeController<?, ?, ?>> void removeFromCache(C controller) {
-    String key = this.createKey(controller.getParentClassName(),
-                                controller.getClass()
-                                          .getCanonicalName());
-    this.compositeControllerStore.remove(key);
+    AbstractCompositeController<?, ?, ?>[] compositeControllers = this.compositeControllerStore.get(controller.getParentClassName());
+    int compositeId = this.compositeCreatorFactory.getId(controller.getControllerClassName());
+    if (!Objects.isNull(compositeControllers) && compositeId >= 0 && compositeId < compositeControllers.length) {
+      compositeControllers[compositeId] = null;
+    }
   }
 
   public void clearControllerCache() {
     this.compositeControllerStore.clear();
   }
 
-  private String createKey(String parentClassName,
-                           String compositeClassName) {
-    return this.classFormatter(parentClassName) + CompositeFactory.DELIMITER + this.classFormatter(compositeClassName);
-  }
-
-  private String classFormatter(String className) {
-    return className.replace(".",
-                             "_");
-  }
-
 }
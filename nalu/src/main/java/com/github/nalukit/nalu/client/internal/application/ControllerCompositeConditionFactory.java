@@ -25,18 +25,28 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 @NaluInternalUse
 public class ControllerCompositeConditionFactory {
 
+  /* value returned in case a condition is unknown */
+  public static final int NO_CONDITION = -1;
+
   /* instance of the controller factory */
   private static ControllerCompositeConditionFactory instance;
 
-  /* map of conditions (key: controller name, value: ConditionContainer)  */
-  private Map<String, List<ConditionContainer>> conditionContainerMap;
+  /* map of condition ids (key: controller name, value: map (key: composite name, value: id of the condition)) */
+  private Map<String, Map<String, Integer>> conditionIdMap;
+  /* list of conditions (index: id of the condition) */
+  private List<ConditionContainer>          conditionContainers;
+  /* map of shared conditions (key: controller name + condition class name, value: condition) */
+  private Map<String, ConditionHolder>      sharedConditionMap;
 
-  private ControllerCompositeConditionFactory() {
-    this.conditionContainerMap = new HashMap<>();
+  ControllerCompositeConditionFactory() {
+    this.conditionIdMap = new HashMap<>();
+    this.conditionContainers = new ArrayList<>();
+    this.sharedConditionMap = new HashMap<>();
   }
 
   public static ControllerCompositeConditionFactory get() {
@@ -46,19 +56,84 @@ public class ControllerCompositeConditionFactory {
     return instance;
   }
 
-  public void registerCondition(String controllerClassName,
+  /**
+   * Registers a condition and returns the id of the condition.
+   * In case there is already a condition registered for the controller
+   * and composite, the condition will be replaced and the id is kept.
+   *
+   * @param controllerClassName name of the controller containing the composites
+   * @param compositeName       name of the composite
+   * @param condition           supplier of the condition
+   * @return id of the condition
+   */
+  public int registerCondition(String controllerClassName,
+                               String compositeName,
+                               Supplier<IsLoadCompositeCondition> condition) {
+    return this.registerCondition(controllerClassName,
+                                  compositeName,
+                                  new ConditionHolder(condition));
+  }
+
+  /**
+   * Registers a condition and returns the id of the condition.
+   * All composites of a controller using the same condition class
+   * share one instance of the condition. The instance is created
+   * the first time one of the composites is evaluated.
+   *
+   * @param controllerClassName name of the controller containing the composites
+   * @param compositeName       name of the composite
+   * @param conditionClassName  name of the condition class
+   * @param condition           supplier of the condition
+   * @return id of the condition
+   */
+  public int registerCondition(String controllerClassName,
+                               String compositeName,
+                               String conditionClassName,
+                               Supplier<IsLoadCompositeCondition> condition) {
+    ConditionHolder conditionHolder = this.sharedConditionMap.computeIfAbsent(controllerClassName + ">>" + conditionClassName,
+                                                                              v -> new ConditionHolder(condition));
+    return this.registerCondition(controllerClassName,
+                                  compositeName,
+                                  conditionHolder);
+  }
+
+  private int registerCondition(String controllerClassName,
                                 String compositeName,
-                                IsLoadCompositeCondition condition) {
-    if (this.conditionContainerMap.containsKey(controllerClassName)) {
-      this.conditionContainerMap.get(controllerClassName)
-                                .add(new ConditionContainer(compositeName,
-                                                            condition));
+                                ConditionHolder conditionHolder) {
+    ConditionContainer conditionContainer = new ConditionContainer(controllerClassName,
+                                                                   compositeName,
+                                                                   conditionHolder);
+    Map<String, Integer> compositeIds = this.conditionIdMap.computeIfAbsent(controllerClassName,
+                                                                            v -> new HashMap<>());
+    Integer conditionId = compositeIds.get(compositeName);
+    if (Objects.isNull(conditionId)) {
+      conditionId = this.conditionContainers.size();
+      compositeIds.put(compositeName,
+                       conditionId);
+      this.conditionContainers.add(conditionContainer);
     } else {
-      this.conditionContainerMap.computeIfAbsent(controllerClassName,
-                                                 v -> new ArrayList<>())
-                                .add(new ConditionContainer(compositeName,
-                                                            condition));
+      this.conditionContainers.set(conditionId,
+                                   conditionContainer);
     }
+    return conditionId;
+  }
+
+  /**
+   * Returns the id of the condition or -1 in case there is no condition
+   * registered for the controller and composite.
+   *
+   * @param controllerClassName name of the controller containing the composites
+   * @param compositeName       name of the composite
+   * @return id of the condition or -1
+   */
+  public int getConditionId(String controllerClassName,
+                            String compositeName) {
+    Map<String, Integer> compositeIds = this.conditionIdMap.get(controllerClassName);
+    if (Objects.isNull(compositeIds)) {
+      return ControllerCompositeConditionFactory.NO_CONDITION;
+    }
+    Integer conditionId = compositeIds.get(compositeName);
+    return Objects.isNull(conditionId) ? ControllerCompositeConditionFactory.NO_CONDITION : conditionId;
   }
 
   /**
@@ -74,10 +149,10 @@ public class ControllerCompositeConditionFactory {
                                String compositeName,
                                String route,
                                String... params) {
-    StringBuilder sb;
-    List<ConditionContainer> conditionContainers = this.conditionContainerMap.get(controllerClassName);
-    if (Objects.isNull(conditionContainers)) {
-      sb = new StringBuilder();
+    int conditionId = this.getConditionId(controllerClassName,
+                                          compositeName);
+    if (conditionId == ControllerCompositeConditionFactory.NO_CONDITION) {
+      StringBuilder sb = new StringBuilder();
       sb.append("ControllerCompositeConditionFactory: composite condition not found for controller class name >>")
         .append(controllerClassName)
         .append("<< and composite >>")
@@ -88,51 +163,90 @@ public class ControllerCompositeConditionFactory {
                              5);
       return false;
     }
-    for (ConditionContainer conditionContainer : conditionContainers) {
-      if (conditionContainer.compositeName.equals(compositeName)) {
-        boolean toLoad = conditionContainer.condition.loadComposite(route,
-                                                                    params);
-        sb = new StringBuilder();
-        if (toLoad) {
-          sb.append("ControllerCompositeConditionFactory: composite condition for controller class name >>")
-            .append(controllerClassName)
-            .append("<< and composite >>")
-            .append(compositeName)
-            .append("<< will not interrupt loading the composite");
-        } else {
-          sb.append("ControllerCompositeConditionFactory: composite condition for controller class name >>")
-            .append(controllerClassName)
-            .append("<< and composite >>")
-            .append(compositeName)
-            .append("<< will abort loading the composite");
-        }
-        ClientLogger.get()
-                    .logSimple(sb.toString(),
-                               5);
-        return toLoad;
-      }
+    return this.loadComposite(conditionId,
+                              route,
+                              params);
+  }
+
+  /**
+   * Will tell Nalu if the composite can be loaded or not!
+   *
+   * @param conditionId id of the condition
+   * @param route       the route
+   * @param params      parameter (0 .. n)
+   * @return true: load composite; false:  do not load composite
+   */
+  public boolean loadComposite(int conditionId,
+                               String route,
+                               String... params) {
+    StringBuilder sb = new StringBuilder();
+    if (conditionId < 0 || conditionId >= this.conditionContainers.size()) {
+      sb.append("ControllerCompositeConditionFactory: composite condition not found for id >>")
+        .append(conditionId)
+        .append("<<");
+      ClientLogger.get()
+                  .logSimple(sb.toString(),
+                             5);
+      return false;
+    }
+    ConditionContainer conditionContainer = this.conditionContainers.get(conditionId);
+    boolean toLoad = conditionContainer.getCondition()
+                                       .loadComposite(route,
+                                                      params);
+    if (toLoad) {
+      sb.append("ControllerCompositeConditionFactory: composite condition for controller class name >>")
+        .append(conditionContainer.controllerClassName)
+        .append("<< and composite >>")
+        .append(conditionContainer.compositeName)
+        .append("<< will not interrupt loading the composite");
+    } else {
+      sb.append("ControllerCompositeConditionFactory: composite condition for controller class name >>")
+        .append(conditionContainer.controllerClassName)
+        .append("<< and composite >>")
+        .append(conditionContainer.compositeName)
+        .append("<< will abort loading the composite");
     }
-    sb = new StringBuilder();
-    sb.append("ControllerCompositeConditionFactory: list of composite condition for controller class name >>")
-      .append(controllerClassName)
-      .append("<< and composite >>")
-      .append(compositeName)
-      .append("<< does have a entry for this composite!");
     ClientLogger.get()
                 .logSimple(sb.toString(),
                            5);
-    return false;
+    return toLoad;
   }
 
   static class ConditionContainer {
 
-    private String                   compositeName;
-    private IsLoadCompositeCondition condition;
+    private String          controllerClassName;
+    private String          compositeName;
+    private ConditionHolder conditionHolder;
 
-    ConditionContainer(String compositeName,
-                       IsLoadCompositeCondition condition) {
+    ConditionContainer(String controllerClassName,
+                       String compositeName,
+                       ConditionHolder conditionHolder) {
+      this.controllerClassName = controllerClassName;
       this.compositeName = compositeName;
-      this.condition = condition;
+      this.conditionHolder = conditionHolder;
+    }
+
+    IsLoadCompositeCondition getCondition() {
+      return this.conditionHolder.getCondition();
+    }
+
+  }
+
+  static class ConditionHolder {
+
+    private Supplier<IsLoadCompositeCondition> conditionSupplier;
+    /* created on first use */
+    private IsLoadCompositeCondition           condition;
+
+    ConditionHolder(Supplier<IsLoadCompositeCondition> conditionSupplier) {
+      this.conditionSupplier = conditionSupplier;
+    }
+
+    IsLoadCompositeCondition getCondition() {
+      if (Objects.isNull(this.condition)) {
+        this.condition = this.conditionSupplier.get();
+      }
+      return this.condition;
     }
 
   }
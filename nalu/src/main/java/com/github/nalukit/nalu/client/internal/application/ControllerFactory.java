@@ -20,8 +20,8 @@ import com.github.nalukit.nalu.client.component.AbstractComponentController;
 import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.function.Supplier;
 
 @NaluInternalUse
 public class ControllerFactory {
@@ -29,15 +29,15 @@ public class ControllerFactory {
   /* instance of the controller factory */
   private static ControllerFactory instance;
 
-  /* map of components (key: name of class, Value: ControllerCreator */
-  private Map<String, IsControllerCreator> controllerFactory;
+  /* store of creators (key: name of class, Value: ControllerCreator - created on first use */
+  private LazyCreatorStore<IsControllerCreator> controllerFactory;
 
-  /* map of stored components (key: name of class, Value: instance of controller */
-  private Map<String, AbstractComponentController<?, ?, ?>> controllerStore;
+  /* stored components (index: id of the controller, Value: instance of controller */
+  private AbstractComponentController<?, ?, ?>[] controllerStore;
 
   private ControllerFactory() {
-    this.controllerFactory = new HashMap<>();
-    this.controllerStore = new HashMap<>();
+    this.controllerFactory = new LazyCreatorStore<>();
+    this.controllerStore = new AbstractComponentController<?, ?, ?>[0];
   }
 
   public static ControllerFactory get() {
@@ -47,17 +47,42 @@ public class ControllerFactory {
     return instance;
   }
 
-  public void registerController(String controller,
-                                 IsControllerCreator creator) {
-    this.controllerFactory.put(controller,
-                               creator);
+  /**
+   * Registers a controller creator and returns the id of the controller.
+   *
+   * @param controller name of the controller class
+   * @param creator    supplier of the creator
+   * @return id of the controller
+   */
+  public int registerController(String controller,
+                                Supplier<IsControllerCreator> creator) {
+    return this.controllerFactory.register(controller,
+                                           creator);
+  }
+
+  /**
+   * Returns the id of the controller or -1 in case the controller is not registered.
+   *
+   * @param controller name of the controller class
+   * @return id of the controller or -1
+   */
+  public int getControllerId(String controller) {
+    return this.controllerFactory.getId(controller);
   }
 
   public void controller(String controller,
                          ControllerCallback callback,
                          String... params) {
-    if (this.controllerFactory.containsKey(controller)) {
-      IsControllerCreator controllerCreator = this.controllerFactory.get(controller);
+    this.controller(this.controllerFactory.getId(controller),
+                    callback,
+                    params);
+  }
+
+  public void controller(int controllerId,
+                         ControllerCallback callback,
+                         String... params) {
+    if (this.controllerFactory.contains(controllerId)) {
+      IsControllerCreator controllerCreator = this.controllerFactory.get(controllerId);
       ControllerInstance controllerInstance = controllerCreator.create();
       if (controllerInstance.isCached()) {
         try {
@@ -88,33 +113,45 @@ public class ControllerFactory {
           callback.onRoutingInterceptionException(e);
         }
       }
+    } else {
+      // no controller registered: the caller handles the missing controller
+      callback.onFinish(new ControllerInstance());
     }
   }
 
   public AbstractComponentController<?, ?, ?> getControllerFormStore(String controllerClassName) {
-    return this.controllerStore.get(this.classFormatter(controllerClassName));
+    return this.getControllerFormStore(this.controllerFactory.getId(controllerClassName));
+  }
+
+  public AbstractComponentController<?, ?, ?> getControllerFormStore(int controllerId) {
+    if (controllerId < 0 || controllerId >= this.controllerStore.length) {
+      return null;
+    }
+    return this.controllerStore[controllerId];
   }
 
   public <C extends AbstractComponentController<?, ?, ?>> void storeInCache(C controller) {
-    String key = this.classFormatter(controller.getClass()
-                                               .getCanonicalName());
-    this.controllerStore.put(key,
-                             controller);
+    int controllerId = this.controllerFactory.getId(controller.getControllerClassName());
+    if (controllerId < 0) {
+      return;
+    }
+    if (controllerId >= this.controllerStore.length) {
+      this.controllerStore = Arrays.copyOf(this.controllerStore,
+                                           this.controllerFactory.size());
+    }
+    this.controllerStore[controllerId] = controller;
   }
 
   public <C extends AbstractComponentController<?, ?, ?>> void removeFromCache(C controller) {
-    String key = this.classFormatter(controller.getClass()
-                                               .getCanonicalName());
-    this.controllerStore.remove(key);
+    int controllerId = this.controllerFactory.getId(controller.getControllerClassName());
+    if (controllerId >= 0 && controllerId < this.controllerStore.length) {
+      this.controllerStore[controllerId] = null;
+    }
   }
 
   public void clearControllerCache() {
-    this.controllerStore.clear();
-  }
-
-  private String classFormatter(String className) {
-    return className.replace(".",
-                             "_");
+    Arrays.fill(this.controllerStore,
+                null);
   }
 
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import com.github.nalukit.nalu.client.component.IsDataLoader;
+import com.github.nalukit.nalu.client.internal.ClientLogger;
+import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+@NaluInternalUse
+public class DataLoaderFactory {
+
+  /* instance of the data loader factory */
+  private static DataLoaderFactory instance;
+
+  /* registered data loaders (key: class of the controller or composite, value: data loaders) */
+  private Map<Class<?>, List<IsDataLoader>> dataLoaders;
+
+  /* classes of the controllers and composites (key: class name, value: class) - set by the generated code */
+  private Map<String, Class<?>> classes;
+
+  DataLoaderFactory() {
+    this.dataLoaders = new HashMap<>();
+    this.classes = new HashMap<>();
+  }
+
+  public static DataLoaderFactory get() {
+    if (instance == null) {
+      instance = new DataLoaderFactory();
+    }
+    return instance;
+  }
+
+  /**
+   * Registers the class of a controller or composite by its class name.
+   * <p>
+   * Called by the generated code, so data loaders can be looked up without
+   * class metadata.
+   *
+   * @param className name of the controller or composite class
+   * @param clazz     the controller or composite class
+   */
+  public void registerClass(String className,
+                            Class<?> clazz) {
+    this.classes.put(className,
+                     clazz);
+  }
+
+  /**
+   * Registers a data loader for a controller or composite.
+   *
+   * @param clazz      class of the controller or composite
+   * @param dataLoader the data loader
+   */
+  public void register(Class<?> clazz,
+                       IsDataLoader dataLoader) {
+    this.dataLoaders.computeIfAbsent(clazz,
+                                     v -> new ArrayList<>())
+                    .add(dataLoader);
+  }
+
+  /**
+   * Returns true, in case there is at least one data loader registered.
+   *
+   * @return true, if data loaders are registered
+   */
+  public boolean hasDataLoaders() {
+    return !this.dataLoaders.isEmpty();
+  }
+
+  /**
+   * Starts the data loaders of all classes at the same time. The callback
+   * is called once the last data loader has finished. In case there are
+   * no data loaders, the callback is called immediately.
+   * <p>
+   * A data loader registered for more than one of the classes is started
+   * only once.
+   *
+   * @param classNames names of the controller and composite classes
+   * @param route      the route
+   * @param params     parameter (0 .. n)
+   * @param callback   called once all data loaders have finished
+   */
+  public void load(List<String> classNames,
+                   String route,
+                   String[] params,
+                   DataLoaderCallback callback) {
+    Set<IsDataLoader> loaders = new LinkedHashSet<>();
+    for (String className : classNames) {
+      List<IsDataLoader> dataLoadersOfClass = this.dataLoaders.get(this.classes.get(className));
+      if (!Objects.isNull(dataLoadersOfClass)) {
+        loaders.addAll(dataLoadersOfClass);
+      }
+    }
+    if (loaders.isEmpty()) {
+      callback.onFinish();
+      return;
+    }
+    ClientLogger.get()
+                .logDetailed("DataLoaderFactory: start >>" + loaders.size() + "<< data loaders for route >>" + route + "<<",
+                             2);
+    int[] pending = { loaders.size() };
+    for (IsDataLoader loader : loaders) {
+      boolean[] finished = { false };
+      loader.load(route,
+                  params,
+                  () -> {
+                    // ignore repeated calls of the same loader
+                    if (finished[0]) {
+                      return;
+                    }
+                    finished[0] = true;
+                    pending[0]--;
+                    if (pending[0] == 0) {
+                      ClientLogger.get()
+                                  .logDetailed("DataLoaderFactory: data loaders for route >>" + route + "<< finished",
+                                               2);
+                      callback.onFinish();
+                    }
+                  });
+    }
+  }
+
+}
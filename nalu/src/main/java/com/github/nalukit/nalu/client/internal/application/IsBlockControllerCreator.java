@@ -16,6 +16,7 @@
 
 package com.github.nalukit.nalu.client.internal.application;
 
+import com.github.nalukit.nalu.client.component.IsShowBlockCondition;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
 
 @NaluInternalUse
@@ -23,4 +24,6 @@ public interface IsBlockControllerCreator {
 
   BlockControllerInstance create();
 
+  IsShowBlockCondition createCondition();
+
 }
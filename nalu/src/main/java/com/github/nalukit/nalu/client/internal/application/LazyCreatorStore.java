@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Store of creators. The creators are registered using a supplier
+ * and will be instantiated the first time they are requested.
+ * <br>
+ * Every registered name gets a dense integer id (in order of registration).
+ * The id is stable: registering a name a second time will replace the
+ * supplier, but keep the id. Callers on the hot path should resolve the id
+ * once and use the id based methods afterwards.
+ *
+ * @param <T> type of the creator
+ */
+@NaluInternalUse
+class LazyCreatorStore<T> {
+
+  /* value returned in case a name is unknown */
+  static final int NO_ID = -1;
+
+  /* map of ids (key: name, Value: id */
+  private Map<String, Integer> idStore;
+  /* list of names (index: id) */
+  private List<String>         nameStore;
+  /* list of suppliers (index: id) */
+  private List<Supplier<T>>    supplierStore;
+  /* list of instantiated creators (index: id) */
+  private List<T>              creatorStore;
+
+  LazyCreatorStore() {
+    this.idStore = new HashMap<>();
+    this.nameStore = new ArrayList<>();
+    this.supplierStore = new ArrayList<>();
+    this.creatorStore = new ArrayList<>();
+  }
+
+  int register(String name,
+               Supplier<T> supplier) {
+    Integer id = this.idStore.get(name);
+    if (Objects.isNull(id)) {
+      id = this.nameStore.size();
+      this.idStore.put(name,
+                       id);
+      this.nameStore.add(name);
+      this.supplierStore.add(supplier);
+      this.creatorStore.add(null);
+    } else {
+      this.supplierStore.set(id,
+                             supplier);
+      this.creatorStore.set(id,
+                            null);
+    }
+    return id;
+  }
+
+  int getId(String name) {
+    Integer id = this.idStore.get(name);
+    return Objects.isNull(id) ? LazyCreatorStore.NO_ID : id;
+  }
+
+  int size() {
+    return this.nameStore.size();
+  }
+
+  boolean contains(int id) {
+    return id >= 0 && id < this.nameStore.size();
+  }
+
+  boolean contains(String name) {
+    return this.idStore.containsKey(name);
+  }
+
+  String getName(int id) {
+    return this.nameStore.get(id);
+  }
+
+  List<String> getNames() {
+    return this.nameStore;
+  }
+
+  T get(int id) {
+    if (!this.contains(id)) {
+      return null;
+    }
+    T creator = this.creatorStore.get(id);
+    if (Objects.isNull(creator)) {
+      creator = this.supplierStore.get(id)
+                                  .get();
+      this.creatorStore.set(id,
+                            creator);
+    }
+    return creator;
+  }
+
+  T get(String name) {
+    return this.get(this.getId(name));
+  }
+
+}
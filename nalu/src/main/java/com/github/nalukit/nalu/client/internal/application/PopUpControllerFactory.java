@@ -16,14 +16,20 @@
 
 package com.github.nalukit.nalu.client.internal.application;
 
+import com.github.nalukit.nalu.client.component.AbstractPopUpComponentController;
 import com.github.nalukit.nalu.client.component.event.ShowPopUpEvent;
 import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
 import org.gwtproject.event.shared.EventBus;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
 
 @NaluInternalUse
 public class PopUpControllerFactory {
@@ -31,18 +37,37 @@ public class PopUpControllerFactory {
   /* instance of the popup controller factory */
   private static PopUpControllerFactory instance;
 
-  /* map of components (key: name of class, Value: ControllerCreator */
-  private Map<String, IsPopUpControllerCreator> creatorStore;
+  /* store of creators (key: name of popup, Value: ControllerCreator - created on first use */
+  private LazyCreatorStore<IsPopUpControllerCreator> creatorStore;
 
-  /* map of components (key: name of class, Value: controller instance */
-  private Map<String, PopUpControllerInstance> popUpControllerStore;
+  /* map of pool sizes (key: name of popup, Value: max number of instances */
+  private Map<String, Integer> poolSizeStore;
+
+  /* map of components (key: name of popup, Value: controller instances - least recently shown first */
+  private Map<String, List<PopUpControllerInstance>> popUpControllerStore;
+
+  /* list of released instances - least recently released first */
+  private List<PopUpControllerInstance> releasedInstances;
+
+  /* list of popups to create during idle time (using popup name) */
+  private List<String> preloadPopUps;
+
+  /* set of popups, that use release (using popup name) */
+  private Set<String> releasingPopUps;
+
+  /* max number of released instances to keep (0 = no limit) */
+  private int cacheSize;
 
   /* Nalu event bus to catch the ShowPopUpEvents */
   private EventBus eventBus;
 
-  private PopUpControllerFactory() {
-    this.creatorStore = new HashMap<>();
+  PopUpControllerFactory() {
+    this.creatorStore = new LazyCreatorStore<>();
+    this.poolSizeStore = new HashMap<>();
     this.popUpControllerStore = new HashMap<>();
+    this.releasedInstances = new ArrayList<>();
+    this.preloadPopUps = new ArrayList<>();
+    this.releasingPopUps = new HashSet<>();
   }
 
   public static PopUpControllerFactory get() {
@@ -52,10 +77,37 @@ public class PopUpControllerFactory {
     return instance;
   }
 
+  /**
+   * Registers a popup controller.
+   *
+   * @param popUpName name of the popup
+   * @param creator   creator of the popup controller
+   * @param preload   true: create the popup during idle time
+   * @param poolSize  max number of instances, that can be shown at the same time
+   */
   public void registerPopUpController(String popUpName,
-                                      IsPopUpControllerCreator creator) {
-    this.creatorStore.put(popUpName,
-                          creator);
+                                      Supplier<IsPopUpControllerCreator> creator,
+                                      boolean preload,
+                                      int poolSize) {
+    this.creatorStore.register(popUpName,
+                               creator);
+    this.poolSizeStore.put(popUpName,
+                           Math.max(1,
+                                    poolSize));
+    if (preload) {
+      this.preloadPopUps.add(popUpName);
+    }
+  }
+
+  /**
+   * Sets the max number of released popup instances to keep.
+   * In case the limit is exceeded, the least recently released
+   * instance will be disposed.
+   *
+   * @param cacheSize max number of released instances (0 = no limit)
+   */
+  public void setCacheSize(int cacheSize) {
+    this.cacheSize = cacheSize;
   }
 
   public void register(EventBus eventBus) {
@@ -66,45 +118,166 @@ public class PopUpControllerFactory {
     }
   }
 
-  private void onShowPopUp(ShowPopUpEvent e) {
-    StringBuilder sb = new StringBuilder();
-    sb.append("PopUpControllerFactory: handle PopUpEvent for popup >>")
-      .append(e.getName())
-      .append("<<");
-    if (!Objects.isNull(e.getDataStore())) {
-      if (!e.getDataStore()
-            .isEmpty()) {
-        sb.append(" using: ");
-        e.getDataStore()
-         .keySet()
-         .forEach(k -> sb.append(">>")
-                         .append(k)
-                         .append(": ")
-                         .append(e.getDataStore()
-                                  .get(k))
-                         .append("<<   "));
-        ClientLogger.get()
-                    .logDetailed(sb.toString(),
-                                 2);
+  /**
+   * Creates all popups, that are marked as preload and are not created yet.
+   * <p>
+   * The method should be called once the browser is idle.
+   */
+  public void preload() {
+    this.preloadPopUps.forEach(popUpName -> {
+      if (this.getInstances(popUpName)
+              .isEmpty()) {
+        PopUpControllerInstance popUpControllerInstance = this.createInstance(popUpName);
+        if (!Objects.isNull(popUpControllerInstance)) {
+          this.addReleasedInstance(popUpControllerInstance);
+        }
       }
+    });
+    this.preloadPopUps.clear();
+  }
+
+  /**
+   * Releases the instance of the popup controller. The instance can be
+   * used by the next ShowPopUpEvent or - in case the cache size or the
+   * pool size is exceeded - will be disposed.
+   *
+   * @param controller the popup controller to release
+   */
+  public void release(AbstractPopUpComponentController<?, ?> controller) {
+    this.releasingPopUps.add(controller.getName());
+    List<PopUpControllerInstance> instances = this.getInstances(controller.getName());
+    instances.stream()
+             .filter(popUpControllerInstance -> popUpControllerInstance.getController() == controller)
+             .filter(PopUpControllerInstance::isInUse)
+             .findFirst()
+             .ifPresent(popUpControllerInstance -> {
+               popUpControllerInstance.setInUse(false);
+               if (instances.size() > this.getPoolSize(controller.getName())) {
+                 // the instance was created in addition to the pool
+                 this.dispose(popUpControllerInstance);
+               } else {
+                 this.addReleasedInstance(popUpControllerInstance);
+               }
+             });
+  }
+
+  private void addReleasedInstance(PopUpControllerInstance popUpControllerInstance) {
+    this.releasedInstances.add(popUpControllerInstance);
+    while (this.cacheSize > 0 &&
+           this.releasedInstances.size() > this.cacheSize) {
+      this.dispose(this.releasedInstances.remove(0));
     }
-    PopUpControllerInstance popUpComponentController = this.popUpControllerStore.get(e.getName());
-    if (Objects.isNull(popUpComponentController)) {
-      PopUpControllerInstance instance = this.popUpControllerStore.get(e.getName());
-      if (Objects.isNull(instance)) {
-        IsPopUpControllerCreator creator = this.creatorStore.get(e.getName());
-        if (Objects.isNull(creator)) {
-          ClientLogger.get()
-                      .logDetailed("PopUpControllerFactory: PopUpController for name >>" + e.getName() + "<< not found",
-                                   0);
-          return;
+  }
+
+  private void dispose(PopUpControllerInstance popUpControllerInstance) {
+    this.getInstances(popUpControllerInstance.getController()
+                                             .getName())
+        .remove(popUpControllerInstance);
+    popUpControllerInstance.getController()
+                           .onDispose();
+    popUpControllerInstance.getController()
+                           .removeHandlers();
+    ClientLogger.get()
+                .logDetailed("PopUpControllerFactory: controller >>" + popUpControllerInstance.getPopUpControllerClassName() + "<< --> disposed",
+                             2);
+  }
+
+  /**
+   * A popup uses release, in case its pool size is greater than one or
+   * one of its instances was released. Instances of these popups are
+   * never shown twice.
+   *
+   * @param popUpName name of the popup
+   * @return true, if the popup uses release
+   */
+  private boolean isUsingRelease(String popUpName) {
+    return this.getPoolSize(popUpName) > 1 ||
+           this.releasingPopUps.contains(popUpName);
+  }
+
+  private int getPoolSize(String popUpName) {
+    Integer poolSize = this.poolSizeStore.get(popUpName);
+    return Objects.isNull(poolSize) ? 1 : poolSize;
+  }
+
+  private List<PopUpControllerInstance> getInstances(String popUpName) {
+    List<PopUpControllerInstance> instances = this.popUpControllerStore.get(popUpName);
+    if (Objects.isNull(instances)) {
+      instances = new ArrayList<>();
+      this.popUpControllerStore.put(popUpName,
+                                    instances);
+    }
+    return instances;
+  }
+
+  private PopUpControllerInstance createInstance(String popUpName) {
+    IsPopUpControllerCreator creator = this.creatorStore.get(popUpName);
+    if (Objects.isNull(creator)) {
+      ClientLogger.get()
+                  .logDetailed("PopUpControllerFactory: PopUpController for name >>" + popUpName + "<< not found",
+                               0);
+      return null;
+    }
+    PopUpControllerInstance popUpControllerInstance = creator.create();
+    this.getInstances(popUpName)
+        .add(popUpControllerInstance);
+    return popUpControllerInstance;
+  }
+
+  private PopUpControllerInstance getInstanceToShow(String popUpName) {
+    List<PopUpControllerInstance> instances = this.getInstances(popUpName);
+    // use a released instance ...
+    PopUpControllerInstance popUpControllerInstance = instances.stream()
+                                                               .filter(i -> !i.isInUse())
+                                                               .findFirst()
+                                                               .orElse(null);
+    if (Objects.isNull(popUpControllerInstance)) {
+      if (instances.size() < this.getPoolSize(popUpName) ||
+          this.isUsingRelease(popUpName)) {
+        // ... or create a new one (in case the pool is exhausted, the
+        // instance will be disposed once it is released) ...
+        popUpControllerInstance = this.createInstance(popUpName);
+        if (Objects.isNull(popUpControllerInstance)) {
+          return null;
         }
-        instance = creator.create();
-        this.popUpControllerStore.put(e.getName(),
-                                      instance);
-        popUpComponentController = instance;
+      } else {
+        // ... or reuse the least recently shown instance
+        // (popups, that never call release, use one instance for all events)
+        popUpControllerInstance = instances.get(0);
       }
     }
+    this.releasedInstances.remove(popUpControllerInstance);
+    popUpControllerInstance.setInUse(true);
+    // move the instance to the end of the list (most recently shown)
+    instances.remove(popUpControllerInstance);
+    instances.add(popUpControllerInstance);
+    return popUpControllerInstance;
+  }
+
+  private void onShowPopUp(ShowPopUpEvent e) {
+    if (!e.getDataStore()
+          .isEmpty()) {
+      StringBuilder sb = new StringBuilder();
+      sb.append("PopUpControllerFactory: handle PopUpEvent for popup >>")
+        .append(e.getName())
+        .append("<<");
+      sb.append(" using: ");
+      e.getDataStore()
+       .keySet()
+       .forEach(k -> sb.append(">>")
+                       .append(k)
+                       .append(": ")
+                       .append(e.getDataStore()
+                                .get(k))
+                       .append("<<   "));
+      ClientLogger.get()
+                  .logDetailed(sb.toString(),
+                               2);
+    }
+    PopUpControllerInstance popUpComponentController = this.getInstanceToShow(e.getName());
+    if (Objects.isNull(popUpComponentController)) {
+      return;
+    }
     ClientLogger.get()
                 .logSimple("controller >>" + popUpComponentController.getPopUpControllerClassName() + "<< --> initializing",
                            3);
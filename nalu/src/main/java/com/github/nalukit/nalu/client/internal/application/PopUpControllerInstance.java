@@ -28,6 +28,9 @@ public class PopUpControllerInstance {
   /* controller */
   private AbstractPopUpComponentController<?, ?> controller;
 
+  /* true: the instance is shown and not released */
+  private boolean inUse;
+
   public PopUpControllerInstance() {
   }
 
@@ -47,4 +50,12 @@ public class PopUpControllerInstance {
     this.controller = controller;
   }
 
+  public boolean isInUse() {
+    return inUse;
+  }
+
+  public void setInUse(boolean inUse) {
+    this.inUse = inUse;
+  }
+
 }
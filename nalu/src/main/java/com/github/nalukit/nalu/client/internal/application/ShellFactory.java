@@ -16,11 +16,14 @@
 
 package com.github.nalukit.nalu.client.internal.application;
 
+import com.github.nalukit.nalu.client.component.AbstractShell;
 import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 @NaluInternalUse
 public class ShellFactory {
@@ -28,11 +31,15 @@ public class ShellFactory {
   /* instance of the controller factory */
   private static ShellFactory instance;
 
-  /* map of components (key: name of class, Value: ShellCreator */
-  private Map<String, IsShellCreator> shellFactory;
+  /* store of creators (key: name of class, Value: ShellCreator - created on first use */
+  private LazyCreatorStore<IsShellCreator> shellFactory;
+
+  /* cached shells (key: name of class) */
+  private Map<String, ShellInstance> cachedShells;
 
   private ShellFactory() {
-    this.shellFactory = new HashMap<>();
+    this.shellFactory = new LazyCreatorStore<>();
+    this.cachedShells = new HashMap<>();
   }
 
   public static ShellFactory get() {
@@ -42,16 +49,45 @@ public class ShellFactory {
     return instance;
   }
 
-  public void registerShell(String shellName,
-                            IsShellCreator creator) {
-    this.shellFactory.put(shellName,
-                          creator);
+  /**
+   * Registers a shell creator and returns the id of the shell.
+   *
+   * @param shellName name of the shell class
+   * @param creator   supplier of the creator
+   * @return id of the shell
+   */
+  public int registerShell(String shellName,
+                           Supplier<IsShellCreator> creator) {
+    return this.shellFactory.register(shellName,
+                                      creator);
+  }
+
+  /**
+   * Returns the id of the shell or -1 in case the shell is not registered.
+   *
+   * @param shellName name of the shell class
+   * @return id of the shell or -1
+   */
+  public int getShellId(String shellName) {
+    return this.shellFactory.getId(shellName);
   }
 
   public void shell(String shellName,
                     ShellCallback callback) {
-    if (this.shellFactory.containsKey(shellName)) {
-      IsShellCreator shellCreator = this.shellFactory.get(shellName);
+    this.shell(this.shellFactory.getId(shellName),
+               callback);
+  }
+
+  public void shell(int shellId,
+                    ShellCallback callback) {
+    if (this.shellFactory.contains(shellId)) {
+      // a cached shell is already created and bound
+      ShellInstance cachedShell = this.cachedShells.get(this.shellFactory.getName(shellId));
+      if (!Objects.isNull(cachedShell)) {
+        callback.onFinish(cachedShell);
+        return;
+      }
+      IsShellCreator shellCreator = this.shellFactory.get(shellId);
       ShellInstance shellInstance = shellCreator.create();
       shellCreator.logBindMethodCallToConsole(shellInstance.getShell(),
                                               false);
@@ -75,4 +111,26 @@ public class ShellFactory {
     }
   }
 
+  /**
+   * Stores the shell in the cache.
+   *
+   * @param shell shell to store
+   */
+  public void storeInCache(AbstractShell<?> shell) {
+    ShellInstance shellInstance = new ShellInstance();
+    shellInstance.setShellClassName(shell.getShellClassName());
+    shellInstance.setShell(shell);
+    this.cachedShells.put(shell.getShellClassName(),
+                          shellInstance);
+  }
+
+  /**
+   * Removes the shell from the cache.
+   *
+   * @param shell shell to remove
+   */
+  public void removeFromCache(AbstractShell<?> shell) {
+    this.cachedShells.remove(shell.getShellClassName());
+  }
+
 }
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.module;
+
+import com.github.nalukit.nalu.client.internal.ClientLogger;
+import com.github.nalukit.nalu.client.internal.CompositeControllerReference;
+import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+import com.github.nalukit.nalu.client.internal.route.RouterConfiguration;
+import com.github.nalukit.nalu.client.internal.route.ShellConfiguration;
+import com.github.nalukit.nalu.client.module.IsModule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+@NaluInternalUse
+public class LazyModuleFactory {
+
+  /* instance of the lazy module factory */
+  private static LazyModuleFactory                  instance;
+  /* list of lazy modules */
+  private        List<LazyModule>                   lazyModules;
+  /* shell configuration of the application */
+  private        ShellConfiguration                 shellConfiguration;
+  /* router configuration of the application */
+  private        RouterConfiguration                routerConfiguration;
+  /* composite references of the application */
+  private        List<CompositeControllerReference> compositeControllerReferences;
+
+  LazyModuleFactory() {
+    this.lazyModules = new ArrayList<>();
+  }
+
+  public static LazyModuleFactory get() {
+    if (instance == null) {
+      instance = new LazyModuleFactory();
+    }
+    return instance;
+  }
+
+  /**
+   * Registers a lazy module.
+   * <p>
+   * The creator loads the code of the module (using the loader of the
+   * module) and creates the module inside the callback of the loader.
+   * This way the module is only referenced from inside the split point.
+   *
+   * @param moduleName name of the module (class name)
+   * @param routes     route prefixes owned by the module
+   * @param creator    loads and creates the instance of the module
+   */
+  public void registerModule(String moduleName,
+                             String[] routes,
+                             IsModuleCreator creator) {
+    this.lazyModules.add(new LazyModule(moduleName,
+                                        routes,
+                                        creator));
+  }
+
+  /**
+   * Registers the configurations of the application. Once a lazy
+   * module is loaded, its configurations will be added.
+   *
+   * @param shellConfiguration            shell configuration of the application
+   * @param routerConfiguration           router configuration of the application
+   * @param compositeControllerReferences composite references of the application
+   */
+  public void register(ShellConfiguration shellConfiguration,
+                       RouterConfiguration routerConfiguration,
+                       List<CompositeControllerReference> compositeControllerReferences) {
+    this.shellConfiguration = shellConfiguration;
+    this.routerConfiguration = routerConfiguration;
+    this.compositeControllerReferences = compositeControllerReferences;
+  }
+
+  /**
+   * Checks, if the route is owned by a lazy module, that is not loaded yet.
+   *
+   * @param route the route to check
+   * @return true, if the module of the route has to be loaded
+   */
+  public boolean isLazyRoute(String route) {
+    return !Objects.isNull(this.getLazyModule(route));
+  }
+
+  /**
+   * Loads the lazy module owning the route and adds the configuration
+   * of the module to the application configuration.
+   * <p>
+   * In case the module is already loading, the callback replaces the
+   * callback of the running load - only the latest routing will be resumed.
+   *
+   * @param route    the route, that triggers the load
+   * @param callback called once the module is loaded
+   */
+  public void load(String route,
+                   LoadCallback callback) {
+    LazyModule lazyModule = this.getLazyModule(route);
+    if (Objects.isNull(lazyModule)) {
+      callback.onSuccess();
+      return;
+    }
+    lazyModule.callback = callback;
+    if (lazyModule.loading) {
+      return;
+    }
+    lazyModule.loading = true;
+    ClientLogger.get()
+                .logSimple("LazyModuleFactory: load module >>" + lazyModule.moduleName + "<< for route >>" + route + "<<",
+                           1);
+    lazyModule.creator.create(new ModuleCreatorCallback() {
+
+      @Override
+      public void onSuccess(IsModule<?> module) {
+        loadModule(lazyModule,
+                   module);
+        lazyModule.loading = false;
+        lazyModule.loaded = true;
+        lazyModule.callback.onSuccess();
+      }
+
+      @Override
+      public void onFailure(Throwable caught) {
+        ClientLogger.get()
+                    .logSimple("LazyModuleFactory: loading module >>" + lazyModule.moduleName + "<< failed",
+                               1);
+        lazyModule.loading = false;
+        lazyModule.callback.onFailure(caught);
+      }
+
+    });
+  }
+
+  private void loadModule(LazyModule lazyModule,
+                          IsModule<?> module) {
+    module.loadModule(this.routerConfiguration);
+    this.shellConfiguration.getShells()
+                           .addAll(module.getShellConfigs());
+    this.routerConfiguration.addRoutes(module.getRouteConfigs(),
+                                       module.getRouteMatcher());
+    this.compositeControllerReferences.addAll(module.getCompositeReferences());
+    ClientLogger.get()
+                .logSimple("LazyModuleFactory: module >>" + lazyModule.moduleName + "<< loaded",
+                           1);
+  }
+
+  private LazyModule getLazyModule(String route) {
+    String value = route.startsWith("/") ? route : "/" + route;
+    for (LazyModule lazyModule : this.lazyModules) {
+      if (!lazyModule.loaded) {
+        for (String prefix : lazyModule.routes) {
+          if (value.equals(prefix) ||
+              value.startsWith(prefix + "/")) {
+            return lazyModule;
+          }
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Loads the code of a lazy module and creates the module.
+   * <p>
+   * The generated creator calls the loader of the module and creates the
+   * module inside the callback of the loader.
+   */
+  @FunctionalInterface
+  public interface IsModuleCreator {
+
+    void create(ModuleCreatorCallback callback);
+
+  }
+
+  /**
+   * Callback of the module creator.
+   */
+  public interface ModuleCreatorCallback {
+
+    void onSuccess(IsModule<?> module);
+
+    void onFailure(Throwable caught);
+
+  }
+
+  /**
+   * Callback of the load-method.
+   */
+  public interface LoadCallback {
+
+    void onSuccess();
+
+    void onFailure(Throwable caught);
+
+  }
+
+  private static class LazyModule {
+
+    /* name of the module */
+    private String          moduleName;
+    /* route prefixes of the module (with leading and without trailing slash) */
+    private String[]        routes;
+    /* loads and creates the module */
+    private IsModuleCreator creator;
+    /* callback of the latest load request */
+    private LoadCallback    callback;
+    /* true: module is loading */
+    private boolean         loading;
+    /* true: module is loaded */
+    private boolean         loaded;
+
+    private LazyModule(String moduleName,
+                       String[] routes,
+                       IsModuleCreator creator) {
+      this.moduleName = moduleName;
+      this.routes = new String[routes.length];
+      for (int i = 0; i < routes.length; i++) {
+        String prefix = routes[i].startsWith("/") ? routes[i] : "/" + routes[i];
+        this.routes[i] = prefix.endsWith("/") ? prefix.substring(0,
+                                                                 prefix.length() - 1) : prefix;
+      }
+      this.creator = creator;
+    }
+
+  }
+
+}
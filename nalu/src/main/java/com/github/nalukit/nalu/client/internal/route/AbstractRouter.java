@@ -19,36 +19,48 @@ package com.github.nalukit.nalu.client.internal.route;
 import com.github.nalukit.nalu.client.NaluConstants;
 import com.github.nalukit.nalu.client.component.AbstractComponentController;
 import com.github.nalukit.nalu.client.component.AbstractCompositeController;
-import com.github.nalukit.nalu.client.component.IsShell;
+import com.github.nalukit.nalu.client.component.AbstractShell;
+import com.github.nalukit.nalu.client.component.IsDataLoader;
 import com.github.nalukit.nalu.client.event.NaluErrorEvent;
 import com.github.nalukit.nalu.client.event.RouterStateEvent;
 import com.github.nalukit.nalu.client.event.RouterStateEvent.RouterState;
 import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
+import com.github.nalukit.nalu.client.filter.AbstractFilter;
 import com.github.nalukit.nalu.client.filter.IsFilter;
 import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.CompositeControllerReference;
 import com.github.nalukit.nalu.client.internal.PropertyFactory;
+import com.github.nalukit.nalu.client.internal.application.CompositeBindCallback;
 import com.github.nalukit.nalu.client.internal.application.CompositeFactory;
 import com.github.nalukit.nalu.client.internal.application.CompositeInstance;
 import com.github.nalukit.nalu.client.internal.application.ControllerCallback;
 import com.github.nalukit.nalu.client.internal.application.ControllerCompositeConditionFactory;
 import com.github.nalukit.nalu.client.internal.application.ControllerFactory;
 import com.github.nalukit.nalu.client.internal.application.ControllerInstance;
+import com.github.nalukit.nalu.client.internal.application.DataLoaderFactory;
 import com.github.nalukit.nalu.client.internal.application.ShellCallback;
 import com.github.nalukit.nalu.client.internal.application.ShellFactory;
 import com.github.nalukit.nalu.client.internal.application.ShellInstance;
+import com.github.nalukit.nalu.client.internal.module.LazyModuleFactory;
+import com.github.nalukit.nalu.client.internal.module.LazyModuleFactory.LoadCallback;
+import com.github.nalukit.nalu.client.model.NaluRoute;
 import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin;
 import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin.ConfirmHandler;
+import com.github.nalukit.nalu.client.plugin.NaluDomCommit;
+import com.github.nalukit.nalu.client.plugin.NaluDomCommit.Attachment;
 import com.github.nalukit.nalu.client.seo.SeoDataProvider;
 import com.github.nalukit.nalu.client.tracker.IsTracker;
 import org.gwtproject.event.shared.SimpleEventBus;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 abstract class AbstractRouter
@@ -75,13 +87,43 @@ abstract class AbstractRouter
   // last added shell - used, to check if the shell needs an shell replacement
   private String                                            lastAddedShell;
   // instance of the current shell
-  private IsShell                                           shell;
+  private AbstractShell<?>                                  shell;
+  // class name of the current shell
+  private String                                            shellClassName;
   // list of routes used for handling the current route - used to detect loops
   private List<String>                                      loopDetectionList;
   // the tracker: if not null, track the users routing
   private IsTracker                                         tracker;
   // the application event bus
   private SimpleEventBus                                    eventBus;
+  // commit mode: DOM changes of the current routing
+  private NaluDomCommit                                     domCommit;
+  // commit mode: commands to execute once the DOM changes are committed
+  private List<Runnable>                                    afterCommitCommands;
+  // commit mode: selectors of the controllers appended by the current routing
+  private List<String>                                      commitSelectors;
+  // commit mode: selectors of the commit handed over to the plugin, that is not applied yet
+  private List<String>                                      pendingSelectors;
+  // commit mode: id of the last commit handed over to the plugin
+  private int                                               commitId;
+  // history: route written to the history by the routing currently handled
+  private String                                            historyRoute;
+  // history: final route of the routing currently handled (differs in case of redirects)
+  private String                                            finalHistoryRoute;
+  // visibility toggle: cached controllers, whose element is hidden inside the selector
+  private Set<AbstractComponentController<?, ?, ?>>         hiddenControllers;
+  // id of the last handled hash
+  private int                                               handlingId;
+  // id of the last started data loading
+  private int                                               dataLoadingId;
+  // id of the last attached routing
+  private int                                               routingId;
+  // steps (f.e.: binds of controllers and composites) of the last attached routing, that are not finished yet
+  private int                                               pendingBinds;
+  // executed once all steps of the last attached routing have finished
+  private Runnable                                          routingDoneCommand;
+  // schedules the creation of lazy composites
+  private LazyCompositeScheduler                            lazyCompositeScheduler;
 
   AbstractRouter(List<CompositeControllerReference> compositeControllerReferences,
                  ShellConfiguration shellConfiguration,
@@ -106,6 +148,8 @@ abstract class AbstractRouter
     // instantiate lists, etc.
     this.activeComponents = new HashMap<>();
     this.loopDetectionList = new ArrayList<>();
+    this.hiddenControllers = new HashSet<>();
+    this.lazyCompositeScheduler = new LazyCompositeScheduler(plugin.getVisibilityTrigger());
     // set up PropertyFactory
     PropertyFactory.get()
                    .register(startRoute,
@@ -154,6 +198,11 @@ abstract class AbstractRouter
     ControllerFactory.get()
                      .removeFromCache(controller);
     controller.setCached(false);
+    // the element will not be shown again
+    if (this.hiddenControllers.remove(controller)) {
+      this.plugin.remove(controller.getRelatedSelector(),
+                         controller.asElement());
+    }
   }
 
   /**
@@ -169,6 +218,65 @@ abstract class AbstractRouter
     compositeController.setCached(false);
   }
 
+  /**
+   * Stores the instance of the shell in the cache, so that it can be reused the next time
+   * the shell is needed.
+   *
+   * @param shell shell to store
+   * @param <S>   shell type
+   */
+  @Override
+  public <S extends AbstractShell<?>> void storeInCache(S shell) {
+    ShellFactory.get()
+                .storeInCache(shell);
+    shell.setCached(true);
+  }
+
+  /**
+   * Removes a shell from the cache
+   *
+   * @param shell shell to be removed
+   * @param <S>   shell type
+   */
+  @Override
+  public <S extends AbstractShell<?>> void removeFromCache(S shell) {
+    ShellFactory.get()
+                .removeFromCache(shell);
+    shell.setCached(false);
+  }
+
+  /**
+   * Registers a data loader for a controller or composite.
+   *
+   * @param controllerClass class of the controller or composite
+   * @param dataLoader      data loader to register
+   */
+  @Override
+  public void registerDataLoader(Class<?> controllerClass,
+                                 IsDataLoader dataLoader) {
+    DataLoaderFactory.get()
+                     .register(controllerClass,
+                               dataLoader);
+  }
+
+  /**
+   * Creates a lazy composite of the controller immediately, without
+   * waiting for its selector to get visible.
+   *
+   * @param controller    the controller of the composite
+   * @param compositeName name of the composite
+   * @param <C>           controller type
+   */
+  @Override
+  public <C extends AbstractComponentController<?, ?, ?>> void loadLazyComposite(C controller,
+                                                                                String compositeName) {
+    if (!this.lazyCompositeScheduler.load(controller,
+                                          compositeName)) {
+      RouterLogger.logSimple("Router: lazy composite >>" + compositeName + "<< of controller >>" + controller.getControllerClassName() + "<< is not scheduled",
+                             2);
+    }
+  }
+
   /**
    * clears the cache
    */
@@ -176,6 +284,10 @@ abstract class AbstractRouter
   public void clearCache() {
     ControllerFactory.get()
                      .clearControllerCache();
+    // the hidden elements will not be shown again
+    this.hiddenControllers.forEach(controller -> this.plugin.remove(controller.getRelatedSelector(),
+                                                                    controller.asElement()));
+    this.hiddenControllers.clear();
   }
 
   /**
@@ -233,6 +345,47 @@ abstract class AbstractRouter
     }
     // log hash
     RouterLogger.logHandleHash(hash);
+    int handlingId = ++this.handlingId;
+    // in case the hash is owned by a lazy module, that is not loaded yet,
+    // load the module and handle the routing once the module is loaded,
+    // in case no other routing was started in the meantime
+    if (LazyModuleFactory.get()
+                         .isLazyRoute(hash)) {
+      String finalHash = hash;
+      LazyModuleFactory.get()
+                       .load(hash,
+                             new LoadCallback() {
+
+                               @Override
+                               public void onSuccess() {
+                                 if (handlingId != AbstractRouter.this.handlingId) {
+                                   RouterLogger.logSimple("Router: module of hash >>" + finalHash + "<< loaded, but routing is outdated",
+                                                          1);
+                                   return;
+                                 }
+                                 handleRouting(finalHash,
+                                               forceRouting);
+                               }
+
+                               @Override
+                               public void onFailure(Throwable caught) {
+                                 if (handlingId != AbstractRouter.this.handlingId) {
+                                   RouterLogger.logSimple("Router: loading module of hash >>" + finalHash + "<< failed, but routing is outdated",
+                                                          1);
+                                   return;
+                                 }
+                                 String message = RouterLogger.logLoadModuleFailed(finalHash);
+                                 fireRouterStateEvent(RouterState.ROUTING_ABORTED,
+                                                      finalHash);
+                                 eventBus.fireEvent(NaluErrorEvent.createNaluError()
+                                                                  .errorId(NaluConstants.NALU_ERROR_LOAD_MODULE_FAILED)
+                                                                  .message(message)
+                                                                  .route(finalHash));
+                               }
+
+                             });
+      return;
+    }
     // save hash to loop detector list ...
     if (this.loopDetectionList.contains(pimpUpHashForLoopDetection(hash))) {
       // fire Router StateEvent
@@ -282,8 +435,7 @@ abstract class AbstractRouter
       if (!filter.filter(addLeadingSlash(routeResult.getRoute()),
                          routeResult.getParameterValues()
                                     .toArray(new String[0]))) {
-        RouterLogger.logFilterInterceptsRouting(filter.getClass()
-                                                      .getCanonicalName(),
+        RouterLogger.logFilterInterceptsRouting(this.getFilterClassName(filter),
                                                 filter.redirectTo(),
                                                 filter.parameters());
         this.route(filter.redirectTo(),
@@ -333,6 +485,91 @@ abstract class AbstractRouter
   private void doRouting(String hash,
                          RouteResult routeResult,
                          List<RouteConfig> routeConfigurations) {
+    if (!DataLoaderFactory.get()
+                          .hasDataLoaders()) {
+      this.attach(hash,
+                  routeResult,
+                  routeConfigurations);
+      return;
+    }
+    // start the data loaders of the new page before the current page gets stopped.
+    // the page is attached once the last loader has finished, in case no other
+    // routing was started in the meantime.
+    int loadingId = ++this.dataLoadingId;
+    DataLoaderFactory.get()
+                     .load(this.getDataLoaderClassNames(routeResult,
+                                                        routeConfigurations),
+                           routeResult.getRoute(),
+                           routeResult.getParameterValues()
+                                      .toArray(new String[0]),
+                           () -> {
+                             if (loadingId == this.dataLoadingId) {
+                               this.attach(hash,
+                                           routeResult,
+                                           routeConfigurations);
+                             } else {
+                               RouterLogger.logSimple("Router: data of route >>" + routeResult.getRoute() + "<< loaded, but routing is outdated",
+                                                      1);
+                             }
+                           });
+  }
+
+  /**
+   * Collects the names of the controllers and composites that will be
+   * created by the routing.
+   *
+   * @param routeResult         the parsed route
+   * @param routeConfigurations matching route configurations
+   * @return list of class names
+   */
+  private List<String> getDataLoaderClassNames(RouteResult routeResult,
+                                               List<RouteConfig> routeConfigurations) {
+    List<RouteConfig> configs = new ArrayList<>();
+    if (!routeResult.getShell()
+                    .equals(this.lastAddedShell)) {
+      configs.addAll(this.routerConfiguration.match(routeResult.getShell()));
+    }
+    configs.addAll(routeConfigurations);
+    String[] params = routeResult.getParameterValues()
+                                 .toArray(new String[0]);
+    List<String> classNames = new ArrayList<>();
+    for (RouteConfig config : configs) {
+      classNames.add(config.getClassName());
+      for (CompositeControllerReference reference : this.getCompositeForController(config.getClassName())) {
+        // data of lazy composites is loaded by their bind-method
+        if (reference.isLazy()) {
+          continue;
+        }
+        if (ControllerCompositeConditionFactory.get()
+                                               .loadComposite(this.getConditionId(config.getClassName(),
+                                                                                  reference),
+                                                              routeResult.getRoute(),
+                                                              params)) {
+          classNames.add(reference.getComposite());
+        }
+      }
+    }
+    return classNames;
+  }
+
+  private void attach(String hash,
+                      RouteResult routeResult,
+                      List<RouteConfig> routeConfigurations) {
+    // a previous routing, whose binds are not finished yet, is outdated:
+    // its recorded DOM changes are handed over and dropped with the pending commit
+    if (!Objects.isNull(this.domCommit)) {
+      this.commit();
+    }
+    // in commit mode, the DOM changes of the routing are committed at the end
+    this.startCommit();
+    // a commit of a previous routing, that is not applied yet, is outdated
+    this.dropPendingCommit();
+    // controllers of a previous routing, whose binds are not finished yet, are outdated
+    this.routingId++;
+    this.pendingBinds = 0;
+    this.routingDoneCommand = null;
+    // the routing is done, once the attach and all binds started by it have finished
+    Runnable finishAttach = this.startBind();
     // call stop for all elements
     this.stopController(routeConfigurations,
                         !routeResult.getShell()
@@ -345,17 +582,25 @@ abstract class AbstractRouter
       // add shellCreator to the viewport
       ShellConfig shellConfig = this.shellConfiguration.match(routeResult.getShell());
       if (!Objects.isNull(shellConfig)) {
+        int routingId = this.routingId;
+        Runnable finishShell = this.startBind();
         ShellFactory.get()
-                    .shell(shellConfig.getClassName(),
+                    .shell(this.getShellId(shellConfig),
                            new ShellCallback() {
                              @Override
                              public void onFinish(ShellInstance shellInstance) {
+                               if (routingId != AbstractRouter.this.routingId) {
+                                 RouterLogger.logSimple("Router: shell >>" + routeResult.getShell() + "<< created, but routing is outdated",
+                                                        1);
+                                 return;
+                               }
                                // in case there is an instance of an shellCreator existing, call the onDetach method inside the shellCreator
                                if (!Objects.isNull(shell)) {
                                  detachShell();
                                }
                                // set newe shellCreator value
                                shell = shellInstance.getShell();
+                               shellClassName = shellInstance.getShellClassName();
                                // save the last added shellCreator ....
                                lastAddedShell = routeResult.getShell();
                                // initialize shellCreator ...
@@ -364,6 +609,7 @@ abstract class AbstractRouter
                                                         1);
                                shellInstance.getShell()
                                             .attachShell();
+                               plugin.onShellChanged();
                                ClientLogger.get()
                                            .logDetailed("Router: shellCreator >>" + routeResult.getShell() + "<< attached",
                                                         1);
@@ -381,20 +627,20 @@ abstract class AbstractRouter
                                postProcessHandleRouting(hash,
                                                         routeResult,
                                                         routeConfigurations);
+                               finishShell.run();
                              }
 
                              private void detachShell() {
                                ClientLogger.get()
                                            .logDetailed("Router: detach shellCreator >>" +
-                                                        shell.getClass()
-                                                             .getCanonicalName() +
+                                                        shellClassName +
                                                         "<<",
                                                         1);
                                shell.detachShell();
+                               plugin.onShellChanged();
                                ClientLogger.get()
                                            .logDetailed("Router: shellCreator >>" +
-                                                        shell.getClass()
-                                                             .getCanonicalName() +
+                                                        shellClassName +
                                                         "<< detached",
                                                         1);
                              }
@@ -405,6 +651,7 @@ abstract class AbstractRouter
                                                                 .errorId(NaluConstants.NALU_ERROR_SHELL_NOT_FOUND)
                                                                 .message("no shell found for route: >>" + shellConfig.getRoute() + "<<")
                                                                 .route(shellConfig.getRoute()));
+                               finishShell.run();
                              }
 
                              @Override
@@ -412,6 +659,7 @@ abstract class AbstractRouter
                                RouterLogger.logControllerInterceptsRouting(e.getControllerClassName(),
                                                                            e.getRoute(),
                                                                            e.getParameter());
+                               finishShell.run();
                              }
                            });
       }
@@ -420,6 +668,7 @@ abstract class AbstractRouter
                                routeResult,
                                routeConfigurations);
     }
+    finishAttach.run();
   }
 
   @Override
@@ -446,30 +695,34 @@ abstract class AbstractRouter
   private void postProcessHandleRouting(String hash,
                                         RouteResult routeResult,
                                         List<RouteConfig> routeConfigurations) {
+    // executed once the binds of the routing have finished (and the DOM changes are committed)
+    this.routingDoneCommand = () -> {
+      this.shell.onAttachedComponent();
+      RouterLogger.logShellOnAttachedComponentMethodCalled(this.shellClassName);
+      // update seo-meta-data
+      SeoDataProvider.get()
+                     .update();
+      // fire Router StateEvent
+      this.fireRouterStateEvent(RouterState.ROUTING_DONE,
+                                routeResult.getRoute(),
+                                routeResult.getParameterValues()
+                                           .toArray(new String[0]));
+    };
     // routing
     for (RouteConfig routeConfiguration : routeConfigurations) {
       this.handleRouteConfig(routeConfiguration,
                              routeResult,
                              hash);
     }
-    this.shell.onAttachedComponent();
-    RouterLogger.logShellOnAttachedComponentMethodCalled(this.shell.getClass()
-                                                                   .getCanonicalName());
-    // update seo-meta-data
-    SeoDataProvider.get()
-                   .update();
-    // fire Router StateEvent
-    this.fireRouterStateEvent(RouterState.ROUTING_DONE,
-                              routeResult.getRoute(),
-                              routeResult.getParameterValues()
-                                         .toArray(new String[0]));
   }
 
   private void handleRouteConfig(RouteConfig routeConfiguration,
                                  RouteResult routeResult,
                                  String hash) {
+    int routingId = this.routingId;
+    Runnable finishController = this.startBind();
     ControllerFactory.get()
-                     .controller(routeConfiguration.getClassName(),
+                     .controller(this.getControllerId(routeConfiguration),
                                  new ControllerCallback() {
                                    @Override
                                    public void onRoutingInterceptionException(RoutingInterceptionException e) {
@@ -480,14 +733,21 @@ abstract class AbstractRouter
                                            true,
                                            true,
                                            e.getParameter());
+                                     finishController.run();
                                    }
 
                                    @Override
                                    public void onFinish(ControllerInstance controller) {
+                                     if (routingId != AbstractRouter.this.routingId) {
+                                       RouterLogger.logSimple("Router: controller >>" + routeConfiguration.getClassName() + "<< bound, but routing is outdated",
+                                                              1);
+                                       return;
+                                     }
                                      doRouting(hash,
                                                routeResult,
                                                routeConfiguration,
                                                controller);
+                                     finishController.run();
                                    }
                                  },
                                  routeResult.getParameterValues()
@@ -513,40 +773,36 @@ abstract class AbstractRouter
       List<AbstractCompositeController<?, ?, ?>> compositeControllers = new ArrayList<>();
       // in case the controller is not cached, that means it is newly created, we have to deal with compüosites
       // handle composite of the controller
-      RouterLogger.logControllerLookForCompositeController(controllerInstance.getController()
-                                                                             .getClass()
-                                                                             .getCanonicalName());
+      RouterLogger.logControllerLookForCompositeController(controllerInstance.getControllerClassName());
       // get a list of composites for this controller (might be empty ...
-      List<CompositeControllerReference> compositeForController = this.getCompositeForController(controllerInstance.getController()
-                                                                                                                   .getClass()
-                                                                                                                   .getCanonicalName());
+      List<CompositeControllerReference> compositeForController = this.getCompositeForController(controllerInstance.getControllerClassName());
       // in case the controller is not cached, we have to deal with composites!
       if (!controllerInstance.isCached()) {
         if (compositeForController.size() > 0) {
-          RouterLogger.logControllerCompositeControllerFound(controllerInstance.getController()
-                                                                               .getClass()
-                                                                               .getCanonicalName(),
+          RouterLogger.logControllerCompositeControllerFound(controllerInstance.getControllerClassName(),
                                                              compositeForController.size());
           compositeForController.forEach(s -> {
+            // lazy composites are created once they are needed
+            if (s.isLazy()) {
+              return;
+            }
             try {
               // check for composite loader
               if (ControllerCompositeConditionFactory.get()
-                                                     .loadComposite(controllerInstance.getControllerClassName(),
-                                                                    s.getComposite(),
+                                                     .loadComposite(this.getConditionId(controllerInstance.getControllerClassName(),
+                                                                                        s),
                                                                     hashResult.getRoute(),
                                                                     hashResult.getParameterValues()
                                                                               .toArray(new String[hashResult.getParameterValues()
                                                                                                             .size()]))) {
                 CompositeInstance compositeInstance = CompositeFactory.get()
                                                                       .getComposite(controllerInstance.getControllerClassName(),
-                                                                                    s.getComposite(),
+                                                                                    this.getCompositeId(s),
                                                                                     s.isScopeGlobal(),
                                                                                     hashResult.getParameterValues()
                                                                                               .toArray(new String[0]));
                 if (compositeInstance == null) {
-                  RouterLogger.logCompositeNotFound(controllerInstance.getController()
-                                                                      .getClass()
-                                                                      .getCanonicalName(),
+                  RouterLogger.logCompositeNotFound(controllerInstance.getControllerClassName(),
                                                     s.getCompositeName());
                 } else {
                   compositeControllers.add(compositeInstance.getComposite());
@@ -558,12 +814,8 @@ abstract class AbstractRouter
                                     .getComposites()
                                     .put(s.getCompositeName(),
                                          compositeInstance.getComposite());
-                  RouterLogger.logCompositeControllerInjectedInController(compositeInstance.getComposite()
-                                                                                           .getClass()
-                                                                                           .getCanonicalName(),
-                                                                          controllerInstance.getController()
-                                                                                            .getClass()
-                                                                                            .getCanonicalName());
+                  RouterLogger.logCompositeControllerInjectedInController(compositeInstance.getCompositeClassName(),
+                                                                          controllerInstance.getControllerClassName());
                 }
               }
             } catch (RoutingInterceptionException e) {
@@ -577,109 +829,148 @@ abstract class AbstractRouter
             }
           });
         } else {
-          RouterLogger.logControllerNoCompositeControllerFound(controllerInstance.getController()
-                                                                                 .getClass()
-                                                                                 .getCanonicalName());
+          RouterLogger.logControllerNoCompositeControllerFound(controllerInstance.getControllerClassName());
         }
       }
-      // mark the last successful route
-      this.lastRoute = routeConfiguration.getRoute();
-      // add element to DOM
-      this.append(routeConfiguration.getSelector(),
-                  controllerInstance.getController());
-      if (!controllerInstance.isCached()) {
-        // append composite
-        for (AbstractCompositeController<?, ?, ?> compositeController : compositeControllers) {
-          CompositeControllerReference reference = null;
-          for (CompositeControllerReference sfc : compositeForController) {
-            if (compositeController.getClass()
-                                   .getCanonicalName()
-                                   .equals(sfc.getComposite())) {
-              reference = sfc;
-              break;
-            }
-          }
-          if (reference != null) {
-            this.append(reference.getSelector(),
-                        compositeController);
-            RouterLogger.logControllerOnAttachedCompositeController(controllerInstance.getController()
-                                                                                      .getClass()
-                                                                                      .getCanonicalName(),
-                                                                    compositeController.getClass()
-                                                                                       .getCanonicalName());
+      // bind the newly created composites at the same time. The controller and
+      // its composites are appended once the last composite has finished,
+      // in case no other routing was attached in the meantime.
+      int routingId = this.routingId;
+      Runnable finishComposites = this.startBind();
+      CompositeFactory.get()
+                      .bind(compositeControllers.stream()
+                                                .filter(s -> !s.isCached())
+                                                .collect(Collectors.toList()),
+                            new CompositeBindCallback() {
+                              @Override
+                              public void onRoutingInterceptionException(RoutingInterceptionException e) {
+                                RouterLogger.logControllerInterceptsRouting(e.getControllerClassName(),
+                                                                            e.getRoute(),
+                                                                            e.getParameter());
+                                route(e.getRoute(),
+                                      true,
+                                      true,
+                                      e.getParameter());
+                                finishComposites.run();
+                              }
+
+                              @Override
+                              public void onFinish() {
+                                if (routingId != AbstractRouter.this.routingId) {
+                                  RouterLogger.logSimple("Router: composites of controller >>" +
+                                                         controllerInstance.getControllerClassName() +
+                                                         "<< bound, but routing is outdated",
+                                                         1);
+                                  return;
+                                }
+                                appendController(hash,
+                                                 hashResult,
+                                                 routeConfiguration,
+                                                 controllerInstance,
+                                                 compositeControllers,
+                                                 compositeForController);
+                                finishComposites.run();
+                              }
+                            });
+    }
+  }
+
+  private void appendController(String hash,
+                                RouteResult hashResult,
+                                RouteConfig routeConfiguration,
+                                ControllerInstance controllerInstance,
+                                List<AbstractCompositeController<?, ?, ?>> compositeControllers,
+                                List<CompositeControllerReference> compositeForController) {
+    // mark the last successful route
+    this.lastRoute = routeConfiguration.getRoute();
+    // add element to DOM
+    this.append(routeConfiguration.getSelector(),
+                controllerInstance.getController());
+    if (!controllerInstance.isCached()) {
+      // append composite
+      for (AbstractCompositeController<?, ?, ?> compositeController : compositeControllers) {
+        CompositeControllerReference reference = null;
+        for (CompositeControllerReference sfc : compositeForController) {
+          if (compositeController.getControllerClassName()
+                                 .equals(sfc.getComposite())) {
+            reference = sfc;
+            break;
           }
         }
-      } else {
-        // in case we have a cached controller, we need to look for global composites
-        // and append them!
-        List<CompositeControllerReference> globalComposite = compositeForController.stream()
-                                                                                   .filter(CompositeControllerReference::isScopeGlobal)
-                                                                                   .collect(Collectors.toList());
-        for (CompositeControllerReference compositeControllerReference : globalComposite) {
-          if (ControllerCompositeConditionFactory.get()
-                                                 .loadComposite(controllerInstance.getControllerClassName(),
-                                                                compositeControllerReference.getComposite(),
-                                                                hashResult.getRoute(),
-                                                                hashResult.getParameterValues()
-                                                                          .toArray(new String[hashResult.getParameterValues()
-                                                                                                        .size()]))) {
-            try {
-              CompositeInstance compositeInstance = CompositeFactory.get()
-                                                                    .getComposite(controllerInstance.getControllerClassName(),
-                                                                                  compositeControllerReference.getComposite(),
-                                                                                  true,
-                                                                                  hashResult.getParameterValues()
-                                                                                            .toArray(new String[0]));
-              this.append(compositeControllerReference.getSelector(),
-                          compositeInstance.getComposite());
-              RouterLogger.logCachedControllerOnAttachedGlobalCompositeController(controllerInstance.getController()
-                                                                                                    .getClass()
-                                                                                                    .getCanonicalName(),
-                                                                                  compositeControllerReference.getComposite());
-            } catch (RoutingInterceptionException e) {
-              RouterLogger.logControllerInterceptsRouting(e.getControllerClassName(),
-                                                          e.getRoute(),
-                                                          e.getParameter());
-              this.route(e.getRoute(),
-                         true,
-                         true,
-                         e.getParameter());
-              return;
-            }
+        if (reference != null) {
+          this.append(reference.getSelector(),
+                      compositeController);
+          RouterLogger.logControllerOnAttachedCompositeController(controllerInstance.getControllerClassName(),
+                                                                  compositeController.getControllerClassName());
+        }
+      }
+    } else {
+      // in case we have a cached controller, we need to look for global composites
+      // and append them!
+      List<CompositeControllerReference> globalComposite = compositeForController.stream()
+                                                                                 .filter(CompositeControllerReference::isScopeGlobal)
+                                                                                 .filter(r -> !r.isLazy() ||
+                                                                                              controllerInstance.getController()
+                                                                                                                .getComposites()
+                                                                                                                .containsKey(r.getCompositeName()))
+                                                                                 .collect(Collectors.toList());
+      for (CompositeControllerReference compositeControllerReference : globalComposite) {
+        if (ControllerCompositeConditionFactory.get()
+                                               .loadComposite(this.getConditionId(controllerInstance.getControllerClassName(),
+                                                                                  compositeControllerReference),
+                                                              hashResult.getRoute(),
+                                                              hashResult.getParameterValues()
+                                                                        .toArray(new String[hashResult.getParameterValues()
+                                                                                                      .size()]))) {
+          try {
+            CompositeInstance compositeInstance = CompositeFactory.get()
+                                                                  .getComposite(controllerInstance.getControllerClassName(),
+                                                                                this.getCompositeId(compositeControllerReference),
+                                                                                true,
+                                                                                hashResult.getParameterValues()
+                                                                                          .toArray(new String[0]));
+            this.append(compositeControllerReference.getSelector(),
+                        compositeInstance.getComposite());
+            RouterLogger.logCachedControllerOnAttachedGlobalCompositeController(controllerInstance.getControllerClassName(),
+                                                                                compositeControllerReference.getComposite());
+          } catch (RoutingInterceptionException e) {
+            RouterLogger.logControllerInterceptsRouting(e.getControllerClassName(),
+                                                        e.getRoute(),
+                                                        e.getParameter());
+            this.route(e.getRoute(),
+                       true,
+                       true,
+                       e.getParameter());
+            return;
           }
         }
       }
-      // call the onAttach method (for the component).
-      // we will do it in both cases, cached and not cached!
+    }
+    // call the onAttach method (for the component) once the element is in the DOM.
+    // we will do it in both cases, cached and not cached!
+    this.afterCommit(() -> {
       controllerInstance.getController()
                         .onAttach();
-      RouterLogger.logControllerOnAttachedMethodCalled(controllerInstance.getController()
-                                                                         .getClass()
-                                                                         .getCanonicalName());
+      RouterLogger.logControllerOnAttachedMethodCalled(controllerInstance.getControllerClassName());
       compositeControllers.forEach(s -> {
         s.onAttach();
-        RouterLogger.logControllerOnAttachedMethodCalled(s.getClass()
-                                                          .getCanonicalName());
+        RouterLogger.logControllerOnAttachedMethodCalled(s.getControllerClassName());
       });
       // in case the controller is cached, we call only activate  ...
       if (controllerInstance.isCached()) {
         // let's call active for all related composite
         compositeControllers.forEach(s -> {
           s.activate();
-          RouterLogger.logCompositeControllerActivateMethodCalled(s.getClass()
-                                                                   .getCanonicalName());
+          RouterLogger.logCompositeControllerActivateMethodCalled(s.getControllerClassName());
         });
         controllerInstance.getController()
                           .activate();
-        RouterLogger.logControllerActivateMethodCalled(controllerInstance.getController()
-                                                                         .getClass()
-                                                                         .getCanonicalName());
+        RouterLogger.logControllerActivateMethodCalled(controllerInstance.getControllerClassName());
       } else {
         compositeControllers.forEach(s -> {
           if (!s.isCached()) {
             s.start();
-            RouterLogger.logCompositeControllerStartMethodCalled(s.getClass()
-                                                                  .getCanonicalName());
+            RouterLogger.logCompositeControllerStartMethodCalled(s.getControllerClassName());
             // in case we are cached globally we need to set cached
             // to true after the first time the
             // composite is created
@@ -688,27 +979,140 @@ abstract class AbstractRouter
             }
           }
           s.activate();
-          RouterLogger.logCompositeControllerActivateMethodCalled(s.getClass()
-                                                                   .getCanonicalName());
+          RouterLogger.logCompositeControllerActivateMethodCalled(s.getControllerClassName());
         });
         controllerInstance.getController()
                           .start();
-        RouterLogger.logControllerStartMethodCalled(controllerInstance.getController()
-                                                                      .getClass()
-                                                                      .getCanonicalName());
+        RouterLogger.logControllerStartMethodCalled(controllerInstance.getControllerClassName());
         controllerInstance.getController()
                           .activate();
-        RouterLogger.logControllerActivateMethodCalled(controllerInstance.getController()
-                                                                         .getClass()
-                                                                         .getCanonicalName());
+        RouterLogger.logControllerActivateMethodCalled(controllerInstance.getControllerClassName());
       }
+      // schedule the lazy composites, that are not created yet
+      this.scheduleLazyComposites(controllerInstance.getController(),
+                                  compositeForController,
+                                  hashResult);
       // save current hash
       this.lastExecutedHash = hash;
       // clear loo detection list ...
       this.loopDetectionList.clear();
+    });
+  }
+
+  /**
+   * Schedules the lazy composites of the controller, that are not created
+   * yet and whose condition matches the route.
+   *
+   * @param controller             the controller
+   * @param compositeForController composite references of the controller
+   * @param hashResult             the parsed route
+   */
+  private void scheduleLazyComposites(AbstractComponentController<?, ?, ?> controller,
+                                      List<CompositeControllerReference> compositeForController,
+                                      RouteResult hashResult) {
+    String[] params = hashResult.getParameterValues()
+                                .toArray(new String[0]);
+    for (CompositeControllerReference reference : compositeForController) {
+      if (!reference.isLazy() ||
+          controller.getComposites()
+                    .containsKey(reference.getCompositeName())) {
+        continue;
+      }
+      if (ControllerCompositeConditionFactory.get()
+                                             .loadComposite(this.getConditionId(controller.getControllerClassName(),
+                                                                                reference),
+                                                            hashResult.getRoute(),
+                                                            params)) {
+        RouterLogger.logSimple("Router: lazy composite >>" + reference.getCompositeName() + "<< of controller >>" + controller.getControllerClassName() + "<< scheduled",
+                               2);
+        this.lazyCompositeScheduler.schedule(controller,
+                                             reference.getCompositeName(),
+                                             reference.getSelector(),
+                                             () -> this.loadLazyComposite(controller,
+                                                                          reference,
+                                                                          params));
+      }
     }
   }
 
+  /**
+   * Creates, binds and attaches a lazy composite.
+   *
+   * @param controller the controller of the composite
+   * @param reference  the composite reference
+   * @param params     parameters of the route
+   */
+  private void loadLazyComposite(AbstractComponentController<?, ?, ?> controller,
+                                 CompositeControllerReference reference,
+                                 String[] params) {
+    CompositeInstance compositeInstance;
+    try {
+      compositeInstance = CompositeFactory.get()
+                                          .getComposite(controller.getControllerClassName(),
+                                                        this.getCompositeId(reference),
+                                                        reference.isScopeGlobal(),
+                                                        params);
+    } catch (RoutingInterceptionException e) {
+      RouterLogger.logControllerInterceptsRouting(e.getControllerClassName(),
+                                                  e.getRoute(),
+                                                  e.getParameter());
+      this.route(e.getRoute(),
+                 true,
+                 true,
+                 e.getParameter());
+      return;
+    }
+    if (compositeInstance == null) {
+      RouterLogger.logCompositeNotFound(controller.getControllerClassName(),
+                                        reference.getCompositeName());
+      return;
+    }
+    AbstractCompositeController<?, ?, ?> composite = compositeInstance.getComposite();
+    composite.setRouter(this);
+    CompositeFactory.get()
+                    .bind(composite.isCached() ? Collections.emptyList() : Collections.singletonList(composite),
+                          new CompositeBindCallback() {
+                            @Override
+                            public void onRoutingInterceptionException(RoutingInterceptionException e) {
+                              RouterLogger.logControllerInterceptsRouting(e.getControllerClassName(),
+                                                                          e.getRoute(),
+                                                                          e.getParameter());
+                              route(e.getRoute(),
+                                    true,
+                                    true,
+                                    e.getParameter());
+                            }
+
+                            @Override
+                            public void onFinish() {
+                              // the controller might be stopped, while the composite was bound
+                              if (activeComponents.get(controller.getRelatedSelector()) != controller) {
+                                return;
+                              }
+                              controller.getComposites()
+                                        .put(reference.getCompositeName(),
+                                             composite);
+                              append(reference.getSelector(),
+                                     composite);
+                              RouterLogger.logControllerOnAttachedCompositeController(controller.getControllerClassName(),
+                                                                                      composite.getControllerClassName());
+                              afterCommit(() -> {
+                                composite.onAttach();
+                                RouterLogger.logControllerOnAttachedMethodCalled(composite.getControllerClassName());
+                                if (!composite.isCached()) {
+                                  composite.start();
+                                  RouterLogger.logCompositeControllerStartMethodCalled(composite.getControllerClassName());
+                                  if (composite.isCachedGlobal()) {
+                                    composite.setCached(true);
+                                  }
+                                }
+                                composite.activate();
+                                RouterLogger.logCompositeControllerActivateMethodCalled(composite.getControllerClassName());
+                              });
+                            }
+                          });
+  }
+
   /**
    * Parse the hash and divides it into shellCreator, route and parameters
    *
@@ -777,11 +1181,11 @@ abstract class AbstractRouter
 
     }
     controllerList.forEach(controller -> {
+      // lazy composites, that are not created yet, are no longer needed
+      this.lazyCompositeScheduler.cancel(controller);
       // stop controller
-      RouterLogger.logControllerHandlingStop(controller.getClass()
-                                                       .getCanonicalName());
-      RouterLogger.logControllerHandlingStopComposites(controller.getClass()
-                                                                 .getCanonicalName());
+      RouterLogger.logControllerHandlingStop(controller.getControllerClassName());
+      RouterLogger.logControllerHandlingStopComposites(controller.getControllerClassName());
       // stop compositeControllers
       controller.getComposites()
                 .values()
@@ -800,15 +1204,21 @@ abstract class AbstractRouter
                   }
                 });
 
-      RouterLogger.logControllerCompositesStopped(controller.getClass()
-                                                            .getCanonicalName());
+      RouterLogger.logControllerCompositesStopped(controller.getControllerClassName());
       if (controller.isCached()) {
         deactivateController(controller);
       } else {
         stopController(controller);
       }
     });
-    routeConfigurations.stream().filter(c -> !preserveResilient(c)).forEach(routeConfiguration -> this.plugin.remove(routeConfiguration.getSelector()));
+    if (replaceShell && !Objects.isNull(this.shell) && this.shell.isCached()) {
+      // the cached shell keeps its DOM: clear the selectors before the shell gets detached
+      this.clearShell(controllerList);
+    }
+    routeConfigurations.stream().filter(c -> !preserveResilient(c)).forEach(routeConfiguration -> {
+      this.hide(routeConfiguration.getSelector());
+      this.remove(routeConfiguration.getSelector());
+    });
     controllerList.stream().filter(c -> !c.isResilient()).forEach(c -> this.activeComponents.remove(c.getRelatedSelector()));
   }
 
@@ -831,118 +1241,111 @@ abstract class AbstractRouter
 
   private void deactivateController(AbstractComponentController<?, ?, ?> controller) {
     // deactivate controller
-    RouterLogger.logControllerDeactivateMethodWillBeCalled(controller.getClass()
-                                                                     .getCanonicalName());
+    RouterLogger.logControllerDeactivateMethodWillBeCalled(controller.getControllerClassName());
     controller.deactivate();
-    RouterLogger.logControllerDeactivateMethodCalled(controller.getClass()
-                                                               .getCanonicalName());
+    RouterLogger.logControllerDeactivateMethodCalled(controller.getControllerClassName());
     controller.onDetach();
-    RouterLogger.logControllerDetached(controller.getClass()
-                                                 .getCanonicalName());
+    RouterLogger.logControllerDetached(controller.getControllerClassName());
     controller.getComponent()
               .onDetach();
-    RouterLogger.logComponentDetached(controller.getComponent()
-                                                .getClass()
-                                                .getCanonicalName());
-    RouterLogger.logControllerDeactivated(controller.getClass()
-                                                    .getCanonicalName());
+    RouterLogger.logComponentDetached(controller.getComponentClassName());
+    RouterLogger.logControllerDeactivated(controller.getControllerClassName());
   }
 
   private void stopController(AbstractComponentController<?, ?, ?> controller) {
-    RouterLogger.logControllerDeactivateMethodWillBeCalled(controller.getClass()
-                                                                     .getCanonicalName());
+    RouterLogger.logControllerDeactivateMethodWillBeCalled(controller.getControllerClassName());
     controller.deactivate();
-    RouterLogger.logControllerDeactivateMethodCalled(controller.getClass()
-                                                               .getCanonicalName());
+    RouterLogger.logControllerDeactivateMethodCalled(controller.getControllerClassName());
     controller.onDetach();
-    RouterLogger.logControllerDetached(controller.getClass()
-                                                 .getCanonicalName());
+    RouterLogger.logControllerDetached(controller.getControllerClassName());
     // stop controller
-    RouterLogger.logControllerStopMethodWillBeCalled(controller.getClass()
-                                                               .getCanonicalName());
+    RouterLogger.logControllerStopMethodWillBeCalled(controller.getControllerClassName());
     controller.stop();
-    RouterLogger.logControllerStopMethodCalled(controller.getClass()
-                                                         .getCanonicalName());
+    RouterLogger.logControllerStopMethodCalled(controller.getControllerClassName());
     controller.onDetach();
-    RouterLogger.logControllerDetached(controller.getClass()
-                                                 .getCanonicalName());
+    RouterLogger.logControllerDetached(controller.getControllerClassName());
     controller.removeHandlers();
-    RouterLogger.logControllerRemoveHandlersMethodCalled(controller.getClass()
-                                                                   .getCanonicalName());
+    RouterLogger.logControllerRemoveHandlersMethodCalled(controller.getControllerClassName());
     controller.getComponent()
               .onDetach();
-    RouterLogger.logComponentDetached(controller.getComponent()
-                                                .getClass()
-                                                .getCanonicalName());
+    RouterLogger.logComponentDetached(controller.getComponentClassName());
     controller.getComponent()
               .removeHandlers();
-    RouterLogger.logComponentRemoveHandlersMethodCalled(controller.getComponent()
-                                                                  .getClass()
-                                                                  .getCanonicalName());
-    RouterLogger.logControllerStopped(controller.getClass()
-                                                .getCanonicalName());
+    RouterLogger.logComponentRemoveHandlersMethodCalled(controller.getComponentClassName());
+    RouterLogger.logControllerStopped(controller.getControllerClassName());
   }
 
   private void deactivateCompositeController(AbstractComponentController<?, ?, ?> controller,
                                              AbstractCompositeController<?, ?, ?> compositeController) {
-    RouterLogger.logCompositeControllerDeactivateMethodWillBeCalled(compositeController.getClass()
-                                                                                       .getCanonicalName());
+    RouterLogger.logCompositeControllerDeactivateMethodWillBeCalled(compositeController.getControllerClassName());
     compositeController.deactivate();
-    RouterLogger.logCompositeControllerDeactivateMethodCalled(compositeController.getClass()
-                                                                                 .getCanonicalName());
+    RouterLogger.logCompositeControllerDeactivateMethodCalled(compositeController.getControllerClassName());
     compositeController.onDetach();
-    RouterLogger.logCompositeControllerDetached(compositeController.getClass()
-                                                                   .getCanonicalName());
+    RouterLogger.logCompositeControllerDetached(compositeController.getControllerClassName());
     compositeController.getComponent()
                        .onDetach();
-    RouterLogger.logCompositeComponentDetached(compositeController.getComponent()
-                                                                  .getClass()
-                                                                  .getCanonicalName());
-    RouterLogger.logCompositeControllerDeactivated(controller.getClass()
-                                                             .getCanonicalName());
+    RouterLogger.logCompositeComponentDetached(compositeController.getComponentClassName());
+    RouterLogger.logCompositeControllerDeactivated(controller.getControllerClassName());
   }
 
   private void stopCompositeController(AbstractComponentController<?, ?, ?> controller,
                                        AbstractCompositeController<?, ?, ?> compositeController) {
-    RouterLogger.logCompositeControllerDeactivateMethodWillBeCalled(compositeController.getClass()
-                                                                                       .getCanonicalName());
+    RouterLogger.logCompositeControllerDeactivateMethodWillBeCalled(compositeController.getControllerClassName());
     compositeController.deactivate();
-    RouterLogger.logCompositeControllerDeactivateMethodCalled(compositeController.getClass()
-                                                                                 .getCanonicalName());
-    RouterLogger.logCompositeControllerStopMethodWillBeCalled(compositeController.getClass()
-                                                                                 .getCanonicalName());
+    RouterLogger.logCompositeControllerDeactivateMethodCalled(compositeController.getControllerClassName());
+    RouterLogger.logCompositeControllerStopMethodWillBeCalled(compositeController.getControllerClassName());
     if (!compositeController.isCached()) {
       compositeController.stop();
-      RouterLogger.logCompositeControllerRemoveMethodCalled(compositeController.getClass()
-                                                                               .getCanonicalName());
+      RouterLogger.logCompositeControllerRemoveMethodCalled(compositeController.getControllerClassName());
     }
     compositeController.remove();
-    RouterLogger.logCompositeControllerStopMethodCalled(compositeController.getClass()
-                                                                           .getCanonicalName());
+    RouterLogger.logCompositeControllerStopMethodCalled(compositeController.getControllerClassName());
     compositeController.onDetach();
-    RouterLogger.logCompositeControllerDetached(compositeController.getClass()
-                                                                   .getCanonicalName());
+    RouterLogger.logCompositeControllerDetached(compositeController.getControllerClassName());
     compositeController.removeHandlers();
-    RouterLogger.logCompositeControllerRemoveHandlersMethodCalled(compositeController.getClass()
-                                                                                     .getCanonicalName());
+    RouterLogger.logCompositeControllerRemoveHandlersMethodCalled(compositeController.getControllerClassName());
     compositeController.getComponent()
                        .onDetach();
-    RouterLogger.logCompositeComponentDetached(compositeController.getComponent()
-                                                                  .getClass()
-                                                                  .getCanonicalName());
+    RouterLogger.logCompositeComponentDetached(compositeController.getComponentClassName());
     compositeController.getComponent()
                        .removeHandlers();
-    RouterLogger.logCompositeComponentRemoveHandlersMethodCalled(compositeController.getComponent()
-                                                                                    .getClass()
-                                                                                    .getCanonicalName());
-    RouterLogger.logCompositeControllerStopped(controller.getClass()
-                                                         .getCanonicalName());
+    RouterLogger.logCompositeComponentRemoveHandlersMethodCalled(compositeController.getComponentClassName());
+    RouterLogger.logCompositeControllerStopped(controller.getControllerClassName());
   }
 
   private void append(String selector,
                       AbstractComponentController<?, ?, ?> controller) {
-    if (this.plugin.attach(selector,
-                           controller.asElement())) {
+    // in case the element of the controller was hidden, it is still inside
+    // the selector - the plugin will skip the attach and we show it again
+    boolean hidden = this.hiddenControllers.remove(controller);
+    if (Objects.isNull(this.domCommit)) {
+      boolean attached = this.plugin.attach(selector,
+                                            controller.asElement());
+      if (hidden) {
+        this.plugin.show(selector,
+                         controller.asElement());
+      }
+      this.appended(selector,
+                    controller,
+                    attached);
+    } else {
+      Attachment attachment = this.domCommit.attach(selector,
+                                                    controller.asElement());
+      if (hidden) {
+        this.domCommit.show(selector,
+                            controller.asElement());
+      }
+      this.commitSelectors.add(selector);
+      this.afterCommitCommands.add(() -> this.appended(selector,
+                                                       controller,
+                                                       attachment.isAttached()));
+    }
+  }
+
+  private void appended(String selector,
+                        AbstractComponentController<?, ?, ?> controller,
+                        boolean attached) {
+    if (attached) {
       // save to active components
       this.activeComponents.put(selector,
                                 controller);
@@ -959,8 +1362,21 @@ abstract class AbstractRouter
 
   private void append(String selector,
                       AbstractCompositeController<?, ?, ?> compositeController) {
-    if (!this.plugin.attach(selector,
-                            compositeController.asElement())) {
+    if (Objects.isNull(this.domCommit)) {
+      this.appended(selector,
+                    this.plugin.attach(selector,
+                                       compositeController.asElement()));
+    } else {
+      Attachment attachment = this.domCommit.attach(selector,
+                                                    compositeController.asElement());
+      this.afterCommitCommands.add(() -> this.appended(selector,
+                                                       attachment.isAttached()));
+    }
+  }
+
+  private void appended(String selector,
+                        boolean attached) {
+    if (!attached) {
       String sb = "no element found, that matches selector >>" + selector + "<< --> Routing aborted!";
       RouterLogger.logSimple(sb,
                              1);
@@ -971,6 +1387,207 @@ abstract class AbstractRouter
     }
   }
 
+  /**
+   * In visibility toggle mode the element of a cached controller is hidden
+   * instead of being removed from the selector.
+   *
+   * @param selector the selector to clear
+   */
+  private void hide(String selector) {
+    AbstractComponentController<?, ?, ?> controller = this.activeComponents.get(selector);
+    if (!this.plugin.isUsingVisibilityToggle() || Objects.isNull(controller) || !controller.isCached()) {
+      return;
+    }
+    this.hiddenControllers.add(controller);
+    if (Objects.isNull(this.domCommit)) {
+      this.plugin.hide(selector,
+                       controller.asElement());
+    } else {
+      this.domCommit.hide(selector,
+                          controller.asElement());
+    }
+  }
+
+  /**
+   * Clears the selectors of the active controllers of a cached shell.
+   * <p>
+   * The changes are applied immediately (also in commit mode), cause the
+   * shell will be detached before the commit. Using the visibility toggle,
+   * the elements of cached controllers stay hidden inside the shell.
+   * </p>
+   *
+   * @param controllers active controllers of the shell
+   */
+  private void clearShell(List<AbstractComponentController<?, ?, ?>> controllers) {
+    controllers.forEach(controller -> {
+      String selector = controller.getRelatedSelector();
+      if (this.plugin.isUsingVisibilityToggle() && controller.isCached()) {
+        this.hiddenControllers.add(controller);
+        this.plugin.hide(selector,
+                         controller.asElement());
+      }
+      this.plugin.remove(selector);
+    });
+  }
+
+  private void remove(String selector) {
+    if (Objects.isNull(this.domCommit)) {
+      this.plugin.remove(selector);
+    } else {
+      this.domCommit.remove(selector);
+    }
+  }
+
+  /**
+   * Registers a step of the attached routing (f.e.: the bind of a controller
+   * or its composites), that has to finish, before the routing is done.
+   *
+   * @return command to call, once the step has finished (repeated calls are ignored)
+   */
+  private Runnable startBind() {
+    int routingId = this.routingId;
+    this.pendingBinds++;
+    boolean[] finished = { false };
+    return () -> {
+      if (finished[0]) {
+        return;
+      }
+      finished[0] = true;
+      this.finishBind(routingId);
+    };
+  }
+
+  /**
+   * Finishes a step of a routing. Once the last step of the attached routing
+   * has finished, the routing is done and its DOM changes are committed.
+   * Steps of an outdated routing are ignored.
+   *
+   * @param routingId id of the routing of the step
+   */
+  private void finishBind(int routingId) {
+    if (routingId != this.routingId) {
+      return;
+    }
+    this.pendingBinds--;
+    if (this.pendingBinds > 0) {
+      return;
+    }
+    if (!Objects.isNull(this.routingDoneCommand)) {
+      this.afterCommit(this.routingDoneCommand);
+      this.routingDoneCommand = null;
+    }
+    if (!Objects.isNull(this.domCommit)) {
+      this.commit();
+    }
+  }
+
+  /**
+   * Starts recording the DOM changes of a routing, in case the plugin is
+   * using the commit mode.
+   */
+  private void startCommit() {
+    if (!this.plugin.isUsingCommitMode()) {
+      return;
+    }
+    this.domCommit = new NaluDomCommit();
+    this.afterCommitCommands = new ArrayList<>();
+    this.commitSelectors = new ArrayList<>();
+  }
+
+  /**
+   * Hands the recorded DOM changes over to the plugin. Once the plugin has
+   * applied them, the commands waiting for the commit are executed, in case
+   * no other routing was attached in the meantime.
+   */
+  private void commit() {
+    NaluDomCommit commit = this.domCommit;
+    List<Runnable> commands = this.afterCommitCommands;
+    this.domCommit = null;
+    this.afterCommitCommands = null;
+    this.pendingSelectors = this.commitSelectors;
+    this.commitSelectors = null;
+    int commitId = ++this.commitId;
+    RouterLogger.logSimple("Router: commit >>" + commit.getRemovedSelectors()
+                                                      .size() + "<< removes and >>" + commit.getAttachments()
+                                                                                           .size() + "<< attaches",
+                           1);
+    this.plugin.commit(commit,
+                       () -> {
+                         if (commitId != this.commitId) {
+                           RouterLogger.logSimple("Router: commit applied, but routing is outdated",
+                                                  1);
+                           return;
+                         }
+                         this.pendingSelectors = null;
+                         commands.forEach(Runnable::run);
+                       });
+  }
+
+  /**
+   * Drops the commit of a previous routing, that the plugin has not applied
+   * yet. The controllers of the dropped commit will not be started and
+   * their selectors are cleared by the commit of the current routing.
+   */
+  private void dropPendingCommit() {
+    if (Objects.isNull(this.pendingSelectors)) {
+      return;
+    }
+    RouterLogger.logSimple("Router: drop commit of outdated routing",
+                           1);
+    // the commands of the dropped commit will be skipped
+    this.commitId++;
+    this.pendingSelectors.forEach(this::remove);
+    this.pendingSelectors = null;
+  }
+
+  /**
+   * Executes the command once the DOM changes of the current routing are
+   * committed. Without commit mode the command is executed immediately.
+   *
+   * @param command command to execute
+   */
+  private void afterCommit(Runnable command) {
+    if (Objects.isNull(this.afterCommitCommands)) {
+      command.run();
+    } else {
+      this.afterCommitCommands.add(command);
+    }
+  }
+
+  private int getControllerId(RouteConfig routeConfig) {
+    if (routeConfig.getControllerId() < 0) {
+      routeConfig.setControllerId(ControllerFactory.get()
+                                                   .getControllerId(routeConfig.getClassName()));
+    }
+    return routeConfig.getControllerId();
+  }
+
+  private int getShellId(ShellConfig shellConfig) {
+    if (shellConfig.getShellId() < 0) {
+      shellConfig.setShellId(ShellFactory.get()
+                                         .getShellId(shellConfig.getClassName()));
+    }
+    return shellConfig.getShellId();
+  }
+
+  private int getCompositeId(CompositeControllerReference compositeControllerReference) {
+    if (compositeControllerReference.getCompositeId() < 0) {
+      compositeControllerReference.setCompositeId(CompositeFactory.get()
+                                                                  .getCompositeId(compositeControllerReference.getComposite()));
+    }
+    return compositeControllerReference.getCompositeId();
+  }
+
+  private int getConditionId(String controllerClassName,
+                             CompositeControllerReference compositeControllerReference) {
+    if (compositeControllerReference.getConditionId() < 0) {
+      compositeControllerReference.setConditionId(ControllerCompositeConditionFactory.get()
+                                                                                     .getConditionId(controllerClassName,
+                                                                                                     compositeControllerReference.getComposite()));
+    }
+    return compositeControllerReference.getConditionId();
+  }
+
   private List<CompositeControllerReference> getCompositeForController(String controllerClassName) {
     return this.compositeControllerReferences.stream()
                                              .filter(s -> controllerClassName.equals(s.getController()))
@@ -1041,21 +1658,121 @@ abstract class AbstractRouter
                params);
   }
 
+  /**
+   * The method routes to another screen using a route created by the
+   * generated routes class.
+   * <p>
+   * The hash of the route was already created by the generated code,
+   * so there is no need to generate it again.
+   *
+   * @param newRoute routing goal
+   */
+  @Override
+  public void route(NaluRoute newRoute) {
+    this.route(newRoute,
+               false);
+  }
+
+  /**
+   * The method routes to another screen using a route created by the
+   * generated routes class.
+   * <p>
+   * in opposite to the route-method, the forceRoute-method does not confirm the new route!
+   *
+   * @param newRoute routing goal
+   */
+  @Override
+  public void forceRoute(NaluRoute newRoute) {
+    this.route(newRoute,
+               true);
+  }
+
+  private void route(NaluRoute newRoute,
+                     boolean forceRouting) {
+    // fire souring event ...
+    this.fireRouterStateEvent(RouterState.START_ROUTING,
+                              newRoute.getRoute(),
+                              newRoute.getParameters());
+    // first, we track the new route (if there is a tracker!)
+    if (!Objects.isNull(this.tracker)) {
+      this.tracker.track(newRoute.getRoute(),
+                         newRoute.getParameters());
+    }
+    // let's do the routing!
+    this.routeToHash(newRoute.getHash(),
+                     forceRouting,
+                     false);
+  }
+
   private void route(String newRoute,
                      boolean forceRouting,
                      boolean replaceState,
                      String... params) {
-    String newRouteWithParams = this.generate(newRoute,
-                                              params);
-    if (replaceState) {
-      this.plugin.route(newRouteWithParams,
-                        true);
-    } else {
-      this.plugin.route(newRouteWithParams,
-                        false);
+    this.routeToHash(this.generate(newRoute,
+                                   params),
+                     forceRouting,
+                     replaceState);
+  }
+
+  /**
+   * Writes the route into the history and handles the routing.
+   * <p>
+   * Redirects executed while the routing is handled (f.e.: by a filter or
+   * by a controller inside its start-method) are collapsed: the entry
+   * written for the route is replaced by the final route.
+   * </p>
+   * <p>
+   * Only redirects executed synchronously are collapsed. A redirect executed
+   * once an asynchronous step of the routing is finished (f.e. inside the
+   * callback of a data loader or of a confirm dialog) is handled as a new
+   * routing and pushes a new entry.
+   * </p>
+   *
+   * @param newRouteWithParams the route (including the parameters)
+   * @param forceRouting       true: handle the routing even if the route is current
+   * @param replaceState       true: replace the current entry, false: push a new entry
+   */
+  private void routeToHash(String newRouteWithParams,
+                           boolean forceRouting,
+                           boolean replaceState) {
+    if (!Objects.isNull(this.historyRoute)) {
+      // a redirect (filter, interception, routing inside a controller)
+      // while handling a routing: only the final route will be written
+      this.finalHistoryRoute = newRouteWithParams;
+      this.handleRouting(newRouteWithParams,
+                         forceRouting);
+      return;
+    }
+    this.plugin.route(newRouteWithParams,
+                      replaceState);
+    this.historyRoute = newRouteWithParams;
+    this.finalHistoryRoute = newRouteWithParams;
+    try {
+      this.handleRouting(newRouteWithParams,
+                         forceRouting);
+    } finally {
+      String finalRoute = this.finalHistoryRoute;
+      this.historyRoute = null;
+      this.finalHistoryRoute = null;
+      // in case of redirects, replace the entry with the final route
+      if (!finalRoute.equals(newRouteWithParams)) {
+        this.plugin.route(finalRoute,
+                          true);
+      }
+    }
+  }
+
+  /**
+   * Returns the class name of the filter set by the generated application.
+   *
+   * @param filter the filter
+   * @return the class name of the filter
+   */
+  private String getFilterClassName(IsFilter filter) {
+    if (filter instanceof AbstractFilter) {
+      return ((AbstractFilter<?>) filter).getFilterClassName();
     }
-    this.handleRouting(newRouteWithParams,
-                       forceRouting);
+    return "IsFilter";
   }
 
   /**
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+
+/**
+ * Matcher for a table of routes. The implementation is generated by
+ * the processor. It is a decision tree over the parts of the route and
+ * returns the same result as testing the routes of the table in order
+ * using {@link RouterUtils#match(String, String)}.
+ */
+@NaluInternalUse
+public interface IsRouteMatcher {
+
+  /* value returned in case no route of the table matches */
+  int NO_MATCH = -1;
+
+  /**
+   * Returns the index of the first route of the table that matches.
+   *
+   * @param parts                        parts of the route (split by '/', without leading '/')
+   * @param usingColonForParametersInUrl true: parameters inside the url start with a ':'
+   * @return index of the first matching route or NO_MATCH
+   */
+  int match(String[] parts,
+            boolean usingColonForParametersInUrl);
+
+}
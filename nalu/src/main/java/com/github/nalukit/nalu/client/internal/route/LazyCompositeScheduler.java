@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.plugin.IsVisibilityTrigger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Schedules the creation of lazy composites.
+ * <p>
+ * A lazy composite is registered once its controller is attached. The
+ * composite is loaded either once the visibility trigger reports its
+ * selector as visible or once the controller requests it. Each scheduled
+ * composite is loaded only once. Stopping the controller cancels all
+ * composites of the controller, that are not loaded yet.
+ * </p>
+ * <p>
+ * The trigger observes a selector for one slot only. In case several
+ * controllers (f.e. a cached, hidden controller and the visible one) use
+ * the same selector, the slot scheduled last takes over the observation.
+ * Removing a slot stops the observation only, in case the slot is the
+ * one observing the selector.
+ * </p>
+ */
+class LazyCompositeScheduler {
+
+  /* trigger informing about visible selectors (null: load on request only) */
+  private final IsVisibilityTrigger trigger;
+  /* scheduled composites */
+  private final List<Slot>          slots;
+  /* slot observing the selector (key: selector) */
+  private final Map<String, Slot>   observingSlots;
+
+  LazyCompositeScheduler(IsVisibilityTrigger trigger) {
+    this.trigger = trigger;
+    this.slots = new ArrayList<>();
+    this.observingSlots = new HashMap<>();
+  }
+
+  /**
+   * Schedules a composite. In case the composite is already scheduled
+   * for the owner, the old schedule is replaced.
+   *
+   * @param owner         the controller owning the composite
+   * @param compositeName name of the composite
+   * @param selector      selector of the composite
+   * @param loader        creates and attaches the composite
+   */
+  void schedule(Object owner,
+                String compositeName,
+                String selector,
+                Runnable loader) {
+    this.remove(this.find(owner,
+                          compositeName));
+    Slot slot = new Slot(owner,
+                         compositeName,
+                         selector,
+                         loader);
+    this.slots.add(slot);
+    if (!Objects.isNull(this.trigger)) {
+      this.observingSlots.put(selector,
+                              slot);
+      this.trigger.observe(selector,
+                           () -> this.load(slot));
+    }
+  }
+
+  /**
+   * Loads a scheduled composite immediately.
+   *
+   * @param owner         the controller owning the composite
+   * @param compositeName name of the composite
+   * @return true, in case the composite was scheduled
+   */
+  boolean load(Object owner,
+               String compositeName) {
+    Slot slot = this.find(owner,
+                          compositeName);
+    if (Objects.isNull(slot)) {
+      return false;
+    }
+    this.load(slot);
+    return true;
+  }
+
+  /**
+   * Cancels all composites of the owner, that are not loaded yet.
+   *
+   * @param owner the controller owning the composites
+   */
+  void cancel(Object owner) {
+    Iterator<Slot> iterator = this.slots.iterator();
+    while (iterator.hasNext()) {
+      Slot slot = iterator.next();
+      if (slot.owner == owner) {
+        iterator.remove();
+        this.unobserve(slot);
+      }
+    }
+  }
+
+  /**
+   * Returns true, in case the composite is scheduled and not loaded yet.
+   *
+   * @param owner         the controller owning the composite
+   * @param compositeName name of the composite
+   * @return true, if the composite is scheduled
+   */
+  boolean isScheduled(Object owner,
+                      String compositeName) {
+    return !Objects.isNull(this.find(owner,
+                                     compositeName));
+  }
+
+  private void load(Slot slot) {
+    // the slot might be canceled or loaded in the meantime
+    if (!this.slots.contains(slot)) {
+      return;
+    }
+    this.remove(slot);
+    slot.loader.run();
+  }
+
+  private void remove(Slot slot) {
+    if (!Objects.isNull(slot)) {
+      this.slots.remove(slot);
+      this.unobserve(slot);
+    }
+  }
+
+  private void unobserve(Slot slot) {
+    // the selector might be observed for another slot
+    if (!Objects.isNull(this.trigger) && this.observingSlots.get(slot.selector) == slot) {
+      this.observingSlots.remove(slot.selector);
+      this.trigger.unobserve(slot.selector);
+    }
+  }
+
+  private Slot find(Object owner,
+                    String compositeName) {
+    for (Slot slot : this.slots) {
+      if (slot.owner == owner && slot.compositeName.equals(compositeName)) {
+        return slot;
+      }
+    }
+    return null;
+  }
+
+  static class Slot {
+
+    private final Object   owner;
+    private final String   compositeName;
+    private final String   selector;
+    private final Runnable loader;
+
+    Slot(Object owner,
+         String compositeName,
+         String selector,
+         Runnable loader) {
+      this.owner = owner;
+      this.compositeName = compositeName;
+      this.selector = selector;
+      this.loader = loader;
+    }
+
+  }
+
+}
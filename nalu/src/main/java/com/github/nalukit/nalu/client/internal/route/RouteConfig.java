@@ -41,6 +41,9 @@ public class RouteConfig {
   /* class name of the class which uses this configuration */
   private String className;
 
+  /* id of the controller - resolved on first use (-1: not resolved) */
+  private int controllerId = -1;
+
   @SuppressWarnings("unused")
   private RouteConfig() {
   }
@@ -88,6 +91,34 @@ public class RouteConfig {
     }
   }
 
+  /**
+   * Creates a route config using the shells and the route without shell
+   * computed by the processor, so that the route does not need to be
+   * parsed at runtime.
+   *
+   * @param route             the route
+   * @param parameters        parameters of the route
+   * @param selector          selector where to add the element
+   * @param className         class name of the controller
+   * @param shell             shells of the route (each starting with '/')
+   * @param routeWithoutShell the route without the shell
+   */
+  public RouteConfig(String route,
+                     List<String> parameters,
+                     String selector,
+                     String className,
+                     List<String> shell,
+                     String routeWithoutShell) {
+    super();
+
+    this.route = route;
+    this.parameters = parameters;
+    this.selector = selector;
+    this.className = className;
+    this.shell = shell;
+    this.routeWithoutShell = routeWithoutShell;
+  }
+
   public String getRoute() {
     return route;
   }
@@ -145,6 +176,14 @@ public class RouteConfig {
     return className;
   }
 
+  public int getControllerId() {
+    return controllerId;
+  }
+
+  public void setControllerId(int controllerId) {
+    this.controllerId = controllerId;
+  }
+
   public List<String> getParameters() {
     return parameters;
   }
@@ -70,12 +70,7 @@ public class RouteParser {
       routeValue = routeValue.substring(1);
     }
     if (routeValue.contains("/")) {
-      String searchRoute = routeValue;
-      Optional<RouteConfig> optionalRouterConfig = routerConfiguration.getRouters()
-                                                                      .stream()
-                                                                      .filter(rc -> Nalu.match(searchRoute,
-                                                                                               rc.getRoute()))
-                                                                      .findFirst();
+      Optional<RouteConfig> optionalRouterConfig = Optional.ofNullable(routerConfiguration.matchRoute(routeValue));
       if (optionalRouterConfig.isPresent()) {
         routeResult.setRoute(optionalRouterConfig.get()
                                                  .getRoute());
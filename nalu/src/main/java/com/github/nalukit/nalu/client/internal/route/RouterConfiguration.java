@@ -16,6 +16,7 @@
 
 package com.github.nalukit.nalu.client.internal.route;
 
+import com.github.nalukit.nalu.client.Nalu;
 import com.github.nalukit.nalu.client.filter.IsFilter;
 
 import java.util.ArrayList;
@@ -28,11 +29,29 @@ public class RouterConfiguration {
 
   private List<IsFilter> filters;
 
+  /* generated matchers and the range of routes they cover */
+  private List<MatcherEntry> matchers;
+
   public RouterConfiguration() {
     super();
 
     this.routers = new ArrayList<>();
     this.filters = new ArrayList<>();
+    this.matchers = new ArrayList<>();
+  }
+
+  /**
+   * Adds a table of routes together with the generated matcher of the table.
+   *
+   * @param routeConfigs routes to add (in the order the matcher expects them)
+   * @param matcher      generated matcher of the routes
+   */
+  public void addRoutes(List<RouteConfig> routeConfigs,
+                        IsRouteMatcher matcher) {
+    this.matchers.add(new MatcherEntry(this.routers.size(),
+                                       routeConfigs.size(),
+                                       matcher));
+    this.routers.addAll(routeConfigs);
   }
 
   public List<RouteConfig> getRouters() {
@@ -43,10 +62,74 @@ public class RouterConfiguration {
     return filters;
   }
 
+  /**
+   * Returns the first route config whose route matches the route
+   * (see {@link RouterUtils#match(String, String)}).
+   * <br>
+   * Routes added with a generated matcher are matched using the matcher,
+   * all other routes are compared one by one.
+   *
+   * @param route the route containing parameter values
+   * @return the first matching route config or null
+   */
+  public RouteConfig matchRoute(String route) {
+    String[] parts = RouterUtils.get()
+                                .split(route);
+    boolean usingColonForParametersInUrl = Nalu.isUsingColonForParametersInUrl();
+    int index = 0;
+    for (MatcherEntry entry : this.matchers) {
+      if (entry.offset + entry.size > this.routers.size()) {
+        // the list of routes was changed: do not trust the matcher any longer
+        break;
+      }
+      for (; index < entry.offset; index++) {
+        if (RouterUtils.get()
+                       .match(route,
+                              this.routers.get(index)
+                                          .getRoute())) {
+          return this.routers.get(index);
+        }
+      }
+      int matcherIndex = entry.matcher.match(parts,
+                                             usingColonForParametersInUrl);
+      if (matcherIndex != IsRouteMatcher.NO_MATCH) {
+        return this.routers.get(entry.offset + matcherIndex);
+      }
+      index = entry.offset + entry.size;
+    }
+    for (; index < this.routers.size(); index++) {
+      if (RouterUtils.get()
+                     .match(route,
+                            this.routers.get(index)
+                                        .getRoute())) {
+        return this.routers.get(index);
+      }
+    }
+    return null;
+  }
+
   public List<RouteConfig> match(String hash) {
     return this.routers.stream()
                        .filter(routeConfig -> routeConfig.match(hash))
                        .collect(Collectors.toList());
   }
 
+  private static class MatcherEntry {
+
+    /* index of the first route covered by the matcher */
+    private int            offset;
+    /* number of routes covered by the matcher */
+    private int            size;
+    private IsRouteMatcher matcher;
+
+    MatcherEntry(int offset,
+                 int size,
+                 IsRouteMatcher matcher) {
+      this.offset = offset;
+      this.size = size;
+      this.matcher = matcher;
+    }
+
+  }
+
 }
@@ -95,6 +95,13 @@ class RouterLogger {
     return sb;
   }
 
+  static String logLoadModuleFailed(String hash) {
+    String sb = "unable to load module for hash >>" + hash + "<<";
+    logSimple(sb,
+              1);
+    return sb;
+  }
+
   static void logUseErrorRoute(String routeError) {
     String sb = "use configured default route >>" + routeError + "<<";
     logSimple(sb,
@@ -178,7 +178,7 @@ public class RouterUtils {
     return true;
   }
 
-  private String[] split(String route) {
+  String[] split(String route) {
     if (route.startsWith("/")) {
       if (route.length() > 1) {
         return route.substring(1)
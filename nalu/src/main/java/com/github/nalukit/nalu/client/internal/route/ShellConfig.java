@@ -24,6 +24,9 @@ public class ShellConfig {
   /* class name of the class which uses this configuration */
   private String className;
 
+  /* id of the shell - resolved on first use (-1: not resolved) */
+  private int shellId = -1;
+
   public ShellConfig() {
   }
 
@@ -51,4 +54,12 @@ public class ShellConfig {
     this.className = className;
   }
 
+  public int getShellId() {
+    return shellId;
+  }
+
+  public void setShellId(int shellId) {
+    this.shellId = shellId;
+  }
+
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.model;
+
+import com.github.nalukit.nalu.client.Nalu;
+import com.github.nalukit.nalu.client.internal.route.RouterConstants;
+
+import java.util.Objects;
+
+/**
+ * A route with its parameters and the hash that was already created
+ * from them.
+ * <br>
+ * Instances are created by the routes class the Nalu processor generates
+ * for the application (or module). The router navigates to the hash as
+ * it is and does not need to parse the route again.
+ */
+public final class NaluRoute {
+
+  /* route using '*' as placeholder for the parameters */
+  private final String   route;
+  /* parameters of the route */
+  private final String[] parameters;
+  /* hash created from the route and the parameters */
+  private final String   hash;
+
+  public NaluRoute(String route,
+                   String[] parameters,
+                   String hash) {
+    this.route = route;
+    this.parameters = parameters;
+    this.hash = hash;
+  }
+
+  /**
+   * Converts a value into a route parameter.
+   * <br>
+   * Used by the generated routes class.
+   *
+   * @param value the value of the parameter
+   * @return the parameter as it is used inside the hash
+   */
+  public static String parameter(String value) {
+    String parameter = Objects.isNull(value) ? "null" : value.replace("/",
+                                                                       RouterConstants.NALU_SLASH_REPLACEMENT);
+    return Nalu.isUsingColonForParametersInUrl() ? ":" + parameter : parameter;
+  }
+
+  /**
+   * Returns the route. Parameters are replaced by a '*'.
+   *
+   * @return the route
+   */
+  public String getRoute() {
+    return route;
+  }
+
+  /**
+   * Returns the parameters of the route.
+   *
+   * @return parameters of the route
+   */
+  public String[] getParameters() {
+    return parameters;
+  }
+
+  /**
+   * Returns the hash to navigate to.
+   *
+   * @return the hash
+   */
+  public String getHash() {
+    return hash;
+  }
+
+}
@@ -18,6 +18,7 @@ package com.github.nalukit.nalu.client.module;
 
 import com.github.nalukit.nalu.client.context.module.IsModuleContext;
 import com.github.nalukit.nalu.client.internal.CompositeControllerReference;
+import com.github.nalukit.nalu.client.internal.route.IsRouteMatcher;
 import com.github.nalukit.nalu.client.internal.route.RouteConfig;
 import com.github.nalukit.nalu.client.internal.route.RouterConfiguration;
 import com.github.nalukit.nalu.client.internal.route.ShellConfig;
@@ -32,6 +33,8 @@ public interface IsModule<C extends IsModuleContext> {
 
   List<RouteConfig> getRouteConfigs();
 
+  IsRouteMatcher getRouteMatcher();
+
   List<CompositeControllerReference> getCompositeReferences();
 
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.module;
+
+/**
+ * Nalu module loader
+ * <br>
+ * <p>The loader is used to load the code of a lazy module. It is called
+ * in case the router navigates the first time into a route owned by
+ * a lazy module.</p>
+ * <p>Once the code is available, call callback.onSuccess() to let Nalu
+ * create the module, merge its configuration and resume routing.</p>
+ * <p>Using GWT, the loader is a good place for a split point:</p>
+ * <pre>
+ * public void load(ModuleLoadCallback callback) {
+ *   GWT.runAsync(new RunAsyncCallback() {
+ *     public void onFailure(Throwable reason) {
+ *       callback.onFailure(reason);
+ *     }
+ *
+ *     public void onSuccess() {
+ *       callback.onSuccess();
+ *     }
+ *   });
+ * }
+ * </pre>
+ * <p>The module is created inside the callback. To keep the code of the module
+ * out of the initial fragment, call callback.onSuccess() only from inside the
+ * split point.</p>
+ */
+public interface IsModuleLoader {
+
+  /**
+   * Loads the module.
+   * <br>
+   * Once you are done, call: <b>callback.onSuccess();</b>
+   * <br>
+   * <b>Attention:</b>
+   * <br>
+   * Do not call the method directly!
+   *
+   * @param callback use this callback to give the control back to Nalu
+   */
+  void load(ModuleLoadCallback callback);
+
+  interface ModuleLoadCallback {
+
+    void onSuccess();
+
+    void onFailure(Throwable caught);
+
+  }
+
+}
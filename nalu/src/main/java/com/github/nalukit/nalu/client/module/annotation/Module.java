@@ -17,6 +17,8 @@
 package com.github.nalukit.nalu.client.module.annotation;
 
 import com.github.nalukit.nalu.client.context.module.IsModuleContext;
+import com.github.nalukit.nalu.client.internal.module.NoModuleLoader;
+import com.github.nalukit.nalu.client.module.IsModuleLoader;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -30,8 +32,8 @@ import java.lang.annotation.RetentionPolicy;
  * <p>
  * The annotation has the following attributes:
  * <ul>
- * <li>loader: a loader that will be executed in case the application loads. If no loader
- * is defined, the NoApplicationLoader.class will be used. In this case, the loader will do nothing.</li>
+ * <li>loader: a loader that will be executed in case a lazy module loads. If no loader
+ * is defined, the NoModuleLoader.class will be used. In this case, the module is loaded synchronous.</li>
  * <li>startRoute: in case the application is called without a bookmark, is this the initial route.</li>
  * <li>context: the context of the class. Nalu will create an instance of this class and inject
  * the instance into all controllers, filters, handlers and the application loader.</li>
@@ -39,6 +41,8 @@ import java.lang.annotation.RetentionPolicy;
  * <li>useHash: if useHash is true, use a hash based url, otherwise a non hash based url</li>
  * <li>useColonForParametersInUrl: if useColonForParametersInUrl is true, Nalu expects parameters with a leading colon in urls</li>
  * <li>stayOnSite: if stayOnSite is true, Nalu will replace history with the start-route in case hash is empty, else Nalu will only update it.</li>
+ * <li>lazy: if lazy is true, Nalu will load the module on first navigation into one of its routes</li>
+ * <li>routes: route prefixes owned by the module (used in case the module is lazy)</li>
  * </ul>
  *
  * @author Frank Hossfeld
@@ -61,4 +65,37 @@ public @interface Module {
    */
   Class<? extends IsModuleContext> context();
 
+  /**
+   * This attribute - if <b>true</b> - will tell Nalu to load the module
+   * the first time the router navigates into one of the routes of the module,
+   * instead of loading it during application start.
+   * <br>
+   * Default is <b>false</b>.
+   *
+   * @return true, if the module should be loaded lazy
+   */
+  boolean lazy() default false;
+
+  /**
+   * The route prefixes owned by the module. Used by the router in case the module is lazy:
+   * navigating to a route, that starts with one of the prefixes, will load the module.
+   * <br>
+   * F.e.: <b>/application/person</b> will match <b>/application/person/list</b>
+   * and <b>/application/person/detail/:id</b>.
+   *
+   * @return the route prefixes of the module
+   */
+  String[] routes() default {};
+
+  /**
+   * The loader used to load a lazy module. The loader is a good place
+   * for a split point.
+   * <br>
+   * The loader is optional. If no loader is defined, the module
+   * will be loaded synchronous on first navigation.
+   *
+   * @return the module loader
+   */
+  Class<? extends IsModuleLoader> loader() default NoModuleLoader.class;
+
 }
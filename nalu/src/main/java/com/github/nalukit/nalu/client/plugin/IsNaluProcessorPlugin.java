@@ -66,6 +66,134 @@ public interface IsNaluProcessorPlugin {
 
   void setCustomConfirmPresenter(IsCustomConfirmPresenter presenter);
 
+  /**
+   * Schedules a command, that will be executed once the browser is idle.
+   * <p>
+   * Nalu uses this method to execute work, that is not needed to
+   * handle the current routing (f.e.: creating preloaded blocks).
+   * The default implementation executes the command immediately.
+   * </p>
+   *
+   * @param command command to execute
+   */
+  default void scheduleIdle(IdleCommand command) {
+    command.execute();
+  }
+
+  /**
+   * Called by the router after a shell is attached or detached.
+   * <p>
+   * Selector containers only appear or vanish in case the shell changes,
+   * so the plugin can drop elements it has cached for selectors.
+   * </p>
+   */
+  default void onShellChanged() {
+  }
+
+  /**
+   * Returns true, in case the plugin is using the commit mode.
+   * <p>
+   * In commit mode the router records all removes and attaches of a routing
+   * and calls the commit-method once, instead of calling remove and attach
+   * for every controller and composite.
+   * </p>
+   *
+   * @return true, in case the commit mode is used
+   */
+  default boolean isUsingCommitMode() {
+    return false;
+  }
+
+  /**
+   * Applies the DOM changes of a routing.
+   * <p>
+   * The plugin removes the content of the removed selectors and attaches the
+   * elements in the order they were recorded. It sets the attached-flag of
+   * every attachment and calls the callback once all changes are applied.
+   * The router will call the onAttach-methods of the controllers inside the
+   * callback.
+   * </p>
+   * <p>
+   * The router only calls this method, in case the plugin is using the
+   * commit mode. The default implementation applies nothing.
+   * </p>
+   *
+   * @param commit   the DOM changes of the routing
+   * @param callback callback to call, once the changes are applied
+   */
+  default void commit(NaluDomCommit commit,
+                      CommitCallback callback) {
+    callback.onCommitted();
+  }
+
+  /**
+   * Returns true, in case the plugin is using the visibility toggle.
+   * <p>
+   * In visibility toggle mode the router does not remove the element of a
+   * cached controller from its selector. The element is hidden instead and
+   * shown again once the controller is reused, so the browser keeps the
+   * layout (and the scroll position) of the element.
+   * </p>
+   *
+   * @return true, in case the visibility toggle is used
+   */
+  default boolean isUsingVisibilityToggle() {
+    return false;
+  }
+
+  /**
+   * Hides an element, that stays inside the selector.
+   * <p>
+   * A hidden element must survive calls of remove(selector) until it is
+   * shown or removed with remove(selector, asElement).
+   * </p>
+   *
+   * @param selector  the selector of the element
+   * @param asElement the element to hide
+   */
+  default void hide(String selector,
+                    Object asElement) {
+  }
+
+  /**
+   * Shows an element, that was hidden using the hide-method.
+   * The call has no effect, in case the element is not hidden.
+   *
+   * @param selector  the selector of the element
+   * @param asElement the element to show
+   */
+  default void show(String selector,
+                    Object asElement) {
+  }
+
+  /**
+   * Removes a single (hidden) element from the selector.
+   * <p>
+   * The router calls this method, in case a controller, whose element is
+   * hidden, is removed from the cache.
+   * </p>
+   *
+   * @param selector  the selector of the element
+   * @param asElement the element to remove
+   */
+  default void remove(String selector,
+                      Object asElement) {
+  }
+
+  /**
+   * Returns the trigger, that tells Nalu, once the selector of a lazy
+   * composite gets visible.
+   * <p>
+   * In case the plugin returns null, lazy composites are only created,
+   * in case the controller requests them using the router.
+   * </p>
+   *
+   * @return the visibility trigger or null
+   */
+  default IsVisibilityTrigger getVisibilityTrigger() {
+    return null;
+  }
+
   @FunctionalInterface
   interface RouteChangeHandler {
 
@@ -73,7 +201,19 @@ public interface IsNaluProcessorPlugin {
 
   }
 
+  @FunctionalInterface
+  interface IdleCommand {
+
+    void execute();
+
+  }
 
+  @FunctionalInterface
+  interface CommitCallback {
+
+    void onCommitted();
+
+  }
 
   interface ConfirmHandler {
 
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.plugin;
+
+/**
+ * Informs Nalu, once a selector gets visible.
+ * <p>
+ * Nalu uses the trigger to create lazy composites not before their
+ * selector is needed, f.e.: a composite inside a collapsed panel or
+ * below the fold.
+ * </p>
+ */
+public interface IsVisibilityTrigger {
+
+  /**
+   * Starts observing the selector. Once the selector gets visible,
+   * the handler is called (only once) and the observation ends.
+   * <p>
+   * In case the selector can not be observed, the handler should be
+   * called immediately.
+   * </p>
+   *
+   * @param selector the selector to observe
+   * @param handler  handler to call, once the selector is visible
+   */
+  void observe(String selector,
+               VisibilityHandler handler);
+
+  /**
+   * Stops observing the selector. The call has no effect, in case the
+   * selector is not observed.
+   *
+   * @param selector the selector
+   */
+  void unobserve(String selector);
+
+  @FunctionalInterface
+  interface VisibilityHandler {
+
+    void onVisible();
+
+  }
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.plugin;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The DOM changes of one routing.
+ * <p>
+ * In case the plugin is using the commit mode, the router does not
+ * call attach and remove while routing. It records the changes instead
+ * and hands them over to the plugin once the routing is done, so the
+ * plugin can apply them in one batch.
+ * </p>
+ * <p>
+ * The plugin has to hide the hidden elements and remove the content of
+ * all removed selectors first. Afterwards it shows the elements to show and
+ * attaches the elements in the order they were added at last.
+ * (The selector of a composite can be part of the element of its controller,
+ * which might be hidden before.)
+ * </p>
+ */
+public final class NaluDomCommit {
+
+  /* elements to hide (visibility toggle) */
+  private final List<Toggle>     hiddenElements;
+  /* selectors to remove the content from */
+  private final Set<String>      removedSelectors;
+  /* elements to attach */
+  private final List<Attachment> attachments;
+  /* elements to show (visibility toggle) */
+  private final List<Toggle>     shownElements;
+
+  public NaluDomCommit() {
+    this.hiddenElements = new ArrayList<>();
+    this.removedSelectors = new LinkedHashSet<>();
+    this.attachments = new ArrayList<>();
+    this.shownElements = new ArrayList<>();
+  }
+
+  /**
+   * Records an element to hide.
+   *
+   * @param selector  the selector of the element
+   * @param asElement the element
+   */
+  public void hide(String selector,
+                   Object asElement) {
+    this.hiddenElements.add(new Toggle(selector,
+                                       asElement));
+  }
+
+  /**
+   * Records the removal of the content of a selector.
+   *
+   * @param selector the selector
+   */
+  public void remove(String selector) {
+    this.removedSelectors.add(selector);
+  }
+
+  /**
+   * Records an element to attach.
+   *
+   * @param selector  the selector to attach the element to
+   * @param asElement the element
+   * @return the attachment
+   */
+  public Attachment attach(String selector,
+                           Object asElement) {
+    Attachment attachment = new Attachment(selector,
+                                           asElement);
+    this.attachments.add(attachment);
+    return attachment;
+  }
+
+  /**
+   * Records an element to show.
+   *
+   * @param selector  the selector of the element
+   * @param asElement the element
+   */
+  public void show(String selector,
+                   Object asElement) {
+    this.shownElements.add(new Toggle(selector,
+                                      asElement));
+  }
+
+  public List<Toggle> getHiddenElements() {
+    return hiddenElements;
+  }
+
+  public Set<String> getRemovedSelectors() {
+    return removedSelectors;
+  }
+
+  public List<Attachment> getAttachments() {
+    return attachments;
+  }
+
+  public List<Toggle> getShownElements() {
+    return shownElements;
+  }
+
+  public boolean isEmpty() {
+    return this.hiddenElements.isEmpty() && this.removedSelectors.isEmpty() && this.attachments.isEmpty() && this.shownElements.isEmpty();
+  }
+
+  public static final class Attachment {
+
+    /* selector to attach the element to */
+    private final String  selector;
+    /* the element */
+    private final Object  asElement;
+    /* true, in case the plugin found the selector and attached the element */
+    private       boolean attached;
+
+    private Attachment(String selector,
+                       Object asElement) {
+      this.selector = selector;
+      this.asElement = asElement;
+    }
+
+    public String getSelector() {
+      return selector;
+    }
+
+    public Object getAsElement() {
+      return asElement;
+    }
+
+    public boolean isAttached() {
+      return attached;
+    }
+
+    public void setAttached(boolean attached) {
+      this.attached = attached;
+    }
+
+  }
+
+  public static final class Toggle {
+
+    /* selector of the element */
+    private final String selector;
+    /* the element */
+    private final Object asElement;
+
+    private Toggle(String selector,
+                   Object asElement) {
+      this.selector = selector;
+      this.asElement = asElement;
+    }
+
+    public String getSelector() {
+      return selector;
+    }
+
+    public Object getAsElement() {
+      return asElement;
+    }
+
+  }
+
+}
@@ -12,9 +12,12 @@ public class SeoDataProvider {
   private        IsNaluProcessorPlugin plugin;
   /* data dor next update */
   private        SeoData               seoData;
+  /* data of the last update */
+  private        SeoData               appliedSeoData;
 
-  private SeoDataProvider() {
+  SeoDataProvider() {
     this.seoData = new SeoData();
+    this.appliedSeoData = new SeoData();
   }
 
   public static SeoDataProvider get() {
@@ -286,73 +289,112 @@ public class SeoDataProvider {
 
   /**
    * Updates the meta data of the page.
+   * <p>
+   * Only values, that differ from the last applied values, are handed
+   * over to the plugin.
+   * </p>
    */
   public void update() {
     // update ...
-    if (!Objects.isNull(this.seoData.getTitle())) {
+    if (this.isChanged(this.seoData.getTitle(),
+                       this.appliedSeoData.getTitle())) {
       this.plugin.updateTitle(this.seoData.getTitle());
+      this.appliedSeoData.setTitle(this.seoData.getTitle());
     }
-    if (!Objects.isNull(this.seoData.getDescription())) {
+    if (this.isChanged(this.seoData.getDescription(),
+                       this.appliedSeoData.getDescription())) {
       this.plugin.updateMetaNameContent("description",
                                         this.seoData.getDescription());
+      this.appliedSeoData.setDescription(this.seoData.getDescription());
     }
-    if (!Objects.isNull(this.seoData.getKeywords())) {
+    if (this.isChanged(this.seoData.getKeywords(),
+                       this.appliedSeoData.getKeywords())) {
       this.plugin.updateMetaNameContent("keywords",
                                         this.seoData.getKeywords());
+      this.appliedSeoData.setKeywords(this.seoData.getKeywords());
     }
 
-    if (!Objects.isNull(this.seoData.getOgTitle())) {
+    if (this.isChanged(this.seoData.getOgTitle(),
+                       this.appliedSeoData.getOgTitle())) {
       this.plugin.updateMetaPropertyContent("og:title",
                                             this.seoData.getOgTitle());
+      this.appliedSeoData.setOgTitle(this.seoData.getOgTitle());
     }
-    if (!Objects.isNull(this.seoData.getOgImage())) {
+    if (this.isChanged(this.seoData.getOgImage(),
+                       this.appliedSeoData.getOgImage())) {
       this.plugin.updateMetaPropertyContent("og:image",
                                             this.seoData.getOgImage());
+      this.appliedSeoData.setOgImage(this.seoData.getOgImage());
     }
-    if (!Objects.isNull(this.seoData.getOgType())) {
+    if (this.isChanged(this.seoData.getOgType(),
+                       this.appliedSeoData.getOgType())) {
       this.plugin.updateMetaPropertyContent("og:type",
                                             this.seoData.getOgType());
+      this.appliedSeoData.setOgType(this.seoData.getOgType());
     }
-    if (!Objects.isNull(this.seoData.getOgUrl())) {
+    if (this.isChanged(this.seoData.getOgUrl(),
+                       this.appliedSeoData.getOgUrl())) {
       this.plugin.updateMetaPropertyContent("og:url",
                                             this.seoData.getOgUrl());
+      this.appliedSeoData.setOgUrl(this.seoData.getOgUrl());
     }
-    if (!Objects.isNull(this.seoData.getOgSiteName())) {
+    if (this.isChanged(this.seoData.getOgSiteName(),
+                       this.appliedSeoData.getOgSiteName())) {
       this.plugin.updateMetaPropertyContent("og:site_name",
                                             this.seoData.getOgSiteName());
+      this.appliedSeoData.setOgSiteName(this.seoData.getOgSiteName());
     }
-    if (!Objects.isNull(this.seoData.getOgDescription())) {
+    if (this.isChanged(this.seoData.getOgDescription(),
+                       this.appliedSeoData.getOgDescription())) {
       this.plugin.updateMetaPropertyContent("og:description",
                                             this.seoData.getOgDescription());
+      this.appliedSeoData.setOgDescription(this.seoData.getOgDescription());
     }
 
-    if (!Objects.isNull(this.seoData.getTwitterCard())) {
+    if (this.isChanged(this.seoData.getTwitterCard(),
+                       this.appliedSeoData.getTwitterCard())) {
       this.plugin.updateMetaNameContent("twitter:card",
                                         this.seoData.getTwitterCard());
+      this.appliedSeoData.setTwitterCard(this.seoData.getTwitterCard());
     }
-    if (!Objects.isNull(this.seoData.getTwitterCreator())) {
+    if (this.isChanged(this.seoData.getTwitterCreator(),
+                       this.appliedSeoData.getTwitterCreator())) {
       this.plugin.updateMetaNameContent("twitter:creator",
                                         this.seoData.getTwitterCreator());
+      this.appliedSeoData.setTwitterCreator(this.seoData.getTwitterCreator());
     }
-    if (!Objects.isNull(this.seoData.getTwitterDescription())) {
+    if (this.isChanged(this.seoData.getTwitterDescription(),
+                       this.appliedSeoData.getTwitterDescription())) {
       this.plugin.updateMetaNameContent("twitter:description",
                                         this.seoData.getTwitterDescription());
+      this.appliedSeoData.setTwitterDescription(this.seoData.getTwitterDescription());
     }
-    if (!Objects.isNull(this.seoData.getTwitterImage())) {
+    if (this.isChanged(this.seoData.getTwitterImage(),
+                       this.appliedSeoData.getTwitterImage())) {
       this.plugin.updateMetaNameContent("twitter:image",
                                         this.seoData.getTwitterImage());
+      this.appliedSeoData.setTwitterImage(this.seoData.getTwitterImage());
     }
-    if (!Objects.isNull(this.seoData.getTwitterSite())) {
+    if (this.isChanged(this.seoData.getTwitterSite(),
+                       this.appliedSeoData.getTwitterSite())) {
       this.plugin.updateMetaNameContent("twitter:site",
                                         this.seoData.getTwitterSite());
+      this.appliedSeoData.setTwitterSite(this.seoData.getTwitterSite());
     }
-    if (!Objects.isNull(this.seoData.getTwitterTitle())) {
+    if (this.isChanged(this.seoData.getTwitterTitle(),
+                       this.appliedSeoData.getTwitterTitle())) {
       this.plugin.updateMetaNameContent("twitter:title",
                                         this.seoData.getTwitterTitle());
+      this.appliedSeoData.setTwitterTitle(this.seoData.getTwitterTitle());
     }
 
     // clear model
     this.seoData = new SeoData();
   }
 
+  private boolean isChanged(String value,
+                            String appliedValue) {
+    return !Objects.isNull(value) && !value.equals(appliedValue);
+  }
+
 }
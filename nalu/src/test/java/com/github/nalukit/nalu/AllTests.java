@@ -21,25 +21,43 @@ import com.github.nalukit.nalu.client.NaluTest;
 import com.github.nalukit.nalu.client.RouterImplTest;
 import com.github.nalukit.nalu.client.RouterUtilsTest;
 import com.github.nalukit.nalu.client.RoutingTest;
+import com.github.nalukit.nalu.client.internal.application.BlockControllerFactoryTest;
+import com.github.nalukit.nalu.client.internal.application.CompositeFactoryTest;
+import com.github.nalukit.nalu.client.internal.application.ControllerCompositeConditionFactoryTest;
+import com.github.nalukit.nalu.client.internal.application.DataLoaderFactoryTest;
+import com.github.nalukit.nalu.client.internal.application.LazyCreatorStoreTest;
+import com.github.nalukit.nalu.client.internal.application.PopUpControllerFactoryTest;
+import com.github.nalukit.nalu.client.internal.module.LazyModuleFactoryTest;
+import com.github.nalukit.nalu.client.internal.route.LazyCompositeSchedulerTest;
 import com.github.nalukit.nalu.client.internal.route.RouteConfigTest;
 import com.github.nalukit.nalu.client.internal.route.RouteParserTest;
 import com.github.nalukit.nalu.client.internal.route.RouterHashImplTest;
 import com.github.nalukit.nalu.client.internal.validation.RouteValidationTest;
+import com.github.nalukit.nalu.client.seo.SeoDataProviderTest;
 import com.github.nalukit.nalu.client.util.NaluUtilsTest;
 import org.junit.platform.runner.JUnitPlatform;
 import org.junit.platform.suite.api.SelectClasses;
 import org.junit.runner.RunWith;
 
 @RunWith(JUnitPlatform.class)
-@SelectClasses({ NaluTest.class,
+@SelectClasses({ BlockControllerFactoryTest.class,
+                 CompositeFactoryTest.class,
+                 ControllerCompositeConditionFactoryTest.class,
+                 DataLoaderFactoryTest.class,
+                 LazyCompositeSchedulerTest.class,
+                 LazyCreatorStoreTest.class,
+                 LazyModuleFactoryTest.class,
+                 NaluTest.class,
                  NaluUtilsTest.class,
+                 PopUpControllerFactoryTest.class,
                  RouteConfigTest.class,
                  RouteParserTest.class,
                  RouterHashImplTest.class,
                  RouterImplTest.class,
                  RouterUtilsTest.class,
                  RoutingTest.class,
-                 RouteValidationTest.class })
+                 RouteValidationTest.class,
+                 SeoDataProviderTest.class })
 public class AllTests {
 
 }
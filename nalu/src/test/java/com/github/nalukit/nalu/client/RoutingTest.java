@@ -1,17 +1,64 @@
 package com.github.nalukit.nalu.client;
 
+import com.github.nalukit.nalu.client.component.AbstractComponent;
+import com.github.nalukit.nalu.client.component.AbstractComponentController;
+import com.github.nalukit.nalu.client.component.AbstractCompositeComponent;
+import com.github.nalukit.nalu.client.component.AbstractCompositeController;
+import com.github.nalukit.nalu.client.component.AbstractShell;
+import com.github.nalukit.nalu.client.component.AlwaysLoadComposite;
+import com.github.nalukit.nalu.client.component.IsComponent;
+import com.github.nalukit.nalu.client.component.IsComposite.CompositeLoader;
+import com.github.nalukit.nalu.client.component.IsCompositeComponent;
+import com.github.nalukit.nalu.client.context.IsContext;
+import com.github.nalukit.nalu.client.context.module.IsModuleContext;
+import com.github.nalukit.nalu.client.event.NaluErrorEvent;
+import com.github.nalukit.nalu.client.event.RouterStateEvent;
+import com.github.nalukit.nalu.client.event.RouterStateEvent.RouterState;
+import com.github.nalukit.nalu.client.filter.IsFilter;
+import com.github.nalukit.nalu.client.internal.AbstractCompositeCreator;
+import com.github.nalukit.nalu.client.internal.AbstractControllerCreator;
+import com.github.nalukit.nalu.client.internal.AbstractShellCreator;
+import com.github.nalukit.nalu.client.internal.CompositeControllerReference;
+import com.github.nalukit.nalu.client.internal.application.CompositeFactory;
+import com.github.nalukit.nalu.client.internal.application.CompositeInstance;
+import com.github.nalukit.nalu.client.internal.application.ControllerCompositeConditionFactory;
+import com.github.nalukit.nalu.client.internal.application.ControllerFactory;
+import com.github.nalukit.nalu.client.internal.application.ControllerInstance;
+import com.github.nalukit.nalu.client.internal.application.ShellFactory;
+import com.github.nalukit.nalu.client.internal.application.ShellInstance;
+import com.github.nalukit.nalu.client.internal.module.LazyModuleFactory;
+import com.github.nalukit.nalu.client.internal.module.LazyModuleFactory.ModuleCreatorCallback;
+import com.github.nalukit.nalu.client.internal.route.IsRouteMatcher;
+import com.github.nalukit.nalu.client.internal.route.RouteConfig;
+import com.github.nalukit.nalu.client.internal.route.RouterConfiguration;
+import com.github.nalukit.nalu.client.internal.route.RouterImpl;
+import com.github.nalukit.nalu.client.internal.route.ShellConfig;
 import com.github.nalukit.nalu.client.internal.route.ShellConfiguration;
+import com.github.nalukit.nalu.client.module.IsModule;
 import com.github.nalukit.nalu.client.plugin.IsCustomAlertPresenter;
 import com.github.nalukit.nalu.client.plugin.IsCustomConfirmPresenter;
 import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin;
+import com.github.nalukit.nalu.client.plugin.NaluDomCommit;
+import com.github.nalukit.nalu.client.seo.SeoDataProvider;
 import com.github.nalukit.nalu.simpleapplication01.client.Application;
+import org.gwtproject.event.shared.SimpleEventBus;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Router Tester.
@@ -21,12 +68,47 @@ import java.util.Map;
  */
 public class RoutingTest {
 
+  private static int routerCount;
+
   private Application application;
 
   private IsPluginJUnit plugin;
 
+  private List<String> events;
+
+  private String prefix;
+
+  private Set<String> cachedRoutes;
+
+  private List<String> shellEvents;
+
+  private Set<String> cachedShells;
+
+  private Map<String, TestShell> shells;
+
+  private List<CompositeControllerReference> compositeReferences;
+
+  private List<IsFilter> filters;
+
+  private Set<String> asyncComposites;
+
+  private List<CompositeLoader> pendingBinds;
+
+  private SimpleEventBus eventBus;
+
   @BeforeEach
   void before() {
+    // controllers and shells are registered in the factories using a unique name per test
+    this.events = new ArrayList<>();
+    this.prefix = "RoutingTest" + ++RoutingTest.routerCount + ".";
+    this.cachedRoutes = new HashSet<>();
+    this.shellEvents = new ArrayList<>();
+    this.cachedShells = new HashSet<>();
+    this.shells = new HashMap<>();
+    this.compositeReferences = new ArrayList<>();
+    this.filters = new ArrayList<>();
+    this.asyncComposites = new HashSet<>();
+    this.pendingBinds = new ArrayList<>();
     // create plugin
     this.plugin = new IsPluginJUnit() {
 
@@ -144,6 +226,7 @@ public class RoutingTest {
   void after() {
     this.application = null;
     this.plugin = null;
+    this.events = null;
   }
 
   /**
@@ -168,6 +251,455 @@ public class RoutingTest {
     this.application.run(this.plugin);
   }
 
+  @Test
+  void testCommitOfOutdatedRoutingIsDropped() {
+    TestPlugin plugin = new TestPlugin(true,
+                                       false);
+    RouterImpl router = this.createRouter(plugin);
+    router.forceRoute("/mockShell/route01");
+    // the commit is not applied yet
+    Assertions.assertEquals(1,
+                            plugin.commits.size());
+    Assertions.assertTrue(this.events.isEmpty());
+    // a second routing before the commit is applied
+    router.forceRoute("/mockShell/route02");
+    plugin.applyCommits();
+    Assertions.assertEquals(Collections.singletonList("start:route02"),
+                            this.events);
+    Assertions.assertEquals(Collections.singletonList("route02"),
+                            plugin.getElements("content"));
+    Assertions.assertEquals("mockShell/route02",
+                            router.getLastExecutetdHash());
+    // the controller of the dropped commit is not stopped, cause it was never started
+    router.forceRoute("/mockShell/route01");
+    plugin.applyCommits();
+    Assertions.assertEquals(Arrays.asList("start:route02",
+                                          "stop:route02",
+                                          "start:route01"),
+                            this.events);
+    Assertions.assertEquals(Collections.singletonList("route01"),
+                            plugin.getElements("content"));
+  }
+
+  @Test
+  void testCommitIsAppliedBeforeNextRouting() {
+    TestPlugin plugin = new TestPlugin(true,
+                                       false);
+    RouterImpl router = this.createRouter(plugin);
+    router.forceRoute("/mockShell/route01");
+    plugin.applyCommits();
+    router.forceRoute("/mockShell/route02");
+    plugin.applyCommits();
+    Assertions.assertEquals(Arrays.asList("start:route01",
+                                          "stop:route01",
+                                          "start:route02"),
+                            this.events);
+    Assertions.assertEquals(Collections.singletonList("route02"),
+                            plugin.getElements("content"));
+  }
+
+  @Test
+  void testCommitWaitsForAsyncCompositeBind() {
+    TestPlugin plugin = new TestPlugin(true,
+                                       false);
+    this.addComposite("route01",
+                      "composite01",
+                      false);
+    this.asyncComposites.add("composite01");
+    RouterImpl router = this.createRouter(plugin);
+    router.forceRoute("/mockShell/route01");
+    // the commit is kept open, while the composite is bound
+    Assertions.assertTrue(plugin.commits.isEmpty());
+    this.pendingBinds.get(0)
+                     .continueLoading();
+    Assertions.assertEquals(1,
+                            plugin.commits.size());
+    plugin.applyCommits();
+    Assertions.assertEquals(Arrays.asList("start:composite01",
+                                          "start:route01"),
+                            this.events);
+    Assertions.assertEquals(Collections.singletonList("route01"),
+                            plugin.getElements("content"));
+    Assertions.assertEquals(Collections.singletonList("composite01"),
+                            plugin.getElements("route01>composite"));
+  }
+
+  @Test
+  void testCommitOfRoutingWithPendingBindIsDropped() {
+    TestPlugin plugin = new TestPlugin(true,
+                                       false);
+    this.addComposite("route01",
+                      "composite01",
+                      false);
+    this.asyncComposites.add("composite01");
+    RouterImpl router = this.createRouter(plugin);
+    router.forceRoute("/mockShell/route01");
+    // a second routing while the composite is bound
+    router.forceRoute("/mockShell/route02");
+    this.pendingBinds.get(0)
+                     .continueLoading();
+    plugin.applyCommits();
+    Assertions.assertEquals(Collections.singletonList("start:route02"),
+                            this.events);
+    Assertions.assertEquals(Collections.singletonList("route02"),
+                            plugin.getElements("content"));
+  }
+
+  @Test
+  void testCachedControllerIsHiddenAndShownAgain() {
+    TestPlugin plugin = new TestPlugin(false,
+                                       true);
+    this.cachedRoutes.add("route01");
+    RouterImpl router = this.createRouter(plugin);
+    router.forceRoute("/mockShell/route01");
+    router.forceRoute("/mockShell/route02");
+    // the element of the cached controller is kept hidden inside the selector
+    Assertions.assertEquals(Arrays.asList("route01",
+                                          "route02"),
+                            plugin.getElements("content"));
+    Assertions.assertEquals(Collections.singletonList("route02"),
+                            plugin.getVisibleElements("content"));
+    router.forceRoute("/mockShell/route01");
+    Assertions.assertEquals(Collections.singletonList("route01"),
+                            plugin.getElements("content"));
+    Assertions.assertEquals(Collections.singletonList("route01"),
+                            plugin.getVisibleElements("content"));
+    // the cached controller is started once
+    Assertions.assertEquals(Arrays.asList("start:route01",
+                                          "start:route02",
+                                          "stop:route02"),
+                            this.events);
+  }
+
+  @Test
+  void testSelectorsOfHiddenControllerAreNotResolved() {
+    TestPlugin plugin = new TestPlugin(true,
+                                       true);
+    this.cachedRoutes.add("route01");
+    // both controllers use the same selector for their composite
+    this.addComposite("route01",
+                      "composite01",
+                      false);
+    this.addComposite("route02",
+                      "composite02",
+                      false);
+    RouterImpl router = this.createRouter(plugin);
+    router.forceRoute("/mockShell/route01");
+    plugin.applyCommits();
+    router.forceRoute("/mockShell/route02");
+    plugin.applyCommits();
+    Assertions.assertEquals(Collections.singletonList("composite01"),
+                            plugin.getElements("route01>composite"));
+    Assertions.assertEquals(Collections.singletonList("composite02"),
+                            plugin.getElements("route02>composite"));
+    router.forceRoute("/mockShell/route01");
+    plugin.applyCommits();
+    Assertions.assertEquals(Collections.singletonList("route01"),
+                            plugin.getVisibleElements("content"));
+    Assertions.assertEquals(Collections.singletonList("composite01"),
+                            plugin.getElements("route01>composite"));
+    Assertions.assertFalse(this.events.stream()
+                                      .anyMatch(e -> e.startsWith("error:")));
+  }
+
+  @Test
+  void testGlobalCompositeIsMovedOutOfHiddenController() {
+    TestPlugin plugin = new TestPlugin(true,
+                                       true);
+    this.cachedRoutes.add("route01");
+    // the non cached controller uses the global composite of the cached controller
+    this.addComposite("route01",
+                      "global01",
+                      true);
+    this.addComposite("route02",
+                      "global01",
+                      true);
+    RouterImpl router = this.createRouter(plugin);
+    router.forceRoute("/mockShell/route01");
+    plugin.applyCommits();
+    router.forceRoute("/mockShell/route02");
+    plugin.applyCommits();
+    Assertions.assertEquals(Collections.emptyList(),
+                            plugin.getElements("route01>composite"));
+    Assertions.assertEquals(Collections.singletonList("global01"),
+                            plugin.getElements("route02>composite"));
+    // the global composite is appended to the shown controller again
+    router.forceRoute("/mockShell/route01");
+    plugin.applyCommits();
+    Assertions.assertEquals(Collections.singletonList("global01"),
+                            plugin.getElements("route01>composite"));
+    Assertions.assertEquals(Arrays.asList("start:global01",
+                                          "start:route01",
+                                          "start:route02",
+                                          "stop:route02"),
+                            this.events);
+  }
+
+  @Test
+  void testRedirectReplacesHistoryEntry() {
+    TestPlugin plugin = new TestPlugin(false,
+                                       false);
+    this.filters.add(new TestFilter("/mockShell/route01",
+                                    "/mockShell/route02"));
+    RouterImpl router = this.createRouter(plugin);
+    router.route("/mockShell/route01");
+    // the entry of the redirected route is replaced by the final route
+    Assertions.assertEquals(Arrays.asList("push:mockShell/route01",
+                                          "replace:mockShell/route02"),
+                            plugin.routes);
+    Assertions.assertEquals(Collections.singletonList("start:route02"),
+                            this.events);
+  }
+
+  @Test
+  void testControllerOfOutdatedCompositeBindIsNotAppended() {
+    TestPlugin plugin = new TestPlugin(false,
+                                       false);
+    this.addComposite("route01",
+                      "composite01",
+                      false);
+    this.asyncComposites.add("composite01");
+    RouterImpl router = this.createRouter(plugin);
+    this.eventBus.addHandler(RouterStateEvent.TYPE,
+                             e -> {
+                               if (e.getState() == RouterState.ROUTING_DONE) {
+                                 this.events.add("done:" + e.getRoute());
+                               }
+                             });
+    router.forceRoute("/mockShell/route01");
+    // the composite is still bound
+    Assertions.assertEquals(1,
+                            this.pendingBinds.size());
+    Assertions.assertTrue(this.events.isEmpty());
+    // a second routing while the composite is bound
+    router.forceRoute("/mockShell/route02");
+    this.pendingBinds.get(0)
+                     .continueLoading();
+    Assertions.assertEquals(Arrays.asList("start:route02",
+                                          "done:/mockShell/route02"),
+                            this.events);
+    Assertions.assertEquals(Collections.singletonList("route02"),
+                            plugin.getElements("content"));
+    Assertions.assertEquals("mockShell/route02",
+                            router.getLastExecutetdHash());
+    // routing to the route again binds the composite again
+    router.forceRoute("/mockShell/route01");
+    // the routing is done, once the controller is appended
+    Assertions.assertEquals(Arrays.asList("start:route02",
+                                          "done:/mockShell/route02",
+                                          "stop:route02"),
+                            this.events);
+    this.pendingBinds.get(1)
+                     .continueLoading();
+    Assertions.assertEquals(Arrays.asList("start:route02",
+                                          "done:/mockShell/route02",
+                                          "stop:route02",
+                                          "start:composite01",
+                                          "start:route01",
+                                          "done:/mockShell/route01"),
+                            this.events);
+    Assertions.assertEquals(Collections.singletonList("route01"),
+                            plugin.getElements("content"));
+  }
+
+  @Test
+  void testLazyModuleOfOutdatedRoutingIsNotResumed() {
+    TestPlugin plugin = new TestPlugin(false,
+                                       false);
+    RouterImpl router = this.createRouter(plugin);
+    String lazyRoute = "lazy" + RoutingTest.routerCount;
+    List<ModuleCreatorCallback> creatorCallbacks = new ArrayList<>();
+    LazyModuleFactory.get()
+                     .registerModule(this.prefix + "LazyModule",
+                                     new String[] { "/mockShell/" + lazyRoute },
+                                     creatorCallbacks::add);
+    router.forceRoute("/mockShell/" + lazyRoute);
+    // the module is still loading
+    Assertions.assertEquals(1,
+                            creatorCallbacks.size());
+    Assertions.assertTrue(this.events.isEmpty());
+    // a second routing while the module is loading
+    router.forceRoute("/mockShell/route02");
+    creatorCallbacks.get(0)
+                    .onSuccess(new TestModule(lazyRoute));
+    Assertions.assertEquals(Collections.singletonList("start:route02"),
+                            this.events);
+    Assertions.assertEquals("mockShell/route02",
+                            router.getLastExecutetdHash());
+    // the module is loaded, routing to the route works without loading it again
+    router.forceRoute("/mockShell/" + lazyRoute);
+    Assertions.assertEquals(1,
+                            creatorCallbacks.size());
+    Assertions.assertEquals(Arrays.asList("start:route02",
+                                          "stop:route02",
+                                          "start:route01"),
+                            this.events);
+  }
+
+  @Test
+  void testCachedShellIsReused() {
+    TestPlugin plugin = new TestPlugin(false,
+                                       false);
+    this.cachedShells.add("MockShell");
+    RouterImpl router = this.createRouter(plugin);
+    router.forceRoute("/mockShell/route01");
+    TestShell shell = this.shells.get("MockShell");
+    Assertions.assertTrue(shell.isCached());
+    router.forceRoute("/otherShell/route03");
+    router.forceRoute("/mockShell/route01");
+    // the cached shell is attached again without being created again
+    Assertions.assertEquals(Arrays.asList("create:MockShell",
+                                          "attach:MockShell",
+                                          "create:OtherShell",
+                                          "detach:MockShell",
+                                          "attach:OtherShell",
+                                          "detach:OtherShell",
+                                          "attach:MockShell"),
+                            this.shellEvents);
+    Assertions.assertSame(shell,
+                          this.shells.get("MockShell"));
+    Assertions.assertEquals(Collections.singletonList("route01"),
+                            plugin.getElements("content"));
+  }
+
+  @Test
+  void testShellRemovedFromCacheIsCreatedAgain() {
+    TestPlugin plugin = new TestPlugin(false,
+                                       false);
+    this.cachedShells.add("MockShell");
+    RouterImpl router = this.createRouter(plugin);
+    router.forceRoute("/mockShell/route01");
+    TestShell shell = this.shells.get("MockShell");
+    router.forceRoute("/otherShell/route03");
+    router.removeFromCache(shell);
+    Assertions.assertFalse(shell.isCached());
+    // the shell is no longer cached: it will not store itself again
+    this.cachedShells.clear();
+    router.forceRoute("/mockShell/route01");
+    Assertions.assertEquals(2,
+                            this.shellEvents.stream()
+                                            .filter("create:MockShell"::equals)
+                                            .count());
+    Assertions.assertNotSame(shell,
+                             this.shells.get("MockShell"));
+  }
+
+  @Test
+  void testClearShellKeepsCachedControllersOfCachedShell() {
+    TestPlugin plugin = new TestPlugin(false,
+                                       true);
+    this.cachedShells.add("MockShell");
+    this.cachedRoutes.add("route01");
+    RouterImpl router = this.createRouter(plugin);
+    router.forceRoute("/mockShell/route01");
+    router.forceRoute("/otherShell/route03");
+    // the element of the cached controller is hidden, not removed
+    Assertions.assertEquals(Arrays.asList("route01",
+                                          "route03"),
+                            plugin.getElements("content"));
+    Assertions.assertEquals(Collections.singletonList("route03"),
+                            plugin.getVisibleElements("content"));
+    router.forceRoute("/mockShell/route01");
+    Assertions.assertEquals(Collections.singletonList("route01"),
+                            plugin.getVisibleElements("content"));
+    // neither the cached shell nor the cached controller is torn down
+    Assertions.assertEquals(Arrays.asList("start:route01",
+                                          "start:route03",
+                                          "stop:route03"),
+                            this.events);
+    Assertions.assertEquals(1,
+                            this.shellEvents.stream()
+                                            .filter("create:MockShell"::equals)
+                                            .count());
+  }
+
+  private RouterImpl createRouter(TestPlugin plugin) {
+    ShellConfiguration shellConfiguration = new ShellConfiguration();
+    shellConfiguration.getShells()
+                      .add(new ShellConfig("/mockShell",
+                                           this.prefix + "MockShell"));
+    shellConfiguration.getShells()
+                      .add(new ShellConfig("/otherShell",
+                                           this.prefix + "OtherShell"));
+    RouterConfiguration routerConfiguration = new RouterConfiguration();
+    for (String route : Arrays.asList("/mockShell/route01",
+                                      "/mockShell/route02",
+                                      "/otherShell/route03")) {
+      routerConfiguration.getRouters()
+                         .add(new RouteConfig(route,
+                                              new ArrayList<>(),
+                                              "content",
+                                              this.prefix + route.substring(route.lastIndexOf('/') + 1)));
+    }
+    routerConfiguration.getFilters()
+                       .addAll(this.filters);
+    RouterImpl router = new RouterImpl(plugin,
+                                       shellConfiguration,
+                                       routerConfiguration,
+                                       this.compositeReferences,
+                                       null,
+                                       "/mockShell/route01",
+                                       true,
+                                       true,
+                                       false,
+                                       false);
+    LazyModuleFactory.get()
+                     .register(shellConfiguration,
+                               routerConfiguration,
+                               this.compositeReferences);
+    SimpleEventBus eventBus = new SimpleEventBus();
+    this.eventBus = eventBus;
+    eventBus.addHandler(NaluErrorEvent.TYPE,
+                        e -> this.events.add("error:" + e.getErrorId()));
+    router.setEventBus(eventBus);
+    SeoDataProvider.get()
+                   .register(plugin);
+    for (ShellConfig shellConfig : shellConfiguration.getShells()) {
+      ShellFactory.get()
+                  .registerShell(shellConfig.getClassName(),
+                                 () -> new TestShellCreator(router,
+                                                            eventBus,
+                                                            shellConfig.getClassName()));
+    }
+    for (RouteConfig routeConfig : routerConfiguration.getRouters()) {
+      ControllerFactory.get()
+                       .registerController(routeConfig.getClassName(),
+                                           () -> new TestControllerCreator(router,
+                                                                           eventBus,
+                                                                           routeConfig));
+    }
+    for (CompositeControllerReference reference : this.compositeReferences) {
+      CompositeFactory.get()
+                      .registerComposite(reference.getComposite(),
+                                         () -> new TestCompositeCreator(router,
+                                                                        eventBus,
+                                                                        reference.getComposite()));
+      ControllerCompositeConditionFactory.get()
+                                         .registerCondition(reference.getController(),
+                                                            reference.getComposite(),
+                                                            AlwaysLoadComposite::new);
+      // the element of the controller contains the selector of the composite
+      plugin.selectors.put(reference.getController()
+                                    .substring(this.prefix.length()),
+                           reference.getSelector());
+    }
+    return router;
+  }
+
+  /**
+   * Adds a composite to the controller of the route. The selector of the
+   * composite is part of the element of the controller.
+   */
+  private void addComposite(String route,
+                            String composite,
+                            boolean scopeGlobal) {
+    this.compositeReferences.add(new CompositeControllerReference(this.prefix + route,
+                                                                  composite,
+                                                                  this.prefix + composite,
+                                                                  "composite",
+                                                                  scopeGlobal));
+  }
+
   private boolean compare(String selector,
                           String object) {
     switch (selector) {
@@ -182,6 +714,537 @@ public class RoutingTest {
     }
   }
 
+  class TestPlugin
+      implements IsNaluProcessorPlugin {
+
+    private final boolean commitMode;
+
+    private final boolean visibilityToggle;
+
+    /* commits handed over to the plugin, that are not applied yet */
+    private final List<Runnable> commits = new ArrayList<>();
+
+    /* elements inside the containers (key: selector of the shell or */
+    /* element + '>' + selector for selectors inside an element)     */
+    private final Map<String, List<Object>> dom = new LinkedHashMap<>();
+
+    /* selector inside an element (key: element) */
+    private final Map<Object, String> selectors = new HashMap<>();
+
+    /* elements hidden by the visibility toggle */
+    private final Set<Object> hidden = new HashSet<>();
+
+    /* routes written into the history */
+    private final List<String> routes = new ArrayList<>();
+
+    TestPlugin(boolean commitMode,
+               boolean visibilityToggle) {
+      this.commitMode = commitMode;
+      this.visibilityToggle = visibilityToggle;
+    }
+
+    void applyCommits() {
+      List<Runnable> commits = new ArrayList<>(this.commits);
+      this.commits.clear();
+      commits.forEach(Runnable::run);
+    }
+
+    List<Object> getElements(String container) {
+      return this.dom.getOrDefault(container,
+                                   Collections.emptyList());
+    }
+
+    List<Object> getVisibleElements(String container) {
+      return this.getElements(container)
+                 .stream()
+                 .filter(element -> !this.hidden.contains(element))
+                 .collect(Collectors.toList());
+    }
+
+    /**
+     * Resolves the container of the selector. Like the ids inside a hidden
+     * element, the selectors inside hidden elements are not found.
+     */
+    private String resolve(String selector) {
+      List<String> containers = new ArrayList<>();
+      if ("content".equals(selector)) {
+        containers.add(selector);
+      }
+      this.selectors.forEach((element, elementSelector) -> {
+        if (elementSelector.equals(selector) && this.isVisible(element)) {
+          containers.add(element + ">" + selector);
+        }
+      });
+      Assertions.assertTrue(containers.size() <= 1,
+                            "selector >>" + selector + "<< is not unique: " + containers);
+      return containers.isEmpty() ? null : containers.get(0);
+    }
+
+    private boolean isVisible(Object element) {
+      if (this.hidden.contains(element)) {
+        return false;
+      }
+      Optional<String> container = this.getContainer(element);
+      if (!container.isPresent()) {
+        return false;
+      }
+      int index = container.get()
+                           .indexOf('>');
+      return index < 0 || this.isVisible(container.get()
+                                                  .substring(0,
+                                                             index));
+    }
+
+    private Optional<String> getContainer(Object element) {
+      return this.dom.entrySet()
+                     .stream()
+                     .filter(entry -> entry.getValue()
+                                           .contains(element))
+                     .map(Map.Entry::getKey)
+                     .findFirst();
+    }
+
+    @Override
+    public void alert(String message) {
+    }
+
+    @Override
+    public boolean attach(String selector,
+                          Object asElement) {
+      String container = this.resolve(selector);
+      if (Objects.isNull(container)) {
+        return false;
+      }
+      List<Object> elements = this.dom.computeIfAbsent(container,
+                                                       s -> new ArrayList<>());
+      if (!elements.contains(asElement)) {
+        // like appendChild: the element is moved
+        this.dom.values()
+                .forEach(list -> list.remove(asElement));
+        elements.add(asElement);
+      }
+      return true;
+    }
+
+    @Override
+    public void confirm(String message,
+                        ConfirmHandler handler) {
+      handler.onOk();
+    }
+
+    @Override
+    public String getStartRoute() {
+      return "/mockShell/route01";
+    }
+
+    @Override
+    public Map<String, String> getQueryParameters() {
+      return new HashMap<>();
+    }
+
+    @Override
+    public void register(RouteChangeHandler handler) {
+    }
+
+    @Override
+    public void remove(String selector) {
+      String container = this.resolve(selector);
+      if (!Objects.isNull(container)) {
+        // hidden elements are kept
+        this.getElements(container)
+            .removeIf(element -> !this.hidden.contains(element));
+      }
+    }
+
+    @Override
+    public void route(String newRoute,
+                      boolean replace) {
+      this.routes.add((replace ? "replace:" : "push:") + newRoute);
+    }
+
+    @Override
+    public void initialize(ShellConfiguration shellConfiguration) {
+    }
+
+    @Override
+    public void updateTitle(String title) {
+    }
+
+    @Override
+    public void updateMetaNameContent(String name,
+                                      String content) {
+    }
+
+    @Override
+    public void updateMetaPropertyContent(String property,
+                                          String content) {
+    }
+
+    @Override
+    public String decode(String route) {
+      return route;
+    }
+
+    @Override
+    public void setCustomAlertPresenter(IsCustomAlertPresenter presenter) {
+    }
+
+    @Override
+    public void setCustomConfirmPresenter(IsCustomConfirmPresenter presenter) {
+    }
+
+    @Override
+    public boolean isUsingCommitMode() {
+      return this.commitMode;
+    }
+
+    @Override
+    public void commit(NaluDomCommit commit,
+                       CommitCallback callback) {
+      // the commit is applied with the next frame
+      this.commits.add(() -> {
+        commit.getHiddenElements()
+              .forEach(toggle -> this.hide(toggle.getSelector(),
+                                           toggle.getAsElement()));
+        commit.getRemovedSelectors()
+              .forEach(this::remove);
+        commit.getShownElements()
+              .forEach(toggle -> this.show(toggle.getSelector(),
+                                           toggle.getAsElement()));
+        commit.getAttachments()
+              .forEach(attachment -> attachment.setAttached(this.attach(attachment.getSelector(),
+                                                                        attachment.getAsElement())));
+        callback.onCommitted();
+      });
+    }
+
+    @Override
+    public boolean isUsingVisibilityToggle() {
+      return this.visibilityToggle;
+    }
+
+    @Override
+    public void hide(String selector,
+                     Object asElement) {
+      this.hidden.add(asElement);
+    }
+
+    @Override
+    public void show(String selector,
+                     Object asElement) {
+      this.hidden.remove(asElement);
+    }
+
+    @Override
+    public void remove(String selector,
+                       Object asElement) {
+      this.hidden.remove(asElement);
+      this.dom.values()
+              .forEach(list -> list.remove(asElement));
+    }
+
+  }
+
+  static class TestFilter
+      implements IsFilter {
+
+    private final String route;
+
+    private final String redirectTo;
+
+    TestFilter(String route,
+               String redirectTo) {
+      this.route = route;
+      this.redirectTo = redirectTo;
+    }
+
+    @Override
+    public boolean filter(String route,
+                          String... params) {
+      return !this.route.equals(route);
+    }
+
+    @Override
+    public String redirectTo() {
+      return this.redirectTo;
+    }
+
+    @Override
+    public String[] parameters() {
+      return new String[0];
+    }
+
+  }
+
+  /**
+   * Lazy module, that routes the lazy route to the controller of route01.
+   */
+  class TestModule
+      implements IsModule<IsModuleContext> {
+
+    private final String lazyRoute;
+
+    TestModule(String lazyRoute) {
+      this.lazyRoute = lazyRoute;
+    }
+
+    @Override
+    public void loadModule(RouterConfiguration routeConfiguration) {
+    }
+
+    @Override
+    public List<ShellConfig> getShellConfigs() {
+      return new ArrayList<>();
+    }
+
+    @Override
+    public List<RouteConfig> getRouteConfigs() {
+      return Collections.singletonList(new RouteConfig("/mockShell/" + this.lazyRoute,
+                                                       new ArrayList<>(),
+                                                       "content",
+                                                       prefix + "route01"));
+    }
+
+    @Override
+    public IsRouteMatcher getRouteMatcher() {
+      return (parts, usingColonForParametersInUrl) -> parts.length == 2 && this.lazyRoute.equals(parts[1]) ? 0 : IsRouteMatcher.NO_MATCH;
+    }
+
+    @Override
+    public List<CompositeControllerReference> getCompositeReferences() {
+      return new ArrayList<>();
+    }
+
+  }
+
+  class TestShellCreator
+      extends AbstractShellCreator<IsContext> {
+
+    private final String shellClassName;
+
+    TestShellCreator(Router router,
+                     SimpleEventBus eventBus,
+                     String shellClassName) {
+      super(router,
+            null,
+            eventBus);
+      this.shellClassName = shellClassName;
+    }
+
+    @Override
+    public ShellInstance create() {
+      String name = this.shellClassName.substring(prefix.length());
+      shellEvents.add("create:" + name);
+      TestShell shell = new TestShell(name);
+      shells.put(name,
+                 shell);
+      shell.setShellClassName(this.shellClassName);
+      shell.setRouter(this.router);
+      shell.setEventBus(this.eventBus);
+      ShellInstance shellInstance = new ShellInstance();
+      shellInstance.setShellClassName(shell.getShellClassName());
+      shellInstance.setShell(shell);
+      return shellInstance;
+    }
+
+    @Override
+    public void onFinishCreating(Object object) {
+    }
+
+  }
+
+  class TestShell
+      extends AbstractShell<IsContext> {
+
+    private final String name;
+
+    TestShell(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public void bind(ShellLoader loader) {
+      if (cachedShells.contains(this.name)) {
+        this.router.storeInCache(this);
+      }
+      loader.continueLoading();
+    }
+
+    @Override
+    public void attachShell() {
+      shellEvents.add("attach:" + this.name);
+    }
+
+    @Override
+    public void detachShell() {
+      shellEvents.add("detach:" + this.name);
+    }
+
+  }
+
+  class TestControllerCreator
+      extends AbstractControllerCreator<IsContext> {
+
+    private final RouteConfig routeConfig;
+
+    TestControllerCreator(Router router,
+                          SimpleEventBus eventBus,
+                          RouteConfig routeConfig) {
+      super(router,
+            null,
+            eventBus);
+      this.routeConfig = routeConfig;
+    }
+
+    @Override
+    public ControllerInstance create() {
+      String name = this.routeConfig.getClassName()
+                                    .substring(prefix.length());
+      ControllerInstance controllerInstance = this.createController(this.routeConfig.getClassName(),
+                                                                    this.routeConfig.getRoute(),
+                                                                    this.routeConfig.getSelector(),
+                                                                    () -> new TestController(name));
+      if (!controllerInstance.isCached()) {
+        TestComponent component = new TestComponent(name);
+        component.setController(controllerInstance.getController());
+        ((TestController) controllerInstance.getController()).setComponent(component);
+        this.finishCreating(controllerInstance.getController(),
+                            TestComponent.class.getName(),
+                            false,
+                            this.routeConfig.getRoute());
+      }
+      return controllerInstance;
+    }
+
+    @Override
+    public void onFinishCreating(Object object) {
+    }
+
+    @Override
+    public void setParameter(Object object,
+                             String... params) {
+    }
+
+  }
+
+  class TestController
+      extends AbstractComponentController<IsContext, TestComponent, String> {
+
+    private final String name;
+
+    TestController(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public void start() {
+      events.add("start:" + this.name);
+      if (cachedRoutes.contains(this.name)) {
+        this.router.storeInCache(this);
+      }
+    }
+
+    @Override
+    public void stop() {
+      events.add("stop:" + this.name);
+    }
+
+  }
+
+  static class TestComponent
+      extends AbstractComponent<IsComponent.Controller, String> {
+
+    private final String name;
+
+    TestComponent(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public void render() {
+      this.initElement(this.name);
+    }
+
+  }
+
+  class TestCompositeCreator
+      extends AbstractCompositeCreator<IsContext> {
+
+    private final String compositeClassName;
+
+    TestCompositeCreator(Router router,
+                         SimpleEventBus eventBus,
+                         String compositeClassName) {
+      super(router,
+            null,
+            eventBus);
+      this.compositeClassName = compositeClassName;
+    }
+
+    @Override
+    public CompositeInstance create(String parentControllerClassName) {
+      String name = this.compositeClassName.substring(prefix.length());
+      return this.createComposite(parentControllerClassName,
+                                  this.compositeClassName,
+                                  TestCompositeComponent.class.getName(),
+                                  false,
+                                  () -> new TestComposite(name),
+                                  composite -> composite.setComponent(new TestCompositeComponent(name)));
+    }
+
+    @Override
+    public void setParameter(Object object,
+                             String... params) {
+    }
+
+  }
+
+  class TestComposite
+      extends AbstractCompositeController<IsContext, TestCompositeComponent, String> {
+
+    private final String name;
+
+    TestComposite(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public void bind(CompositeLoader loader) {
+      if (asyncComposites.contains(this.name)) {
+        pendingBinds.add(loader);
+      } else {
+        loader.continueLoading();
+      }
+    }
+
+    @Override
+    public void start() {
+      events.add("start:" + this.name);
+    }
+
+    @Override
+    public void stop() {
+      events.add("stop:" + this.name);
+    }
+
+  }
+
+  static class TestCompositeComponent
+      extends AbstractCompositeComponent<IsCompositeComponent.Controller, String> {
+
+    private final String name;
+
+    TestCompositeComponent(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public void render() {
+      this.initElement(this.name);
+    }
+
+  }
+
   interface IsPluginJUnit
       extends IsNaluProcessorPlugin {
 
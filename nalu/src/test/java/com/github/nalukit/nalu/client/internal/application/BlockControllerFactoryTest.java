@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import com.github.nalukit.nalu.client.component.AbstractBlockComponentController;
+import com.github.nalukit.nalu.client.component.IsBlockComponent;
+import com.github.nalukit.nalu.client.component.IsShowBlockCondition;
+import com.github.nalukit.nalu.client.context.IsContext;
+import com.github.nalukit.nalu.client.event.RouterStateEvent;
+import com.github.nalukit.nalu.client.event.RouterStateEvent.RouterState;
+import org.gwtproject.event.shared.SimpleEventBus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BlockControllerFactoryTest {
+
+  private BlockControllerFactory factory;
+
+  private SimpleEventBus eventBus;
+
+  private List<String> events;
+
+  private AtomicInteger created;
+
+  @BeforeEach
+  void before() {
+    this.factory = new BlockControllerFactory();
+    this.eventBus = new SimpleEventBus();
+    this.factory.register(this.eventBus);
+    this.events = new ArrayList<>();
+    this.created = new AtomicInteger();
+  }
+
+  @Test
+  void testBlockIsNotCreatedOnRegistration() {
+    this.factory.registerBlockController("block01",
+                                         () -> new TestCreator((route, params) -> true),
+                                         false);
+    Assertions.assertEquals(0,
+                            this.created.get());
+    this.fire(RouterState.START_ROUTING,
+              "/shell/route01");
+    Assertions.assertEquals(0,
+                            this.created.get());
+  }
+
+  @Test
+  void testBlockIsCreatedOnFirstShow() {
+    this.factory.registerBlockController("block01",
+                                         () -> new TestCreator((route, params) -> "/shell/route02".equals(route)),
+                                         false);
+    this.fire(RouterState.ROUTING_DONE,
+              "/shell/route01");
+    Assertions.assertEquals(0,
+                            this.created.get());
+    this.fire(RouterState.ROUTING_DONE,
+              "/shell/route02");
+    Assertions.assertEquals(1,
+                            this.created.get());
+    Assertions.assertEquals(Arrays.asList("append",
+                                          "hide",
+                                          "onBeforeShow",
+                                          "show"),
+                            this.events);
+  }
+
+  @Test
+  void testBlockIsReused() {
+    this.factory.registerBlockController("block01",
+                                         () -> new TestCreator((route, params) -> "/shell/route02".equals(route)),
+                                         false);
+    this.fire(RouterState.ROUTING_DONE,
+              "/shell/route02");
+    this.fire(RouterState.ROUTING_DONE,
+              "/shell/route01");
+    this.fire(RouterState.ROUTING_DONE,
+              "/shell/route02");
+    Assertions.assertEquals(1,
+                            this.created.get());
+    Assertions.assertEquals(Arrays.asList("append",
+                                          "hide",
+                                          "onBeforeShow",
+                                          "show",
+                                          "onBeforeHide",
+                                          "hide",
+                                          "onBeforeShow",
+                                          "show"),
+                            this.events);
+  }
+
+  @Test
+  void testPreloadCreatesHiddenBlockOnce() {
+    this.factory.registerBlockController("block01",
+                                         () -> new TestCreator((route, params) -> "/shell/route02".equals(route)),
+                                         true);
+    this.factory.preload();
+    this.factory.preload();
+    Assertions.assertEquals(1,
+                            this.created.get());
+    Assertions.assertEquals(Arrays.asList("append",
+                                          "hide"),
+                            this.events);
+    this.fire(RouterState.ROUTING_DONE,
+              "/shell/route02");
+    Assertions.assertEquals(1,
+                            this.created.get());
+  }
+
+  private void fire(RouterState state,
+                    String route) {
+    this.eventBus.fireEvent(new RouterStateEvent(state,
+                                                 route,
+                                                 new String[0]));
+  }
+
+  class TestCreator
+      implements IsBlockControllerCreator {
+
+    private final IsShowBlockCondition condition;
+
+    TestCreator(IsShowBlockCondition condition) {
+      this.condition = condition;
+    }
+
+    @Override
+    public BlockControllerInstance create() {
+      created.incrementAndGet();
+      BlockControllerInstance blockControllerInstance = new BlockControllerInstance();
+      blockControllerInstance.setBlockControllerClassName("TestBlockController");
+      blockControllerInstance.setController(new TestBlockController());
+      return blockControllerInstance;
+    }
+
+    @Override
+    public IsShowBlockCondition createCondition() {
+      return this.condition;
+    }
+
+  }
+
+  class TestBlockController
+      extends AbstractBlockComponentController<IsContext, IsBlockComponent<?>> {
+
+    @Override
+    public void append() {
+      events.add("append");
+    }
+
+    @Override
+    public void show() {
+      events.add("show");
+    }
+
+    @Override
+    public void hide() {
+      events.add("hide");
+    }
+
+    @Override
+    public void onBeforeShow() {
+      events.add("onBeforeShow");
+    }
+
+    @Override
+    public void onBeforeHide() {
+      events.add("onBeforeHide");
+    }
+
+  }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import com.github.nalukit.nalu.client.component.AbstractCompositeController;
+import com.github.nalukit.nalu.client.component.IsComposite.CompositeLoader;
+import com.github.nalukit.nalu.client.component.IsCompositeComponent;
+import com.github.nalukit.nalu.client.context.IsContext;
+import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CompositeFactoryTest {
+
+  @Test
+  void testBindWithoutCompositesFinishesImmediately() {
+    AtomicInteger finished = new AtomicInteger();
+    CompositeFactory.get()
+                    .bind(Collections.emptyList(),
+                          new TestCallback(finished,
+                                           new AtomicInteger()));
+    Assertions.assertEquals(1,
+                            finished.get());
+  }
+
+  @Test
+  void testCompositesAreBoundAtTheSameTime() {
+    List<CompositeLoader> loaders = new ArrayList<>();
+    AtomicInteger finished = new AtomicInteger();
+    CompositeFactory.get()
+                    .bind(Arrays.asList(new TestComposite(loaders),
+                                        new TestComposite(loaders),
+                                        new TestComposite(loaders)),
+                          new TestCallback(finished,
+                                           new AtomicInteger()));
+    // all composites are bound before any of them has finished
+    Assertions.assertEquals(3,
+                            loaders.size());
+    loaders.get(2)
+           .continueLoading();
+    loaders.get(0)
+           .continueLoading();
+    loaders.get(0)
+           .continueLoading();
+    Assertions.assertEquals(0,
+                            finished.get());
+    loaders.get(1)
+           .continueLoading();
+    Assertions.assertEquals(1,
+                            finished.get());
+  }
+
+  @Test
+  void testInterruptedBindDoesNotFinish() {
+    List<CompositeLoader> loaders = new ArrayList<>();
+    AtomicInteger finished = new AtomicInteger();
+    AtomicInteger interrupted = new AtomicInteger();
+    TestComposite interrupting = new TestComposite(loaders) {
+
+      @Override
+      public void bind(CompositeLoader loader)
+          throws RoutingInterceptionException {
+        throw new RoutingInterceptionException("TestComposite",
+                                               "/shell/error",
+                                               new String[0]);
+      }
+
+    };
+    CompositeFactory.get()
+                    .bind(Arrays.asList(new TestComposite(loaders),
+                                        interrupting),
+                          new TestCallback(finished,
+                                           interrupted));
+    loaders.get(0)
+           .continueLoading();
+    Assertions.assertEquals(1,
+                            interrupted.get());
+    Assertions.assertEquals(0,
+                            finished.get());
+  }
+
+  static class TestComposite
+      extends AbstractCompositeController<IsContext, IsCompositeComponent<?, String>, String> {
+
+    private final List<CompositeLoader> loaders;
+
+    TestComposite(List<CompositeLoader> loaders) {
+      this.loaders = loaders;
+    }
+
+    @Override
+    public void bind(CompositeLoader loader)
+        throws RoutingInterceptionException {
+      this.loaders.add(loader);
+    }
+
+  }
+
+  static class TestCallback
+      implements CompositeBindCallback {
+
+    private final AtomicInteger finished;
+
+    private final AtomicInteger interrupted;
+
+    TestCallback(AtomicInteger finished,
+                 AtomicInteger interrupted) {
+      this.finished = finished;
+      this.interrupted = interrupted;
+    }
+
+    @Override
+    public void onRoutingInterceptionException(RoutingInterceptionException e) {
+      this.interrupted.incrementAndGet();
+    }
+
+    @Override
+    public void onFinish() {
+      this.finished.incrementAndGet();
+    }
+
+  }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import com.github.nalukit.nalu.client.component.IsLoadCompositeCondition;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ControllerCompositeConditionFactoryTest {
+
+  private ControllerCompositeConditionFactory factory;
+
+  private List<TestCondition> created;
+
+  @BeforeEach
+  void before() {
+    this.factory = new ControllerCompositeConditionFactory();
+    this.created = new ArrayList<>();
+  }
+
+  @Test
+  void testConditionIsCreatedOnFirstUse() {
+    int conditionId = this.factory.registerCondition("Controller01",
+                                                     "Composite01",
+                                                     "TestCondition",
+                                                     this::createCondition);
+    Assertions.assertTrue(this.created.isEmpty());
+    Assertions.assertTrue(this.factory.loadComposite(conditionId,
+                                                     "/shell/route01"));
+    Assertions.assertTrue(this.factory.loadComposite("Controller01",
+                                                     "Composite01",
+                                                     "/shell/route01"));
+    Assertions.assertEquals(1,
+                            this.created.size());
+    Assertions.assertEquals(2,
+                            this.created.get(0).calls);
+  }
+
+  @Test
+  void testConditionIsSharedByCompositesOfController() {
+    int conditionId01 = this.factory.registerCondition("Controller01",
+                                                       "Composite01",
+                                                       "TestCondition",
+                                                       this::createCondition);
+    int conditionId02 = this.factory.registerCondition("Controller01",
+                                                       "Composite02",
+                                                       "TestCondition",
+                                                       this::createCondition);
+    this.factory.loadComposite(conditionId01,
+                               "/shell/route01");
+    this.factory.loadComposite(conditionId02,
+                               "/shell/route01");
+    Assertions.assertNotEquals(conditionId01,
+                               conditionId02);
+    Assertions.assertEquals(1,
+                            this.created.size());
+    Assertions.assertEquals(2,
+                            this.created.get(0).calls);
+  }
+
+  @Test
+  void testConditionIsNotSharedBetweenControllers() {
+    int conditionId01 = this.factory.registerCondition("Controller01",
+                                                       "Composite01",
+                                                       "TestCondition",
+                                                       this::createCondition);
+    int conditionId02 = this.factory.registerCondition("Controller02",
+                                                       "Composite01",
+                                                       "TestCondition",
+                                                       this::createCondition);
+    this.factory.loadComposite(conditionId01,
+                               "/shell/route01");
+    this.factory.loadComposite(conditionId02,
+                               "/shell/route01");
+    Assertions.assertEquals(2,
+                            this.created.size());
+  }
+
+  @Test
+  void testUnknownCondition() {
+    Assertions.assertEquals(ControllerCompositeConditionFactory.NO_CONDITION,
+                            this.factory.getConditionId("Controller01",
+                                                        "Composite01"));
+    Assertions.assertFalse(this.factory.loadComposite("Controller01",
+                                                      "Composite01",
+                                                      "/shell/route01"));
+  }
+
+  private IsLoadCompositeCondition createCondition() {
+    TestCondition condition = new TestCondition();
+    this.created.add(condition);
+    return condition;
+  }
+
+  static class TestCondition
+      implements IsLoadCompositeCondition {
+
+    private int calls;
+
+    @Override
+    public boolean loadComposite(String route,
+                                 String... params) {
+      this.calls++;
+      return true;
+    }
+
+  }
+
+}
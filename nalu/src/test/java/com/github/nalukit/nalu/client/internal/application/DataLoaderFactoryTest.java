@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import com.github.nalukit.nalu.client.component.IsDataLoader;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class DataLoaderFactoryTest {
+
+  @Test
+  void testWithoutDataLoadersFinishesImmediately() {
+    DataLoaderFactory factory = new DataLoaderFactory();
+    Assertions.assertFalse(factory.hasDataLoaders());
+    AtomicInteger finished = new AtomicInteger();
+    factory.load(Collections.singletonList(Controller01.class.getName()),
+                 "/shell/route",
+                 new String[0],
+                 finished::incrementAndGet);
+    Assertions.assertEquals(1,
+                            finished.get());
+  }
+
+  @Test
+  void testAllLoadersStartBeforeJoin() {
+    DataLoaderFactory factory = this.createFactory();
+    List<IsDataLoader.DataLoader> started = new ArrayList<>();
+    IsDataLoader dataLoader = (route, params, loader) -> started.add(loader);
+    factory.register(Controller01.class,
+                     dataLoader);
+    factory.register(Composite01.class,
+                     (route, params, loader) -> started.add(loader));
+    Assertions.assertTrue(factory.hasDataLoaders());
+    AtomicInteger finished = new AtomicInteger();
+    factory.load(Arrays.asList(Controller01.class.getName(),
+                               Composite01.class.getName()),
+                 "/shell/route",
+                 new String[] { "1" },
+                 finished::incrementAndGet);
+    // both loaders are running at the same time
+    Assertions.assertEquals(2,
+                            started.size());
+    started.get(1)
+           .continueLoading();
+    Assertions.assertEquals(0,
+                            finished.get());
+    started.get(0)
+           .continueLoading();
+    Assertions.assertEquals(1,
+                            finished.get());
+  }
+
+  @Test
+  void testRepeatedContinueLoadingIsIgnored() {
+    DataLoaderFactory factory = this.createFactory();
+    List<IsDataLoader.DataLoader> started = new ArrayList<>();
+    factory.register(Controller01.class,
+                     (route, params, loader) -> started.add(loader));
+    factory.register(Controller02.class,
+                     (route, params, loader) -> started.add(loader));
+    AtomicInteger finished = new AtomicInteger();
+    factory.load(Arrays.asList(Controller01.class.getName(),
+                               Controller02.class.getName()),
+                 "/shell/route",
+                 new String[0],
+                 finished::incrementAndGet);
+    started.get(0)
+           .continueLoading();
+    started.get(0)
+           .continueLoading();
+    Assertions.assertEquals(0,
+                            finished.get());
+    started.get(1)
+           .continueLoading();
+    Assertions.assertEquals(1,
+                            finished.get());
+  }
+
+  @Test
+  void testSharedLoaderStartsOnce() {
+    DataLoaderFactory factory = this.createFactory();
+    AtomicInteger calls = new AtomicInteger();
+    IsDataLoader dataLoader = (route, params, loader) -> {
+      calls.incrementAndGet();
+      loader.continueLoading();
+    };
+    factory.register(Controller01.class,
+                     dataLoader);
+    factory.register(Composite01.class,
+                     dataLoader);
+    AtomicInteger finished = new AtomicInteger();
+    factory.load(Arrays.asList(Controller01.class.getName(),
+                               Composite01.class.getName()),
+                 "/shell/route",
+                 new String[0],
+                 finished::incrementAndGet);
+    Assertions.assertEquals(1,
+                            calls.get());
+    Assertions.assertEquals(1,
+                            finished.get());
+  }
+
+  @Test
+  void testLoaderOfUnknownClassNameIsNotStarted() {
+    DataLoaderFactory factory = new DataLoaderFactory();
+    AtomicInteger calls = new AtomicInteger();
+    factory.register(Controller01.class,
+                     (route, params, loader) -> calls.incrementAndGet());
+    AtomicInteger finished = new AtomicInteger();
+    factory.load(Collections.singletonList(Controller01.class.getName()),
+                 "/shell/route",
+                 new String[0],
+                 finished::incrementAndGet);
+    Assertions.assertEquals(0,
+                            calls.get());
+    Assertions.assertEquals(1,
+                            finished.get());
+  }
+
+  private DataLoaderFactory createFactory() {
+    DataLoaderFactory factory = new DataLoaderFactory();
+    factory.registerClass(Controller01.class.getName(),
+                          Controller01.class);
+    factory.registerClass(Controller02.class.getName(),
+                          Controller02.class);
+    factory.registerClass(Composite01.class.getName(),
+                          Composite01.class);
+    return factory;
+  }
+
+  static class Controller01 {
+  }
+
+  static class Controller02 {
+  }
+
+  static class Composite01 {
+  }
+
+}
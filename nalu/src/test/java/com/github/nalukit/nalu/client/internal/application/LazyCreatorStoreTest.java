@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LazyCreatorStoreTest {
+
+  @Test
+  void testRegisterAssignsDenseIds() {
+    LazyCreatorStore<String> store = new LazyCreatorStore<>();
+    Assertions.assertEquals(0,
+                            store.register("com.example.Controller01",
+                                           () -> "creator01"));
+    Assertions.assertEquals(1,
+                            store.register("com.example.Controller02",
+                                           () -> "creator02"));
+    Assertions.assertEquals(1,
+                            store.getId("com.example.Controller02"));
+    Assertions.assertEquals(LazyCreatorStore.NO_ID,
+                            store.getId("com.example.Controller03"));
+    Assertions.assertEquals("com.example.Controller01",
+                            store.getName(0));
+  }
+
+  @Test
+  void testReRegisterKeepsId() {
+    LazyCreatorStore<String> store = new LazyCreatorStore<>();
+    store.register("com.example.Controller01",
+                   () -> "creator01");
+    Assertions.assertEquals("creator01",
+                            store.get(0));
+    Assertions.assertEquals(0,
+                            store.register("com.example.Controller01",
+                                           () -> "creator01a"));
+    Assertions.assertEquals(1,
+                            store.size());
+    Assertions.assertEquals("creator01a",
+                            store.get("com.example.Controller01"));
+  }
+
+  @Test
+  void testCreatorIsCreatedOnceOnFirstUse() {
+    AtomicInteger counter = new AtomicInteger();
+    LazyCreatorStore<String> store = new LazyCreatorStore<>();
+    int id = store.register("com.example.Controller01",
+                            () -> "creator" + counter.incrementAndGet());
+    Assertions.assertEquals(0,
+                            counter.get());
+    Assertions.assertEquals("creator1",
+                            store.get(id));
+    Assertions.assertEquals("creator1",
+                            store.get("com.example.Controller01"));
+    Assertions.assertEquals(1,
+                            counter.get());
+  }
+
+  @Test
+  void testUnknownIds() {
+    LazyCreatorStore<String> store = new LazyCreatorStore<>();
+    Assertions.assertFalse(store.contains(LazyCreatorStore.NO_ID));
+    Assertions.assertFalse(store.contains(0));
+    Assertions.assertNull(store.get(5));
+    Assertions.assertNull(store.get("com.example.Controller01"));
+  }
+
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import com.github.nalukit.nalu.client.component.AbstractPopUpComponentController;
+import com.github.nalukit.nalu.client.component.IsPopUpComponent;
+import com.github.nalukit.nalu.client.component.event.ShowPopUpEvent;
+import com.github.nalukit.nalu.client.context.IsContext;
+import org.gwtproject.event.shared.SimpleEventBus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PopUpControllerFactoryTest {
+
+  private PopUpControllerFactory factory;
+
+  private SimpleEventBus eventBus;
+
+  private List<TestPopUpController> created;
+
+  private List<TestPopUpController> shown;
+
+  @BeforeEach
+  void before() {
+    this.factory = new PopUpControllerFactory();
+    this.eventBus = new SimpleEventBus();
+    this.factory.register(this.eventBus);
+    this.created = new ArrayList<>();
+    this.shown = new ArrayList<>();
+  }
+
+  @Test
+  void testReleasedInstanceIsReused() {
+    this.register("popUp01",
+                  1);
+    this.show("popUp01");
+    this.shown.get(0)
+              .release();
+    this.show("popUp01");
+    Assertions.assertEquals(1,
+                            this.created.size());
+    Assertions.assertSame(this.shown.get(0),
+                          this.shown.get(1));
+  }
+
+  @Test
+  void testPopUpWithoutReleaseUsesOneInstance() {
+    this.register("popUp01",
+                  1);
+    this.show("popUp01");
+    this.show("popUp01");
+    Assertions.assertEquals(1,
+                            this.created.size());
+    Assertions.assertSame(this.shown.get(0),
+                          this.shown.get(1));
+  }
+
+  @Test
+  void testShownInstanceIsNotReusedInFullPool() {
+    this.register("popUp01",
+                  2);
+    this.show("popUp01");
+    this.show("popUp01");
+    this.show("popUp01");
+    // the third instance is created in addition to the pool
+    Assertions.assertEquals(3,
+                            this.created.size());
+    Assertions.assertNotSame(this.shown.get(0),
+                             this.shown.get(2));
+    Assertions.assertNotSame(this.shown.get(1),
+                             this.shown.get(2));
+    // ... and disposed once it is released
+    this.shown.get(2)
+              .release();
+    Assertions.assertEquals(1,
+                            this.shown.get(2).disposed);
+    Assertions.assertTrue(this.shown.get(2).handlerRemoved[0]);
+    this.shown.get(0)
+              .release();
+    Assertions.assertEquals(0,
+                            this.shown.get(0).disposed);
+    this.show("popUp01");
+    Assertions.assertEquals(3,
+                            this.created.size());
+    Assertions.assertSame(this.shown.get(0),
+                          this.shown.get(3));
+  }
+
+  @Test
+  void testReleasingPopUpDoesNotReuseShownInstance() {
+    this.register("popUp01",
+                  1);
+    this.show("popUp01");
+    this.shown.get(0)
+              .release();
+    this.show("popUp01");
+    this.show("popUp01");
+    Assertions.assertEquals(2,
+                            this.created.size());
+    Assertions.assertNotSame(this.shown.get(1),
+                             this.shown.get(2));
+  }
+
+  @Test
+  void testLeastRecentlyReleasedInstanceIsDisposed() {
+    this.factory.setCacheSize(1);
+    this.register("popUp01",
+                  1);
+    this.register("popUp02",
+                  1);
+    this.show("popUp01");
+    this.show("popUp02");
+    this.shown.get(0)
+              .release();
+    this.shown.get(1)
+              .release();
+    Assertions.assertEquals(1,
+                            this.shown.get(0).disposed);
+    Assertions.assertTrue(this.shown.get(0).handlerRemoved[0]);
+    Assertions.assertEquals(0,
+                            this.shown.get(1).disposed);
+    // the disposed popup is created again ...
+    this.show("popUp01");
+    Assertions.assertEquals(3,
+                            this.created.size());
+    Assertions.assertNotSame(this.shown.get(0),
+                             this.shown.get(2));
+    // ... the cached one is reused
+    this.show("popUp02");
+    Assertions.assertEquals(3,
+                            this.created.size());
+    Assertions.assertSame(this.shown.get(1),
+                          this.shown.get(3));
+  }
+
+  private void register(String popUpName,
+                        int poolSize) {
+    this.factory.registerPopUpController(popUpName,
+                                         () -> () -> {
+                                           TestPopUpController controller = new TestPopUpController();
+                                           controller.setName(popUpName);
+                                           this.created.add(controller);
+                                           PopUpControllerInstance popUpControllerInstance = new PopUpControllerInstance();
+                                           popUpControllerInstance.setPopUpControllerClassName("TestPopUpController");
+                                           popUpControllerInstance.setController(controller);
+                                           return popUpControllerInstance;
+                                         },
+                                         false,
+                                         poolSize);
+  }
+
+  private void show(String popUpName) {
+    this.eventBus.fireEvent(ShowPopUpEvent.show(popUpName));
+  }
+
+  class TestPopUpController
+      extends AbstractPopUpComponentController<IsContext, IsPopUpComponent<?>> {
+
+    private final boolean[] handlerRemoved = new boolean[1];
+
+    private int disposed;
+
+    TestPopUpController() {
+      this.handlerRegistrations.add(() -> this.handlerRemoved[0] = true);
+    }
+
+    @Override
+    public void release() {
+      factory.release(this);
+    }
+
+    @Override
+    public void show() {
+      shown.add(this);
+    }
+
+    @Override
+    public void onDispose() {
+      this.disposed++;
+    }
+
+  }
+
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.module;
+
+import com.github.nalukit.nalu.client.context.module.IsModuleContext;
+import com.github.nalukit.nalu.client.internal.CompositeControllerReference;
+import com.github.nalukit.nalu.client.internal.module.LazyModuleFactory.LoadCallback;
+import com.github.nalukit.nalu.client.internal.module.LazyModuleFactory.ModuleCreatorCallback;
+import com.github.nalukit.nalu.client.internal.route.IsRouteMatcher;
+import com.github.nalukit.nalu.client.internal.route.RouteConfig;
+import com.github.nalukit.nalu.client.internal.route.RouterConfiguration;
+import com.github.nalukit.nalu.client.internal.route.ShellConfig;
+import com.github.nalukit.nalu.client.internal.route.ShellConfiguration;
+import com.github.nalukit.nalu.client.module.IsModule;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class LazyModuleFactoryTest {
+
+  private LazyModuleFactory factory;
+
+  private ShellConfiguration shellConfiguration;
+
+  private RouterConfiguration routerConfiguration;
+
+  private List<CompositeControllerReference> compositeControllerReferences;
+
+  private List<ModuleCreatorCallback> creatorCallbacks;
+
+  private int created;
+
+  @BeforeEach
+  void before() {
+    this.factory = new LazyModuleFactory();
+    this.shellConfiguration = new ShellConfiguration();
+    this.routerConfiguration = new RouterConfiguration();
+    this.compositeControllerReferences = new ArrayList<>();
+    this.factory.register(this.shellConfiguration,
+                          this.routerConfiguration,
+                          this.compositeControllerReferences);
+    this.creatorCallbacks = new ArrayList<>();
+    this.created = 0;
+    // the creator does not create the module until the loader has finished
+    this.factory.registerModule("com.example.LazyModule",
+                                new String[] { "/shell/lazy/" },
+                                callback -> this.creatorCallbacks.add(callback));
+  }
+
+  @Test
+  void testIsLazyRoute() {
+    Assertions.assertTrue(this.factory.isLazyRoute("/shell/lazy"));
+    Assertions.assertTrue(this.factory.isLazyRoute("shell/lazy/detail/1"));
+    Assertions.assertFalse(this.factory.isLazyRoute("/shell/lazyness"));
+    Assertions.assertFalse(this.factory.isLazyRoute("/shell/other"));
+  }
+
+  @Test
+  void testRouteOutsideLazyModuleContinuesImmediately() {
+    TestLoadCallback callback = new TestLoadCallback();
+    this.factory.load("/shell/other",
+                      callback);
+    Assertions.assertEquals(1,
+                            callback.success);
+    Assertions.assertTrue(this.creatorCallbacks.isEmpty());
+  }
+
+  @Test
+  void testModuleIsCreatedOnceTheLoaderHasFinished() {
+    TestLoadCallback callback = new TestLoadCallback();
+    this.factory.load("/shell/lazy/detail",
+                      callback);
+    Assertions.assertEquals(1,
+                            this.creatorCallbacks.size());
+    Assertions.assertEquals(0,
+                            this.created);
+    Assertions.assertEquals(0,
+                            callback.success);
+    this.creatorCallbacks.get(0)
+                         .onSuccess(new TestModule());
+    Assertions.assertEquals(1,
+                            this.created);
+    Assertions.assertEquals(1,
+                            callback.success);
+    // the configuration of the module is merged
+    Assertions.assertEquals(1,
+                            this.shellConfiguration.getShells()
+                                                   .size());
+    Assertions.assertNotNull(this.routerConfiguration.matchRoute("/shell/lazy/detail"));
+    Assertions.assertEquals(1,
+                            this.compositeControllerReferences.size());
+    // a loaded module is no longer lazy
+    Assertions.assertFalse(this.factory.isLazyRoute("/shell/lazy/detail"));
+  }
+
+  @Test
+  void testLoadingModuleResumesLatestRoutingOnly() {
+    TestLoadCallback first = new TestLoadCallback();
+    TestLoadCallback second = new TestLoadCallback();
+    this.factory.load("/shell/lazy/detail",
+                      first);
+    this.factory.load("/shell/lazy/list",
+                      second);
+    // the module is loaded once
+    Assertions.assertEquals(1,
+                            this.creatorCallbacks.size());
+    this.creatorCallbacks.get(0)
+                         .onSuccess(new TestModule());
+    Assertions.assertEquals(0,
+                            first.success);
+    Assertions.assertEquals(1,
+                            second.success);
+  }
+
+  @Test
+  void testFailedLoadCanBeRetried() {
+    TestLoadCallback callback = new TestLoadCallback();
+    this.factory.load("/shell/lazy/detail",
+                      callback);
+    this.creatorCallbacks.get(0)
+                         .onFailure(new RuntimeException("network error"));
+    Assertions.assertEquals(1,
+                            callback.failure);
+    Assertions.assertEquals(0,
+                            this.created);
+    Assertions.assertTrue(this.factory.isLazyRoute("/shell/lazy/detail"));
+    this.factory.load("/shell/lazy/detail",
+                      callback);
+    Assertions.assertEquals(2,
+                            this.creatorCallbacks.size());
+  }
+
+  class TestModule
+      implements IsModule<IsModuleContext> {
+
+    TestModule() {
+      created++;
+    }
+
+    @Override
+    public void loadModule(RouterConfiguration routeConfiguration) {
+    }
+
+    @Override
+    public List<ShellConfig> getShellConfigs() {
+      return Collections.singletonList(new ShellConfig("/shell",
+                                                       "com.example.Shell"));
+    }
+
+    @Override
+    public List<RouteConfig> getRouteConfigs() {
+      return Collections.singletonList(new RouteConfig("/shell/lazy/detail",
+                                                       new ArrayList<>(),
+                                                       "content",
+                                                       "com.example.DetailController"));
+    }
+
+    @Override
+    public IsRouteMatcher getRouteMatcher() {
+      return (parts, usingColonForParametersInUrl) -> parts.length == 3 ? 0 : IsRouteMatcher.NO_MATCH;
+    }
+
+    @Override
+    public List<CompositeControllerReference> getCompositeReferences() {
+      return Collections.singletonList(new CompositeControllerReference("com.example.DetailController",
+                                                                        "composite",
+                                                                        "com.example.Composite",
+                                                                        "selector",
+                                                                        false));
+    }
+
+  }
+
+  static class TestLoadCallback
+      implements LoadCallback {
+
+    private int success;
+
+    private int failure;
+
+    @Override
+    public void onSuccess() {
+      this.success++;
+    }
+
+    @Override
+    public void onFailure(Throwable caught) {
+      this.failure++;
+    }
+
+  }
+
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.plugin.IsVisibilityTrigger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class LazyCompositeSchedulerTest {
+
+  @Test
+  void testCompositeIsLoadedOnceVisible() {
+    HeadlessTrigger trigger = new HeadlessTrigger();
+    LazyCompositeScheduler scheduler = new LazyCompositeScheduler(trigger);
+    Object controller = new Object();
+    List<String> loaded = new ArrayList<>();
+    scheduler.schedule(controller,
+                       "composite01",
+                       "selector01",
+                       () -> loaded.add("composite01"));
+    Assertions.assertTrue(loaded.isEmpty());
+    Assertions.assertTrue(trigger.isObserved("selector01"));
+    trigger.show("selector01");
+    Assertions.assertEquals(1,
+                            loaded.size());
+    Assertions.assertFalse(trigger.isObserved("selector01"));
+    Assertions.assertFalse(scheduler.isScheduled(controller,
+                                                 "composite01"));
+  }
+
+  @Test
+  void testCompositeIsLoadedOnRequestOnlyOnce() {
+    HeadlessTrigger trigger = new HeadlessTrigger();
+    LazyCompositeScheduler scheduler = new LazyCompositeScheduler(trigger);
+    Object controller = new Object();
+    List<String> loaded = new ArrayList<>();
+    scheduler.schedule(controller,
+                       "composite01",
+                       "selector01",
+                       () -> loaded.add("composite01"));
+    Assertions.assertTrue(scheduler.load(controller,
+                                         "composite01"));
+    Assertions.assertFalse(scheduler.load(controller,
+                                          "composite01"));
+    trigger.show("selector01");
+    Assertions.assertEquals(1,
+                            loaded.size());
+    Assertions.assertFalse(trigger.isObserved("selector01"));
+  }
+
+  @Test
+  void testCancelStopsObserving() {
+    HeadlessTrigger trigger = new HeadlessTrigger();
+    LazyCompositeScheduler scheduler = new LazyCompositeScheduler(trigger);
+    Object controller01 = new Object();
+    Object controller02 = new Object();
+    List<String> loaded = new ArrayList<>();
+    scheduler.schedule(controller01,
+                       "composite01",
+                       "selector01",
+                       () -> loaded.add("composite01"));
+    scheduler.schedule(controller02,
+                       "composite02",
+                       "selector02",
+                       () -> loaded.add("composite02"));
+    scheduler.cancel(controller01);
+    Assertions.assertFalse(trigger.isObserved("selector01"));
+    Assertions.assertFalse(scheduler.load(controller01,
+                                          "composite01"));
+    trigger.show("selector02");
+    Assertions.assertEquals(1,
+                            loaded.size());
+    Assertions.assertEquals("composite02",
+                            loaded.get(0));
+  }
+
+  @Test
+  void testCancelKeepsObservationOfOtherOwnerWithSameSelector() {
+    HeadlessTrigger trigger = new HeadlessTrigger();
+    LazyCompositeScheduler scheduler = new LazyCompositeScheduler(trigger);
+    Object controller01 = new Object();
+    Object controller02 = new Object();
+    List<String> loaded = new ArrayList<>();
+    scheduler.schedule(controller01,
+                       "composite01",
+                       "selector01",
+                       () -> loaded.add("composite01"));
+    scheduler.schedule(controller02,
+                       "composite02",
+                       "selector01",
+                       () -> loaded.add("composite02"));
+    // the selector is observed for the second controller
+    scheduler.cancel(controller01);
+    Assertions.assertTrue(trigger.isObserved("selector01"));
+    trigger.show("selector01");
+    Assertions.assertEquals(1,
+                            loaded.size());
+    Assertions.assertEquals("composite02",
+                            loaded.get(0));
+  }
+
+  @Test
+  void testLoadKeepsObservationOfOtherOwnerWithSameSelector() {
+    HeadlessTrigger trigger = new HeadlessTrigger();
+    LazyCompositeScheduler scheduler = new LazyCompositeScheduler(trigger);
+    Object controller01 = new Object();
+    Object controller02 = new Object();
+    List<String> loaded = new ArrayList<>();
+    scheduler.schedule(controller01,
+                       "composite01",
+                       "selector01",
+                       () -> loaded.add("composite01"));
+    scheduler.schedule(controller02,
+                       "composite02",
+                       "selector01",
+                       () -> loaded.add("composite02"));
+    Assertions.assertTrue(scheduler.load(controller01,
+                                         "composite01"));
+    Assertions.assertTrue(trigger.isObserved("selector01"));
+    // canceling the observing controller ends the observation
+    scheduler.cancel(controller02);
+    Assertions.assertFalse(trigger.isObserved("selector01"));
+    Assertions.assertEquals(1,
+                            loaded.size());
+  }
+
+  @Test
+  void testWithoutTriggerLoadsOnRequest() {
+    LazyCompositeScheduler scheduler = new LazyCompositeScheduler(null);
+    Object controller = new Object();
+    List<String> loaded = new ArrayList<>();
+    scheduler.schedule(controller,
+                       "composite01",
+                       "selector01",
+                       () -> loaded.add("composite01"));
+    Assertions.assertTrue(loaded.isEmpty());
+    Assertions.assertTrue(scheduler.load(controller,
+                                         "composite01"));
+    Assertions.assertEquals(1,
+                            loaded.size());
+  }
+
+  @Test
+  void testTriggerCallingImmediatelyLoadsOnSchedule() {
+    IsVisibilityTrigger trigger = new IsVisibilityTrigger() {
+
+      @Override
+      public void observe(String selector,
+                          VisibilityHandler handler) {
+        handler.onVisible();
+      }
+
+      @Override
+      public void unobserve(String selector) {
+      }
+
+    };
+    LazyCompositeScheduler scheduler = new LazyCompositeScheduler(trigger);
+    Object controller = new Object();
+    List<String> loaded = new ArrayList<>();
+    scheduler.schedule(controller,
+                       "composite01",
+                       "selector01",
+                       () -> loaded.add("composite01"));
+    Assertions.assertEquals(1,
+                            loaded.size());
+    Assertions.assertFalse(scheduler.isScheduled(controller,
+                                                 "composite01"));
+  }
+
+  /**
+   * Visibility trigger without a browser: selectors get visible by calling show.
+   */
+  static class HeadlessTrigger
+      implements IsVisibilityTrigger {
+
+    private final Map<String, VisibilityHandler> handlers = new HashMap<>();
+
+    @Override
+    public void observe(String selector,
+                        VisibilityHandler handler) {
+      this.handlers.put(selector,
+                        handler);
+    }
+
+    @Override
+    public void unobserve(String selector) {
+      this.handlers.remove(selector);
+    }
+
+    boolean isObserved(String selector) {
+      return this.handlers.containsKey(selector);
+    }
+
+    void show(String selector) {
+      VisibilityHandler handler = this.handlers.remove(selector);
+      if (handler != null) {
+        handler.onVisible();
+      }
+    }
+
+  }
+
+}
@@ -1,5 +1,7 @@
 package com.github.nalukit.nalu.client.internal.route;
 
+import com.github.nalukit.nalu.client.internal.PropertyFactory;
+import com.github.nalukit.nalu.client.model.NaluRoute;
 import org.junit.Assert;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -540,4 +542,41 @@ public class RouteParserTest {
                       is("application/person/1/detail"));
   }
 
-}
\ No newline at end of file
+  @Test
+  void generateNaluRoute01() {
+    this.verifyNaluRoute(false);
+  }
+
+  @Test
+  void generateNaluRoute02() {
+    this.verifyNaluRoute(true);
+  }
+
+  private void verifyNaluRoute(boolean usingColonForParametersInUrl) {
+    PropertyFactory.get()
+                   .register("/application/person/list",
+                             true,
+                             true,
+                             usingColonForParametersInUrl,
+                             false);
+    try {
+      // the way the generated routes class creates the route "/application/person/:id/detail/:tab"
+      NaluRoute route = new NaluRoute("/application/person/*/detail/*",
+                                      new String[] { "1/2",
+                                                     "address" },
+                                      "application/person/" + NaluRoute.parameter("1/2") + "/detail/" + NaluRoute.parameter("address"));
+      Assert.assertThat(route.getHash(),
+                        is(RouteParser.get()
+                                      .generate(route.getRoute(),
+                                                route.getParameters())));
+    } finally {
+      PropertyFactory.get()
+                     .register("/application/person/list",
+                               true,
+                               true,
+                               false,
+                               false);
+    }
+  }
+
+}
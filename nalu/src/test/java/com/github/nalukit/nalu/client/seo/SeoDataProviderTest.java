@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2018 - 2020 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.seo;
+
+import com.github.nalukit.nalu.client.internal.route.ShellConfiguration;
+import com.github.nalukit.nalu.client.plugin.IsCustomAlertPresenter;
+import com.github.nalukit.nalu.client.plugin.IsCustomConfirmPresenter;
+import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SeoDataProviderTest {
+
+  private SeoDataProvider seoDataProvider;
+
+  private List<String> updates;
+
+  @BeforeEach
+  void before() {
+    this.seoDataProvider = new SeoDataProvider();
+    this.updates = new ArrayList<>();
+    this.seoDataProvider.register(new TestPlugin());
+  }
+
+  @Test
+  void testChangedValuesAreApplied() {
+    this.seoDataProvider.setTitle("Title 01");
+    this.seoDataProvider.setDescription("Description 01");
+    this.seoDataProvider.setOgTitle("OG Title 01");
+    this.seoDataProvider.update();
+    Assertions.assertEquals(Arrays.asList("title=Title 01",
+                                          "name:description=Description 01",
+                                          "property:og:title=OG Title 01"),
+                            this.updates);
+  }
+
+  @Test
+  void testUnchangedValuesAreSkipped() {
+    this.seoDataProvider.setTitle("Title 01");
+    this.seoDataProvider.setDescription("Description 01");
+    this.seoDataProvider.update();
+    this.updates.clear();
+    // same values: nothing to update
+    this.seoDataProvider.setTitle("Title 01");
+    this.seoDataProvider.setDescription("Description 01");
+    this.seoDataProvider.update();
+    Assertions.assertEquals(Collections.emptyList(),
+                            this.updates);
+    // only the changed value is updated
+    this.seoDataProvider.setTitle("Title 01");
+    this.seoDataProvider.setDescription("Description 02");
+    this.seoDataProvider.update();
+    Assertions.assertEquals(Collections.singletonList("name:description=Description 02"),
+                            this.updates);
+  }
+
+  @Test
+  void testValueNotSetKeepsAppliedValue() {
+    this.seoDataProvider.setTitle("Title 01");
+    this.seoDataProvider.update();
+    this.updates.clear();
+    // the data is cleared after an update: a routing not setting the title keeps the applied title
+    this.seoDataProvider.update();
+    Assertions.assertEquals(Collections.emptyList(),
+                            this.updates);
+    // ... and setting the applied title again does not update it
+    this.seoDataProvider.setTitle("Title 01");
+    this.seoDataProvider.update();
+    Assertions.assertEquals(Collections.emptyList(),
+                            this.updates);
+  }
+
+  @Test
+  void testImportantValueReplacesValue() {
+    this.seoDataProvider.setTitle("Title 01");
+    this.seoDataProvider.setTitle("Title 02");
+    this.seoDataProvider.setTwitterCard("Card 01");
+    this.seoDataProvider.setTwitterCard("Card 02",
+                                        true);
+    this.seoDataProvider.update();
+    Assertions.assertEquals(Arrays.asList("title=Title 01",
+                                          "name:twitter:card=Card 02"),
+                            this.updates);
+  }
+
+  class TestPlugin
+      implements IsNaluProcessorPlugin {
+
+    @Override
+    public void alert(String message) {
+    }
+
+    @Override
+    public boolean attach(String selector,
+                          Object asElement) {
+      return true;
+    }
+
+    @Override
+    public void confirm(String message,
+                        ConfirmHandler handler) {
+    }
+
+    @Override
+    public String getStartRoute() {
+      return "/";
+    }
+
+    @Override
+    public Map<String, String> getQueryParameters() {
+      return new HashMap<>();
+    }
+
+    @Override
+    public void register(RouteChangeHandler handler) {
+    }
+
+    @Override
+    public void remove(String selector) {
+    }
+
+    @Override
+    public void route(String newRoute,
+                      boolean replace) {
+    }
+
+    @Override
+    public void initialize(ShellConfiguration shellConfiguration) {
+    }
+
+    @Override
+    public void updateTitle(String title) {
+      updates.add("title=" + title);
+    }
+
+    @Override
+    public void updateMetaNameContent(String name,
+                                      String content) {
+      updates.add("name:" + name + "=" + content);
+    }
+
+    @Override
+    public void updateMetaPropertyContent(String property,
+                                          String content) {
+      updates.add("property:" + property + "=" + content);
+    }
+
+    @Override
+    public String decode(String route) {
+      return route;
+    }
+
+    @Override
+    public void setCustomAlertPresenter(IsCustomAlertPresenter presenter) {
+    }
+
+    @Override
+    public void setCustomConfirmPresenter(IsCustomConfirmPresenter presenter) {
+    }
+
+  }
+
+}